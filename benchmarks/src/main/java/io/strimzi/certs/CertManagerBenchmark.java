@@ -0,0 +1,91 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.certs;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks issuing a broker certificate (key, request, signed certificate and PKCS #12 keystore)
+ * with each of the {@link CertManager} implementations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class CertManagerBenchmark {
+
+    @Param({"openssl", "java"})
+    private String certManager;
+
+    private CertManager manager;
+    private Subject subject;
+    private File caKey;
+    private File caCert;
+    private File key;
+    private File csr;
+    private File cert;
+    private File keyStore;
+
+    @Setup
+    public void setup() throws IOException {
+        manager = CertManagerType.valueOf(certManager.toUpperCase(Locale.ENGLISH)).create();
+
+        Subject caSubject = new Subject();
+        caSubject.setOrganizationName("io.strimzi");
+        caSubject.setCommonName("cluster-ca");
+
+        subject = new Subject();
+        subject.setOrganizationName("io.strimzi");
+        subject.setCommonName("my-cluster-kafka");
+        Map<String, String> subjectAltNames = new HashMap<>();
+        subjectAltNames.put("DNS.1", "my-cluster-kafka-0.my-cluster-kafka-brokers.myproject.svc.cluster.local");
+        subjectAltNames.put("DNS.2", "my-cluster-kafka-bootstrap.myproject.svc.cluster.local");
+        subjectAltNames.put("DNS.3", "my-cluster-kafka-bootstrap");
+        subject.setSubjectAltNames(subjectAltNames);
+
+        caKey = File.createTempFile("ca-", ".key");
+        caCert = File.createTempFile("ca-", ".crt");
+        key = File.createTempFile("broker-", ".key");
+        csr = File.createTempFile("broker-", ".csr");
+        cert = File.createTempFile("broker-", ".crt");
+        keyStore = File.createTempFile("broker-", ".p12");
+        manager.generateSelfSignedCert(caKey, caCert, caSubject, 365);
+    }
+
+    @TearDown
+    public void tearDown() {
+        for (File file : new File[] {caKey, caCert, key, csr, cert, keyStore}) {
+            file.delete();
+        }
+    }
+
+    @Benchmark
+    public File issueCert() throws IOException {
+        manager.generateCsr(key, csr, subject);
+        manager.generateCert(csr, caKey, caCert, cert, subject, 365);
+        manager.addKeyAndCertToKeyStore(key, cert, "broker", keyStore, "password");
+        return keyStore;
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster;
+
+import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
+import io.strimzi.api.kafka.model.Kafka;
+import io.strimzi.api.kafka.model.KafkaBuilder;
+import io.strimzi.api.kafka.model.storage.JbodStorageBuilder;
+import io.strimzi.api.kafka.model.storage.PersistentClaimStorageBuilder;
+import io.strimzi.operator.cluster.model.KafkaVersion;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonMap;
+
+/**
+ * The resources shared by the benchmarks of the Cluster Operator.
+ */
+public class BenchmarkResources {
+
+    public static final String NAMESPACE = "benchmark";
+    public static final String NAME = "my-cluster";
+
+    private BenchmarkResources() { }
+
+    /**
+     * @return The Kafka versions supported by this build of the operator.
+     */
+    public static KafkaVersion.Lookup versions() {
+        return new KafkaVersion.Lookup(emptyMap(), emptyMap(), emptyMap(), emptyMap());
+    }
+
+    /**
+     * @return The broker configuration of a typical production cluster.
+     */
+    public static Map<String, Object> brokerConfig() {
+        Map<String, Object> config = new HashMap<>();
+        config.put("num.partitions", 12);
+        config.put("default.replication.factor", 3);
+        config.put("min.insync.replicas", 2);
+        config.put("offsets.topic.replication.factor", 3);
+        config.put("transaction.state.log.replication.factor", 3);
+        config.put("transaction.state.log.min.isr", 2);
+        config.put("log.retention.hours", 168);
+        config.put("log.segment.bytes", 1073741824);
+        config.put("log.message.timestamp.type", "LogAppendTime");
+        config.put("log.cleaner.io.buffer.load.factor", 0.9);
+        config.put("compression.type", "producer");
+        config.put("unclean.leader.election.enable", false);
+        config.put("auto.create.topics.enable", false);
+        config.put("num.network.threads", 8);
+        config.put("num.io.threads", 16);
+        return config;
+    }
+
+    /**
+     * @param replicas The number of brokers.
+     * @return A Kafka resource with listeners, JBOD storage, rack awareness and broker configuration,
+     * as a production deployment would have.
+     */
+    public static Kafka kafka(int replicas) {
+        return new KafkaBuilder()
+                .withMetadata(new ObjectMetaBuilder()
+                        .withNamespace(NAMESPACE)
+                        .withName(NAME)
+                        .withLabels(singletonMap("app", "benchmark"))
+                    .build())
+                .withNewSpec()
+                    .withNewKafka()
+                        .withReplicas(replicas)
+                        .withImage("strimzi/kafka:latest")
+                        .withNewListeners()
+                            .withNewPlain()
+                            .endPlain()
+                            .withNewTls()
+                                .withNewKafkaListenerAuthenticationTlsAuth()
+                                .endKafkaListenerAuthenticationTlsAuth()
+                            .endTls()
+                            .withNewKafkaListenerExternalNodePort()
+                                .withNewKafkaListenerAuthenticationScramSha512Auth()
+                                .endKafkaListenerAuthenticationScramSha512Auth()
+                            .endKafkaListenerExternalNodePort()
+                        .endListeners()
+                        .withNewRack()
+                            .withTopologyKey("failure-domain.beta.kubernetes.io/zone")
+                        .endRack()
+                        .withStorage(new JbodStorageBuilder().withVolumes(
+                                new PersistentClaimStorageBuilder().withId(0).withSize("100Gi").withDeleteClaim(false).build(),
+                                new PersistentClaimStorageBuilder().withId(1).withSize("100Gi").withDeleteClaim(false).build())
+                            .build())
+                        .withConfig(brokerConfig())
+                        .withNewJvmOptions()
+                            .withXms("4g")
+                            .withXmx("4g")
+                        .endJvmOptions()
+                    .endKafka()
+                    .withNewZookeeper()
+                        .withReplicas(3)
+                        .withImage("strimzi/zookeeper:latest")
+                        .withNewPersistentClaimStorage()
+                            .withSize("10Gi")
+                        .endPersistentClaimStorage()
+                    .endZookeeper()
+                .endSpec()
+            .build();
+    }
+}
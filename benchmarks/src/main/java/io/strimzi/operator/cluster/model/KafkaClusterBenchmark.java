@@ -0,0 +1,61 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.model;
+
+import io.fabric8.kubernetes.api.model.apps.StatefulSet;
+import io.strimzi.api.kafka.model.Kafka;
+import io.strimzi.operator.cluster.BenchmarkResources;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Collections.emptyList;
+
+/**
+ * Benchmarks the building of the model of a Kafka cluster from the {@code Kafka} resource,
+ * and the generation of the broker StatefulSet from it, which happen on every reconciliation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KafkaClusterBenchmark {
+
+    @Param({"3", "12"})
+    public int replicas;
+
+    private KafkaVersion.Lookup versions;
+    private Kafka kafka;
+    private KafkaCluster kafkaCluster;
+
+    @Setup
+    public void setup() {
+        versions = BenchmarkResources.versions();
+        kafka = BenchmarkResources.kafka(replicas);
+        kafkaCluster = KafkaCluster.fromCrd(kafka, versions);
+    }
+
+    @Benchmark
+    public KafkaCluster fromCrd() {
+        return KafkaCluster.fromCrd(kafka, versions);
+    }
+
+    @Benchmark
+    public StatefulSet generateStatefulSet() {
+        return kafkaCluster.generateStatefulSet(false, null, emptyList());
+    }
+}
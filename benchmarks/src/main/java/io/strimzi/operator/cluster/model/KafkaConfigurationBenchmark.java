@@ -0,0 +1,55 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.model;
+
+import io.strimzi.operator.cluster.BenchmarkResources;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the validation of the broker configuration in {@code Kafka.spec.kafka.config}
+ * against the config model of the Kafka version.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KafkaConfigurationBenchmark {
+
+    private KafkaVersion kafkaVersion;
+    private Map<String, Object> config;
+    private KafkaConfiguration configuration;
+
+    @Setup
+    public void setup() {
+        kafkaVersion = BenchmarkResources.versions().defaultVersion();
+        config = BenchmarkResources.brokerConfig();
+        configuration = new KafkaConfiguration(config.entrySet());
+    }
+
+    @Benchmark
+    public KafkaConfiguration parse() {
+        return new KafkaConfiguration(config.entrySet());
+    }
+
+    @Benchmark
+    public List<String> validate() {
+        return configuration.validate(kafkaVersion);
+    }
+}
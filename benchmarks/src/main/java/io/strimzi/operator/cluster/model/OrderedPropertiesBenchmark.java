@@ -0,0 +1,55 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.model;
+
+import io.strimzi.operator.cluster.BenchmarkResources;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks parsing and writing the properties format used for the configuration of the operands.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderedPropertiesBenchmark {
+
+    private String pairs;
+    private OrderedProperties properties;
+
+    @Setup
+    public void setup() {
+        properties = new OrderedProperties()
+                .addIterablePairs(BenchmarkResources.brokerConfig().entrySet())
+                .addPair("listener.name.external.scram-sha-512.sasl.jaas.config",
+                        "org.apache.kafka.common.security.scram.ScramLoginModule required;")
+                .addPair("ssl.enabled.protocols", "TLSv1.2,TLSv1.1,TLSv1")
+                .addPair("log.dirs", "/var/lib/kafka/data-0/kafka-log${STRIMZI_BROKER_ID},/var/lib/kafka/data-1/kafka-log${STRIMZI_BROKER_ID}");
+        pairs = properties.asPairsWithComment("Broker configuration\nwith a multi-line comment");
+    }
+
+    @Benchmark
+    public OrderedProperties parse() {
+        return new OrderedProperties().addStringPairs(pairs);
+    }
+
+    @Benchmark
+    public String write() {
+        return properties.asPairs();
+    }
+}
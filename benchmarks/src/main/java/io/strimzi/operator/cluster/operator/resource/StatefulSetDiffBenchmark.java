@@ -0,0 +1,96 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource;
+
+import io.fabric8.kubernetes.api.model.Container;
+import io.fabric8.kubernetes.api.model.apps.StatefulSet;
+import io.fabric8.kubernetes.api.model.apps.StatefulSetStatusBuilder;
+import io.strimzi.api.kafka.model.Kafka;
+import io.strimzi.api.kafka.model.KafkaBuilder;
+import io.strimzi.operator.cluster.BenchmarkResources;
+import io.strimzi.operator.cluster.model.KafkaCluster;
+import io.strimzi.operator.cluster.model.KafkaVersion;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Collections.emptyList;
+
+/**
+ * Benchmarks diffing the broker StatefulSet read from Kubernetes with the desired one,
+ * both when they differ only in fields set by the API server and when the pod template has changed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StatefulSetDiffBenchmark {
+
+    @Param({"3", "12"})
+    public int replicas;
+
+    private StatefulSet current;
+    private StatefulSet desired;
+    private StatefulSet changed;
+
+    @Setup
+    public void setup() {
+        KafkaVersion.Lookup versions = BenchmarkResources.versions();
+        Kafka kafka = BenchmarkResources.kafka(replicas);
+        KafkaCluster kafkaCluster = KafkaCluster.fromCrd(kafka, versions);
+        desired = kafkaCluster.generateStatefulSet(false, null, emptyList());
+        current = asReadFromKubernetes(kafkaCluster.generateStatefulSet(false, null, emptyList()));
+        Kafka upgraded = new KafkaBuilder(kafka)
+                .editSpec()
+                    .editKafka()
+                        .withImage("strimzi/kafka:upgraded")
+                    .endKafka()
+                .endSpec()
+            .build();
+        changed = KafkaCluster.fromCrd(upgraded, versions).generateStatefulSet(false, null, emptyList());
+    }
+
+    /**
+     * Add the defaults which the API server fills in, and which the diff has to ignore.
+     */
+    private static StatefulSet asReadFromKubernetes(StatefulSet sts) {
+        sts.getSpec().setRevisionHistoryLimit(10);
+        sts.getSpec().getTemplate().getSpec().setDnsPolicy("ClusterFirst");
+        sts.getSpec().getTemplate().getSpec().setRestartPolicy("Always");
+        for (Container container : sts.getSpec().getTemplate().getSpec().getContainers()) {
+            container.setTerminationMessagePath("/dev/termination-log");
+            container.setTerminationMessagePolicy("File");
+        }
+        sts.setStatus(new StatefulSetStatusBuilder()
+                .withReplicas(sts.getSpec().getReplicas())
+                .withReadyReplicas(sts.getSpec().getReplicas())
+                .withCurrentRevision(sts.getMetadata().getName() + "-1")
+                .withUpdateRevision(sts.getMetadata().getName() + "-1")
+            .build());
+        return sts;
+    }
+
+    @Benchmark
+    public StatefulSetDiff diffUnchanged() {
+        return new StatefulSetDiff(current, desired);
+    }
+
+    @Benchmark
+    public StatefulSetDiff diffChanged() {
+        return new StatefulSetDiff(current, changed);
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the serialization of topics to and from the JSON which the Topic Operator keeps in ZooKeeper.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TopicSerializationBenchmark {
+
+    private Topic topic;
+    private byte[] json;
+
+    @Setup
+    public void setup() {
+        Map<String, String> config = new HashMap<>();
+        config.put("cleanup.policy", "compact");
+        config.put("retention.ms", "604800000");
+        config.put("segment.bytes", "1073741824");
+        config.put("min.insync.replicas", "2");
+        config.put("message.timestamp.type", "LogAppendTime");
+        topic = new Topic.Builder("my-topic", 12, (short) 3, config).build();
+        json = TopicSerialization.toJson(topic);
+    }
+
+    @Benchmark
+    public byte[] toJson() {
+        return TopicSerialization.toJson(topic);
+    }
+
+    @Benchmark
+    public Topic fromJson() {
+        return TopicSerialization.fromJson(json);
+    }
+}
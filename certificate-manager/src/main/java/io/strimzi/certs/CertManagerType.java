@@ -0,0 +1,56 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.certs;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * The available {@link CertManager} implementations.
+ */
+public enum CertManagerType {
+    /** Runs the {@code openssl} command line tool, see {@link OpenSslCertManager} */
+    OPENSSL,
+    /** Generates keys and certificates in the JVM, see {@link JavaCertManager} */
+    JAVA;
+
+    /**
+     * Parse the value of an environment variable or option naming a certificates manager.
+     *
+     * @param value The case-insensitive name of the type, such as {@code openssl} or {@code java}.
+     * @return The type with the given name.
+     * @throws IllegalArgumentException If there is no type with the given name.
+     */
+    public static CertManagerType parse(String value) {
+        for (CertManagerType type : values()) {
+            if (type.name().equalsIgnoreCase(value.trim())) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException(value + " is not a valid certificates manager. It can have one of the following values: "
+                + Arrays.stream(values()).map(type -> type.name().toLowerCase(Locale.ENGLISH)).collect(Collectors.joining(", ")) + ".");
+    }
+
+    /**
+     * @return A new certificates manager of this type.
+     */
+    public CertManager create() {
+        return create(null);
+    }
+
+    /**
+     * @param keyPairPool The pool the keys of certificate signing requests are taken from, or null to generate them on demand.
+     * @return A new certificates manager of this type.
+     */
+    public CertManager create(KeyPairPool keyPairPool) {
+        switch (this) {
+            case JAVA:
+                return new JavaCertManager(keyPairPool);
+            default:
+                return new OpenSslCertManager(keyPairPool);
+        }
+    }
+}
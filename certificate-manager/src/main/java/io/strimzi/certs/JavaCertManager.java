@@ -0,0 +1,296 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.certs;
+
+import org.bouncycastle.asn1.pkcs.PKCSObjectIdentifiers;
+import org.bouncycastle.asn1.x500.X500Name;
+import org.bouncycastle.asn1.x500.X500NameBuilder;
+import org.bouncycastle.asn1.x500.style.BCStyle;
+import org.bouncycastle.asn1.x509.BasicConstraints;
+import org.bouncycastle.asn1.x509.Extension;
+import org.bouncycastle.asn1.x509.ExtensionsGenerator;
+import org.bouncycastle.asn1.x509.GeneralName;
+import org.bouncycastle.asn1.x509.GeneralNames;
+import org.bouncycastle.cert.CertIOException;
+import org.bouncycastle.cert.X509v3CertificateBuilder;
+import org.bouncycastle.cert.jcajce.JcaX509CertificateConverter;
+import org.bouncycastle.cert.jcajce.JcaX509ExtensionUtils;
+import org.bouncycastle.cert.jcajce.JcaX509v3CertificateBuilder;
+import org.bouncycastle.operator.ContentSigner;
+import org.bouncycastle.operator.OperatorCreationException;
+import org.bouncycastle.operator.jcajce.JcaContentSignerBuilder;
+import org.bouncycastle.pkcs.PKCS10CertificationRequest;
+import org.bouncycastle.pkcs.jcajce.JcaPKCS10CertificationRequest;
+import org.bouncycastle.pkcs.jcajce.JcaPKCS10CertificationRequestBuilder;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.KeyStore;
+import java.security.KeyStoreException;
+import java.security.NoSuchAlgorithmException;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.SecureRandom;
+import java.security.cert.Certificate;
+import java.security.cert.CertificateException;
+import java.security.cert.X509Certificate;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>A certificates manager which generates keys, certificate signing requests, certificates and PKCS #12 stores
+ * in the JVM, rather than by running {@code openssl} as {@link OpenSslCertManager} does.</p>
+ *
+ * <p>Its output is interchangeable with that of {@link OpenSslCertManager}: 2048-bit RSA keys as unencrypted PKCS #8 PEM,
+ * and PEM X.509 certificates signed with SHA-256, with the subject alternative names of the {@link Subject}.
+ * Keys in either PKCS #8 or the older PKCS #1 PEM format are accepted.</p>
+ */
+public class JavaCertManager implements CertManager {
+
+    private static final int KEY_SIZE = 2048;
+    private static final String SIGNATURE_ALGORITHM = "SHA256withRSA";
+
+    private final SecureRandom random = new SecureRandom();
+    private final KeyPairPool keyPairPool;
+
+    public JavaCertManager() {
+        this(null);
+    }
+
+    /**
+     * @param keyPairPool The pool the keys of certificate signing requests are taken from, or null to generate them on demand.
+     */
+    public JavaCertManager(KeyPairPool keyPairPool) {
+        this.keyPairPool = keyPairPool;
+    }
+
+    @Override
+    public void generateSelfSignedCert(File keyFile, File certFile, int days) throws IOException {
+        generateSelfSignedCert(keyFile, certFile, null, days);
+    }
+
+    @Override
+    public void generateSelfSignedCert(File keyFile, File certFile, Subject sbj, int days) throws IOException {
+        KeyPair keyPair = generateKeyPair();
+        X509Certificate cert = selfSignedCert(keyPair, sbj, days);
+        Pem.writePem(keyFile, "PRIVATE KEY", keyPair.getPrivate().getEncoded());
+        Pem.writeCert(certFile, cert);
+    }
+
+    @Override
+    public void renewSelfSignedCert(File keyFile, File certFile, Subject sbj, int days) throws IOException {
+        PrivateKey privateKey = Pem.readPrivateKey(Files.readAllBytes(keyFile.toPath()));
+        KeyPair keyPair = new KeyPair(Pem.publicKey(privateKey), privateKey);
+        Pem.writeCert(certFile, selfSignedCert(keyPair, sbj, days));
+    }
+
+    @Override
+    public void addCertToTrustStore(File certFile, String certAlias, File trustStoreFile, String trustStorePassword)
+            throws IOException, CertificateException, KeyStoreException, NoSuchAlgorithmException {
+        X509Certificate certificate = Pem.readCert(Files.readAllBytes(certFile.toPath()));
+        KeyStore trustStore = loadStore(trustStoreFile, trustStorePassword);
+        trustStore.setEntry(certAlias, new KeyStore.TrustedCertificateEntry(certificate), null);
+        storeStore(trustStore, trustStoreFile, trustStorePassword);
+    }
+
+    @Override
+    public void addKeyAndCertToKeyStore(File keyFile, File certFile, String alias, File keyStoreFile, String keyStorePassword) throws IOException {
+        try {
+            PrivateKey privateKey = Pem.readPrivateKey(Files.readAllBytes(keyFile.toPath()));
+            X509Certificate certificate = Pem.readCert(Files.readAllBytes(certFile.toPath()));
+            // Like openssl pkcs12 -export, this replaces any existing store
+            KeyStore keyStore = KeyStore.getInstance("PKCS12");
+            keyStore.load(null, keyStorePassword.toCharArray());
+            keyStore.setKeyEntry(alias, privateKey, keyStorePassword.toCharArray(), new Certificate[] {certificate});
+            storeStore(keyStore, keyStoreFile, keyStorePassword);
+        } catch (GeneralSecurityException e) {
+            throw new IOException("Failed to add the key and certificate to the keystore", e);
+        }
+    }
+
+    @Override
+    public void deleteFromTrustStore(List<String> aliases, File trustStoreFile, String trustStorePassword)
+            throws IOException, CertificateException, KeyStoreException, NoSuchAlgorithmException {
+        KeyStore trustStore = loadStore(trustStoreFile, trustStorePassword);
+        for (String alias : aliases) {
+            trustStore.deleteEntry(alias);
+        }
+        storeStore(trustStore, trustStoreFile, trustStorePassword);
+    }
+
+    @Override
+    public void generateCsr(File keyFile, File csrFile, Subject sbj) throws IOException {
+        KeyPair keyPair = keyPairPool != null ? keyPairPool.take() : generateKeyPair();
+        JcaPKCS10CertificationRequestBuilder builder = new JcaPKCS10CertificationRequestBuilder(x500Name(sbj), keyPair.getPublic());
+        GeneralNames subjectAltNames = subjectAltNames(sbj);
+        if (subjectAltNames != null) {
+            ExtensionsGenerator extensions = new ExtensionsGenerator();
+            extensions.addExtension(Extension.subjectAlternativeName, false, subjectAltNames);
+            builder.addAttribute(PKCSObjectIdentifiers.pkcs_9_at_extensionRequest, extensions.generate());
+        }
+        PKCS10CertificationRequest csr = builder.build(signer(keyPair.getPrivate()));
+        Pem.writePem(keyFile, "PRIVATE KEY", keyPair.getPrivate().getEncoded());
+        Pem.writePem(csrFile, "CERTIFICATE REQUEST", csr.getEncoded());
+    }
+
+    @Override
+    public void generateCert(File csrFile, File caKey, File caCert, File crtFile, int days) throws IOException {
+        generateCert(csrFile, caKey, caCert, crtFile, null, days);
+    }
+
+    @Override
+    public void generateCert(File csrFile, File caKey, File caCert, File crtFile, Subject sbj, int days) throws IOException {
+        generateCert(csrFile, Files.readAllBytes(caKey.toPath()), Files.readAllBytes(caCert.toPath()), crtFile, sbj, days);
+    }
+
+    @Override
+    public void generateCert(File csrFile, byte[] caKey, byte[] caCert, File crtFile, int days) throws IOException {
+        generateCert(csrFile, caKey, caCert, crtFile, null, days);
+    }
+
+    @Override
+    public void generateCert(File csrFile, byte[] caKey, byte[] caCert, File crtFile, Subject sbj, int days) throws IOException {
+        try {
+            JcaPKCS10CertificationRequest csr = new JcaPKCS10CertificationRequest(Pem.readCsr(csrFile));
+            PrivateKey caPrivateKey = Pem.readPrivateKey(caKey);
+            X509Certificate caCertificate = Pem.readCert(caCert);
+
+            // Like openssl x509 -req, the extensions in the request are ignored, and the subject alt names are taken from sbj
+            X509v3CertificateBuilder builder = certBuilder(X500Name.getInstance(caCertificate.getSubjectX500Principal().getEncoded()),
+                    csr.getSubject(), csr.getPublicKey(), days);
+            JcaX509ExtensionUtils extensionUtils = new JcaX509ExtensionUtils();
+            builder.addExtension(Extension.subjectKeyIdentifier, false, extensionUtils.createSubjectKeyIdentifier(csr.getPublicKey()));
+            builder.addExtension(Extension.authorityKeyIdentifier, false, extensionUtils.createAuthorityKeyIdentifier(caCertificate));
+            addSubjectAltNames(builder, sbj);
+            Pem.writeCert(crtFile, toCert(builder, caPrivateKey));
+        } catch (GeneralSecurityException e) {
+            throw new IOException("Failed to sign the certificate", e);
+        }
+    }
+
+    private KeyPair generateKeyPair() throws IOException {
+        return generateKeyPair(random);
+    }
+
+    static KeyPair generateKeyPair(SecureRandom random) throws IOException {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+            generator.initialize(KEY_SIZE, random);
+            return generator.generateKeyPair();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException("Failed to generate the key", e);
+        }
+    }
+
+    private X509Certificate selfSignedCert(KeyPair keyPair, Subject sbj, int days) throws IOException {
+        try {
+            X500Name name = x500Name(sbj);
+            X509v3CertificateBuilder builder = certBuilder(name, name, keyPair.getPublic(), days);
+            JcaX509ExtensionUtils extensionUtils = new JcaX509ExtensionUtils();
+            builder.addExtension(Extension.subjectKeyIdentifier, false, extensionUtils.createSubjectKeyIdentifier(keyPair.getPublic()));
+            builder.addExtension(Extension.authorityKeyIdentifier, false, extensionUtils.createAuthorityKeyIdentifier(keyPair.getPublic()));
+            builder.addExtension(Extension.basicConstraints, true, new BasicConstraints(true));
+            addSubjectAltNames(builder, sbj);
+            return toCert(builder, keyPair.getPrivate());
+        } catch (GeneralSecurityException e) {
+            throw new IOException("Failed to generate the self-signed certificate", e);
+        }
+    }
+
+    private X509v3CertificateBuilder certBuilder(X500Name issuer, X500Name subject, PublicKey publicKey, int days) {
+        long now = System.currentTimeMillis();
+        return new JcaX509v3CertificateBuilder(issuer,
+                new BigInteger(159, random),
+                new Date(now),
+                new Date(now + TimeUnit.DAYS.toMillis(days)),
+                subject,
+                publicKey);
+    }
+
+    private X509Certificate toCert(X509v3CertificateBuilder builder, PrivateKey signingKey) throws IOException, CertificateException {
+        return new JcaX509CertificateConverter().getCertificate(builder.build(signer(signingKey)));
+    }
+
+    private static ContentSigner signer(PrivateKey privateKey) throws IOException {
+        try {
+            return new JcaContentSignerBuilder(SIGNATURE_ALGORITHM).build(privateKey);
+        } catch (OperatorCreationException e) {
+            throw new IOException("Failed to create the signer", e);
+        }
+    }
+
+    /**
+     * The distinguished name for the given subject, with the RDNs in the same order as in {@link Subject#toString()},
+     * which is how openssl builds it from {@code -subj}.
+     */
+    private static X500Name x500Name(Subject sbj) {
+        X500NameBuilder builder = new X500NameBuilder(BCStyle.INSTANCE);
+        if (sbj != null) {
+            if (sbj.organizationName() != null) {
+                builder.addRDN(BCStyle.O, sbj.organizationName());
+            }
+            if (sbj.commonName() != null) {
+                builder.addRDN(BCStyle.CN, sbj.commonName());
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * The subject alternative names of the given subject, which are keyed like in an openssl configuration file,
+     * for example {@code DNS.1} or {@code IP.1}.
+     */
+    private static GeneralNames subjectAltNames(Subject sbj) {
+        if (sbj == null || sbj.subjectAltNames() == null || sbj.subjectAltNames().isEmpty()) {
+            return null;
+        }
+        List<GeneralName> names = new ArrayList<>(sbj.subjectAltNames().size());
+        for (Map.Entry<String, String> entry : sbj.subjectAltNames().entrySet()) {
+            int tag = entry.getKey().startsWith("IP") ? GeneralName.iPAddress : GeneralName.dNSName;
+            names.add(new GeneralName(tag, entry.getValue()));
+        }
+        return new GeneralNames(names.toArray(new GeneralName[0]));
+    }
+
+    private static void addSubjectAltNames(X509v3CertificateBuilder builder, Subject sbj) throws CertIOException {
+        GeneralNames subjectAltNames = subjectAltNames(sbj);
+        if (subjectAltNames != null) {
+            builder.addExtension(Extension.subjectAlternativeName, false, subjectAltNames);
+        }
+    }
+
+    private static KeyStore loadStore(File storeFile, String password)
+            throws IOException, CertificateException, KeyStoreException, NoSuchAlgorithmException {
+        KeyStore store = KeyStore.getInstance("PKCS12");
+        // the KeyStore class is able to create an empty store if the input stream is null
+        if (storeFile.length() > 0) {
+            try (InputStream is = new FileInputStream(storeFile)) {
+                store.load(is, password.toCharArray());
+            }
+        } else {
+            store.load(null, password.toCharArray());
+        }
+        return store;
+    }
+
+    private static void storeStore(KeyStore store, File storeFile, String password)
+            throws IOException, CertificateException, KeyStoreException, NoSuchAlgorithmException {
+        try (OutputStream os = new FileOutputStream(storeFile)) {
+            store.store(os, password.toCharArray());
+        }
+    }
+}
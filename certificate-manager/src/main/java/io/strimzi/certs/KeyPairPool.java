@@ -0,0 +1,185 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.certs;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.security.KeyPair;
+import java.security.SecureRandom;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * <p>A pool of RSA key pairs generated ahead of time by a background thread, so that the keys of new certificates
+ * do not have to be generated while the certificates are being issued.</p>
+ *
+ * <p>The pool is filled up to its size when it is started, and refilled up to its size again whenever the number
+ * of available key pairs drops to its low-water mark. When the pool is empty the key pair is generated by the caller,
+ * as it would be without a pool.</p>
+ */
+public class KeyPairPool {
+
+    private static final Logger log = LogManager.getLogger(KeyPairPool.class);
+
+    private static final long INITIAL_BACK_OFF_MS = 1_000;
+    private static final long MAX_BACK_OFF_MS = 60_000;
+
+    /**
+     * Notified of each key pair taken from the pool.
+     */
+    public interface Listener {
+        /**
+         * @param hit Whether the key pair was taken from the pool, rather than generated on demand.
+         * @param available The number of key pairs left in the pool.
+         */
+        void taken(boolean hit, int available);
+    }
+
+    /**
+     * Generates the key pairs of the pool.
+     */
+    interface Generator {
+        KeyPair generate() throws IOException;
+    }
+
+    private final int size;
+    private final int lowWaterMark;
+    private final Listener listener;
+    private final Generator generator;
+    private final long initialBackOffMs;
+    private final BlockingQueue<KeyPair> keyPairs;
+    private final SecureRandom random = new SecureRandom();
+    private final Thread filler;
+
+    // Guarded by this
+    private boolean refill = true;
+
+    /**
+     * @param size The maximum number of key pairs kept in the pool.
+     * @param lowWaterMark The number of available key pairs at which the pool is refilled.
+     * @param listener Notified of each key pair taken from the pool.
+     */
+    public KeyPairPool(int size, int lowWaterMark, Listener listener) {
+        this(size, lowWaterMark, listener, null, INITIAL_BACK_OFF_MS);
+    }
+
+    /**
+     * @param size The maximum number of key pairs kept in the pool.
+     * @param lowWaterMark The number of available key pairs at which the pool is refilled.
+     * @param listener Notified of each key pair taken from the pool.
+     * @param generator Generates the key pairs of the pool, or null to generate RSA key pairs.
+     * @param initialBackOffMs How long the filling is paused for after the first failure to generate a key pair.
+     */
+    KeyPairPool(int size, int lowWaterMark, Listener listener, Generator generator, long initialBackOffMs) {
+        if (size < 1) {
+            throw new IllegalArgumentException("The size of the pool must be at least 1");
+        }
+        if (lowWaterMark < 0 || lowWaterMark >= size) {
+            throw new IllegalArgumentException("The low-water mark must be between 0 and the size of the pool minus 1");
+        }
+        this.size = size;
+        this.lowWaterMark = lowWaterMark;
+        this.listener = listener;
+        this.generator = generator != null ? generator : () -> JavaCertManager.generateKeyPair(random);
+        this.initialBackOffMs = initialBackOffMs;
+        this.keyPairs = new LinkedBlockingQueue<>(size);
+        this.filler = new Thread(this::fill, "key-pair-pool");
+        this.filler.setDaemon(true);
+    }
+
+    /**
+     * Start filling the pool in the background.
+     */
+    public void start() {
+        filler.start();
+    }
+
+    /**
+     * Stop filling the pool. The key pairs left in the pool can still be taken.
+     */
+    public void stop() {
+        filler.interrupt();
+    }
+
+    /**
+     * @return The number of key pairs available in the pool.
+     */
+    public int available() {
+        return keyPairs.size();
+    }
+
+    /**
+     * Take a key pair from the pool, or generate one if the pool is empty.
+     *
+     * @return A new key pair.
+     * @throws IOException If the key pair could not be generated.
+     */
+    public KeyPair take() throws IOException {
+        KeyPair keyPair = keyPairs.poll();
+        int available = keyPairs.size();
+        if (available <= lowWaterMark) {
+            requestRefill();
+        }
+        listener.taken(keyPair != null, available);
+
+        if (keyPair == null) {
+            log.debug("Key pair pool is empty, generating a key pair on demand");
+            keyPair = JavaCertManager.generateKeyPair(random);
+        }
+        return keyPair;
+    }
+
+    private synchronized void requestRefill() {
+        if (!refill) {
+            refill = true;
+            notifyAll();
+        }
+    }
+
+    private synchronized void awaitRefill() throws InterruptedException {
+        while (!refill) {
+            wait();
+        }
+    }
+
+    private synchronized void refilled() {
+        refill = false;
+    }
+
+    /**
+     * Fills the pool whenever a refill is requested, until the pool is stopped.
+     * When a key pair cannot be generated, the filling is paused for an exponentially increasing time and then retried,
+     * and the key pairs are generated on demand meanwhile.
+     */
+    private void fill() {
+        long backOffMs = initialBackOffMs;
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                awaitRefill();
+                // Clear the request before filling, so that a key pair taken meanwhile leads to another round
+                refilled();
+                while (keyPairs.size() < size) {
+                    keyPairs.offer(generator.generate());
+                }
+                backOffMs = initialBackOffMs;
+                log.debug("Key pair pool filled with {} key pairs", keyPairs.size());
+            } catch (InterruptedException e) {
+                break;
+            } catch (IOException | RuntimeException e) {
+                log.error("Failed to generate a key pair, retrying in {}ms", backOffMs, e);
+                requestRefill();
+                try {
+                    Thread.sleep(backOffMs);
+                } catch (InterruptedException ie) {
+                    break;
+                }
+                backOffMs = Math.min(2 * backOffMs, MAX_BACK_OFF_MS);
+            }
+        }
+        log.debug("Key pair pool stopped");
+    }
+}
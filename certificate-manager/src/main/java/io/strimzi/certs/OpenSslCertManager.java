@@ -39,7 +39,18 @@ public class OpenSslCertManager implements CertManager {
 
     private static final Logger log = LogManager.getLogger(OpenSslCertManager.class);
 
-    public OpenSslCertManager() {}
+    private final KeyPairPool keyPairPool;
+
+    public OpenSslCertManager() {
+        this(null);
+    }
+
+    /**
+     * @param keyPairPool The pool the keys of certificate signing requests are taken from, or null to have openssl generate them.
+     */
+    public OpenSslCertManager(KeyPairPool keyPairPool) {
+        this.keyPairPool = keyPairPool;
+    }
 
     @Override
     public void generateSelfSignedCert(File keyFile, File certFile, int days) throws IOException {
@@ -267,7 +278,13 @@ public class OpenSslCertManager implements CertManager {
     public void generateCsr(File keyFile, File csrFile, Subject sbj) throws IOException {
 
         List<String> cmd = new ArrayList<>(asList("openssl", "req", "-new", "-batch", "-nodes",
-                "-keyout", keyFile.getAbsolutePath(), "-out", csrFile.getAbsolutePath()));
+                "-out", csrFile.getAbsolutePath()));
+        if (keyPairPool != null) {
+            Pem.writePem(keyFile, "PRIVATE KEY", keyPairPool.take().getPrivate().getEncoded());
+            cmd.addAll(asList("-key", keyFile.getAbsolutePath()));
+        } else {
+            cmd.addAll(asList("-keyout", keyFile.getAbsolutePath()));
+        }
 
         File sna = null;
         File openSslConf = null;
@@ -0,0 +1,99 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.certs;
+
+import org.bouncycastle.asn1.pkcs.PrivateKeyInfo;
+import org.bouncycastle.openssl.PEMKeyPair;
+import org.bouncycastle.openssl.PEMParser;
+import org.bouncycastle.openssl.jcajce.JcaPEMKeyConverter;
+import org.bouncycastle.pkcs.PKCS10CertificationRequest;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.cert.CertificateException;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509Certificate;
+import java.security.interfaces.RSAPrivateCrtKey;
+import java.security.spec.RSAPublicKeySpec;
+import java.util.Base64;
+
+/**
+ * Reading and writing of the PEM files used by {@link JavaCertManager}.
+ */
+final class Pem {
+
+    private Pem() {}
+
+    static PublicKey publicKey(PrivateKey privateKey) throws IOException {
+        if (!(privateKey instanceof RSAPrivateCrtKey)) {
+            throw new IOException("Unsupported private key " + privateKey.getAlgorithm());
+        }
+        RSAPrivateCrtKey rsaKey = (RSAPrivateCrtKey) privateKey;
+        try {
+            return KeyFactory.getInstance("RSA").generatePublic(new RSAPublicKeySpec(rsaKey.getModulus(), rsaKey.getPublicExponent()));
+        } catch (GeneralSecurityException e) {
+            throw new IOException("Failed to get the public key", e);
+        }
+    }
+
+    static PrivateKey readPrivateKey(byte[] pem) throws IOException {
+        Object parsed = readPem(pem);
+        JcaPEMKeyConverter converter = new JcaPEMKeyConverter();
+        if (parsed instanceof PEMKeyPair) {
+            return converter.getKeyPair((PEMKeyPair) parsed).getPrivate();
+        } else if (parsed instanceof PrivateKeyInfo) {
+            return converter.getPrivateKey((PrivateKeyInfo) parsed);
+        }
+        throw new IOException("Not a PEM private key");
+    }
+
+    static PKCS10CertificationRequest readCsr(File csrFile) throws IOException {
+        Object parsed = readPem(Files.readAllBytes(csrFile.toPath()));
+        if (parsed instanceof PKCS10CertificationRequest) {
+            return (PKCS10CertificationRequest) parsed;
+        }
+        throw new IOException("Not a PEM certificate signing request: " + csrFile);
+    }
+
+    static Object readPem(byte[] pem) throws IOException {
+        try (Reader reader = new InputStreamReader(new ByteArrayInputStream(pem), StandardCharsets.US_ASCII);
+             PEMParser parser = new PEMParser(reader)) {
+            return parser.readObject();
+        }
+    }
+
+    static X509Certificate readCert(byte[] pem) throws IOException {
+        try (InputStream is = new ByteArrayInputStream(pem)) {
+            return (X509Certificate) CertificateFactory.getInstance("X.509").generateCertificate(is);
+        } catch (CertificateException e) {
+            throw new IOException("Not a PEM certificate", e);
+        }
+    }
+
+    static void writeCert(File certFile, X509Certificate cert) throws IOException {
+        try {
+            writePem(certFile, "CERTIFICATE", cert.getEncoded());
+        } catch (CertificateException e) {
+            throw new IOException("Failed to encode the certificate", e);
+        }
+    }
+
+    static void writePem(File file, String type, byte[] der) throws IOException {
+        String pem = "-----BEGIN " + type + "-----\n"
+                + Base64.getMimeEncoder(64, new byte[] {'\n'}).encodeToString(der)
+                + "\n-----END " + type + "-----\n";
+        Files.write(file.toPath(), pem.getBytes(StandardCharsets.US_ASCII));
+    }
+}
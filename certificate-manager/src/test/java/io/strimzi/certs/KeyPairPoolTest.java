@@ -0,0 +1,118 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.certs;
+
+import org.bouncycastle.pkcs.jcajce.JcaPKCS10CertificationRequest;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.security.KeyPair;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class KeyPairPoolTest {
+
+    private final List<Boolean> hits = new ArrayList<>();
+
+    private void taken(boolean hit, int available) {
+        hits.add(hit);
+    }
+
+    private static void awaitAvailable(KeyPairPool pool, int available) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 60_000;
+        while (pool.available() < available && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(pool.available(), is(available));
+    }
+
+    @Test
+    public void testPoolIsRefilledAtLowWaterMark() throws Exception {
+        KeyPairPool pool = new KeyPairPool(3, 1, this::taken);
+        pool.start();
+        try {
+            awaitAvailable(pool, 3);
+
+            assertThat(pool.take(), is(notNullValue()));
+            assertThat(pool.take(), is(notNullValue()));
+            assertThat(hits, is(asList(true, true)));
+
+            awaitAvailable(pool, 3);
+        } finally {
+            pool.stop();
+        }
+    }
+
+    @Test
+    public void testPoolIsFilledAfterGenerationFailures() throws Exception {
+        AtomicInteger attempts = new AtomicInteger();
+        SecureRandom random = new SecureRandom();
+        KeyPairPool pool = new KeyPairPool(2, 0, this::taken, () -> {
+            if (attempts.incrementAndGet() <= 2) {
+                throw new IOException("Failed to generate a key pair");
+            }
+            return JavaCertManager.generateKeyPair(random);
+        }, 10);
+        pool.start();
+        try {
+            awaitAvailable(pool, 2);
+            assertThat(attempts.get(), is(4));
+        } finally {
+            pool.stop();
+        }
+    }
+
+    @Test
+    public void testKeyPairIsGeneratedWhenPoolIsEmpty() throws Exception {
+        KeyPairPool pool = new KeyPairPool(1, 0, this::taken);
+
+        KeyPair keyPair = pool.take();
+
+        assertThat(keyPair.getPrivate().getAlgorithm(), is("RSA"));
+        assertThat(hits, is(singletonList(false)));
+    }
+
+    @Test
+    public void testInvalidSizes() {
+        assertThrows(IllegalArgumentException.class, () -> new KeyPairPool(0, 0, this::taken));
+        assertThrows(IllegalArgumentException.class, () -> new KeyPairPool(2, 2, this::taken));
+        assertThrows(IllegalArgumentException.class, () -> new KeyPairPool(2, -1, this::taken));
+    }
+
+    @Test
+    public void testCsrKeysAreTakenFromPool() throws Exception {
+        KeyPairPool pool = new KeyPairPool(1, 0, this::taken);
+        assertCsrMatchesKey(new JavaCertManager(pool));
+        assertCsrMatchesKey(new OpenSslCertManager(pool));
+        assertThat(hits.size(), is(2));
+    }
+
+    private static void assertCsrMatchesKey(CertManager certManager) throws Exception {
+        File keyFile = File.createTempFile("tls", "key");
+        File csrFile = File.createTempFile("tls", "csr");
+        try {
+            Subject sbj = new Subject();
+            sbj.setCommonName("my-user");
+            certManager.generateCsr(keyFile, csrFile, sbj);
+
+            JcaPKCS10CertificationRequest csr = new JcaPKCS10CertificationRequest(Pem.readCsr(csrFile));
+            assertThat(csr.getPublicKey(), is(Pem.publicKey(Pem.readPrivateKey(Files.readAllBytes(keyFile.toPath())))));
+        } finally {
+            keyFile.delete();
+            csrFile.delete();
+        }
+    }
+}
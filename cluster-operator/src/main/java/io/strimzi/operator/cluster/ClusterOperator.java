@@ -11,22 +11,28 @@ import io.strimzi.operator.cluster.operator.assembly.KafkaBridgeAssemblyOperator
 import io.strimzi.operator.cluster.operator.assembly.KafkaConnectAssemblyOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaConnectS2IAssemblyOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaMirrorMakerAssemblyOperator;
+import io.strimzi.operator.common.Operator;
+import io.strimzi.operator.common.PeriodicReconciler;
+import io.strimzi.operator.common.metrics.MetricsRegistry;
 import io.vertx.core.AbstractVerticle;
-import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
-import io.vertx.core.Handler;
 import io.vertx.core.http.HttpServer;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 /**
  * An "operator" for managing assemblies of various types <em>in a particular namespace</em>.
  * The Cluster Operator's multiple namespace support is achieved by deploying multiple
- * {@link ClusterOperator}'s in Vertx.
+ * {@link ClusterOperator}'s in Vertx, or by deploying a single {@link ClusterOperator} for
+ * a set of namespaces, which then uses a single cluster-wide watch and list per kind.
  */
 public class ClusterOperator extends AbstractVerticle {
 
@@ -39,12 +45,13 @@ public class ClusterOperator extends AbstractVerticle {
     private static final int HEALTH_SERVER_PORT = 8080;
 
     private final KubernetesClient client;
-    private final String namespace;
+    private final Set<String> namespaces;
     private final long reconciliationInterval;
 
     private final Map<String, Watch> watchByKind = new ConcurrentHashMap<>();
 
     private long reconcileTimer;
+    private PeriodicReconciler periodicReconciler;
     private final KafkaAssemblyOperator kafkaAssemblyOperator;
     private final KafkaConnectAssemblyOperator kafkaConnectAssemblyOperator;
     private final KafkaConnectS2IAssemblyOperator kafkaConnectS2IAssemblyOperator;
@@ -59,8 +66,20 @@ public class ClusterOperator extends AbstractVerticle {
                            KafkaConnectS2IAssemblyOperator kafkaConnectS2IAssemblyOperator,
                            KafkaMirrorMakerAssemblyOperator kafkaMirrorMakerAssemblyOperator,
                            KafkaBridgeAssemblyOperator kafkaBridgeAssemblyOperator) {
-        log.info("Creating ClusterOperator for namespace {}", namespace);
-        this.namespace = namespace;
+        this(Collections.singleton(namespace), reconciliationInterval, client, kafkaAssemblyOperator, kafkaConnectAssemblyOperator,
+                kafkaConnectS2IAssemblyOperator, kafkaMirrorMakerAssemblyOperator, kafkaBridgeAssemblyOperator);
+    }
+
+    public ClusterOperator(Set<String> namespaces,
+                           long reconciliationInterval,
+                           KubernetesClient client,
+                           KafkaAssemblyOperator kafkaAssemblyOperator,
+                           KafkaConnectAssemblyOperator kafkaConnectAssemblyOperator,
+                           KafkaConnectS2IAssemblyOperator kafkaConnectS2IAssemblyOperator,
+                           KafkaMirrorMakerAssemblyOperator kafkaMirrorMakerAssemblyOperator,
+                           KafkaBridgeAssemblyOperator kafkaBridgeAssemblyOperator) {
+        log.info("Creating ClusterOperator for namespaces {}", namespaces);
+        this.namespaces = namespaces;
         this.reconciliationInterval = reconciliationInterval;
         this.client = client;
         this.kafkaAssemblyOperator = kafkaAssemblyOperator;
@@ -72,26 +91,26 @@ public class ClusterOperator extends AbstractVerticle {
 
     @Override
     public void start(Future<Void> start) {
-        log.info("Starting ClusterOperator for namespace {}", namespace);
+        log.info("Starting ClusterOperator for namespaces {}", namespaces);
 
         // Configure the executor here, but it is used only in other places
         getVertx().createSharedWorkerExecutor("kubernetes-ops-pool", 10, TimeUnit.SECONDS.toNanos(120));
 
-        kafkaAssemblyOperator.createWatch(namespace, kafkaAssemblyOperator.recreateWatch(namespace))
+        kafkaAssemblyOperator.createWatch(namespaces, kafkaAssemblyOperator.recreateWatch(namespaces))
             .compose(w -> {
                 log.info("Started operator for {} kind", "Kafka");
                 watchByKind.put("Kafka", w);
-                return kafkaMirrorMakerAssemblyOperator.createWatch(namespace, kafkaMirrorMakerAssemblyOperator.recreateWatch(namespace));
+                return kafkaMirrorMakerAssemblyOperator.createWatch(namespaces, kafkaMirrorMakerAssemblyOperator.recreateWatch(namespaces));
             }).compose(w -> {
                 log.info("Started operator for {} kind", "KafkaMirrorMaker");
                 watchByKind.put("KafkaMirrorMaker", w);
-                return kafkaConnectAssemblyOperator.createWatch(namespace, kafkaConnectAssemblyOperator.recreateWatch(namespace));
+                return kafkaConnectAssemblyOperator.createWatch(namespaces, kafkaConnectAssemblyOperator.recreateWatch(namespaces));
             }).compose(w -> {
                 log.info("Started operator for {} kind", "KafkaConnect");
                 watchByKind.put("KafkaConnect", w);
                 if (kafkaConnectS2IAssemblyOperator != null) {
                     // only on OS
-                    return kafkaConnectS2IAssemblyOperator.createWatch(namespace, kafkaConnectS2IAssemblyOperator.recreateWatch(namespace));
+                    return kafkaConnectS2IAssemblyOperator.createWatch(namespaces, kafkaConnectS2IAssemblyOperator.recreateWatch(namespaces));
                 } else {
                     return Future.succeededFuture(null);
                 }
@@ -100,13 +119,14 @@ public class ClusterOperator extends AbstractVerticle {
                     log.info("Started operator for {} kind", "KafkaConnectS2I");
                     watchByKind.put("KafkaS2IConnect", w);
                 }
-                return kafkaBridgeAssemblyOperator.createWatch(namespace, kafkaBridgeAssemblyOperator.recreateWatch(namespace));
+                return kafkaBridgeAssemblyOperator.createWatch(namespaces, kafkaBridgeAssemblyOperator.recreateWatch(namespaces));
             }).compose(w -> {
                 log.info("Started operator for {} kind", "KafkaBridge");
                 watchByKind.put("KafkaBridge", w);
-                log.info("Setting up periodic reconciliation for namespace {}", namespace);
+                log.info("Setting up periodic reconciliation for namespaces {}", namespaces);
+                this.periodicReconciler = new PeriodicReconciler(vertx, this.reconciliationInterval);
                 this.reconcileTimer = vertx.setPeriodic(this.reconciliationInterval, res2 -> {
-                    log.info("Triggering periodic reconciliation for namespace {}...", namespace);
+                    log.info("Triggering periodic reconciliation for namespaces {}...", namespaces);
                     reconcileAll("timer");
                 });
                 return startHealthServer().map((Void) null);
@@ -116,8 +136,11 @@ public class ClusterOperator extends AbstractVerticle {
 
     @Override
     public void stop(Future<Void> stop) {
-        log.info("Stopping ClusterOperator for namespace {}", namespace);
+        log.info("Stopping ClusterOperator for namespaces {}", namespaces);
         vertx.cancelTimer(reconcileTimer);
+        if (periodicReconciler != null) {
+            periodicReconciler.cancel();
+        }
         for (Watch watch : watchByKind.values()) {
             if (watch != null) {
                 watch.close();
@@ -130,18 +153,19 @@ public class ClusterOperator extends AbstractVerticle {
     }
 
     /**
-      Periodical reconciliation (in case we lost some event)
+      Periodical reconciliation (in case we lost some event), spread across the reconciliation interval
      */
     private void reconcileAll(String trigger) {
-        Handler<AsyncResult<Void>> ignore = ignored -> { };
-        kafkaAssemblyOperator.reconcileAll(trigger, namespace, ignore);
-        kafkaMirrorMakerAssemblyOperator.reconcileAll(trigger, namespace, ignore);
-        kafkaConnectAssemblyOperator.reconcileAll(trigger, namespace, ignore);
-        kafkaBridgeAssemblyOperator.reconcileAll(trigger, namespace, ignore);
+        List<Operator> operators = new ArrayList<>();
+        operators.add(kafkaAssemblyOperator);
+        operators.add(kafkaMirrorMakerAssemblyOperator);
+        operators.add(kafkaConnectAssemblyOperator);
+        operators.add(kafkaBridgeAssemblyOperator);
 
         if (kafkaConnectS2IAssemblyOperator != null) {
-            kafkaConnectS2IAssemblyOperator.reconcileAll(trigger, namespace, ignore);
+            operators.add(kafkaConnectS2IAssemblyOperator);
         }
+        periodicReconciler.reconcileAll(trigger, namespaces, operators);
     }
 
     /**
@@ -156,6 +180,8 @@ public class ClusterOperator extends AbstractVerticle {
                         request.response().setStatusCode(200).end();
                     } else if (request.path().equals("/ready")) {
                         request.response().setStatusCode(200).end();
+                    } else if (request.path().equals(MetricsRegistry.METRICS_PATH)) {
+                        MetricsRegistry.DEFAULT.handle(request);
                     }
                 })
                 .listen(HEALTH_SERVER_PORT, ar -> {
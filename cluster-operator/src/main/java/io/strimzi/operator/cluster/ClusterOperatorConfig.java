@@ -6,6 +6,7 @@ package io.strimzi.operator.cluster;
 
 import io.fabric8.kubernetes.api.model.LocalObjectReference;
 import io.fabric8.kubernetes.api.model.LocalObjectReferenceBuilder;
+import io.strimzi.certs.CertManagerType;
 import io.strimzi.operator.cluster.model.ImagePullPolicy;
 import io.strimzi.operator.cluster.model.KafkaVersion;
 import io.strimzi.operator.cluster.model.NoImageException;
@@ -35,6 +36,10 @@ public class ClusterOperatorConfig {
     public static final String STRIMZI_CREATE_CLUSTER_ROLES = "STRIMZI_CREATE_CLUSTER_ROLES";
     public static final String STRIMZI_IMAGE_PULL_POLICY = "STRIMZI_IMAGE_PULL_POLICY";
     public static final String STRIMZI_IMAGE_PULL_SECRETS = "STRIMZI_IMAGE_PULL_SECRETS";
+    public static final String STRIMZI_RESOURCE_CACHE_ENABLED = "STRIMZI_RESOURCE_CACHE_ENABLED";
+    public static final String STRIMZI_KAFKA_ROLLING_RESTART_BATCH_SIZE = "STRIMZI_KAFKA_ROLLING_RESTART_BATCH_SIZE";
+    public static final String STRIMZI_CLUSTER_WIDE_WATCHES_ENABLED = "STRIMZI_CLUSTER_WIDE_WATCHES_ENABLED";
+    public static final String STRIMZI_CERT_MANAGER = "STRIMZI_CERT_MANAGER";
 
     // Env vars for configuring images
     public static final String STRIMZI_KAFKA_IMAGES = "STRIMZI_KAFKA_IMAGES";
@@ -54,6 +59,10 @@ public class ClusterOperatorConfig {
     public static final long DEFAULT_FULL_RECONCILIATION_INTERVAL_MS = 120_000;
     public static final long DEFAULT_OPERATION_TIMEOUT_MS = 300_000;
     public static final boolean DEFAULT_CREATE_CLUSTER_ROLES = false;
+    public static final boolean DEFAULT_RESOURCE_CACHE_ENABLED = false;
+    public static final int DEFAULT_KAFKA_ROLLING_RESTART_BATCH_SIZE = 1;
+    public static final boolean DEFAULT_CLUSTER_WIDE_WATCHES_ENABLED = false;
+    public static final CertManagerType DEFAULT_CERT_MANAGER = CertManagerType.OPENSSL;
 
     private final Set<String> namespaces;
     private final long reconciliationIntervalMs;
@@ -62,6 +71,10 @@ public class ClusterOperatorConfig {
     private final KafkaVersion.Lookup versions;
     private final ImagePullPolicy imagePullPolicy;
     private final List<LocalObjectReference> imagePullSecrets;
+    private final boolean resourceCacheEnabled;
+    private final int kafkaRollingRestartBatchSize;
+    private final boolean clusterWideWatchesEnabled;
+    private final CertManagerType certManagerType;
 
     /**
      * Constructor
@@ -73,8 +86,12 @@ public class ClusterOperatorConfig {
      * @param versions The configured Kafka versions
      * @param imagePullPolicy Image pull policy configured by the user
      * @param imagePullSecrets Set of secrets for pulling container images from secured repositories
+     * @param resourceCacheEnabled true to read Kubernetes resources from a watch-backed cache
+     * @param kafkaRollingRestartBatchSize the maximum number of Kafka brokers which may be restarted together
+     * @param clusterWideWatchesEnabled true to watch and list the custom resources in all the namespaces with single cluster-wide requests
+     * @param certManagerType the implementation used to generate keys and certificates
      */
-    public ClusterOperatorConfig(Set<String> namespaces, long reconciliationIntervalMs, long operationTimeoutMs, boolean createClusterRoles, KafkaVersion.Lookup versions, ImagePullPolicy imagePullPolicy, List<LocalObjectReference> imagePullSecrets) {
+    public ClusterOperatorConfig(Set<String> namespaces, long reconciliationIntervalMs, long operationTimeoutMs, boolean createClusterRoles, KafkaVersion.Lookup versions, ImagePullPolicy imagePullPolicy, List<LocalObjectReference> imagePullSecrets, boolean resourceCacheEnabled, int kafkaRollingRestartBatchSize, boolean clusterWideWatchesEnabled, CertManagerType certManagerType) {
         this.namespaces = unmodifiableSet(new HashSet<>(namespaces));
         this.reconciliationIntervalMs = reconciliationIntervalMs;
         this.operationTimeoutMs = operationTimeoutMs;
@@ -82,6 +99,10 @@ public class ClusterOperatorConfig {
         this.versions = versions;
         this.imagePullPolicy = imagePullPolicy;
         this.imagePullSecrets = imagePullSecrets;
+        this.resourceCacheEnabled = resourceCacheEnabled;
+        this.kafkaRollingRestartBatchSize = kafkaRollingRestartBatchSize;
+        this.clusterWideWatchesEnabled = clusterWideWatchesEnabled;
+        this.certManagerType = certManagerType;
     }
 
     /**
@@ -98,8 +119,12 @@ public class ClusterOperatorConfig {
         ImagePullPolicy imagePullPolicy = parseImagePullPolicy(map.get(ClusterOperatorConfig.STRIMZI_IMAGE_PULL_POLICY));
         KafkaVersion.Lookup lookup = parseKafkaVersions(map.get(STRIMZI_KAFKA_IMAGES), map.get(STRIMZI_KAFKA_CONNECT_IMAGES), map.get(STRIMZI_KAFKA_CONNECT_S2I_IMAGES), map.get(STRIMZI_KAFKA_MIRROR_MAKER_IMAGES));
         List<LocalObjectReference> imagePullSecrets = parseImagePullSecrets(map.get(ClusterOperatorConfig.STRIMZI_IMAGE_PULL_SECRETS));
+        boolean resourceCacheEnabled = parseResourceCacheEnabled(map.get(ClusterOperatorConfig.STRIMZI_RESOURCE_CACHE_ENABLED));
+        int kafkaRollingRestartBatchSize = parseKafkaRollingRestartBatchSize(map.get(ClusterOperatorConfig.STRIMZI_KAFKA_ROLLING_RESTART_BATCH_SIZE));
+        boolean clusterWideWatchesEnabled = parseClusterWideWatchesEnabled(map.get(ClusterOperatorConfig.STRIMZI_CLUSTER_WIDE_WATCHES_ENABLED));
+        CertManagerType certManagerType = parseCertManagerType(map.get(ClusterOperatorConfig.STRIMZI_CERT_MANAGER));
 
-        return new ClusterOperatorConfig(namespaces, reconciliationInterval, operationTimeout, createClusterRoles, lookup, imagePullPolicy, imagePullSecrets);
+        return new ClusterOperatorConfig(namespaces, reconciliationInterval, operationTimeout, createClusterRoles, lookup, imagePullPolicy, imagePullSecrets, resourceCacheEnabled, kafkaRollingRestartBatchSize, clusterWideWatchesEnabled, certManagerType);
     }
 
     private static Set<String> parseNamespaceList(String namespacesList)   {
@@ -151,6 +176,54 @@ public class ClusterOperatorConfig {
         return createClusterRoles;
     }
 
+    private static boolean parseResourceCacheEnabled(String resourceCacheEnabledEnvVar) {
+        boolean resourceCacheEnabled = DEFAULT_RESOURCE_CACHE_ENABLED;
+
+        if (resourceCacheEnabledEnvVar != null) {
+            resourceCacheEnabled = Boolean.parseBoolean(resourceCacheEnabledEnvVar);
+        }
+
+        return resourceCacheEnabled;
+    }
+
+    private static boolean parseClusterWideWatchesEnabled(String clusterWideWatchesEnabledEnvVar) {
+        boolean clusterWideWatchesEnabled = DEFAULT_CLUSTER_WIDE_WATCHES_ENABLED;
+
+        if (clusterWideWatchesEnabledEnvVar != null) {
+            clusterWideWatchesEnabled = Boolean.parseBoolean(clusterWideWatchesEnabledEnvVar);
+        }
+
+        return clusterWideWatchesEnabled;
+    }
+
+    private static CertManagerType parseCertManagerType(String certManagerEnvVar) {
+        CertManagerType certManagerType = DEFAULT_CERT_MANAGER;
+
+        if (certManagerEnvVar != null) {
+            try {
+                certManagerType = CertManagerType.parse(certManagerEnvVar);
+            } catch (IllegalArgumentException e) {
+                throw new InvalidConfigurationException("Invalid " + STRIMZI_CERT_MANAGER + ": " + e.getMessage(), e);
+            }
+        }
+
+        return certManagerType;
+    }
+
+    private static int parseKafkaRollingRestartBatchSize(String kafkaRollingRestartBatchSizeEnvVar) {
+        int kafkaRollingRestartBatchSize = DEFAULT_KAFKA_ROLLING_RESTART_BATCH_SIZE;
+
+        if (kafkaRollingRestartBatchSizeEnvVar != null) {
+            kafkaRollingRestartBatchSize = Integer.parseInt(kafkaRollingRestartBatchSizeEnvVar);
+            if (kafkaRollingRestartBatchSize < 1) {
+                throw new InvalidConfigurationException(ClusterOperatorConfig.STRIMZI_KAFKA_ROLLING_RESTART_BATCH_SIZE
+                        + " must be at least 1");
+            }
+        }
+
+        return kafkaRollingRestartBatchSize;
+    }
+
     private static ImagePullPolicy parseImagePullPolicy(String imagePullPolicyEnvVar) {
         ImagePullPolicy imagePullPolicy = null;
 
@@ -253,6 +326,35 @@ public class ClusterOperatorConfig {
         return imagePullSecrets;
     }
 
+    /**
+     * @return  Indicates whether Kubernetes resources should be read from a watch-backed cache
+     */
+    public boolean isResourceCacheEnabled() {
+        return resourceCacheEnabled;
+    }
+
+    /**
+     * @return  The maximum number of Kafka brokers which may be restarted together during a rolling restart
+     */
+    public int getKafkaRollingRestartBatchSize() {
+        return kafkaRollingRestartBatchSize;
+    }
+
+    /**
+     * @return  Indicates whether the custom resources in all the watched namespaces should be watched and listed
+     *          with single cluster-wide requests, rather than with requests to each namespace
+     */
+    public boolean isClusterWideWatchesEnabled() {
+        return clusterWideWatchesEnabled;
+    }
+
+    /**
+     * @return  The implementation used to generate keys and certificates
+     */
+    public CertManagerType getCertManagerType() {
+        return certManagerType;
+    }
+
     @Override
     public String toString() {
         return "ClusterOperatorConfig(" +
@@ -263,6 +365,10 @@ public class ClusterOperatorConfig {
                 ",versions=" + versions +
                 ",imagePullPolicy=" + imagePullPolicy +
                 ",imagePullSecrets=" + imagePullSecrets +
+                ",resourceCacheEnabled=" + resourceCacheEnabled +
+                ",kafkaRollingRestartBatchSize=" + kafkaRollingRestartBatchSize +
+                ",clusterWideWatchesEnabled=" + clusterWideWatchesEnabled +
+                ",certManagerType=" + certManagerType +
                 ")";
     }
 }
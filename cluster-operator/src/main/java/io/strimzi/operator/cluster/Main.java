@@ -9,7 +9,7 @@ import io.fabric8.kubernetes.api.model.rbac.ClusterRole;
 import io.fabric8.kubernetes.client.DefaultKubernetesClient;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.strimzi.api.kafka.Crds;
-import io.strimzi.certs.OpenSslCertManager;
+import io.strimzi.certs.CertManager;
 import io.strimzi.operator.cluster.operator.assembly.KafkaBridgeAssemblyOperator;
 import io.strimzi.operator.PlatformFeaturesAvailability;
 import io.strimzi.operator.cluster.operator.assembly.KafkaAssemblyOperator;
@@ -30,9 +30,11 @@ import java.io.IOException;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @SuppressFBWarnings("DM_EXIT")
@@ -80,9 +82,10 @@ public class Main {
     static CompositeFuture run(Vertx vertx, KubernetesClient client, PlatformFeaturesAvailability pfa, ClusterOperatorConfig config) {
         printEnvInfo();
 
-        ResourceOperatorSupplier resourceOperatorSupplier = new ResourceOperatorSupplier(vertx, client, pfa, config.getOperationTimeoutMs());
+        ResourceOperatorSupplier resourceOperatorSupplier = new ResourceOperatorSupplier(vertx, client, pfa, config.getOperationTimeoutMs(), config.getKafkaRollingRestartBatchSize());
+        Runtime.getRuntime().addShutdownHook(new Thread(resourceOperatorSupplier::close, "resource-operator-supplier-close"));
 
-        OpenSslCertManager certManager = new OpenSslCertManager();
+        CertManager certManager = config.getCertManagerType().create();
         PasswordGenerator passwordGenerator = new PasswordGenerator(12,
                 "abcdefghijklmnopqrstuvwxyz" +
                         "ABCDEFGHIJKLMNOPQRSTUVWXYZ",
@@ -107,11 +110,28 @@ public class Main {
         KafkaBridgeAssemblyOperator kafkaBridgeAssemblyOperator =
                 new KafkaBridgeAssemblyOperator(vertx, pfa, certManager, passwordGenerator, resourceOperatorSupplier, config);
 
+        // With cluster-wide watches a single ClusterOperator watches and lists the custom resources
+        // of all the namespaces, otherwise there's a ClusterOperator for each namespace
+        List<Set<String>> namespaceGroups = new ArrayList<>();
+        if (config.isClusterWideWatchesEnabled() && config.getNamespaces().size() > 1) {
+            namespaceGroups.add(config.getNamespaces());
+        } else {
+            for (String namespace : config.getNamespaces()) {
+                namespaceGroups.add(Collections.singleton(namespace));
+            }
+        }
+
         List<Future> futures = new ArrayList<>();
-        for (String namespace : config.getNamespaces()) {
+        for (Set<String> namespaces : namespaceGroups) {
             Future<String> fut = Future.future();
             futures.add(fut);
-            ClusterOperator operator = new ClusterOperator(namespace,
+            List<Future> caches = new ArrayList<>();
+            if (config.isResourceCacheEnabled()) {
+                for (String namespace : namespaces) {
+                    caches.add(resourceOperatorSupplier.startCaches(namespace));
+                }
+            }
+            ClusterOperator operator = new ClusterOperator(namespaces,
                     config.getReconciliationIntervalMs(),
                     client,
                     kafkaClusterOperations,
@@ -119,16 +139,22 @@ public class Main {
                     kafkaConnectS2IClusterOperations,
                     kafkaMirrorMakerAssemblyOperator,
                     kafkaBridgeAssemblyOperator);
-            vertx.deployVerticle(operator,
-                res -> {
-                    if (res.succeeded()) {
-                        log.info("Cluster Operator verticle started in namespace {}", namespace);
-                    } else {
-                        log.error("Cluster Operator verticle in namespace {} failed to start", namespace, res.cause());
-                        System.exit(1);
-                    }
-                    fut.handle(res);
-                });
+            CompositeFuture.join(caches).setHandler(cachesResult -> {
+                if (cachesResult.failed()) {
+                    log.error("Failed to start resource caches in namespaces {}", namespaces, cachesResult.cause());
+                    System.exit(1);
+                }
+                vertx.deployVerticle(operator,
+                    res -> {
+                        if (res.succeeded()) {
+                            log.info("Cluster Operator verticle started in namespaces {}", namespaces);
+                        } else {
+                            log.error("Cluster Operator verticle in namespaces {} failed to start", namespaces, res.cause());
+                            System.exit(1);
+                        }
+                        fut.handle(res);
+                    });
+            });
         }
         return CompositeFuture.join(futures);
     }
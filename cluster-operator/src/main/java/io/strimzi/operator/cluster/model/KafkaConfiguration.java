@@ -85,11 +85,15 @@ public class KafkaConfiguration extends AbstractConfiguration {
     }
 
     private Map<String, ConfigModel> readConfigModel(KafkaVersion kafkaVersion) {
-        String name = "/kafka-" + kafkaVersion.version() + "-config-model.json";
+        return readConfigModel(kafkaVersion.version());
+    }
+
+    static Map<String, ConfigModel> readConfigModel(String kafkaVersion) {
+        String name = "/kafka-" + kafkaVersion + "-config-model.json";
         try {
             try (InputStream in = KafkaConfiguration.class.getResourceAsStream(name)) {
                 ConfigModels configModels = new ObjectMapper().readValue(in, ConfigModels.class);
-                if (!kafkaVersion.version().equals(configModels.getVersion())) {
+                if (!kafkaVersion.equals(configModels.getVersion())) {
                     throw new RuntimeException("Incorrect version");
                 }
                 return configModels.getConfigs();
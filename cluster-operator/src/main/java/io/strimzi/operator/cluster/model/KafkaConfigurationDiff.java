@@ -0,0 +1,105 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+
+package io.strimzi.operator.cluster.model;
+
+import io.strimzi.kafka.config.model.ConfigModel;
+import io.strimzi.kafka.config.model.Scope;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * The difference between two Kafka broker configurations, as passed by the user.
+ * Using the config model of the broker version, each changed option is classified either as dynamically updatable,
+ * so that it can be applied to the running brokers as a cluster-wide default, or as one which needs the brokers to be restarted.
+ * Options which are read-only, which can only be updated per broker, which are not known broker options (for example
+ * options for plugins), or which have been removed from the configuration need the brokers to be restarted, because the
+ * static configuration of the running brokers still contains their old values.
+ * Dynamic cluster-wide defaults take precedence over the static configuration, so when the changes are applied by
+ * restarting the brokers the defaults of the {@linkplain #getChangedClusterWideOptions() changed cluster-wide options}
+ * have to be deleted.
+ */
+public class KafkaConfigurationDiff {
+
+    private final Map<String, String> dynamicChanges = new TreeMap<>();
+    private final Set<String> staticChanges = new TreeSet<>();
+    private final Set<String> changedClusterWideOptions = new TreeSet<>();
+
+    /**
+     * @param current The current configuration, or null if there is none.
+     * @param desired The desired configuration, or null if there is none.
+     * @param kafkaVersion The version of the brokers.
+     */
+    public KafkaConfigurationDiff(String current, String desired, String kafkaVersion) {
+        Map<String, String> currentOptions = KafkaConfiguration.unvalidated(current == null ? "" : current).asOrderedProperties().asMap();
+        Map<String, String> desiredOptions = KafkaConfiguration.unvalidated(desired == null ? "" : desired).asOrderedProperties().asMap();
+        Map<String, ConfigModel> models = KafkaConfiguration.readConfigModel(kafkaVersion);
+
+        Set<String> keys = new TreeSet<>(currentOptions.keySet());
+        keys.addAll(desiredOptions.keySet());
+        for (String key : keys) {
+            String value = desiredOptions.get(key);
+            if (Objects.equals(currentOptions.get(key), value)) {
+                continue;
+            }
+            ConfigModel model = models.get(key);
+            boolean clusterWide = model != null && model.getScope() == Scope.CLUSTER_WIDE;
+            if (clusterWide) {
+                changedClusterWideOptions.add(key);
+            }
+            if (value != null && clusterWide) {
+                dynamicChanges.put(key, value);
+            } else {
+                staticChanges.add(key);
+            }
+        }
+    }
+
+    /**
+     * @return True if the configurations are the same.
+     */
+    public boolean isEmpty() {
+        return dynamicChanges.isEmpty() && staticChanges.isEmpty();
+    }
+
+    /**
+     * @return True if the configurations differ and all the differences can be applied to the running brokers.
+     */
+    public boolean canBeUpdatedDynamically() {
+        return !dynamicChanges.isEmpty() && staticChanges.isEmpty();
+    }
+
+    /**
+     * @return The options which can be applied to the running brokers, with their desired values.
+     */
+    public Map<String, String> getDynamicChanges() {
+        return Collections.unmodifiableMap(dynamicChanges);
+    }
+
+    /**
+     * @return The options whose change needs the brokers to be restarted.
+     */
+    public Set<String> getStaticChanges() {
+        return Collections.unmodifiableSet(staticChanges);
+    }
+
+    /**
+     * @return The changed or removed options which can be updated dynamically as cluster-wide defaults,
+     * whether or not the changes can be applied to the running brokers.
+     */
+    public Set<String> getChangedClusterWideOptions() {
+        return Collections.unmodifiableSet(changedClusterWideOptions);
+    }
+
+    @Override
+    public String toString() {
+        return "KafkaConfigurationDiff(dynamic=" + dynamicChanges.keySet() + ", static=" + staticChanges + ")";
+    }
+}
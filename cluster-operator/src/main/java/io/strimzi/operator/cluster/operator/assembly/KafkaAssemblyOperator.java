@@ -57,6 +57,7 @@ import io.strimzi.operator.cluster.model.EntityTopicOperator;
 import io.strimzi.operator.cluster.model.EntityUserOperator;
 import io.strimzi.operator.cluster.model.KafkaCluster;
 import io.strimzi.operator.cluster.model.KafkaConfiguration;
+import io.strimzi.operator.cluster.model.KafkaConfigurationDiff;
 import io.strimzi.operator.cluster.model.KafkaExporter;
 import io.strimzi.operator.cluster.model.KafkaUpgrade;
 import io.strimzi.operator.cluster.model.KafkaVersion;
@@ -71,6 +72,7 @@ import io.strimzi.operator.common.Annotations;
 import io.strimzi.operator.common.InvalidConfigurationException;
 import io.strimzi.operator.common.PasswordGenerator;
 import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.metrics.OperatorMetrics;
 import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.operator.resource.AbstractScalableResourceOperator;
 import io.strimzi.operator.common.operator.resource.CrdOperator;
@@ -101,7 +103,9 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -229,96 +233,174 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
         return createOrUpdateFuture;
     }
 
+    /**
+     * Run the steps of the reconciliation. Steps which don't depend on each other's results
+     * (for example the Services, ConfigMaps and Secrets of a cluster) run concurrently, but the
+     * ZooKeeper cluster is always reconciled before the Kafka cluster, and the certificates are
+     * always generated before the StatefulSets which use them. The topic operator, entity operator
+     * and Kafka exporter only depend on the Kafka cluster, so they are reconciled concurrently.
+     * @param reconcileState The state of the reconciliation.
+     * @return A future which completes when the reconciliation is done.
+     */
     Future<Void> reconcile(ReconciliationState reconcileState)  {
         Future<Void> chainFuture = Future.future();
 
-        reconcileState.reconcileCas(this::dateSupplier)
-                .compose(state -> state.clusterOperatorSecret())
+        step("reconcileCas", state -> state.reconcileCas(this::dateSupplier)).apply(reconcileState)
+                .compose(step("clusterOperatorSecret", ReconciliationState::clusterOperatorSecret))
                 // Roll everything if a new CA is added to the trust store.
-                .compose(state -> state.rollingUpdateForNewCaKey())
-                .compose(state -> state.getZookeeperDescription())
-                .compose(state -> state.zkManualPodCleaning())
-                .compose(state -> state.zkNetPolicy())
-                .compose(state -> state.zkManualRollingUpdate())
-                .compose(state -> state.zookeeperServiceAccount())
-                .compose(state -> state.zkPvcs())
-                .compose(state -> state.zkScaleUpStep())
-                .compose(state -> state.zkScaleDown())
-                .compose(state -> state.zkService())
-                .compose(state -> state.zkHeadlessService())
-                .compose(state -> state.zkAncillaryCm())
-                .compose(state -> state.zkNodesSecret())
-                .compose(state -> state.zkPodDisruptionBudget())
-                .compose(state -> state.zkStatefulSet())
-                .compose(state -> state.zkScaleUp())
-                .compose(state -> state.zkRollingUpdate())
-                .compose(state -> state.zkPodsReady())
-                .compose(state -> state.zkServiceEndpointReadiness())
-                .compose(state -> state.zkHeadlessServiceEndpointReadiness())
-                .compose(state -> state.zkPersistentClaimDeletion())
-
-                .compose(state -> state.getKafkaClusterDescription())
-                .compose(state -> state.kafkaManualPodCleaning())
-                .compose(state -> state.kafkaNetPolicy())
-                .compose(state -> state.kafkaManualRollingUpdate())
-                .compose(state -> state.kafkaUpgrade())
-                .compose(state -> state.kafkaPvcs())
-                .compose(state -> state.kafkaInitServiceAccount())
-                .compose(state -> state.kafkaInitClusterRoleBinding())
-                .compose(state -> state.kafkaScaleDown())
-                .compose(state -> state.kafkaService())
-                .compose(state -> state.kafkaHeadlessService())
-                .compose(state -> state.kafkaExternalBootstrapService())
-                .compose(state -> state.kafkaReplicaServices())
-                .compose(state -> state.kafkaBootstrapRoute())
-                .compose(state -> state.kafkaReplicaRoutes())
-                .compose(state -> state.kafkaBootstrapIngress())
-                .compose(state -> state.kafkaReplicaIngress())
-                .compose(state -> state.kafkaExternalBootstrapServiceReady())
-                .compose(state -> state.kafkaReplicaServicesReady())
-                .compose(state -> state.kafkaBootstrapRouteReady())
-                .compose(state -> state.kafkaReplicaRoutesReady())
-                .compose(state -> state.kafkaGenerateCertificates())
-                .compose(state -> state.kafkaAncillaryCm())
-                .compose(state -> state.kafkaBrokersSecret())
-                .compose(state -> state.kafkaPodDisruptionBudget())
-                .compose(state -> state.kafkaStatefulSet())
-                .compose(state -> state.kafkaRollingUpdate())
-                .compose(state -> state.kafkaScaleUp())
-                .compose(state -> state.kafkaPodsReady())
-                .compose(state -> state.kafkaServiceEndpointReady())
-                .compose(state -> state.kafkaHeadlessServiceEndpointReady())
-                .compose(state -> state.kafkaPersistentClaimDeletion())
-
-                .compose(state -> state.getTopicOperatorDescription())
-                .compose(state -> state.topicOperatorServiceAccount())
-                .compose(state -> state.topicOperatorRoleBinding())
-                .compose(state -> state.topicOperatorAncillaryCm())
-                .compose(state -> state.topicOperatorSecret())
-                .compose(state -> state.topicOperatorDeployment())
-
-                .compose(state -> state.getEntityOperatorDescription())
-                .compose(state -> state.entityOperatorServiceAccount())
-                .compose(state -> state.entityOperatorTopicOpRoleBinding())
-                .compose(state -> state.entityOperatorUserOpRoleBinding())
-                .compose(state -> state.entityOperatorTopicOpAncillaryCm())
-                .compose(state -> state.entityOperatorUserOpAncillaryCm())
-                .compose(state -> state.entityOperatorSecret())
-                .compose(state -> state.entityOperatorDeployment())
-                .compose(state -> state.entityOperatorReady())
-
-                .compose(state -> state.getKafkaExporterDescription())
-                .compose(state -> state.kafkaExporterServiceAccount())
-                .compose(state -> state.kafkaExporterSecret())
-                .compose(state -> state.kafkaExporterDeployment())
-                .compose(state -> state.kafkaExporterService())
-                .compose(state -> state.kafkaExporterReady())
+                .compose(step("rollingUpdateForNewCaKey", ReconciliationState::rollingUpdateForNewCaKey))
+                .compose(step("getZookeeperDescription", ReconciliationState::getZookeeperDescription))
+                .compose(step("zkManualPodCleaning", ReconciliationState::zkManualPodCleaning))
+                .compose(concurrently(
+                        step("zkNetPolicy", ReconciliationState::zkNetPolicy),
+                        step("zookeeperServiceAccount", ReconciliationState::zookeeperServiceAccount)))
+                .compose(step("zkManualRollingUpdate", ReconciliationState::zkManualRollingUpdate))
+                .compose(step("zkPvcs", ReconciliationState::zkPvcs))
+                .compose(step("zkScaleUpStep", ReconciliationState::zkScaleUpStep))
+                .compose(step("zkScaleDown", ReconciliationState::zkScaleDown))
+                .compose(concurrently(
+                        step("zkService", ReconciliationState::zkService),
+                        step("zkHeadlessService", ReconciliationState::zkHeadlessService),
+                        step("zkAncillaryCm", ReconciliationState::zkAncillaryCm),
+                        step("zkNodesSecret", ReconciliationState::zkNodesSecret),
+                        step("zkPodDisruptionBudget", ReconciliationState::zkPodDisruptionBudget)))
+                .compose(step("zkStatefulSet", ReconciliationState::zkStatefulSet))
+                .compose(step("zkScaleUp", ReconciliationState::zkScaleUp))
+                .compose(step("zkRollingUpdate", ReconciliationState::zkRollingUpdate))
+                .compose(step("zkPodsReady", ReconciliationState::zkPodsReady))
+                .compose(concurrently(
+                        step("zkServiceEndpointReadiness", ReconciliationState::zkServiceEndpointReadiness),
+                        step("zkHeadlessServiceEndpointReadiness", ReconciliationState::zkHeadlessServiceEndpointReadiness)))
+                .compose(step("zkPersistentClaimDeletion", ReconciliationState::zkPersistentClaimDeletion))
+
+                .compose(step("getKafkaClusterDescription", ReconciliationState::getKafkaClusterDescription))
+                .compose(step("kafkaManualPodCleaning", ReconciliationState::kafkaManualPodCleaning))
+                .compose(concurrently(
+                        step("kafkaNetPolicy", ReconciliationState::kafkaNetPolicy),
+                        step("kafkaInitServiceAccount", ReconciliationState::kafkaInitServiceAccount),
+                        step("kafkaInitClusterRoleBinding", ReconciliationState::kafkaInitClusterRoleBinding)))
+                .compose(step("kafkaManualRollingUpdate", ReconciliationState::kafkaManualRollingUpdate))
+                .compose(step("kafkaUpgrade", ReconciliationState::kafkaUpgrade))
+                .compose(step("kafkaPvcs", ReconciliationState::kafkaPvcs))
+                .compose(step("kafkaScaleDown", ReconciliationState::kafkaScaleDown))
+                .compose(concurrently(
+                        step("kafkaService", ReconciliationState::kafkaService),
+                        step("kafkaHeadlessService", ReconciliationState::kafkaHeadlessService),
+                        step("kafkaExternalBootstrapService", ReconciliationState::kafkaExternalBootstrapService),
+                        step("kafkaReplicaServices", ReconciliationState::kafkaReplicaServices),
+                        step("kafkaBootstrapRoute", ReconciliationState::kafkaBootstrapRoute),
+                        step("kafkaReplicaRoutes", ReconciliationState::kafkaReplicaRoutes),
+                        step("kafkaBootstrapIngress", ReconciliationState::kafkaBootstrapIngress),
+                        step("kafkaReplicaIngress", ReconciliationState::kafkaReplicaIngress)))
+                // The readiness steps collect the external addresses from worker threads, so they run one at a time
+                .compose(step("kafkaExternalBootstrapServiceReady", ReconciliationState::kafkaExternalBootstrapServiceReady))
+                .compose(step("kafkaReplicaServicesReady", ReconciliationState::kafkaReplicaServicesReady))
+                .compose(step("kafkaBootstrapRouteReady", ReconciliationState::kafkaBootstrapRouteReady))
+                .compose(step("kafkaReplicaRoutesReady", ReconciliationState::kafkaReplicaRoutesReady))
+                .compose(step("kafkaGenerateCertificates", ReconciliationState::kafkaGenerateCertificates))
+                .compose(concurrently(
+                        step("kafkaAncillaryCm", ReconciliationState::kafkaAncillaryCm),
+                        step("kafkaBrokersSecret", ReconciliationState::kafkaBrokersSecret),
+                        step("kafkaPodDisruptionBudget", ReconciliationState::kafkaPodDisruptionBudget)))
+                .compose(step("kafkaStatefulSet", ReconciliationState::kafkaStatefulSet))
+                .compose(step("kafkaRollingUpdate", ReconciliationState::kafkaRollingUpdate))
+                .compose(step("kafkaScaleUp", ReconciliationState::kafkaScaleUp))
+                .compose(step("kafkaPodsReady", ReconciliationState::kafkaPodsReady))
+                .compose(concurrently(
+                        step("kafkaServiceEndpointReady", ReconciliationState::kafkaServiceEndpointReady),
+                        step("kafkaHeadlessServiceEndpointReady", ReconciliationState::kafkaHeadlessServiceEndpointReady)))
+                .compose(step("kafkaPersistentClaimDeletion", ReconciliationState::kafkaPersistentClaimDeletion))
+
+                .compose(concurrently(
+                        sequentially(
+                                step("getTopicOperatorDescription", ReconciliationState::getTopicOperatorDescription),
+                                concurrently(
+                                        step("topicOperatorServiceAccount", ReconciliationState::topicOperatorServiceAccount),
+                                        step("topicOperatorRoleBinding", ReconciliationState::topicOperatorRoleBinding),
+                                        step("topicOperatorAncillaryCm", ReconciliationState::topicOperatorAncillaryCm),
+                                        step("topicOperatorSecret", ReconciliationState::topicOperatorSecret)),
+                                step("topicOperatorDeployment", ReconciliationState::topicOperatorDeployment)),
+                        sequentially(
+                                step("getEntityOperatorDescription", ReconciliationState::getEntityOperatorDescription),
+                                concurrently(
+                                        step("entityOperatorServiceAccount", ReconciliationState::entityOperatorServiceAccount),
+                                        step("entityOperatorTopicOpRoleBinding", ReconciliationState::entityOperatorTopicOpRoleBinding),
+                                        step("entityOperatorUserOpRoleBinding", ReconciliationState::entityOperatorUserOpRoleBinding),
+                                        step("entityOperatorTopicOpAncillaryCm", ReconciliationState::entityOperatorTopicOpAncillaryCm),
+                                        step("entityOperatorUserOpAncillaryCm", ReconciliationState::entityOperatorUserOpAncillaryCm),
+                                        step("entityOperatorSecret", ReconciliationState::entityOperatorSecret)),
+                                step("entityOperatorDeployment", ReconciliationState::entityOperatorDeployment),
+                                step("entityOperatorReady", ReconciliationState::entityOperatorReady)),
+                        sequentially(
+                                step("getKafkaExporterDescription", ReconciliationState::getKafkaExporterDescription),
+                                concurrently(
+                                        step("kafkaExporterServiceAccount", ReconciliationState::kafkaExporterServiceAccount),
+                                        step("kafkaExporterSecret", ReconciliationState::kafkaExporterSecret)),
+                                concurrently(
+                                        step("kafkaExporterDeployment", ReconciliationState::kafkaExporterDeployment),
+                                        step("kafkaExporterService", ReconciliationState::kafkaExporterService)),
+                                step("kafkaExporterReady", ReconciliationState::kafkaExporterReady))))
 
                 .compose(state -> chainFuture.complete(), chainFuture);
 
         return chainFuture;
     }
 
+    /**
+     * Combine the given steps, which must not depend on each other, into a single step which runs them concurrently.
+     * The combined step completes once all the steps have completed, and fails if any of them failed.
+     * @param steps The steps.
+     * @return The combined step.
+     */
+    @SafeVarargs
+    private static Function<ReconciliationState, Future<ReconciliationState>> concurrently(
+            Function<ReconciliationState, Future<ReconciliationState>>... steps) {
+        return state -> {
+            List<Future> futures = new ArrayList<>(steps.length);
+            for (Function<ReconciliationState, Future<ReconciliationState>> step : steps) {
+                futures.add(step.apply(state));
+            }
+            return CompositeFuture.join(futures).map(state);
+        };
+    }
+
+    /**
+     * Combine the given steps into a single step which runs them one after the other.
+     * @param steps The steps.
+     * @return The combined step.
+     */
+    @SafeVarargs
+    private static Function<ReconciliationState, Future<ReconciliationState>> sequentially(
+            Function<ReconciliationState, Future<ReconciliationState>>... steps) {
+        return state -> {
+            Future<ReconciliationState> result = Future.succeededFuture(state);
+            for (Function<ReconciliationState, Future<ReconciliationState>> step : steps) {
+                result = result.compose(step);
+            }
+            return result;
+        };
+    }
+
+    /**
+     * Wrap the given step of the reconciliation so that its duration is recorded in the
+     * {@link OperatorMetrics#RECONCILIATION_STEP_DURATION} metric.
+     * @param name The name of the step.
+     * @param step The step.
+     * @return The wrapped step.
+     */
+    private Function<ReconciliationState, Future<ReconciliationState>> step(String name,
+            Function<ReconciliationState, Future<ReconciliationState>> step) {
+        return state -> {
+            long startNanos = System.nanoTime();
+            Future<ReconciliationState> result = Future.future();
+            step.apply(state).setHandler(ar -> {
+                OperatorMetrics.RECONCILIATION_STEP_DURATION.observeSince(startNanos, kind(), name);
+                result.handle(ar);
+            });
+            return result;
+        };
+    }
+
     ReconciliationState createReconciliationState(Reconciliation reconciliation, Kafka kafkaAssembly) {
         return new ReconciliationState(reconciliation, kafkaAssembly);
     }
@@ -356,6 +438,12 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
         private Set<String> kafkaExternalAddresses = new HashSet<>();
         private Map<Integer, Set<String>> kafkaExternalDnsNames = new HashMap<>();
         private boolean kafkaAncillaryCmChange;
+        private boolean kafkaDynamicConfigurationFailed;
+        private Set<String> kafkaDynamicDefaultsToDelete;
+        private boolean kafkaManualRollingUpdate;
+        private boolean zkManualRollingUpdate;
+        /* The names of the pods which have been restarted by this reconciliation */
+        private final Set<String> restartedPods = ConcurrentHashMap.newKeySet();
 
         @SuppressWarnings("deprecation")
         /* test */ io.strimzi.operator.cluster.model.TopicOperator topicOperator;
@@ -578,23 +666,19 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
             if (!reason.isEmpty()) {
                 String reasons = reason.stream().collect(Collectors.joining(", "));
                 Future<Void> zkRollFuture;
-                Predicate<Pod> rollPodAndLogReason = pod -> {
-                    log.debug("{}: Rolling Pod {} to {}", reconciliation, pod.getMetadata().getName(), reasons);
-                    return true;
-                };
                 if (this.clusterCa.keyReplaced()) {
                     zkRollFuture = zkSetOperations.getAsync(namespace, ZookeeperCluster.zookeeperClusterName(name))
-                        .compose(ss -> zkSetOperations.maybeRollingUpdate(ss, rollPodAndLogReason,
-                        clusterCa.caCertSecret(),
-                        oldCoSecret));
+                        .compose(ss -> rollingRestart(pod -> reason, podNeedsRestart ->
+                                zkSetOperations.maybeRollingUpdate(ss, podNeedsRestart, clusterCa.caCertSecret(), oldCoSecret)));
                 } else {
                     zkRollFuture = Future.succeededFuture();
                 }
+                // The brokers have to trust the new CA certificate before any of them is given a certificate signed
+                // by the new key, so this roll cannot be combined with the one at the end of the reconciliation
                 return zkRollFuture
                         .compose(i -> kafkaSetOperations.getAsync(namespace, KafkaCluster.kafkaClusterName(name)))
-                        .compose(ss -> kafkaSetOperations.maybeRollingUpdate(ss, rollPodAndLogReason,
-                                clusterCa.caCertSecret(),
-                                oldCoSecret))
+                        .compose(ss -> rollingRestart(pod -> reason, podNeedsRestart ->
+                                kafkaSetOperations.maybeRollingUpdate(ss, podNeedsRestart, clusterCa.caCertSecret(), oldCoSecret)))
                         .compose(i -> deploymentOperations.getAsync(namespace, io.strimzi.operator.cluster.model.TopicOperator.topicOperatorName(name)))
                         .compose(dep -> {
                             if (dep != null) {
@@ -626,12 +710,8 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
                     if (ss != null) {
                         if (Annotations.booleanAnnotation(ss, ANNO_STRIMZI_IO_MANUAL_ROLLING_UPDATE,
                                 false, ANNO_OP_STRIMZI_IO_MANUAL_ROLLING_UPDATE)) {
-                            return kafkaSetOperations.maybeRollingUpdate(ss, pod -> {
-
-                                log.debug("{}: Rolling Kafka pod {} due to manual rolling update",
-                                        reconciliation, pod.getMetadata().getName());
-                                return true;
-                            });
+                            log.debug("{}: Kafka pods will be rolled due to manual rolling update", reconciliation);
+                            this.kafkaManualRollingUpdate = true;
                         }
                     }
                     return Future.succeededFuture();
@@ -647,13 +727,8 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
                     if (ss != null) {
                         if (Annotations.booleanAnnotation(ss, ANNO_STRIMZI_IO_MANUAL_ROLLING_UPDATE,
                                 false, ANNO_OP_STRIMZI_IO_MANUAL_ROLLING_UPDATE)) {
-
-                            return zkSetOperations.maybeRollingUpdate(ss, pod -> {
-
-                                log.debug("{}: Rolling Zookeeper pod {} due to manual rolling update",
-                                        reconciliation, pod.getMetadata().getName());
-                                return true;
-                            });
+                            log.debug("{}: Zookeeper pods will be rolled due to manual rolling update", reconciliation);
+                            this.zkManualRollingUpdate = true;
                         }
                     }
                     return Future.succeededFuture();
@@ -669,14 +744,9 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
          */
         public Future<Void> waitForQuiescence(StatefulSet ss) {
             if (ss != null) {
-                return kafkaSetOperations.maybeRollingUpdate(ss,
-                    pod -> {
-                        boolean notUpToDate = !isPodUpToDate(ss, pod);
-                        if (notUpToDate) {
-                            log.debug("Rolling pod {} prior to upgrade", pod.getMetadata().getName());
-                        }
-                        return notUpToDate;
-                    });
+                return kafkaRollingRestart(ss, pod -> isPodUpToDate(ss, pod)
+                        ? Collections.emptyList()
+                        : Collections.singletonList("Pod has old generation prior to upgrade"));
             } else {
                 return Future.succeededFuture();
             }
@@ -824,9 +894,9 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
             String name = KafkaCluster.kafkaClusterName(this.name);
             log.info("{}: Upgrade: Patch + rolling update of {}", reconciliation, name);
             return kafkaSetOperations.reconcile(namespace, name, newSs)
-                    .compose(result -> kafkaSetOperations.maybeRollingUpdate(ss, pod -> {
+                    .compose(result -> kafkaRollingRestart(ss, pod -> {
                         log.info("{}: Upgrade: Patch + rolling update of {}: Pod {}", reconciliation, name, pod.getMetadata().getName());
-                        return true;
+                        return Collections.singletonList(upgrade + " phase 1");
                     }).map(result.resource()))
                     .compose(ss2 -> {
                         log.info("{}: {}, phase 1 of {} completed: {}", reconciliation, upgrade,
@@ -887,9 +957,9 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
             // Reconcile the SS and perform a rolling update of the pods
             log.info("{}: Upgrade: Patch + rolling update of {}", reconciliation, name);
             return kafkaSetOperations.reconcile(namespace, KafkaCluster.kafkaClusterName(name), newSs)
-                    .compose(ignored -> kafkaSetOperations.maybeRollingUpdate(ss, pod -> {
+                    .compose(ignored -> kafkaRollingRestart(ss, pod -> {
                         log.info("{}: Upgrade: Patch + rolling update of {}: Pod {}", reconciliation, name, pod.getMetadata().getName());
-                        return true;
+                        return Collections.singletonList(upgrade + " phase 2");
                     }))
                     .compose(ignored -> {
                         log.info("{}: {}, phase 2 of 2 completed", reconciliation, upgrade);
@@ -968,9 +1038,9 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
             String name = KafkaCluster.kafkaClusterName(this.name);
             log.info("{}: Downgrade: Patch + rolling update of {}", reconciliation, name);
             return kafkaSetOperations.reconcile(namespace, name, newSs)
-                    .compose(result -> kafkaSetOperations.maybeRollingUpdate(ss, pod -> {
+                    .compose(result -> kafkaRollingRestart(ss, pod -> {
                         log.info("{}: Downgrade: Patch + rolling update of {}: Pod {}", reconciliation, name, pod.getMetadata().getName());
-                        return true;
+                        return Collections.singletonList(upgrade + " phase 1");
                     }).map(result.resource()))
                     .compose(ss2 -> {
                         log.info("{}: {}, phase 1 of {} completed", reconciliation, upgrade, phases);
@@ -1028,9 +1098,9 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
             // Reconcile the SS and perform a rolling update of the pods
             log.info("{}: Upgrade: Patch + rolling update of {}", reconciliation, name);
             return kafkaSetOperations.reconcile(namespace, KafkaCluster.kafkaClusterName(name), newSs)
-                    .compose(ignored -> kafkaSetOperations.maybeRollingUpdate(ss, pod -> {
+                    .compose(ignored -> kafkaRollingRestart(ss, pod -> {
                         log.info("{}: Upgrade: Patch + rolling update of {}: Pod {}", reconciliation, name, pod.getMetadata().getName());
-                        return true;
+                        return Collections.singletonList(downgrade + " phase 2");
                     }))
                     .compose(ignored -> {
                         log.info("{}: {}, phase 2 of 2 completed", reconciliation, downgrade);
@@ -1148,13 +1218,25 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
         Future<ReconciliationState> zkStatefulSet() {
             StatefulSet zkSs = zkCluster.generateStatefulSet(pfa.isOpenshift(), imagePullPolicy, imagePullSecrets);
             Annotations.annotations(zkSs.getSpec().getTemplate()).put(Ca.ANNO_STRIMZI_IO_CLUSTER_CA_CERT_GENERATION, String.valueOf(getCaCertGeneration(this.clusterCa)));
+            if (zkManualRollingUpdate) {
+                // Keep the manual rolling update request until the pods have been rolled
+                Annotations.annotations(zkSs).put(ANNO_STRIMZI_IO_MANUAL_ROLLING_UPDATE, "true");
+            }
             return withZkDiff(zkSetOperations.reconcile(namespace, zkCluster.getName(), zkSs));
         }
 
         Future<ReconciliationState> zkRollingUpdate() {
-            return withVoid(zkSetOperations.maybeRollingUpdate(zkDiffs.resource(), pod ->
-                isPodToRestart(zkDiffs.resource(), pod, zkAncillaryCmChange, this.clusterCa)
-            ));
+            StatefulSet ss = zkDiffs.resource();
+            return withVoid(rollingRestart(pod -> {
+                List<String> reasons = podRestartReasons(ss, pod, zkAncillaryCmChange, this.clusterCa);
+                if (zkManualRollingUpdate && !restartedPods.contains(pod.getMetadata().getName())) {
+                    reasons.add("manual rolling update");
+                }
+                return reasons;
+            }, podNeedsRestart -> zkSetOperations.maybeRollingUpdate(ss, podNeedsRestart))
+                    .compose(ignored -> zkManualRollingUpdate
+                            ? manualRollingUpdateDone(zkSetOperations, ss)
+                            : Future.succeededFuture()));
         }
 
         /* test */ void setZkAncillaryCmChange(boolean zkAncillaryCmChange) {
@@ -1868,13 +1950,151 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
             Annotations.annotations(template).put(
                     Ca.ANNO_STRIMZI_IO_CLIENTS_CA_CERT_GENERATION,
                     String.valueOf(getCaCertGeneration(this.clientsCa)));
-            return withKafkaDiff(kafkaSetOperations.reconcile(namespace, kafkaCluster.getName(), kafkaSs));
+            if (kafkaManualRollingUpdate) {
+                // Keep the manual rolling update request until the pods have been rolled
+                Annotations.annotations(kafkaSs).put(ANNO_STRIMZI_IO_MANUAL_ROLLING_UPDATE, "true");
+            }
+
+            Future<StatefulSet> current = Future.future();
+            vertx.createSharedWorkerExecutor("kubernetes-ops-pool").<StatefulSet>executeBlocking(
+                future -> future.complete(kafkaSetOperations.get(namespace, kafkaCluster.getName())), true, current);
+            return current
+                    .compose(ss -> kafkaDynamicConfiguration(ss, kafkaSs))
+                    .compose(ignored -> withKafkaDiff(kafkaSetOperations.reconcile(namespace, kafkaCluster.getName(), kafkaSs)));
+        }
+
+        /**
+         * Brings the dynamic broker configuration in line with the desired StatefulSet before the StatefulSet is patched.
+         * When the only change which would need a rolling update is to broker configuration options which can be updated
+         * dynamically, the change is applied to the running brokers (and the StatefulSet is patched without incrementing
+         * its generation). If that fails, or if the configuration changes in other ways, the brokers are rolled and the
+         * dynamic defaults of the changed options are deleted, so that they don't take precedence over the static
+         * configuration of the restarted brokers.
+         * The dynamic configuration is updated before the StatefulSet is patched, so that if it fails the change is
+         * still there to be applied by the next reconciliation. If the dynamic defaults cannot be deleted (for example
+         * because the brokers are not running), the deletion is retried once the brokers have been rolled, and the
+         * StatefulSet is patched and rolled regardless.
+         */
+        private Future<Void> kafkaDynamicConfiguration(StatefulSet current, StatefulSet desired) {
+            KafkaConfigurationDiff configDiff = KafkaSetOperator.configurationChange(current, desired);
+            if (configDiff == null || configDiff.getChangedClusterWideOptions().isEmpty()) {
+                return Future.succeededFuture();
+            }
+            Future<Boolean> applied;
+            if (KafkaSetOperator.dynamicConfigurationChange(current, desired) != null) {
+                log.debug("{}: Updating broker configuration dynamically: {}", reconciliation, configDiff);
+                applied = kafkaSetOperations.reconfigure(current, configDiff)
+                        .map(true)
+                        .otherwise(e -> {
+                            log.warn("{}: Failed to update broker configuration dynamically, the brokers will be rolled instead", reconciliation, e);
+                            this.kafkaDynamicConfigurationFailed = true;
+                            return false;
+                        });
+            } else {
+                applied = Future.succeededFuture(false);
+            }
+            return applied.compose(dynamicallyApplied -> {
+                if (dynamicallyApplied) {
+                    return Future.succeededFuture();
+                }
+                log.debug("{}: Deleting the dynamic defaults of the changed broker options {}", reconciliation, configDiff.getChangedClusterWideOptions());
+                return kafkaSetOperations.deleteDynamicConfiguration(current, configDiff.getChangedClusterWideOptions())
+                        .otherwise(e -> {
+                            log.warn("{}: Failed to delete the dynamic defaults of the broker options {}, retrying once the brokers have been rolled",
+                                    reconciliation, configDiff.getChangedClusterWideOptions(), e);
+                            this.kafkaDynamicDefaultsToDelete = configDiff.getChangedClusterWideOptions();
+                            return null;
+                        });
+            });
         }
 
+        /**
+         * Retries deleting the dynamic defaults which could not be deleted before the StatefulSet was patched.
+         * A failure is logged rather than failing the reconciliation, because the brokers have already been rolled.
+         */
+        private Future<Void> kafkaDeferredDynamicDefaultsDeletion(StatefulSet ss) {
+            if (kafkaDynamicDefaultsToDelete == null) {
+                return Future.succeededFuture();
+            }
+            return kafkaSetOperations.deleteDynamicConfiguration(ss, kafkaDynamicDefaultsToDelete)
+                    .otherwise(e -> {
+                        log.error("{}: Failed to delete the dynamic defaults of the broker options {}, they take precedence over "
+                                + "the configuration in the Kafka resource until they are deleted", reconciliation, kafkaDynamicDefaultsToDelete, e);
+                        return null;
+                    });
+        }
+
+        /**
+         * Roll the Kafka pods for all the reasons collected by the reconciliation, so that each pod is restarted
+         * at most once by this step, however many reasons it has.
+         */
         Future<ReconciliationState> kafkaRollingUpdate() {
-            return withVoid(kafkaSetOperations.maybeRollingUpdate(kafkaDiffs.resource(), pod ->
-                isPodToRestart(kafkaDiffs.resource(), pod, kafkaAncillaryCmChange, this.clusterCa, this.clientsCa)
-            ));
+            StatefulSet ss = kafkaDiffs.resource();
+            return withVoid(kafkaRollingRestart(ss, pod -> {
+                List<String> reasons = podRestartReasons(ss, pod, kafkaAncillaryCmChange, this.clusterCa, this.clientsCa);
+                if (kafkaDynamicConfigurationFailed) {
+                    reasons.add("dynamic configuration update failed");
+                }
+                if (kafkaManualRollingUpdate && !restartedPods.contains(pod.getMetadata().getName())) {
+                    reasons.add("manual rolling update");
+                }
+                return reasons;
+            }).compose(ignored -> kafkaDeferredDynamicDefaultsDeletion(ss))
+                    .compose(ignored -> kafkaManualRollingUpdate
+                            ? manualRollingUpdateDone(kafkaSetOperations, ss)
+                            : Future.succeededFuture()));
+        }
+
+        /**
+         * Removes the manual rolling update annotation, which the StatefulSet keeps until its pods have been rolled,
+         * so that the roll is requested again by the next reconciliation if it fails.
+         * @param setOperations The operator for the StatefulSet.
+         * @param ss The StatefulSet whose pods have been rolled.
+         * @return A Future which completes when the annotation has been removed.
+         */
+        private Future<Void> manualRollingUpdateDone(StatefulSetOperator setOperations, StatefulSet ss) {
+            log.debug("{}: Manual rolling update of {} completed", reconciliation, ss.getMetadata().getName());
+            StatefulSet desired = new StatefulSetBuilder(ss)
+                    .editMetadata()
+                        .removeFromAnnotations(ANNO_STRIMZI_IO_MANUAL_ROLLING_UPDATE)
+                        .removeFromAnnotations(ANNO_OP_STRIMZI_IO_MANUAL_ROLLING_UPDATE)
+                    .endMetadata()
+                    .build();
+            return setOperations.reconcile(namespace, ss.getMetadata().getName(), desired).map((Void) null);
+        }
+
+        private Future<Void> kafkaRollingRestart(StatefulSet ss, Function<Pod, List<String>> restartReasons) {
+            return rollingRestart(restartReasons, podNeedsRestart -> kafkaSetOperations.maybeRollingUpdate(ss, podNeedsRestart));
+        }
+
+        /**
+         * Perform a rolling restart of the pods which have at least one reason to be restarted, and record the reasons
+         * as an event on each of the restarted pods.
+         * @param restartReasons The reasons for restarting the given pod, empty if it doesn't need to be restarted.
+         * @param roll Performs the rolling restart of the pods matching the given predicate.
+         * @return A Future which completes when the rolling restart is complete.
+         */
+        private Future<Void> rollingRestart(Function<Pod, List<String>> restartReasons, Function<Predicate<Pod>, Future<Void>> roll) {
+            Map<String, List<String>> restarting = new ConcurrentHashMap<>();
+            return roll.apply(pod -> {
+                List<String> reasons = restartReasons.apply(pod);
+                if (reasons.isEmpty()) {
+                    return false;
+                }
+                log.debug("{}: Rolling pod {} due to {}", reconciliation, pod.getMetadata().getName(), reasons);
+                restarting.put(pod.getMetadata().getName(), reasons);
+                return true;
+            }).compose(ignored -> {
+                restartedPods.addAll(restarting.keySet());
+                List<Future> events = new ArrayList<>(restarting.size());
+                for (Map.Entry<String, List<String>> entry : restarting.entrySet()) {
+                    String message = "Restarted due to " + String.join(", ", entry.getValue());
+                    events.add(podOperations.getAsync(namespace, entry.getKey()).compose(pod -> pod != null
+                            ? podOperations.recordEvent(pod, "Restarted", message)
+                            : Future.succeededFuture()));
+                }
+                return CompositeFuture.join(events).<Void>map((Void) null).otherwise((Void) null);
+            });
         }
 
         Future<ReconciliationState> kafkaScaleUp() {
@@ -2072,8 +2292,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
                         // We have to wait for the pod to be actually deleted
                         log.debug("{}: Checking if Pod {} has been deleted", reconciliation, podName);
 
-                        Future<Void> waitForDeletion = podOperations.waitFor(namespace, podName, pollingIntervalMs, timeoutMs, (ignore1, ignore2) -> {
-                            Pod deletion = podOperations.get(namespace, podName);
+                        Future<Void> waitForDeletion = podOperations.watchUntil(namespace, podName, pollingIntervalMs, timeoutMs, deletion -> {
                             log.trace("Checking if Pod {} in namespace {} has been deleted or recreated", podName, namespace);
                             return deletion == null;
                         });
@@ -2091,8 +2310,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
 
                             log.debug("{}: Checking if PVC {} for Pod {} has been deleted", reconciliation, pvcName, podName);
 
-                            Future<Void> waitForDeletion = pvcOperations.waitFor(namespace, pvcName, pollingIntervalMs, timeoutMs, (ignore1, ignore2) -> {
-                                PersistentVolumeClaim deletion = pvcOperations.get(namespace, pvcName);
+                            Future<Void> waitForDeletion = pvcOperations.watchUntil(namespace, pvcName, pollingIntervalMs, timeoutMs, deletion -> {
                                 log.trace("Checking if {} {} in namespace {} has been deleted", pvc.getKind(), pvcName, namespace);
                                 return deletion == null || (deletion.getMetadata() != null && !uid.equals(deletion.getMetadata().getUid()));
                             });
@@ -2483,59 +2701,35 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
             return caCertGeneration == podCaCertGeneration;
         }
 
-        private boolean isPodToRestart(StatefulSet ss, Pod pod, boolean isAncillaryCmChange, Ca... cas) {
-            boolean isPodUpToDate = isPodUpToDate(ss, pod);
-            boolean isPodCaCertUpToDate = true;
-            boolean isCaCertsChanged = false;
-            boolean isFsResizeNeeded = false;
-
+        /**
+         * @return The reasons why the given pod of the given StatefulSet needs to be restarted, empty if it doesn't.
+         */
+        private List<String> podRestartReasons(StatefulSet ss, Pod pod, boolean isAncillaryCmChange, Ca... cas) {
+            List<String> reasons = new ArrayList<>();
             for (Ca ca: cas) {
-                isCaCertsChanged |= ca.certRenewed() || ca.certsRemoved();
-                isPodCaCertUpToDate &= isPodCaCertUpToDate(pod, ca);
-            }
-
-            boolean isPodToRestart = !isPodUpToDate || isAncillaryCmChange;
-            isPodToRestart |= isCaCertsChanged;
-            isPodToRestart |= !isPodCaCertUpToDate;
-
-            if (fsResizingRestartRequest.contains(pod.getMetadata().getName())) {
-                isFsResizeNeeded = true;
-            }
-            isPodToRestart |= isFsResizeNeeded;
-
-            if (log.isDebugEnabled()) {
-                List<String> reasons = new ArrayList<>();
-                for (Ca ca: cas) {
-                    if (ca.certRenewed()) {
-                        reasons.add(ca + " certificate renewal");
-                    }
-                    if (ca.certsRemoved()) {
-                        reasons.add(ca + " certificate removal");
-                    }
-                    if (ca.certChanged()) {
-                        reasons.add(ca + " certificate metadata changed");
-                    }
-                    if (!isPodCaCertUpToDate(pod, ca)) {
-                        reasons.add("Pod has old " + ca + " certificate generation");
-                    }
+                if (ca.certRenewed()) {
+                    reasons.add(ca + " certificate renewal");
                 }
-                if (isAncillaryCmChange) {
-                    reasons.add("ancillary CM change");
+                if (ca.certsRemoved()) {
+                    reasons.add(ca + " certificate removal");
                 }
-                if (!isPodUpToDate) {
-                    reasons.add("Pod has old generation");
+                if (ca.certChanged()) {
+                    reasons.add(ca + " certificate metadata changed");
                 }
-                if (isFsResizeNeeded)   {
-                    reasons.add("file system needs to be resized");
-                }
-                if (!reasons.isEmpty()) {
-                    if (isPodToRestart) {
-                        log.debug("{}: Rolling pod {} due to {}",
-                                reconciliation, pod.getMetadata().getName(), reasons);
-                    }
+                if (!isPodCaCertUpToDate(pod, ca)) {
+                    reasons.add("Pod has old " + ca + " certificate generation");
                 }
             }
-            return isPodToRestart;
+            if (isAncillaryCmChange) {
+                reasons.add("ancillary CM change");
+            }
+            if (!isPodUpToDate(ss, pod)) {
+                reasons.add("Pod has old generation");
+            }
+            if (fsResizingRestartRequest.contains(pod.getMetadata().getName()))   {
+                reasons.add("file system needs to be resized");
+            }
+            return reasons;
         }
 
         private boolean isMaintenanceTimeWindowsSatisfied(Supplier<Date> dateSupplier) {
@@ -7,6 +7,27 @@ package io.strimzi.operator.cluster.operator.resource;
 import io.fabric8.kubernetes.api.model.Secret;
 import org.apache.kafka.clients.admin.AdminClient;
 
+import java.time.Duration;
+
 public interface AdminClientProvider {
+    /**
+     * Returns an AdminClient for the Kafka cluster bootstrapped from the given hostname.
+     * The caller must pass it to {@link #releaseAdminClient(AdminClient)} once it has finished with it.
+     */
     AdminClient createAdminClient(String hostname, Secret clusterCaCertSecret, Secret coKeySecret);
+
+    /**
+     * Releases an AdminClient returned by {@link #createAdminClient(String, Secret, Secret)}.
+     * By default the AdminClient is closed.
+     */
+    default void releaseAdminClient(AdminClient adminClient) {
+        adminClient.close(Duration.ofMinutes(2));
+    }
+
+    /**
+     * Closes the AdminClients kept open by this provider, if any.
+     * By default there are none.
+     */
+    default void close() {
+    }
 }
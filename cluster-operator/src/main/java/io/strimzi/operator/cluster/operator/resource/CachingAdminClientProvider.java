@@ -0,0 +1,243 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource;
+
+import io.fabric8.kubernetes.api.model.Secret;
+import io.vertx.core.Vertx;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>An {@link AdminClientProvider} which keeps the AdminClients it creates open between uses,
+ * so that successive operations on the same Kafka cluster (for example successive rolling restarts)
+ * reuse its connections and metadata rather than starting from scratch.</p>
+ *
+ * <p>AdminClients are cached by the hostname they are bootstrapped from and the versions of the
+ * cluster CA certificate and Cluster Operator key Secrets. When either Secret changes
+ * the cached AdminClient is closed, once it has been released, and a new one is created.
+ * AdminClients which have not been used for the idle timeout are closed.</p>
+ *
+ * <p>AdminClients are created outside the lock, so that a slow bootstrap of one cluster
+ * does not hold up the AdminClients of the other clusters.</p>
+ */
+class CachingAdminClientProvider implements AdminClientProvider {
+
+    private static final Logger log = LogManager.getLogger(CachingAdminClientProvider.class);
+
+    static final long DEFAULT_IDLE_TIMEOUT_MS = 300_000;
+
+    private final Vertx vertx;
+    private final AdminClientProvider delegate;
+    private final long idleTimeoutMs;
+    private final long idleTimerId;
+    // Both guarded by this
+    private final Map<String, Entry> byHostname = new HashMap<>();
+    private final Map<AdminClient, Entry> byAdminClient = new IdentityHashMap<>();
+
+    private static class Entry {
+        private final String hostname;
+        private final String secretVersions;
+        private final AdminClient adminClient;
+        private int leases;
+        private long lastReleasedMs;
+        private boolean stale;
+
+        Entry(String hostname, String secretVersions, AdminClient adminClient) {
+            this.hostname = hostname;
+            this.secretVersions = secretVersions;
+            this.adminClient = adminClient;
+        }
+    }
+
+    CachingAdminClientProvider(Vertx vertx, AdminClientProvider delegate) {
+        this(vertx, delegate, DEFAULT_IDLE_TIMEOUT_MS);
+    }
+
+    CachingAdminClientProvider(Vertx vertx, AdminClientProvider delegate, long idleTimeoutMs) {
+        this.vertx = vertx;
+        this.delegate = delegate;
+        this.idleTimeoutMs = idleTimeoutMs;
+        if (vertx == null) {
+            this.idleTimerId = -1;
+        } else {
+            this.idleTimerId = vertx.setPeriodic(Math.max(1_000, idleTimeoutMs / 2), timerId ->
+                vertx.executeBlocking(future -> {
+                    closeIdle(System.currentTimeMillis());
+                    future.complete();
+                }, false, null));
+        }
+    }
+
+    @Override
+    public AdminClient createAdminClient(String hostname, Secret clusterCaCertSecret, Secret coKeySecret) {
+        String secretVersions = version(clusterCaCertSecret) + "," + version(coKeySecret);
+        AdminClient adminClient = lease(hostname, secretVersions);
+        if (adminClient != null) {
+            log.debug("Reusing AdminClient bootstrapped from {}", hostname);
+            return adminClient;
+        }
+
+        log.debug("Creating AdminClient bootstrapped from {}", hostname);
+        AdminClient created = delegate.createAdminClient(hostname, clusterCaCertSecret, coKeySecret);
+        List<AdminClient> toClose = new ArrayList<>(1);
+        synchronized (this) {
+            // Another caller may have created one for the same cluster meanwhile, in which case that one is used
+            adminClient = lease(hostname, secretVersions, toClose);
+            if (adminClient == null) {
+                Entry entry = new Entry(hostname, secretVersions, created);
+                byHostname.put(hostname, entry);
+                byAdminClient.put(created, entry);
+                entry.leases++;
+                adminClient = created;
+            } else {
+                toClose.add(created);
+            }
+        }
+        close(toClose);
+        return adminClient;
+    }
+
+    private AdminClient lease(String hostname, String secretVersions) {
+        List<AdminClient> toClose = new ArrayList<>(1);
+        AdminClient adminClient;
+        synchronized (this) {
+            adminClient = lease(hostname, secretVersions, toClose);
+        }
+        close(toClose);
+        return adminClient;
+    }
+
+    /**
+     * Lease the cached AdminClient for the given hostname, if it was created with the given Secret versions.
+     * A cached AdminClient created with other versions is evicted, and added to {@code toClose} if it is not in use.
+     */
+    private AdminClient lease(String hostname, String secretVersions, List<AdminClient> toClose) {
+        Entry entry = byHostname.get(hostname);
+        if (entry != null && !entry.secretVersions.equals(secretVersions)) {
+            log.debug("Secrets for the AdminClient bootstrapped from {} have changed", hostname);
+            byHostname.remove(hostname);
+            entry.stale = true;
+            if (entry.leases == 0) {
+                toClose.add(remove(entry));
+            }
+            entry = null;
+        }
+        if (entry == null) {
+            return null;
+        }
+        entry.leases++;
+        return entry.adminClient;
+    }
+
+    @Override
+    public void releaseAdminClient(AdminClient adminClient) {
+        boolean close;
+        synchronized (this) {
+            Entry entry = byAdminClient.get(adminClient);
+            if (entry == null) {
+                close = true;
+            } else {
+                entry.leases--;
+                entry.lastReleasedMs = System.currentTimeMillis();
+                close = entry.stale && entry.leases == 0;
+                if (close) {
+                    remove(entry);
+                }
+            }
+        }
+        if (close) {
+            close(adminClient);
+        }
+    }
+
+    /**
+     * Closes the AdminClients which are not in use and were last used before the idle timeout.
+     * @param nowMs The current time.
+     */
+    void closeIdle(long nowMs) {
+        List<AdminClient> toClose = new ArrayList<>();
+        synchronized (this) {
+            Iterator<Entry> iterator = byHostname.values().iterator();
+            while (iterator.hasNext()) {
+                Entry entry = iterator.next();
+                if (entry.leases == 0 && nowMs - entry.lastReleasedMs >= idleTimeoutMs) {
+                    log.debug("Closing idle AdminClient bootstrapped from {}", entry.hostname);
+                    iterator.remove();
+                    toClose.add(remove(entry));
+                }
+            }
+        }
+        close(toClose);
+    }
+
+    /**
+     * Stops closing idle AdminClients and closes the cached AdminClients.
+     * The AdminClients which are in use are closed once they are released.
+     */
+    @Override
+    public void close() {
+        if (vertx != null) {
+            vertx.cancelTimer(idleTimerId);
+        }
+        List<AdminClient> toClose = new ArrayList<>();
+        synchronized (this) {
+            for (Entry entry : byHostname.values()) {
+                entry.stale = true;
+                if (entry.leases == 0) {
+                    toClose.add(remove(entry));
+                }
+            }
+            byHostname.clear();
+        }
+        close(toClose);
+    }
+
+    /**
+     * @return The number of AdminClients which are open.
+     */
+    synchronized int size() {
+        return byAdminClient.size();
+    }
+
+    private AdminClient remove(Entry entry) {
+        byAdminClient.remove(entry.adminClient);
+        return entry.adminClient;
+    }
+
+    private void close(List<AdminClient> adminClients) {
+        for (AdminClient adminClient : adminClients) {
+            close(adminClient);
+        }
+    }
+
+    private void close(AdminClient adminClient) {
+        try {
+            delegate.releaseAdminClient(adminClient);
+        } catch (Exception e) {
+            log.warn("Ignoring exception when closing admin client", e);
+        }
+    }
+
+    /**
+     * The version of the given Secret: its resourceVersion, or a hash of its data if it has none.
+     */
+    private static String version(Secret secret) {
+        if (secret == null) {
+            return "";
+        } else if (secret.getMetadata() != null && secret.getMetadata().getResourceVersion() != null) {
+            return secret.getMetadata().getNamespace() + "/" + secret.getMetadata().getName() + "@" + secret.getMetadata().getResourceVersion();
+        } else {
+            return String.valueOf(secret.getData() == null ? 0 : secret.getData().hashCode());
+        }
+    }
+}
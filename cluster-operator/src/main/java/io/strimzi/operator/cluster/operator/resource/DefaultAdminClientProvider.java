@@ -36,6 +36,7 @@ import java.util.regex.Pattern;
 class DefaultAdminClientProvider implements AdminClientProvider {
 
     private static final Logger LOGGER = LogManager.getLogger(DefaultAdminClientProvider.class);
+    private static final Pattern PEM = Pattern.compile("^---*BEGIN.*---*$(.*)^---*END.*---*$.*", Pattern.MULTILINE | Pattern.DOTALL);
 
     @Override
     public AdminClient createAdminClient(String hostname, Secret clusterCaCertSecret, Secret coKeySecret) {
@@ -84,10 +85,9 @@ class DefaultAdminClientProvider implements AdminClientProvider {
         try {
             KeyStore keyStore = KeyStore.getInstance("PKCS12");
             keyStore.load(null, password);
-            Pattern parse = Pattern.compile("^---*BEGIN.*---*$(.*)^---*END.*---*$.*", Pattern.MULTILINE | Pattern.DOTALL);
 
             String keyText = new String(decoder.decode(clusterSecretKey.getData().get("cluster-operator.key")), StandardCharsets.ISO_8859_1);
-            Matcher matcher = parse.matcher(keyText);
+            Matcher matcher = PEM.matcher(keyText);
             if (!matcher.find()) {
                 throw new RuntimeException("Bad client (CO) key. Key misses BEGIN or END markers");
             }
@@ -4,6 +4,7 @@
  */
 package io.strimzi.operator.cluster.operator.resource;
 
+import io.strimzi.operator.common.metrics.OperatorMetrics;
 import io.vertx.core.Future;
 import org.apache.kafka.clients.admin.AdminClient;
 import org.apache.kafka.clients.admin.Config;
@@ -18,6 +19,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -35,18 +37,20 @@ class KafkaAvailability {
     private static final Logger log = LogManager.getLogger(KafkaAvailability.class.getName());
 
     private final AdminClient ac;
-    private final Future<Collection<TopicDescription>> descriptions;
+    private final KafkaTopicSnapshot snapshot;
 
     KafkaAvailability(AdminClient ac) {
+        this(ac, new KafkaTopicSnapshot());
+    }
+
+    /**
+     * @param ac The AdminClient.
+     * @param snapshot The snapshot of the topics, which may be shared with other instances so that
+     *                 only the topic state relevant to each check needs to be fetched.
+     */
+    KafkaAvailability(AdminClient ac, KafkaTopicSnapshot snapshot) {
         this.ac = ac;
-        // 1. Get all topic names
-        Future<Set<String>> topicNames = topicNames();
-        // 2. Get topic descriptions
-        descriptions = topicNames.compose(names -> {
-            log.debug("Got {} topic names", names.size());
-            log.trace("Topic names {}", names);
-            return describeTopics(names);
-        });
+        this.snapshot = snapshot;
     }
 
     /**
@@ -55,7 +59,30 @@ class KafkaAvailability {
      */
     Future<Boolean> canRoll(int podId) {
         log.debug("Determining whether broker {} can be rolled", podId);
-        return canRollBroker(descriptions, podId);
+        return canRollBroker(descriptions(podId), podId);
+    }
+
+    /**
+     * Refresh the snapshot with the topic descriptions needed to check the given broker.
+     */
+    private Future<Collection<TopicDescription>> descriptions(int podId) {
+        // 1. Get all topic names
+        return topicNames().compose(names -> {
+            log.debug("Got {} topic names", names.size());
+            log.trace("Topic names {}", names);
+            snapshot.retainTopics(names);
+            // 2. Get topic descriptions (for those which are new, stale, or on $broker)
+            Set<String> toDescribe = snapshot.topicsToDescribe(names, podId);
+            log.debug("Describing {} of {} topics for broker {}; topic snapshot staleness is {}ms",
+                    toDescribe.size(), names.size(), podId, snapshot.stalenessMs());
+            Future<Collection<TopicDescription>> described = toDescribe.isEmpty()
+                    ? Future.succeededFuture(Collections.emptySet())
+                    : describeTopics(toDescribe);
+            return described.map(tds -> {
+                snapshot.updateDescriptions(tds);
+                return snapshot.topicsWithReplicaOn(podId);
+            });
+        });
     }
 
     private Future<Boolean> canRollBroker(Future<Collection<TopicDescription>> descriptions, int podId) {
@@ -70,7 +97,7 @@ class KafkaAvailability {
 
         // 4. Get topic configs (for those on $broker)
         Future<Map<String, Config>> topicConfigsOnGivenBroker = topicsOnGivenBroker
-                .compose(td -> topicConfigs(td.stream().map(t -> t.name()).collect(Collectors.toSet())));
+                .compose(td -> snapshotTopicConfigs(td.stream().map(t -> t.name()).collect(Collectors.toSet())));
 
         // 5. join
         return topicConfigsOnGivenBroker.map(topicNameToConfig -> {
@@ -87,6 +114,20 @@ class KafkaAvailability {
         });
     }
 
+    /**
+     * Get the configs of the given topics from the snapshot, fetching only those which it lacks (or which are stale).
+     */
+    private Future<Map<String, Config>> snapshotTopicConfigs(Set<String> topicNames) {
+        List<String> toDescribe = snapshot.configsToDescribe(topicNames);
+        Future<Map<String, Config>> described = toDescribe.isEmpty()
+                ? Future.succeededFuture(Collections.emptyMap())
+                : topicConfigs(toDescribe);
+        return described.map(configs -> {
+            snapshot.updateConfigs(configs);
+            return snapshot.configs(topicNames);
+        });
+    }
+
     private boolean wouldAffectAvailability(int broker, Map<String, Config> nameToConfig, TopicDescription td) {
         Config config = nameToConfig.get(td.name());
         ConfigEntry minIsrConfig = config.get(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG);
@@ -147,7 +188,9 @@ class KafkaAvailability {
                 .map((String topicName) -> new ConfigResource(ConfigResource.Type.TOPIC, topicName))
                 .collect(Collectors.toList());
         Future<Map<String, Config>> f = Future.future();
+        long startNanos = System.nanoTime();
         ac.describeConfigs(configs).all().whenComplete((topicNameToConfig, error) -> {
+            OperatorMetrics.KAFKA_ADMIN_REQUEST_DURATION.observeSince(startNanos, "describeConfigs");
             if (error != null) {
                 f.fail(error);
             } else {
@@ -178,8 +221,10 @@ class KafkaAvailability {
 
     protected Future<Collection<TopicDescription>> describeTopics(Set<String> names) {
         Future<Collection<TopicDescription>> descFuture = Future.future();
+        long startNanos = System.nanoTime();
         ac.describeTopics(names).all()
                 .whenComplete((tds, error) -> {
+                    OperatorMetrics.KAFKA_ADMIN_REQUEST_DURATION.observeSince(startNanos, "describeTopics");
                     if (error != null) {
                         descFuture.fail(error);
                     } else {
@@ -192,8 +237,10 @@ class KafkaAvailability {
 
     protected Future<Set<String>> topicNames() {
         Future<Set<String>> namesFuture = Future.future();
+        long startNanos = System.nanoTime();
         ac.listTopics(new ListTopicsOptions().listInternal(true)).names()
                 .whenComplete((names, error) -> {
+                    OperatorMetrics.KAFKA_ADMIN_REQUEST_DURATION.observeSince(startNanos, "listTopics");
                     if (error != null) {
                         namesFuture.fail(error);
                     } else {
@@ -10,6 +10,7 @@ import io.fabric8.kubernetes.api.model.apps.StatefulSet;
 import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.strimzi.operator.cluster.model.KafkaCluster;
 import io.strimzi.operator.common.BackOff;
+import io.strimzi.operator.common.metrics.OperatorMetrics;
 import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.operator.resource.PodOperator;
 import io.vertx.core.CompositeFuture;
@@ -19,12 +20,19 @@ import org.apache.kafka.clients.admin.AdminClient;
 import org.apache.kafka.clients.admin.DescribeClusterResult;
 import org.apache.kafka.common.KafkaFuture;
 import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartition;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
@@ -63,7 +71,20 @@ import java.util.function.Supplier;
  *         iii. Continue from 1.
  * </pre>
  *
- * <p>Where "impacting availability" is defined by {@link KafkaAvailability}.</p>
+ * <p>Where "impacting availability" is defined by {@link KafkaAvailability}.
+ * The topic state needed for that is kept in a {@link KafkaTopicSnapshot} which is shared by
+ * all the checks of a rolling restart, including the retries.</p>
+ *
+ * <p>When the batch size is greater than 1, at step 6 up to batch size - 1 other pods are restarted along with the pod.
+ * Each of those other pods:</p>
+ * <ul>
+ *     <li>needs to be restarted, and has not already been restarted,</li>
+ *     <li>is not the controller,</li>
+ *     <li>is in the same rack as the pod,</li>
+ *     <li>can be restarted without "impacting availability", and</li>
+ *     <li>shares no partitions with the pod, or with the other pods in the batch,</li>
+ * </ul>
+ * <p>so that no partition has more than one replica being restarted at a time.</p>
  *
  * <p>Note the following important properties of this algorithm:</p>
  * <ul>
@@ -89,6 +110,8 @@ public class KafkaRoller {
     private final Supplier<BackOff> backoffSupplier;
     protected String namespace;
     private final AdminClientProvider adminClientProvider;
+    private final KafkaTopicSnapshot topicSnapshot = new KafkaTopicSnapshot();
+    private final int batchSize;
 
     KafkaRoller(Vertx vertx, PodOperator podOperations,
                 long pollingIntervalMs, long operationTimeoutMs, Supplier<BackOff> backOffSupplier,
@@ -101,6 +124,14 @@ public class KafkaRoller {
                 long pollingIntervalMs, long operationTimeoutMs, Supplier<BackOff> backOffSupplier,
                 StatefulSet ss, Secret clusterCaCertSecret, Secret coKeySecret,
                 AdminClientProvider adminClientProvider) {
+        this(vertx, podOperations, pollingIntervalMs, operationTimeoutMs, backOffSupplier,
+                ss, clusterCaCertSecret, coKeySecret, adminClientProvider, 1);
+    }
+
+    KafkaRoller(Vertx vertx, PodOperator podOperations,
+                long pollingIntervalMs, long operationTimeoutMs, Supplier<BackOff> backOffSupplier,
+                StatefulSet ss, Secret clusterCaCertSecret, Secret coKeySecret,
+                AdminClientProvider adminClientProvider, int batchSize) {
         this.namespace = ss.getMetadata().getNamespace();
         this.cluster = Labels.cluster(ss);
         this.numPods = ss.getSpec().getReplicas();
@@ -112,6 +143,7 @@ public class KafkaRoller {
         this.podOperations = podOperations;
         this.pollingIntervalMs = pollingIntervalMs;
         this.adminClientProvider = adminClientProvider;
+        this.batchSize = batchSize;
     }
 
     /**
@@ -126,6 +158,8 @@ public class KafkaRoller {
         runnable -> new Thread(runnable, "kafka-roller"));
 
     private ConcurrentHashMap<Integer, RestartContext> podToContext = new ConcurrentHashMap<>();
+    /** The pods which have been restarted (possibly as part of the batch of another pod) */
+    private final Set<Integer> restarted = ConcurrentHashMap.newKeySet();
     private Predicate<Pod> podNeedsRestart;
 
     /**
@@ -146,6 +180,10 @@ public class KafkaRoller {
             podIds.add(podOperations.isReady(namespace, podName(podId)) ? podIds.size() : 0, podId);
         }
         log.debug("Initial order for rolling restart {}", podIds);
+        // Create all the contexts before scheduling anything, so the roller thread sees every pod still to be rolled
+        for (Integer podId: podIds) {
+            podToContext.computeIfAbsent(podId, k -> new RestartContext(backoffSupplier));
+        }
         for (Integer podId: podIds) {
             futures.add(schedule(podId, 0, TimeUnit.MILLISECONDS));
         }
@@ -240,7 +278,7 @@ public class KafkaRoller {
             throw new UnforceableProblem("Error getting pod " + podName(podId), e);
         }
 
-        if (podNeedsRestart.test(pod)) {
+        if (!restarted.contains(podId) && podNeedsRestart.test(pod)) {
             log.debug("Pod {} needs to be restarted", podId);
             AdminClient adminClient = null;
             try {
@@ -255,14 +293,19 @@ public class KafkaRoller {
                     } else {
                         if (canRoll(adminClient, podId, 1, TimeUnit.MINUTES)) {
                             log.debug("Pod {} can be rolled now", podId);
-                            restartAndAwaitReadiness(pod, 5, TimeUnit.MINUTES);
+                            Map<Integer, Pod> batch = batch(adminClient, podId, pod, controller);
+                            if (batch.size() > 1) {
+                                restartAndAwaitReadiness(batch, 5, TimeUnit.MINUTES);
+                            } else {
+                                restartAndAwaitReadiness(pod, 5, TimeUnit.MINUTES);
+                            }
                         } else {
-                            log.debug("Pod {} cannot be rolled right now", podId);
+                            log.debug("Pod {} cannot be rolled right now (topic snapshot staleness {}ms)", podId, topicSnapshotStalenessMs());
                             throw new UnforceableProblem("Pod " + podName(podId) + " is currently not rollable");
                         }
                     }
                 } finally {
-                    closeLoggingAnyError(adminClient);
+                    releaseLoggingAnyError(adminClient);
                 }
             } catch (ForceableProblem e) {
                 if (finalAttempt) {
@@ -282,12 +325,12 @@ public class KafkaRoller {
         }
     }
 
-    private void closeLoggingAnyError(AdminClient adminClient) {
+    private void releaseLoggingAnyError(AdminClient adminClient) {
         if (adminClient != null) {
             try {
-                adminClient.close(Duration.ofMinutes(2));
+                releaseAdminClient(adminClient);
             } catch (Exception e) {
-                log.warn("Ignoring exception when closing admin client", e);
+                log.warn("Ignoring exception when releasing admin client", e);
             }
         }
     }
@@ -325,6 +368,63 @@ public class KafkaRoller {
             t -> new ForceableProblem("An error while trying to determine rollability", t));
     }
 
+    /**
+     * Determine the pods to restart along with the given pod, which is known to be rollable.
+     * Any error while choosing the other pods results in the given pod being restarted alone.
+     * @param adminClient The AdminClient.
+     * @param podId The id of the pod to roll.
+     * @param pod The pod to roll.
+     * @param controller The id of the controller.
+     * @return The pods to restart, keyed by id. This always includes the given pod.
+     */
+    private Map<Integer, Pod> batch(AdminClient adminClient, int podId, Pod pod, int controller) throws InterruptedException {
+        Map<Integer, Pod> batch = new LinkedHashMap<>(batchSize);
+        batch.put(podId, pod);
+        if (batchSize <= 1 || controller == podId) {
+            return batch;
+        }
+        try {
+            Map<Integer, String> racks = racks(podId, adminClient, 1, TimeUnit.MINUTES);
+            String rack = racks.get(podId);
+            Set<TopicPartition> batchPartitions = new HashSet<>(partitionsWithReplicaOn(podId));
+            for (int candidate = 0; candidate < numPods && batch.size() < batchSize; candidate++) {
+                if (candidate == podId
+                        || candidate == controller
+                        || !stillToRestart(candidate)
+                        || !racks.containsKey(candidate)
+                        || !Objects.equals(rack, racks.get(candidate))) {
+                    continue;
+                }
+                if (!Collections.disjoint(batchPartitions, partitionsWithReplicaOn(candidate))) {
+                    continue;
+                }
+                Pod candidatePod = podOperations.get(namespace, podName(candidate));
+                if (candidatePod == null
+                        || !podNeedsRestart.test(candidatePod)
+                        || !canRoll(adminClient, candidate, 1, TimeUnit.MINUTES)) {
+                    continue;
+                }
+                // Checking rollability refreshed the candidate's partitions, so check them again
+                Set<TopicPartition> candidatePartitions = partitionsWithReplicaOn(candidate);
+                if (Collections.disjoint(batchPartitions, candidatePartitions)) {
+                    batch.put(candidate, candidatePod);
+                    batchPartitions.addAll(candidatePartitions);
+                }
+            }
+            if (batch.size() > 1) {
+                log.info("Restarting pods {} together: they are in rack {}, none is the controller, they can each be rolled " +
+                        "and they share none of their {} partitions", batch.keySet(), rack, batchPartitions.size());
+            } else {
+                log.info("Restarting pod {} alone: no other pod in rack {} needing a restart could be rolled without " +
+                        "sharing partitions with it", podId, rack);
+            }
+        } catch (ForceableProblem | KubernetesClientException e) {
+            log.info("Could not determine which pods to restart along with pod {}, it will be restarted alone", podId, e);
+            batch.keySet().retainAll(Collections.singleton(podId));
+        }
+        return batch;
+    }
+
     /**
      * Synchronously restart the given pod
      * by deleting it and letting it be recreated by K8s, then synchronously wait for it to be ready.
@@ -342,6 +442,38 @@ public class KafkaRoller {
         log.debug("Pod {} is now ready", podName);
     }
 
+    /**
+     * @return Whether the given pod has not yet been restarted, nor finished being considered for restart.
+     */
+    private boolean stillToRestart(int podId) {
+        RestartContext ctx = podToContext.get(podId);
+        return !restarted.contains(podId) && ctx != null && !ctx.future.isComplete();
+    }
+
+    /**
+     * Synchronously restart the given pods together
+     * by deleting them and letting them be recreated by K8s, then synchronously wait for them all to be ready.
+     * @param pods The Pods to restart, keyed by id.
+     * @param timeout The timeout.
+     * @param unit The timeout unit.
+     */
+    private void restartAndAwaitReadiness(Map<Integer, Pod> pods, long timeout, TimeUnit unit)
+            throws InterruptedException, UnforceableProblem, FatalProblem {
+        log.debug("Rolling pods {}", pods.keySet());
+        List<Future> restarts = new ArrayList<>(pods.size());
+        for (Map.Entry<Integer, Pod> entry : pods.entrySet()) {
+            restarts.add(restart(entry.getValue()).map(ignored -> restarted.add(entry.getKey())));
+        }
+        await(CompositeFuture.join(restarts), timeout, unit, e -> new UnforceableProblem("Error while trying to restart pods " + pods.keySet(), e));
+        log.debug("Waiting for restarted pods {} to become ready", pods.keySet());
+        List<Future> readiness = new ArrayList<>(pods.size());
+        for (Pod pod : pods.values()) {
+            readiness.add(isReady(pod));
+        }
+        await(CompositeFuture.join(readiness), timeout, unit, e -> new FatalProblem("Error while waiting for restarted pods " + pods.keySet() + " to become ready", e));
+        log.debug("Pods {} are now ready", pods.keySet());
+    }
+
     /**
      * Block waiting for up to the given timeout for the given Future to complete, returning its result.
      * @param future The future to wait for.
@@ -398,8 +530,54 @@ public class KafkaRoller {
         }
     }
 
+    /**
+     * Releases an AdminClient returned by {@link #adminClient(Integer)}.
+     */
+    protected void releaseAdminClient(AdminClient adminClient) {
+        adminClientProvider.releaseAdminClient(adminClient);
+    }
+
+    /**
+     * Returns a KafkaAvailability which checks rollability using the given AdminClient and
+     * the topic snapshot which is shared by all the checks made during this rolling restart.
+     */
     protected KafkaAvailability availability(AdminClient ac) {
-        return new KafkaAvailability(ac);
+        return new KafkaAvailability(ac, topicSnapshot);
+    }
+
+    /**
+     * @return The age, in milliseconds, of the oldest state in the topic snapshot used to determine rollability.
+     */
+    long topicSnapshotStalenessMs() {
+        return topicSnapshot.stalenessMs();
+    }
+
+    /**
+     * @return The partitions with a replica on the given broker, according to the topic snapshot.
+     */
+    Set<TopicPartition> partitionsWithReplicaOn(int broker) {
+        return topicSnapshot.partitionsWithReplicaOn(broker);
+    }
+
+    /**
+     * Returns the rack of each broker in the cluster, as seen by the given AdminClient.
+     * Brokers without a rack are mapped to null.
+     */
+    Map<Integer, String> racks(int podId, AdminClient ac, long timeout, TimeUnit unit) throws ForceableProblem, InterruptedException {
+        long startNanos = System.nanoTime();
+        try {
+            Map<Integer, String> result = new HashMap<>();
+            for (Node node : ac.describeCluster().nodes().get(timeout, unit)) {
+                result.put(node.id(), node.rack());
+            }
+            return result;
+        } catch (ExecutionException e) {
+            throw new ForceableProblem("Error while trying to determine the racks of the brokers from pod " + podName(podId), e.getCause());
+        } catch (TimeoutException e) {
+            throw new ForceableProblem("Error while trying to determine the racks of the brokers from pod " + podName(podId), e);
+        } finally {
+            OperatorMetrics.KAFKA_ADMIN_REQUEST_DURATION.observeSince(startNanos, "describeCluster");
+        }
     }
 
     String podName(Integer podId) {
@@ -415,6 +593,7 @@ public class KafkaRoller {
      */
     int controller(int podId, AdminClient ac, long timeout, TimeUnit unit) throws ForceableProblem, InterruptedException {
         Node controllerNode = null;
+        long startNanos = System.nanoTime();
         try {
             DescribeClusterResult describeClusterResult = ac.describeCluster();
             KafkaFuture<Node> controller = describeClusterResult.controller();
@@ -423,6 +602,8 @@ public class KafkaRoller {
             throw new ForceableProblem("Error while trying to determine the cluster controller from pod " + podName(podId), e.getCause());
         } catch (TimeoutException e) {
             throw new ForceableProblem("Error while trying to determine the cluster controller from pod " + podName(podId), e);
+        } finally {
+            OperatorMetrics.KAFKA_ADMIN_REQUEST_DURATION.observeSince(startNanos, "describeCluster");
         }
         int id = Node.noNode().equals(controllerNode) ? -1 : controllerNode.id();
         log.debug("controller is {}", id);
@@ -4,18 +4,40 @@
  */
 package io.strimzi.operator.cluster.operator.resource;
 
+import io.fabric8.kubernetes.api.model.Container;
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.Secret;
 import io.fabric8.kubernetes.api.model.apps.StatefulSet;
 import io.fabric8.kubernetes.client.KubernetesClient;
+import io.strimzi.operator.cluster.model.AbstractModel;
+import io.strimzi.operator.cluster.model.KafkaCluster;
+import io.strimzi.operator.cluster.model.KafkaConfigurationDiff;
+import io.strimzi.operator.cluster.model.KafkaVersion;
 import io.strimzi.operator.common.BackOff;
+import io.strimzi.operator.common.metrics.OperatorMetrics;
+import io.strimzi.operator.common.model.Labels;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.AlterConfigOp;
+import org.apache.kafka.clients.admin.Config;
+import org.apache.kafka.clients.admin.ConfigEntry;
+import org.apache.kafka.common.config.ConfigResource;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
 
+import static java.util.Collections.singleton;
+import static java.util.Collections.singletonMap;
+
 /**
  * Specialization of {@link StatefulSetOperator} for StatefulSets of Kafka brokers
  */
@@ -23,7 +45,14 @@ public class KafkaSetOperator extends StatefulSetOperator {
 
     private static final Logger log = LogManager.getLogger(KafkaSetOperator.class);
 
+    /** The resource of the cluster-wide default broker configuration */
+    static final ConfigResource DEFAULT_BROKER = new ConfigResource(ConfigResource.Type.BROKER, "");
+
+    /** The first Kafka version whose brokers support {@code incrementalAlterConfigs} */
+    static final String INCREMENTAL_ALTER_CONFIGS_VERSION = "2.3.0";
+
     private final AdminClientProvider adminClientProvider;
+    private final int rollingRestartBatchSize;
 
     /**
      * Constructor
@@ -35,8 +64,30 @@ public class KafkaSetOperator extends StatefulSetOperator {
      */
     public KafkaSetOperator(Vertx vertx, KubernetesClient client, long operationTimeoutMs,
                             AdminClientProvider adminClientProvider) {
+        this(vertx, client, operationTimeoutMs, adminClientProvider, 1);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param vertx  The Vertx instance
+     * @param client The Kubernetes client
+     * @param operationTimeoutMs The timeout.
+     * @param adminClientProvider A provider for the AdminClient.
+     * @param rollingRestartBatchSize The maximum number of brokers which may be restarted together.
+     */
+    public KafkaSetOperator(Vertx vertx, KubernetesClient client, long operationTimeoutMs,
+                            AdminClientProvider adminClientProvider, int rollingRestartBatchSize) {
         super(vertx, client, operationTimeoutMs);
         this.adminClientProvider = adminClientProvider;
+        this.rollingRestartBatchSize = rollingRestartBatchSize;
+    }
+
+    /**
+     * Closes the AdminClients kept open by the AdminClient provider.
+     */
+    public void close() {
+        adminClientProvider.close();
     }
 
     @Override
@@ -44,6 +95,255 @@ public class KafkaSetOperator extends StatefulSetOperator {
         return !diff.isEmpty() && needsRollingUpdate(diff);
     }
 
+    /**
+     * Overridden to not increment the generation when the only change which would need a rolling update
+     * is to broker configuration options which can be updated dynamically.
+     * Those are applied to the running brokers using {@link #reconfigure(StatefulSet, KafkaConfigurationDiff)} instead.
+     *
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean shouldIncrementGeneration(StatefulSet current, StatefulSet desired, StatefulSetDiff diff) {
+        if (dynamicConfigurationChange(current, desired, diff) != null) {
+            log.debug("Changed only dynamically updatable broker configuration => no need for rolling update");
+            return false;
+        }
+        return shouldIncrementGeneration(diff);
+    }
+
+    /**
+     * Returns the change to the broker configuration between the {@code current} and {@code desired} StatefulSets,
+     * if it is the only change which would need a rolling update and it can be applied to the running brokers.
+     * @param current The current StatefulSet, or null if there is none.
+     * @param desired The desired StatefulSet.
+     * @return The configuration change, or null if the brokers would need to be rolled or there is no change.
+     */
+    public static KafkaConfigurationDiff dynamicConfigurationChange(StatefulSet current, StatefulSet desired) {
+        if (current == null) {
+            return null;
+        }
+        return dynamicConfigurationChange(current, desired, new StatefulSetDiff(current, desired));
+    }
+
+    private static KafkaConfigurationDiff dynamicConfigurationChange(StatefulSet current, StatefulSet desired, StatefulSetDiff diff) {
+        if (diff.changesLabels()
+                || diff.changesVolumeClaimTemplates()
+                || diff.changesSpecTemplateOtherThanEnvVars()
+                || !singleton(KafkaCluster.ENV_VAR_KAFKA_CONFIGURATION).equals(diff.changedEnvVars())) {
+            return null;
+        }
+        String version = kafkaVersion(current);
+        if (!supportsIncrementalAlterConfigs(version) || !version.equals(kafkaVersion(desired))) {
+            return null;
+        }
+        try {
+            KafkaConfigurationDiff configDiff = new KafkaConfigurationDiff(kafkaConfiguration(current), kafkaConfiguration(desired), version);
+            log.debug("Broker configuration of StatefulSet {}/{} changed: {}",
+                    current.getMetadata().getNamespace(), current.getMetadata().getName(), configDiff);
+            return configDiff.canBeUpdatedDynamically() ? configDiff : null;
+        } catch (RuntimeException e) {
+            log.warn("Could not classify the broker configuration changes of Kafka version {}", version, e);
+            return null;
+        }
+    }
+
+    /**
+     * Returns the change to the broker configuration between the {@code current} and {@code desired} StatefulSets,
+     * classified using the config model of the Kafka version of the {@code current} StatefulSet,
+     * whatever else changes between them.
+     * @param current The current StatefulSet, or null if there is none.
+     * @param desired The desired StatefulSet.
+     * @return The configuration change, or null if there is no change or it cannot be classified.
+     */
+    public static KafkaConfigurationDiff configurationChange(StatefulSet current, StatefulSet desired) {
+        if (current == null) {
+            return null;
+        }
+        String version = kafkaVersion(current);
+        String currentConfiguration = kafkaConfiguration(current);
+        String desiredConfiguration = kafkaConfiguration(desired);
+        if (version == null || Objects.equals(currentConfiguration, desiredConfiguration)) {
+            return null;
+        }
+        try {
+            return new KafkaConfigurationDiff(currentConfiguration, desiredConfiguration, version);
+        } catch (RuntimeException e) {
+            log.warn("Could not classify the broker configuration changes of Kafka version {}", version, e);
+            return null;
+        }
+    }
+
+    /**
+     * @param version The Kafka version of the brokers, or null if it is not known.
+     * @return True if the brokers support updating their configuration using {@code incrementalAlterConfigs}.
+     */
+    static boolean supportsIncrementalAlterConfigs(String version) {
+        try {
+            return version != null && KafkaVersion.compareDottedVersions(version, INCREMENTAL_ALTER_CONFIGS_VERSION) >= 0;
+        } catch (NumberFormatException e) {
+            log.warn("Could not parse Kafka version {}", version, e);
+            return false;
+        }
+    }
+
+    private static String kafkaVersion(StatefulSet ss) {
+        Map<String, String> annotations = ss.getMetadata().getAnnotations();
+        return annotations != null ? annotations.get(KafkaCluster.ANNO_STRIMZI_IO_KAFKA_VERSION) : null;
+    }
+
+    private static String kafkaConfiguration(StatefulSet ss) {
+        for (Container container : ss.getSpec().getTemplate().getSpec().getContainers()) {
+            String configuration = AbstractModel.containerEnvVars(container).get(KafkaCluster.ENV_VAR_KAFKA_CONFIGURATION);
+            if (configuration != null) {
+                return configuration;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Asynchronously applies the given broker configuration change to the running brokers of the given StatefulSet
+     * as cluster-wide defaults using the Kafka Admin API, without restarting them.
+     * Cluster-wide defaults also apply to brokers which are added later, so scaling up does not need them to be reapplied.
+     * @param ss The StatefulSet.
+     * @param configDiff The configuration change, which must be {@linkplain KafkaConfigurationDiff#canBeUpdatedDynamically() dynamically updatable}.
+     * @return A Future which completes when the brokers have accepted the change.
+     */
+    public Future<Void> reconfigure(StatefulSet ss, KafkaConfigurationDiff configDiff) {
+        return alterDefaultBrokerConfig(ss, alterations(configDiff), "Updated");
+    }
+
+    /**
+     * Asynchronously deletes the cluster-wide dynamic defaults of the given broker configuration options,
+     * if they have any, so that the brokers use their static configuration for them.
+     * This must be done when a change to the options is applied by restarting the brokers, because dynamic
+     * defaults take precedence over the static configuration.
+     * Brokers older than Kafka {@value #INCREMENTAL_ALTER_CONFIGS_VERSION} are left alone, because their configuration
+     * is never updated dynamically by the operator.
+     * @param ss The StatefulSet.
+     * @param options The options.
+     * @return A Future which completes when the brokers have accepted the change, or when there was nothing to delete.
+     */
+    public Future<Void> deleteDynamicConfiguration(StatefulSet ss, Collection<String> options) {
+        if (!supportsIncrementalAlterConfigs(kafkaVersion(ss))) {
+            log.debug("Brokers of {}/{} do not support incrementalAlterConfigs, not deleting dynamic defaults",
+                    ss.getMetadata().getNamespace(), ss.getMetadata().getName());
+            return Future.succeededFuture();
+        }
+        return withAdminClient(ss, adminClient -> {
+            Config defaults;
+            long startNanos = System.nanoTime();
+            try {
+                defaults = adminClient.describeConfigs(singleton(DEFAULT_BROKER))
+                        .all().get(operationTimeoutMs, TimeUnit.MILLISECONDS).get(DEFAULT_BROKER);
+            } finally {
+                OperatorMetrics.KAFKA_ADMIN_REQUEST_DURATION.observeSince(startNanos, "describeConfigs");
+            }
+            List<String> existing = new ArrayList<>();
+            if (defaults != null) {
+                for (ConfigEntry entry : defaults.entries()) {
+                    if (entry.source() == ConfigEntry.ConfigSource.DYNAMIC_DEFAULT_BROKER_CONFIG && options.contains(entry.name())) {
+                        existing.add(entry.name());
+                    }
+                }
+            }
+            if (existing.isEmpty()) {
+                log.debug("None of the options {} of the brokers of {}/{} have dynamic defaults", options,
+                        ss.getMetadata().getNamespace(), ss.getMetadata().getName());
+                return;
+            }
+            alterDefaultBrokerConfig(ss, adminClient, deletions(existing), "Deleted the dynamic defaults of");
+        });
+    }
+
+    private Future<Void> alterDefaultBrokerConfig(StatefulSet ss, Map<ConfigResource, Collection<AlterConfigOp>> alterations, String action) {
+        return withAdminClient(ss, adminClient -> alterDefaultBrokerConfig(ss, adminClient, alterations, action));
+    }
+
+    private void alterDefaultBrokerConfig(StatefulSet ss, AdminClient adminClient,
+                                          Map<ConfigResource, Collection<AlterConfigOp>> alterations, String action) throws Exception {
+        long startNanos = System.nanoTime();
+        try {
+            adminClient.incrementalAlterConfigs(alterations)
+                    .all().get(operationTimeoutMs, TimeUnit.MILLISECONDS);
+        } finally {
+            OperatorMetrics.KAFKA_ADMIN_REQUEST_DURATION.observeSince(startNanos, "incrementalAlterConfigs");
+        }
+        log.info("{} options {} of the brokers of {}/{} dynamically", action,
+                options(alterations), ss.getMetadata().getNamespace(), ss.getMetadata().getName());
+    }
+
+    /**
+     * An operation using an AdminClient connected to the brokers of a StatefulSet.
+     */
+    @FunctionalInterface
+    private interface AdminClientOperation {
+        void run(AdminClient adminClient) throws Exception;
+    }
+
+    private Future<Void> withAdminClient(StatefulSet ss, AdminClientOperation operation) {
+        return withSecrets(ss, (clusterCaCertSecret, coKeySecret) -> {
+            Future<Void> result = Future.future();
+            vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
+                future -> {
+                    String namespace = ss.getMetadata().getNamespace();
+                    String cluster = ss.getMetadata().getLabels().get(Labels.STRIMZI_CLUSTER_LABEL);
+                    int replicas = ss.getSpec().getReplicas();
+                    List<String> brokers = new ArrayList<>(replicas);
+                    for (int podId = 0; podId < replicas; podId++) {
+                        brokers.add(KafkaCluster.podDnsName(namespace, cluster, KafkaCluster.kafkaPodName(cluster, podId)) + ":" + KafkaCluster.REPLICATION_PORT);
+                    }
+                    AdminClient adminClient = null;
+                    try {
+                        adminClient = adminClientProvider.createAdminClient(String.join(",", brokers), clusterCaCertSecret, coKeySecret);
+                        operation.run(adminClient);
+                        future.complete();
+                    } catch (ExecutionException e) {
+                        future.fail(e.getCause());
+                    } catch (Exception e) {
+                        future.fail(e);
+                    } finally {
+                        if (adminClient != null) {
+                            adminClientProvider.releaseAdminClient(adminClient);
+                        }
+                    }
+                }, true, result);
+            return result;
+        });
+    }
+
+    /**
+     * @return The operations which set the given dynamically updatable changes as cluster-wide defaults.
+     */
+    static Map<ConfigResource, Collection<AlterConfigOp>> alterations(KafkaConfigurationDiff configDiff) {
+        List<AlterConfigOp> ops = new ArrayList<>();
+        for (Map.Entry<String, String> change : configDiff.getDynamicChanges().entrySet()) {
+            ops.add(new AlterConfigOp(new ConfigEntry(change.getKey(), change.getValue()), AlterConfigOp.OpType.SET));
+        }
+        return singletonMap(DEFAULT_BROKER, ops);
+    }
+
+    /**
+     * @return The operations which delete the cluster-wide defaults of the given options.
+     */
+    static Map<ConfigResource, Collection<AlterConfigOp>> deletions(Collection<String> options) {
+        List<AlterConfigOp> ops = new ArrayList<>();
+        for (String option : options) {
+            ops.add(new AlterConfigOp(new ConfigEntry(option, ""), AlterConfigOp.OpType.DELETE));
+        }
+        return singletonMap(DEFAULT_BROKER, ops);
+    }
+
+    private static List<String> options(Map<ConfigResource, Collection<AlterConfigOp>> alterations) {
+        List<String> options = new ArrayList<>();
+        for (Collection<AlterConfigOp> ops : alterations.values()) {
+            for (AlterConfigOp op : ops) {
+                options.add(op.configEntry().name());
+            }
+        }
+        return options;
+    }
+
     public static boolean needsRollingUpdate(StatefulSetDiff diff) {
         if (diff.changesLabels()) {
             log.debug("Changed labels => needs rolling update");
@@ -68,7 +368,7 @@ public class KafkaSetOperator extends StatefulSetOperator {
     public Future<Void> maybeRollingUpdate(StatefulSet ss, Predicate<Pod> podNeedsRestart,
                                            Secret clusterCaCertSecret, Secret coKeySecret) {
         return new KafkaRoller(vertx, podOperations, 1_000, operationTimeoutMs,
-            () -> new BackOff(250, 2, 10), ss, clusterCaCertSecret, coKeySecret, adminClientProvider)
+            () -> new BackOff(250, 2, 10), ss, clusterCaCertSecret, coKeySecret, adminClientProvider, rollingRestartBatchSize)
                 .rollingRestart(podNeedsRestart);
     }
 
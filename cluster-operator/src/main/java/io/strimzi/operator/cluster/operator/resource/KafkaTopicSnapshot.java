@@ -0,0 +1,208 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource;
+
+import org.apache.kafka.clients.admin.Config;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.TopicPartitionInfo;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.LongSupplier;
+
+/**
+ * <p>A snapshot of the topics of a Kafka cluster (the replicas and ISR of their partitions, and their configs)
+ * which is shared by the {@link KafkaAvailability} checks made during a rolling restart, so that
+ * each check only fetches the part of the cluster state which is relevant to it.</p>
+ *
+ * <p>When determining whether a broker can be rolled:</p>
+ * <ul>
+ *     <li>the descriptions of topics with a replica on the broker are always refreshed,
+ *     because their ISRs change as brokers are rolled,</li>
+ *     <li>the descriptions of other topics are only fetched when they're new to the snapshot,
+ *     or when they're older than the maximum staleness (so that a reassignment onto the broker is noticed),</li>
+ *     <li>the configs of topics are only fetched when they're new to the snapshot or older than the maximum staleness.</li>
+ * </ul>
+ */
+class KafkaTopicSnapshot {
+
+    static final long DEFAULT_MAX_STALENESS_MS = 60_000L;
+
+    private final long maxStalenessMs;
+    private final LongSupplier clock;
+    private final Map<String, Entry> topics = new HashMap<>();
+
+    private static class Entry {
+        private TopicDescription description;
+        private long describedAtMs;
+        private Config config;
+        private long configuredAtMs;
+    }
+
+    KafkaTopicSnapshot() {
+        this(DEFAULT_MAX_STALENESS_MS, System::currentTimeMillis);
+    }
+
+    KafkaTopicSnapshot(long maxStalenessMs, LongSupplier clock) {
+        this.maxStalenessMs = maxStalenessMs;
+        this.clock = clock;
+    }
+
+    /**
+     * Forget about any topics which are not in the given {@code topicNames}.
+     * @param topicNames The names of all the topics in the cluster.
+     */
+    synchronized void retainTopics(Set<String> topicNames) {
+        topics.keySet().retainAll(topicNames);
+    }
+
+    /**
+     * @param topicNames The names of all the topics in the cluster.
+     * @param broker The broker being checked.
+     * @return The names of those topics whose descriptions need to be fetched before the given broker can be checked.
+     */
+    synchronized Set<String> topicsToDescribe(Set<String> topicNames, int broker) {
+        long now = clock.getAsLong();
+        Set<String> result = new HashSet<>();
+        for (String topicName : topicNames) {
+            Entry entry = topics.get(topicName);
+            if (entry == null
+                    || entry.description == null
+                    || now - entry.describedAtMs > maxStalenessMs
+                    || hasReplicaOn(entry.description, broker)) {
+                result.add(topicName);
+            }
+        }
+        return result;
+    }
+
+    synchronized void updateDescriptions(Collection<TopicDescription> descriptions) {
+        long now = clock.getAsLong();
+        for (TopicDescription description : descriptions) {
+            Entry entry = topics.computeIfAbsent(description.name(), name -> new Entry());
+            entry.description = description;
+            entry.describedAtMs = now;
+        }
+    }
+
+    /**
+     * @param broker The broker.
+     * @return The descriptions of the topics which have a replica on the given broker.
+     */
+    synchronized Set<TopicDescription> topicsWithReplicaOn(int broker) {
+        Set<TopicDescription> result = new HashSet<>();
+        for (Entry entry : topics.values()) {
+            if (entry.description != null && hasReplicaOn(entry.description, broker)) {
+                result.add(entry.description);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @param broker The broker.
+     * @return The partitions which have a replica on the given broker.
+     */
+    synchronized Set<TopicPartition> partitionsWithReplicaOn(int broker) {
+        Set<TopicPartition> result = new HashSet<>();
+        for (Entry entry : topics.values()) {
+            if (entry.description != null) {
+                for (TopicPartitionInfo partition : entry.description.partitions()) {
+                    for (Node replica : partition.replicas()) {
+                        if (replica.id() == broker) {
+                            result.add(new TopicPartition(entry.description.name(), partition.partition()));
+                        }
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @param topicNames The names of the topics whose configs are needed.
+     * @return Those of the given topics whose configs need to be fetched.
+     */
+    synchronized List<String> configsToDescribe(Collection<String> topicNames) {
+        long now = clock.getAsLong();
+        List<String> result = new ArrayList<>();
+        for (String topicName : topicNames) {
+            Entry entry = topics.get(topicName);
+            if (entry == null
+                    || entry.config == null
+                    || now - entry.configuredAtMs > maxStalenessMs) {
+                result.add(topicName);
+            }
+        }
+        return result;
+    }
+
+    synchronized void updateConfigs(Map<String, Config> configs) {
+        long now = clock.getAsLong();
+        for (Map.Entry<String, Config> config : configs.entrySet()) {
+            Entry entry = topics.computeIfAbsent(config.getKey(), name -> new Entry());
+            entry.config = config.getValue();
+            entry.configuredAtMs = now;
+        }
+    }
+
+    /**
+     * @param topicNames The names of the topics.
+     * @return The configs of the given topics which are in the snapshot, keyed by topic name.
+     */
+    synchronized Map<String, Config> configs(Collection<String> topicNames) {
+        Map<String, Config> result = new HashMap<>(topicNames.size());
+        for (String topicName : topicNames) {
+            Entry entry = topics.get(topicName);
+            if (entry != null && entry.config != null) {
+                result.put(topicName, entry.config);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return The age, in milliseconds, of the oldest description or config in the snapshot,
+     * or 0 if the snapshot is empty.
+     */
+    synchronized long stalenessMs() {
+        long now = clock.getAsLong();
+        long oldest = now;
+        for (Entry entry : topics.values()) {
+            if (entry.description != null) {
+                oldest = Math.min(oldest, entry.describedAtMs);
+            }
+            if (entry.config != null) {
+                oldest = Math.min(oldest, entry.configuredAtMs);
+            }
+        }
+        return now - oldest;
+    }
+
+    /**
+     * @return The number of topics in the snapshot.
+     */
+    synchronized int size() {
+        return topics.size();
+    }
+
+    private static boolean hasReplicaOn(TopicDescription description, int broker) {
+        for (TopicPartitionInfo partition : description.partitions()) {
+            for (Node replica : partition.replicas()) {
+                if (replica.id() == broker) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -42,8 +42,13 @@ import io.strimzi.operator.common.operator.resource.ServiceOperator;
 
 import io.fabric8.openshift.client.OpenShiftClient;
 import io.strimzi.operator.common.operator.resource.StorageClassOperator;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @SuppressWarnings("checkstyle:ClassDataAbstractionCoupling")
 public class ResourceOperatorSupplier {
     public final SecretOperator secretOperations;
@@ -72,21 +77,33 @@ public class ResourceOperatorSupplier {
     public final StorageClassOperator storageClassOperations;
 
     public ResourceOperatorSupplier(Vertx vertx, KubernetesClient client, PlatformFeaturesAvailability pfa, long operationTimeoutMs) {
+        this(vertx, client, pfa, operationTimeoutMs, 1);
+    }
+
+    public ResourceOperatorSupplier(Vertx vertx, KubernetesClient client, PlatformFeaturesAvailability pfa, long operationTimeoutMs,
+                                    int kafkaRollingRestartBatchSize) {
         this(vertx, client,
             new ZookeeperLeaderFinder(vertx, new SecretOperator(vertx, client),
             // Retry up to 3 times (4 attempts), with overall max delay of 35000ms
                 () -> new BackOff(5_000, 2, 4)),
-                    new DefaultAdminClientProvider(),
-                    pfa, operationTimeoutMs);
+                    new CachingAdminClientProvider(vertx, new DefaultAdminClientProvider()),
+                    pfa, operationTimeoutMs, kafkaRollingRestartBatchSize);
     }
 
     public ResourceOperatorSupplier(Vertx vertx, KubernetesClient client, ZookeeperLeaderFinder zlf,
                                     AdminClientProvider adminClientProvider,
                                     PlatformFeaturesAvailability pfa, long operationTimeoutMs) {
+        this(vertx, client, zlf, adminClientProvider, pfa, operationTimeoutMs, 1);
+    }
+
+    public ResourceOperatorSupplier(Vertx vertx, KubernetesClient client, ZookeeperLeaderFinder zlf,
+                                    AdminClientProvider adminClientProvider,
+                                    PlatformFeaturesAvailability pfa, long operationTimeoutMs,
+                                    int kafkaRollingRestartBatchSize) {
         this(new ServiceOperator(vertx, client),
                 pfa.hasRoutes() ? new RouteOperator(vertx, client.adapt(OpenShiftClient.class)) : null,
                 new ZookeeperSetOperator(vertx, client, zlf, operationTimeoutMs),
-                new KafkaSetOperator(vertx, client, operationTimeoutMs, adminClientProvider),
+                new KafkaSetOperator(vertx, client, operationTimeoutMs, adminClientProvider, kafkaRollingRestartBatchSize),
                 new ConfigMapOperator(vertx, client),
                 new SecretOperator(vertx, client),
                 new PvcOperator(vertx, client),
@@ -158,4 +175,38 @@ public class ResourceOperatorSupplier {
         this.kafkaBridgeOperator = kafkaBridgeOperator;
         this.storageClassOperations = storageClassOperator;
     }
+
+    /**
+     * Start the watch-backed caches of the resource operators which reconcile the resources
+     * owned by the Cluster Operator in the given namespace.
+     *
+     * @param namespace The namespace
+     * @return A future which completes when all the caches have been filled.
+     */
+    public Future<Void> startCaches(String namespace) {
+        List<Future> futures = new ArrayList<>();
+        futures.add(secretOperations.startCache(namespace));
+        futures.add(serviceOperations.startCache(namespace));
+        futures.add(configMapOperations.startCache(namespace));
+        futures.add(zkSetOperations.startCache(namespace));
+        futures.add(kafkaSetOperations.startCache(namespace));
+        futures.add(pvcOperations.startCache(namespace));
+        futures.add(deploymentOperations.startCache(namespace));
+        futures.add(serviceAccountOperations.startCache(namespace));
+        futures.add(roleBindingOperations.startCache(namespace));
+        futures.add(networkPolicyOperator.startCache(namespace));
+        futures.add(podDisruptionBudgetOperator.startCache(namespace));
+        if (routeOperations != null) {
+            futures.add(routeOperations.startCache(namespace));
+        }
+        return CompositeFuture.join(futures).map((Void) null);
+    }
+
+    /**
+     * Close the resources kept open by the resource operators between reconciliations,
+     * such as the AdminClients of the Kafka clusters.
+     */
+    public void close() {
+        kafkaSetOperations.close();
+    }
 }
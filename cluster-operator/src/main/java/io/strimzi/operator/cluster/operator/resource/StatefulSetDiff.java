@@ -12,6 +12,9 @@ import io.strimzi.operator.common.operator.resource.AbstractResourceDiff;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -51,6 +54,7 @@ public class StatefulSetDiff extends AbstractResourceDiff {
 
     private static final Pattern RESOURCE_PATH = Pattern.compile("^/spec/template/spec/(?:initContainers|containers)/[0-9]+/resources/(?:limits|requests)/(memory|cpu)$");
     private static final Pattern VOLUME_SIZE = Pattern.compile("^/spec/volumeClaimTemplates/[0-9]+/spec/resources/.*$");
+    private static final Pattern ENV_VAR_VALUE = Pattern.compile("^(/spec/template/spec/containers/[0-9]+/env/[0-9]+)/value$");
 
     private static boolean equalsOrPrefix(String path, String pathValue) {
         return pathValue.equals(path)
@@ -63,6 +67,8 @@ public class StatefulSetDiff extends AbstractResourceDiff {
     private final boolean changesSpecTemplate;
     private final boolean changesLabels;
     private final boolean changesSpecReplicas;
+    private final boolean changesSpecTemplateOtherThanEnvVars;
+    private final Set<String> changedEnvVars;
 
     public StatefulSetDiff(StatefulSet current, StatefulSet desired) {
         JsonNode source = patchMapper().valueToTree(current);
@@ -74,6 +80,8 @@ public class StatefulSetDiff extends AbstractResourceDiff {
         boolean changesSpecTemplate = false;
         boolean changesLabels = false;
         boolean changesSpecReplicas = false;
+        boolean changesSpecTemplateOtherThanEnvVars = false;
+        Set<String> changedEnvVars = new HashSet<>();
         for (JsonNode d : diff) {
             String pathValue = d.get("path").asText();
             if (IGNORABLE_PATHS.matcher(pathValue).matches()) {
@@ -107,6 +115,14 @@ public class StatefulSetDiff extends AbstractResourceDiff {
             // Change changes to /spec/template/spec, except to imagePullPolicy, which gets changed
             // by k8s
             changesSpecTemplate |= equalsOrPrefix("/spec/template", pathValue);
+            if (equalsOrPrefix("/spec/template", pathValue)) {
+                String envVar = changedEnvVar(source, target, d);
+                if (envVar != null) {
+                    changedEnvVars.add(envVar);
+                } else {
+                    changesSpecTemplateOtherThanEnvVars = true;
+                }
+            }
             changesLabels |= equalsOrPrefix("/metadata/labels", pathValue);
             changesSpecReplicas |= equalsOrPrefix("/spec/replicas", pathValue);
         }
@@ -116,6 +132,24 @@ public class StatefulSetDiff extends AbstractResourceDiff {
         this.changesSpecTemplate = changesSpecTemplate;
         this.changesVolumeClaimTemplate = changesVolumeClaimTemplate;
         this.changesVolumeSize = changesVolumeSize;
+        this.changesSpecTemplateOtherThanEnvVars = changesSpecTemplateOtherThanEnvVars;
+        this.changedEnvVars = Collections.unmodifiableSet(changedEnvVars);
+    }
+
+    /**
+     * @return The name of the container environment variable whose value is replaced by the given diff,
+     * or null if the diff is not a change to the value of an existing environment variable.
+     */
+    private String changedEnvVar(JsonNode source, JsonNode target, JsonNode d) {
+        Matcher envVarMatcher = ENV_VAR_VALUE.matcher(d.get("path").asText());
+        if (envVarMatcher.matches() && "replace".equals(d.path("op").asText())) {
+            String namePath = envVarMatcher.group(1) + "/name";
+            String name = lookupPath(source, namePath).asText(null);
+            if (name != null && name.equals(lookupPath(target, namePath).asText(null))) {
+                return name;
+            }
+        }
+        return null;
     }
 
     boolean compareMemoryAndCpuResources(JsonNode source, JsonNode target, String pathValue, Matcher resourceMatchers) {
@@ -164,6 +198,19 @@ public class StatefulSetDiff extends AbstractResourceDiff {
         return changesSpecTemplate;
     }
 
+    /**
+     * @return The names of the container environment variables whose values differ.
+     * Only changes to the values of environment variables which exist in both StatefulSets are included.
+     */
+    public Set<String> changedEnvVars() {
+        return changedEnvVars;
+    }
+
+    /** @return True if there's a difference in {@code /spec/template} other than to the values of {@link #changedEnvVars()} */
+    public boolean changesSpecTemplateOtherThanEnvVars() {
+        return changesSpecTemplateOtherThanEnvVars;
+    }
+
     /** @return True if there's a difference in {@code /metadata/labels} */
     public boolean changesLabels() {
         return changesLabels;
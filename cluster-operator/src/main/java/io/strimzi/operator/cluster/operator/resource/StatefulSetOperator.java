@@ -33,6 +33,7 @@ import org.apache.logging.log4j.Logger;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.BiFunction;
 import java.util.function.Predicate;
 
 /**
@@ -92,6 +93,18 @@ public abstract class StatefulSetOperator extends AbstractScalableResourceOperat
      * @return A future that completes when any necessary rolling has been completed.
      */
     public Future<Void> maybeRollingUpdate(StatefulSet ss, Predicate<Pod> podNeedsRestart) {
+        return withSecrets(ss, (clusterCaKeySecret, coKeySecret) -> maybeRollingUpdate(ss, podNeedsRestart, clusterCaKeySecret, coKeySecret));
+    }
+
+    /**
+     * Asynchronously gets the cluster CA certificate Secret and the Cluster Operator's key Secret
+     * for the cluster of the given StatefulSet, and then applies the given {@code fn} to them.
+     * @param ss The StatefulSet
+     * @param fn The function to apply to the cluster CA certificate Secret and the Cluster Operator key Secret.
+     * @param <T> The result type of the function.
+     * @return A future for the result of the function, which fails if either Secret does not exist.
+     */
+    protected <T> Future<T> withSecrets(StatefulSet ss, BiFunction<Secret, Secret, Future<T>> fn) {
         String cluster = ss.getMetadata().getLabels().get(Labels.STRIMZI_CLUSTER_LABEL);
         String namespace = ss.getMetadata().getNamespace();
         Future<Secret> clusterCaKeySecretFuture = secretOperations.getAsync(
@@ -107,7 +120,7 @@ public abstract class StatefulSetOperator extends AbstractScalableResourceOperat
             if (coKeySecret == null) {
                 return Future.failedFuture(missingSecretFuture(namespace, ClusterOperator.secretName(cluster)));
             }
-            return maybeRollingUpdate(ss, podNeedsRestart, clusterCaKeySecret, coKeySecret);
+            return fn.apply(clusterCaKeySecret, coKeySecret);
         });
     }
 
@@ -213,6 +226,18 @@ public abstract class StatefulSetOperator extends AbstractScalableResourceOperat
 
     protected abstract boolean shouldIncrementGeneration(StatefulSetDiff diff);
 
+    /**
+     * Whether patching the {@code current} StatefulSet to the {@code desired} one should increment the generation,
+     * and so roll the pods. By default this depends only on the {@code diff}.
+     * @param current The current StatefulSet.
+     * @param desired The desired StatefulSet.
+     * @param diff The difference between them.
+     * @return Whether the generation should be incremented.
+     */
+    protected boolean shouldIncrementGeneration(StatefulSet current, StatefulSet desired, StatefulSetDiff diff) {
+        return shouldIncrementGeneration(diff);
+    }
+
     /**
      * Gets the {@code strimzi.io/generation} of the given StatefulSet.
      * @param resource the StatefulSet.
@@ -278,7 +303,7 @@ public abstract class StatefulSetOperator extends AbstractScalableResourceOperat
     protected Future<ReconcileResult<StatefulSet>> internalPatch(String namespace, String name, StatefulSet current, StatefulSet desired) {
         StatefulSetDiff diff = new StatefulSetDiff(current, desired);
 
-        if (shouldIncrementGeneration(diff)) {
+        if (shouldIncrementGeneration(current, desired, diff)) {
             incrementGeneration(current, desired);
         } else {
             setGeneration(desired, getSsGeneration(current));
@@ -323,8 +348,7 @@ public abstract class StatefulSetOperator extends AbstractScalableResourceOperat
 
             operation().inNamespace(namespace).withName(name).cascading(cascading).withGracePeriod(-1L).delete();
 
-            Future<Void> deletedFut = waitFor(namespace, name, pollingIntervalMs, timeoutMs, (ignore1, ignore2) -> {
-                StatefulSet sts = get(namespace, name);
+            Future<Void> deletedFut = watchUntil(namespace, name, pollingIntervalMs, timeoutMs, sts -> {
                 log.trace("Checking if {} {} in namespace {} has been deleted", resourceKind, name, namespace);
                 return sts == null;
             });
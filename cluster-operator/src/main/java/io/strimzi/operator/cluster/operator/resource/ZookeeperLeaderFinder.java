@@ -17,6 +17,7 @@ import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.net.NetClient;
 import io.vertx.core.net.NetClientOptions;
 import io.vertx.core.net.NetSocket;
 import io.vertx.core.net.PemKeyCertOptions;
@@ -30,6 +31,7 @@ import java.security.cert.CertificateFactory;
 import java.util.Base64;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -157,10 +159,12 @@ public class ZookeeperLeaderFinder {
                                             NetClientOptions netClientOptions) {
         Future<Integer> result = Future.future();
         BackOff backOff = backOffSupplier.get();
+        // All the probes of all the attempts share a single client
+        NetClient netClient = vertx.createNetClient(netClientOptions);
         Handler<Long> handler = new Handler<Long>() {
             @Override
             public void handle(Long tid) {
-                zookeeperLeader(pods, netClientOptions).setHandler(leader -> {
+                zookeeperLeader(pods, netClient).setHandler(leader -> {
                     if (leader.succeeded()) {
                         if (leader.result() != UNKNOWN_LEADER) {
                             result.complete(leader.result());
@@ -198,94 +202,99 @@ public class ZookeeperLeaderFinder {
             }
         };
         handler.handle(null);
-        return result;
+        // Close the client whatever the outcome, so that failed lookups don't leak clients and their connections
+        Future<Integer> closed = Future.future();
+        result.setHandler(leader -> {
+            netClient.close();
+            closed.handle(leader);
+        });
+        return closed;
     }
 
     /**
-     * Synchronously find the leader by testing each pod in the given list
-     * using {@link #isLeader(Pod, NetClientOptions)}.
+     * Asynchronously find the leader by testing all the pods in the given list concurrently
+     * using {@link #isLeader(Pod, NetClient)}. The returned future completes as soon as one of the pods
+     * is found to be the leader, or with {@link #UNKNOWN_LEADER} once none of them is.
      */
-    private Future<Integer> zookeeperLeader(List<Pod> pods, NetClientOptions netClientOptions) {
+    private Future<Integer> zookeeperLeader(List<Pod> pods, NetClient netClient) {
+        Future<Integer> result = Future.future();
+        AtomicInteger remaining = new AtomicInteger(pods.size());
         try {
-            Future<Integer> f = Future.succeededFuture(UNKNOWN_LEADER);
             for (int i = 0; i < pods.size(); i++) {
                 final int podNum = i;
                 Pod pod = pods.get(i);
                 String podName = pod.getMetadata().getName();
-                f = f.compose(leader -> {
-                    if (leader == UNKNOWN_LEADER) {
-                        log.debug("Checker whether {} is leader", podName);
-                        return isLeader(pod, netClientOptions).map(isLeader -> {
-                            if (isLeader != null && isLeader) {
-                                log.info("Pod {} is leader", podName);
-                                return podNum;
-                            } else {
-                                log.info("Pod {} is not a leader", podName);
-                                return UNKNOWN_LEADER;
-                            }
-                        });
+                log.debug("Checking whether {} is leader", podName);
+                isLeader(pod, netClient).setHandler(isLeader -> {
+                    if (isLeader.failed()) {
+                        result.tryFail(isLeader.cause());
+                    } else if (isLeader.result() != null && isLeader.result()) {
+                        log.info("Pod {} is leader", podName);
+                        result.tryComplete(podNum);
                     } else {
-                        return Future.succeededFuture(leader);
+                        log.info("Pod {} is not a leader", podName);
+                    }
+                    if (remaining.decrementAndGet() == 0) {
+                        result.tryComplete(UNKNOWN_LEADER);
                     }
                 });
             }
-            return f;
         } catch (Throwable t) {
-            return Future.failedFuture(t);
+            result.tryFail(t);
         }
+        return result;
     }
 
     /**
      * Returns whether the given pod is the zookeeper leader.
      */
-    protected Future<Boolean> isLeader(Pod pod, NetClientOptions netClientOptions) {
+    protected Future<Boolean> isLeader(Pod pod, NetClient netClient) {
 
         Future<Boolean> future = Future.future();
         String host = host(pod);
         int port = port(pod);
         log.debug("Connecting to zookeeper on {}:{}", host, port);
-        vertx.createNetClient(netClientOptions)
-            .connect(port, host, ar -> {
-                if (ar.failed()) {
-                    log.warn("ZK {}:{}: failed to connect to zookeeper:", host, port, ar.cause().getMessage());
-                    future.fail(ar.cause());
-                } else {
-                    log.debug("ZK {}:{}: connected", host, port);
-                    NetSocket socket = ar.result();
-                    socket.exceptionHandler(ex -> {
-                        if (!future.tryFail(ex)) {
-                            log.debug("ZK {}:{}: Ignoring error, since leader status of pod {} is already known: {}",
-                                    host, port, pod.getMetadata().getName(), ex);
-                        }
-                    });
-                    StringBuilder sb = new StringBuilder();
-                    // We could use socket idle timeout, but this times out even if the server just responds
-                    // very slowly
-                    long timerId = vertx.setTimer(10_000, tid -> {
-                        log.debug("ZK {}:{}: Timeout waiting for Zookeeper {} to close socket",
-                                host, port, socket.remoteAddress());
-                        socket.close();
-                    });
-                    socket.closeHandler(v -> {
-                        vertx.cancelTimer(timerId);
-                        Matcher matcher = LEADER_MODE_PATTERN.matcher(sb);
-                        boolean isLeader = matcher.find();
-                        log.debug("ZK {}:{}: {} leader", host, port, isLeader ? "is" : "is not");
-                        if (!future.tryComplete(isLeader)) {
-                            log.debug("ZK {}:{}: Ignoring leader result: Future is already complete",
-                                    host, port);
-                        }
-                    });
-                    log.debug("ZK {}:{}: upgrading to TLS", host, port);
-                    socket.handler(buffer -> {
-                        log.trace("buffer: {}", buffer);
-                        sb.append(buffer.toString());
-                    });
-                    log.debug("ZK {}:{}: sending stat", host, port);
-                    socket.write("stat");
-                }
+        netClient.connect(port, host, ar -> {
+            if (ar.failed()) {
+                log.warn("ZK {}:{}: failed to connect to zookeeper:", host, port, ar.cause().getMessage());
+                future.fail(ar.cause());
+            } else {
+                log.debug("ZK {}:{}: connected", host, port);
+                NetSocket socket = ar.result();
+                socket.exceptionHandler(ex -> {
+                    if (!future.tryFail(ex)) {
+                        log.debug("ZK {}:{}: Ignoring error, since leader status of pod {} is already known: {}",
+                                host, port, pod.getMetadata().getName(), ex);
+                    }
+                });
+                StringBuilder sb = new StringBuilder();
+                // We could use socket idle timeout, but this times out even if the server just responds
+                // very slowly
+                long timerId = vertx.setTimer(10_000, tid -> {
+                    log.debug("ZK {}:{}: Timeout waiting for Zookeeper {} to close socket",
+                            host, port, socket.remoteAddress());
+                    socket.close();
+                });
+                socket.closeHandler(v -> {
+                    vertx.cancelTimer(timerId);
+                    Matcher matcher = LEADER_MODE_PATTERN.matcher(sb);
+                    boolean isLeader = matcher.find();
+                    log.debug("ZK {}:{}: {} leader", host, port, isLeader ? "is" : "is not");
+                    if (!future.tryComplete(isLeader)) {
+                        log.debug("ZK {}:{}: Ignoring leader result: Future is already complete",
+                                host, port);
+                    }
+                });
+                log.debug("ZK {}:{}: upgrading to TLS", host, port);
+                socket.handler(buffer -> {
+                    log.trace("buffer: {}", buffer);
+                    sb.append(buffer.toString());
+                });
+                log.debug("ZK {}:{}: sending stat", host, port);
+                socket.write("stat");
+            }
 
-            });
+        });
         return future.recover(error -> {
             log.debug("ZK {}:{}: Error trying to determine whether leader ({}) => not leader", host, port, error);
             return Future.succeededFuture(Boolean.FALSE);
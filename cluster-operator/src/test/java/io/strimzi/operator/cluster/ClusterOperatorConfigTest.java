@@ -5,6 +5,7 @@
 package io.strimzi.operator.cluster;
 
 import io.fabric8.kubernetes.api.model.LocalObjectReferenceBuilder;
+import io.strimzi.certs.CertManagerType;
 import io.strimzi.operator.cluster.model.ImagePullPolicy;
 import io.strimzi.operator.cluster.model.KafkaVersion;
 import io.strimzi.operator.common.InvalidConfigurationException;
@@ -53,7 +54,7 @@ public class ClusterOperatorConfigTest {
     @Test
     public void testReconciliationInterval() {
 
-        ClusterOperatorConfig config = new ClusterOperatorConfig(singleton("namespace"), 60_000, 30_000, false, new KafkaVersion.Lookup(emptyMap(), emptyMap(), emptyMap(), emptyMap()), null, null);
+        ClusterOperatorConfig config = new ClusterOperatorConfig(singleton("namespace"), 60_000, 30_000, false, new KafkaVersion.Lookup(emptyMap(), emptyMap(), emptyMap(), emptyMap()), null, null, false, 1, false, CertManagerType.OPENSSL);
 
         assertThat(config.getNamespaces(), is(singleton("namespace")));
         assertThat(config.getReconciliationIntervalMs(), is(60_000L));
@@ -153,6 +154,40 @@ public class ClusterOperatorConfigTest {
         });
     }
 
+    @Test
+    public void testResourceCache() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.envVars);
+        assertThat(ClusterOperatorConfig.fromMap(envVars).isResourceCacheEnabled(), is(false));
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_RESOURCE_CACHE_ENABLED, "true");
+        assertThat(ClusterOperatorConfig.fromMap(envVars).isResourceCacheEnabled(), is(true));
+    }
+
+    @Test
+    public void testKafkaRollingRestartBatchSize() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.envVars);
+        assertThat(ClusterOperatorConfig.fromMap(envVars).getKafkaRollingRestartBatchSize(), is(1));
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_KAFKA_ROLLING_RESTART_BATCH_SIZE, "3");
+        assertThat(ClusterOperatorConfig.fromMap(envVars).getKafkaRollingRestartBatchSize(), is(3));
+    }
+
+    @Test
+    public void testInvalidKafkaRollingRestartBatchSize() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.envVars);
+        envVars.put(ClusterOperatorConfig.STRIMZI_KAFKA_ROLLING_RESTART_BATCH_SIZE, "0");
+        assertThrows(InvalidConfigurationException.class, () -> ClusterOperatorConfig.fromMap(envVars));
+    }
+
+    @Test
+    public void testClusterWideWatchesEnabled() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.envVars);
+        assertThat(ClusterOperatorConfig.fromMap(envVars).isClusterWideWatchesEnabled(), is(false));
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_CLUSTER_WIDE_WATCHES_ENABLED, "true");
+        assertThat(ClusterOperatorConfig.fromMap(envVars).isClusterWideWatchesEnabled(), is(true));
+    }
+
     @Test
     public void testImagePullPolicyNotDefined() {
         assertThat(ClusterOperatorConfig.fromMap(envVars).getImagePullPolicy(), is(nullValue()));
@@ -221,4 +256,25 @@ public class ClusterOperatorConfigTest {
             ClusterOperatorConfig.fromMap(envVars).getImagePullSecrets().size();
         });
     }
+
+    @Test
+    public void testCertManager() {
+        assertThat(ClusterOperatorConfig.fromMap(envVars).getCertManagerType(), is(CertManagerType.OPENSSL));
+
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.envVars);
+        envVars.put(ClusterOperatorConfig.STRIMZI_CERT_MANAGER, "Java");
+        assertThat(ClusterOperatorConfig.fromMap(envVars).getCertManagerType(), is(CertManagerType.JAVA));
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_CERT_MANAGER, "openssl");
+        assertThat(ClusterOperatorConfig.fromMap(envVars).getCertManagerType(), is(CertManagerType.OPENSSL));
+    }
+
+    @Test
+    public void testInvalidCertManager() {
+        assertThrows(InvalidConfigurationException.class, () -> {
+            Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.envVars);
+            envVars.put(ClusterOperatorConfig.STRIMZI_CERT_MANAGER, "keytool");
+            ClusterOperatorConfig.fromMap(envVars);
+        });
+    }
 }
@@ -105,6 +105,16 @@ public class ClusterOperatorTest {
         startStopAllNamespaces(context, "*", false);
     }
 
+    @Test
+    public void startStopMultiNamespaceClusterWideWatchesOs(VertxTestContext context) throws InterruptedException, ExecutionException, TimeoutException {
+        startStopAllNamespaces(context, "namespace1,namespace2", true, true);
+    }
+
+    @Test
+    public void startStopMultiNamespaceClusterWideWatchesK8s(VertxTestContext context) throws InterruptedException, ExecutionException, TimeoutException {
+        startStopAllNamespaces(context, "namespace1,namespace2", false, true);
+    }
+
     /**
      * Does the CO start and then stop a verticle per namespace?
      * @param context
@@ -188,12 +198,17 @@ public class ClusterOperatorTest {
         context.completeNow();
     }
 
+    private void startStopAllNamespaces(VertxTestContext context, String namespaces, boolean openShift) throws InterruptedException, ExecutionException, TimeoutException {
+        startStopAllNamespaces(context, namespaces, openShift, false);
+    }
+
     /**
-     * Does the CO start and then stop with the namespace wildcard (*)?
+     * Does the CO start and then stop a single verticle with cluster-wide watches,
+     * either for the namespace wildcard (*) or for several namespaces with cluster-wide watches enabled?
      * @param context
      * @param namespaces
      */
-    private void startStopAllNamespaces(VertxTestContext context, String namespaces, boolean openShift) throws InterruptedException, ExecutionException, TimeoutException {
+    private void startStopAllNamespaces(VertxTestContext context, String namespaces, boolean openShift, boolean clusterWideWatches) throws InterruptedException, ExecutionException, TimeoutException {
         AtomicInteger numWatchers = new AtomicInteger(0);
         KubernetesClient client;
         if (openShift) {
@@ -238,6 +253,7 @@ public class ClusterOperatorTest {
         CountDownLatch async = new CountDownLatch(1);
 
         Map<String, String> env = buildEnv(namespaces);
+        env.put(ClusterOperatorConfig.STRIMZI_CLUSTER_WIDE_WATCHES_ENABLED, Boolean.toString(clusterWideWatches));
         Main.run(vertx, client, new PlatformFeaturesAvailability(openShift, KubernetesVersion.V1_9), ClusterOperatorConfig.fromMap(env)).setHandler(ar -> {
             context.verify(() -> assertThat("Expected all verticles to start OK", ar.cause(), is(nullValue())));
             async.countDown();
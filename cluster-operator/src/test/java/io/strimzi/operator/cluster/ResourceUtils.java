@@ -43,6 +43,7 @@ import io.strimzi.api.kafka.model.listener.KafkaListenerTls;
 import io.strimzi.api.kafka.model.storage.EphemeralStorage;
 import io.strimzi.api.kafka.model.storage.SingleVolumeStorage;
 import io.strimzi.api.kafka.model.storage.Storage;
+import io.strimzi.certs.CertManagerType;
 import io.strimzi.operator.cluster.model.AbstractModel;
 import io.strimzi.operator.cluster.model.Ca;
 import io.strimzi.operator.cluster.model.ClientsCa;
@@ -80,7 +81,7 @@ import io.strimzi.operator.common.operator.resource.StorageClassOperator;
 import io.strimzi.test.TestUtils;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
-import io.vertx.core.net.NetClientOptions;
+import io.vertx.core.net.NetClient;
 import io.vertx.core.net.PemKeyCertOptions;
 import io.vertx.core.net.PemTrustOptions;
 import org.apache.kafka.clients.admin.AdminClient;
@@ -542,7 +543,7 @@ public class ResourceUtils {
         return new ZookeeperLeaderFinder(vertx, new SecretOperator(vertx, client),
             () -> new BackOff(5_000, 2, 4)) {
                 @Override
-                protected Future<Boolean> isLeader(Pod pod, NetClientOptions options) {
+                protected Future<Boolean> isLeader(Pod pod, NetClient netClient) {
                     return Future.succeededFuture(true);
                 }
 
@@ -666,7 +667,11 @@ public class ResourceUtils {
                 false,
                 versions,
                 null,
-                null);
+                null,
+                false,
+                1,
+                false,
+                CertManagerType.OPENSSL);
 
         return config;
     }
@@ -0,0 +1,145 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.model;
+
+import io.fabric8.kubernetes.api.model.Secret;
+import io.fabric8.kubernetes.api.model.SecretBuilder;
+import io.strimzi.api.kafka.model.Kafka;
+import io.strimzi.api.kafka.model.KafkaBuilder;
+import io.strimzi.certs.CertAndKey;
+import io.strimzi.certs.CertManager;
+import io.strimzi.certs.JavaCertManager;
+import io.strimzi.operator.common.PasswordGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singleton;
+import static java.util.Collections.singletonList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+
+public class ClusterCaTest {
+
+    private static final String NAMESPACE = "test";
+    private static final String CLUSTER = "foo";
+
+    private final CertManager certManager = new JavaCertManager();
+    private final PasswordGenerator passwordGenerator = new PasswordGenerator(10, "a", "a");
+
+    private static Kafka kafka(int replicas) {
+        return new KafkaBuilder()
+                .withNewMetadata()
+                    .withNamespace(NAMESPACE)
+                    .withName(CLUSTER)
+                .endMetadata()
+                .withNewSpec()
+                    .withNewKafka()
+                        .withReplicas(replicas)
+                    .endKafka()
+                    .withNewZookeeper()
+                        .withReplicas(replicas)
+                    .endZookeeper()
+                .endSpec()
+                .build();
+    }
+
+    private static Secret brokersSecret(Map<String, CertAndKey> certs) {
+        Base64.Encoder encoder = Base64.getEncoder();
+        Map<String, String> data = new HashMap<>();
+        for (Map.Entry<String, CertAndKey> entry : certs.entrySet()) {
+            CertAndKey cert = entry.getValue();
+            data.put(entry.getKey() + ".key", encoder.encodeToString(cert.key()));
+            data.put(entry.getKey() + ".crt", encoder.encodeToString(cert.cert()));
+            data.put(entry.getKey() + ".p12", encoder.encodeToString(cert.keyStore()));
+            data.put(entry.getKey() + ".password", encoder.encodeToString(cert.storePassword().getBytes(StandardCharsets.US_ASCII)));
+        }
+        return new SecretBuilder()
+                .withNewMetadata()
+                    .withNamespace(NAMESPACE)
+                    .withName(KafkaCluster.brokersSecretName(CLUSTER))
+                .endMetadata()
+                .withData(data)
+                .build();
+    }
+
+    private ClusterCa clusterCa(ClusterCa existing) {
+        ClusterCa clusterCa = existing == null ? new ClusterCa(certManager, passwordGenerator, CLUSTER, null, null)
+                : new ClusterCa(certManager, passwordGenerator, CLUSTER, existing.caCertSecret(), existing.caKeySecret());
+        clusterCa.createRenewOrReplace(NAMESPACE, CLUSTER, emptyMap(), null, true);
+        return clusterCa;
+    }
+
+    @Test
+    public void testBrokerCertsAreGeneratedForEachPod() throws Exception {
+        ClusterCa clusterCa = clusterCa(null);
+        Map<String, CertAndKey> certs = clusterCa.generateBrokerCerts(kafka(3), null, emptyMap());
+
+        assertThat(certs.size(), is(3));
+        for (int i = 0; i < 3; i++) {
+            CertAndKey cert = certs.get(KafkaCluster.kafkaPodName(CLUSTER, i));
+            assertThat(clusterCa.getSubjectAltNames(cert.cert()), hasItem(KafkaCluster.podDnsName(NAMESPACE, CLUSTER, i)));
+        }
+        assertThat(certs.get(KafkaCluster.kafkaPodName(CLUSTER, 0)).key(), is(not(certs.get(KafkaCluster.kafkaPodName(CLUSTER, 1)).key())));
+    }
+
+    @Test
+    public void testOnlyCertsWithChangedSubjectAltNamesAreRegenerated() throws Exception {
+        ClusterCa clusterCa = clusterCa(null);
+        Map<Integer, Set<String>> externalAddresses = new HashMap<>();
+        externalAddresses.put(0, singleton("broker-0.example.com"));
+        externalAddresses.put(1, singleton("broker-1.example.com"));
+        Map<String, CertAndKey> certs = clusterCa.generateBrokerCerts(kafka(2), null, externalAddresses);
+
+        ClusterCa reconciledCa = clusterCa(clusterCa);
+        reconciledCa.initCaSecrets(singletonList(brokersSecret(certs)));
+        externalAddresses.put(1, singleton("broker-1.example.org"));
+        Map<String, CertAndKey> reconciledCerts = reconciledCa.generateBrokerCerts(kafka(3), null, externalAddresses);
+
+        String pod0 = KafkaCluster.kafkaPodName(CLUSTER, 0);
+        String pod1 = KafkaCluster.kafkaPodName(CLUSTER, 1);
+        assertThat(reconciledCerts.size(), is(3));
+        assertThat(reconciledCerts.get(pod0).cert(), is(certs.get(pod0).cert()));
+        assertThat(reconciledCerts.get(pod0).storePassword(), is(certs.get(pod0).storePassword()));
+        assertThat(reconciledCerts.get(pod1).cert(), is(not(certs.get(pod1).cert())));
+        assertThat(reconciledCa.getSubjectAltNames(reconciledCerts.get(pod1).cert()), hasItem("broker-1.example.org"));
+        assertThat(reconciledCa.getSubjectAltNames(reconciledCerts.get(KafkaCluster.kafkaPodName(CLUSTER, 2)).cert()),
+                hasItem(KafkaCluster.podDnsName(NAMESPACE, CLUSTER, 2)));
+    }
+
+    @Test
+    public void testZkCertsAreCopiedWhenUnchanged() throws Exception {
+        ClusterCa clusterCa = clusterCa(null);
+        Map<String, CertAndKey> certs = clusterCa.generateZkCerts(kafka(3));
+
+        Map<String, String> data = new HashMap<>();
+        for (Map.Entry<String, CertAndKey> entry : certs.entrySet()) {
+            data.put(entry.getKey() + ".key", Base64.getEncoder().encodeToString(entry.getValue().key()));
+            data.put(entry.getKey() + ".crt", Base64.getEncoder().encodeToString(entry.getValue().cert()));
+        }
+        ClusterCa reconciledCa = clusterCa(clusterCa);
+        reconciledCa.initCaSecrets(singletonList(new SecretBuilder()
+                .withNewMetadata()
+                    .withName(ZookeeperCluster.nodesSecretName(CLUSTER))
+                .endMetadata()
+                .withData(data)
+                .build()));
+        Map<String, CertAndKey> reconciledCerts = reconciledCa.generateZkCerts(kafka(3));
+
+        assertThat(reconciledCerts.size(), is(3));
+        for (Map.Entry<String, CertAndKey> entry : reconciledCerts.entrySet()) {
+            // Secrets from older operator versions, without keystores, have keystores added to their existing certificates
+            assertThat(entry.getValue().cert(), is(certs.get(entry.getKey()).cert()));
+            assertThat(entry.getValue().keyStore().length > 0, is(true));
+        }
+    }
+}
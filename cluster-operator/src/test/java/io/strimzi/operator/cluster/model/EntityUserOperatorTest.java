@@ -82,6 +82,10 @@ public class EntityUserOperatorTest {
     private final Kafka resource =
             new KafkaBuilder(ResourceUtils.createKafkaCluster(namespace, cluster, replicas, image, healthDelay, healthTimeout))
                     .editSpec()
+                    .editKafka()
+                        .withNewKafkaAuthorizationSimple()
+                        .endKafkaAuthorizationSimple()
+                    .endKafka()
                     .withEntityOperator(entityOperatorSpec)
                     .endSpec()
                     .build();
@@ -91,6 +95,8 @@ public class EntityUserOperatorTest {
     private List<EnvVar> getExpectedEnvVars() {
         List<EnvVar> expected = new ArrayList<>();
         expected.add(new EnvVarBuilder().withName(EntityUserOperator.ENV_VAR_ZOOKEEPER_CONNECT).withValue(String.format("%s:%d", "localhost", EntityUserOperatorSpec.DEFAULT_ZOOKEEPER_PORT)).build());
+        expected.add(new EnvVarBuilder().withName(EntityUserOperator.ENV_VAR_KAFKA_BOOTSTRAP_SERVERS).withValue(KafkaCluster.serviceName(cluster) + ":" + KafkaCluster.REPLICATION_PORT).build());
+        expected.add(new EnvVarBuilder().withName(EntityUserOperator.ENV_VAR_TLS_ENABLED).withValue(Boolean.toString(true)).build());
         expected.add(new EnvVarBuilder().withName(EntityUserOperator.ENV_VAR_WATCHED_NAMESPACE).withValue(uoWatchedNamespace).build());
         expected.add(new EnvVarBuilder().withName(EntityUserOperator.ENV_VAR_RESOURCE_LABELS).withValue(ModelUtils.defaultResourceLabels(cluster)).build());
         expected.add(new EnvVarBuilder().withName(EntityUserOperator.ENV_VAR_FULL_RECONCILIATION_INTERVAL_MS).withValue(String.valueOf(uoReconciliationInterval * 1000)).build());
@@ -117,6 +123,23 @@ public class EntityUserOperatorTest {
         checkEnvVars(getExpectedEnvVars(), entityUserOperator.getEnvVars());
     }
 
+    @Test
+    public void testEnvVarsWithoutAuthorization()   {
+        Kafka resource = new KafkaBuilder(ResourceUtils.createKafkaCluster(namespace, cluster, replicas, image, healthDelay, healthTimeout))
+                .editSpec()
+                    .withEntityOperator(entityOperatorSpec)
+                .endSpec()
+                .build();
+        EntityUserOperator entityUserOperator = EntityUserOperator.fromCrd(resource);
+
+        // Without an authorizer the ACLs are managed in Zookeeper rather than through the Admin API
+        List<EnvVar> expected = getExpectedEnvVars();
+        expected.removeIf(var -> EntityUserOperator.ENV_VAR_KAFKA_BOOTSTRAP_SERVERS.equals(var.getName())
+                || EntityUserOperator.ENV_VAR_TLS_ENABLED.equals(var.getName()));
+        checkEnvVars(expected, entityUserOperator.getEnvVars());
+        assertThat(entityUserOperator.getKafkaBootstrapServers(), is(nullValue()));
+    }
+
     @Test
     public void testFromCrd() {
         assertThat(entityUserOperator.namespace, is(namespace));
@@ -136,6 +159,7 @@ public class EntityUserOperatorTest {
         assertThat(entityUserOperator.getReconciliationIntervalMs(), is(uoReconciliationInterval * 1000L));
         assertThat(entityUserOperator.getZookeeperSessionTimeoutMs(), is(uoZookeeperSessionTimeout * 1000L));
         assertThat(entityUserOperator.getZookeeperConnect(), is(EntityUserOperator.defaultZookeeperConnect(cluster)));
+        assertThat(entityUserOperator.getKafkaBootstrapServers(), is(EntityUserOperator.defaultBootstrapServers(cluster)));
         assertThat(entityUserOperator.getLogging().getType(), is(userOperatorLogging.getType()));
         assertThat(((InlineLogging) entityUserOperator.getLogging()).getLoggers(), is(userOperatorLogging.getLoggers()));
     }
@@ -207,6 +231,10 @@ public class EntityUserOperatorTest {
         assertThat(container.getPorts().get(0).getProtocol(), is("TCP"));
         assertThat(container.getVolumeMounts().get(0).getMountPath(), is("/opt/user-operator/custom-config/"));
         assertThat(container.getVolumeMounts().get(0).getName(), is("entity-user-operator-metrics-and-logging"));
+        assertThat(container.getVolumeMounts().get(1).getMountPath(), is(EntityOperator.TLS_SIDECAR_EO_CERTS_VOLUME_MOUNT));
+        assertThat(container.getVolumeMounts().get(1).getName(), is(EntityOperator.TLS_SIDECAR_EO_CERTS_VOLUME_NAME));
+        assertThat(container.getVolumeMounts().get(2).getMountPath(), is(EntityOperator.TLS_SIDECAR_CA_CERTS_VOLUME_MOUNT));
+        assertThat(container.getVolumeMounts().get(2).getName(), is(EntityOperator.TLS_SIDECAR_CA_CERTS_VOLUME_NAME));
     }
 
     @Test
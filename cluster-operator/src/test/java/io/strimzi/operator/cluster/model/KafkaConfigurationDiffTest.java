@@ -0,0 +1,67 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.model;
+
+import io.strimzi.operator.cluster.KafkaVersionTestUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static java.util.Collections.singleton;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class KafkaConfigurationDiffTest {
+
+    String kafkaVersion = KafkaVersionTestUtils.getKafkaVersionLookup().defaultVersion().version();
+
+    @Test
+    public void testIdenticalConfigurations() {
+        KafkaConfigurationDiff diff = new KafkaConfigurationDiff("num.io.threads=8\n", "num.io.threads=8\n", kafkaVersion);
+        assertThat(diff.isEmpty(), is(true));
+        assertThat(diff.canBeUpdatedDynamically(), is(false));
+    }
+
+    @Test
+    public void testDynamicChanges() {
+        KafkaConfigurationDiff diff = new KafkaConfigurationDiff("num.io.threads=8\nnum.partitions=1\n",
+                "num.io.threads=16\nnum.partitions=1\nlog.cleaner.threads=2\n", kafkaVersion);
+        Map<String, String> expected = new HashMap<>();
+        expected.put("num.io.threads", "16");
+        expected.put("log.cleaner.threads", "2");
+        assertThat(diff.getDynamicChanges(), is(expected));
+        assertThat(diff.canBeUpdatedDynamically(), is(true));
+    }
+
+    @Test
+    public void testReadOnlyUnknownAndRemovedOptionsNeedRestart() {
+        KafkaConfigurationDiff diff = new KafkaConfigurationDiff("num.partitions=1\n", "num.partitions=3\n", kafkaVersion);
+        assertThat(diff.getStaticChanges(), is(singleton("num.partitions")));
+        assertThat(diff.canBeUpdatedDynamically(), is(false));
+
+        diff = new KafkaConfigurationDiff(null, "my.plugin.option=foo\n", kafkaVersion);
+        assertThat(diff.getStaticChanges(), is(singleton("my.plugin.option")));
+
+        diff = new KafkaConfigurationDiff("num.io.threads=8\n", null, kafkaVersion);
+        assertThat(diff.getStaticChanges(), is(singleton("num.io.threads")));
+        assertThat(diff.canBeUpdatedDynamically(), is(false));
+    }
+
+    @Test
+    public void testRemovedDynamicOptionNeedsRestartAndItsDefaultDeleting() {
+        KafkaConfigurationDiff diff = new KafkaConfigurationDiff("num.io.threads=16\nnum.partitions=1\n", "num.partitions=1\n", kafkaVersion);
+        assertThat(diff.getStaticChanges(), is(singleton("num.io.threads")));
+        assertThat(diff.canBeUpdatedDynamically(), is(false));
+        assertThat(diff.getChangedClusterWideOptions(), is(singleton("num.io.threads")));
+    }
+
+    @Test
+    public void testPerBrokerOptionsNeedRestart() {
+        KafkaConfigurationDiff diff = new KafkaConfigurationDiff("ssl.cipher.suites=A\n", "ssl.cipher.suites=B\n", kafkaVersion);
+        assertThat(diff.getStaticChanges(), is(singleton("ssl.cipher.suites")));
+        assertThat(diff.getChangedClusterWideOptions().isEmpty(), is(true));
+    }
+}
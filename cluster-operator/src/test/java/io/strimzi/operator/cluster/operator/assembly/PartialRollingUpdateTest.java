@@ -4,12 +4,15 @@
  */
 package io.strimzi.operator.cluster.operator.assembly;
 
+import io.fabric8.kubernetes.api.model.EnvVar;
 import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.Secret;
 import io.fabric8.kubernetes.api.model.apiextensions.CustomResourceDefinition;
 import io.fabric8.kubernetes.api.model.apps.StatefulSet;
 import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.Watcher;
 import io.strimzi.api.kafka.Crds;
 import io.strimzi.api.kafka.KafkaList;
 import io.strimzi.api.kafka.model.DoneableKafka;
@@ -22,14 +25,17 @@ import io.strimzi.operator.cluster.KafkaVersionTestUtils;
 import io.strimzi.operator.cluster.ResourceUtils;
 import io.strimzi.operator.cluster.model.Ca;
 import io.strimzi.operator.cluster.model.KafkaCluster;
+import io.strimzi.operator.cluster.model.KafkaConfigurationDiff;
 import io.strimzi.operator.cluster.model.KafkaVersion;
 import io.strimzi.operator.cluster.model.ZookeeperCluster;
+import io.strimzi.operator.cluster.operator.resource.KafkaSetOperator;
 import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
 import io.strimzi.operator.cluster.operator.resource.StatefulSetOperator;
 import io.strimzi.operator.common.PasswordGenerator;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.operator.MockCertManager;
 import io.strimzi.test.mockkube.MockKube;
+import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 import io.vertx.junit5.Checkpoint;
 import io.vertx.junit5.VertxExtension;
@@ -41,11 +47,17 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
 
 import static io.strimzi.test.TestUtils.set;
 import static java.util.Collections.emptyMap;
@@ -293,6 +305,170 @@ public class PartialRollingUpdateTest {
         });
     }
 
+    @Test
+    public void testManualRollingUpdateAndConfigChangeRestartEachKafkaPodOnce(VertxTestContext context) {
+        kafkaSs.getMetadata().getAnnotations().put(KafkaAssemblyOperator.ANNO_STRIMZI_IO_MANUAL_ROLLING_UPDATE, "true");
+        cluster = new KafkaBuilder(cluster)
+                .editSpec()
+                    .editKafka()
+                        .withConfig(Collections.singletonMap("num.partitions", 3))
+                    .endKafka()
+                .endSpec()
+                .build();
+
+        // Now start the KafkaAssemblyOperator with those pods and that statefulset
+        startKube();
+
+        Map<String, Integer> deletions = new ConcurrentHashMap<>();
+        mockClient.pods().inNamespace(NAMESPACE).watch(new Watcher<Pod>() {
+            @Override
+            public void eventReceived(Action action, Pod pod) {
+                if (action == Action.DELETED) {
+                    deletions.merge(pod.getMetadata().getName(), 1, Integer::sum);
+                }
+            }
+
+            @Override
+            public void onClose(KubernetesClientException cause) {
+            }
+        });
+
+        LOGGER.info("Recovery reconciliation");
+        Checkpoint async = context.checkpoint();
+        kco.reconcile(new Reconciliation("test-trigger", Kafka.RESOURCE_KIND, NAMESPACE, CLUSTER_NAME)).setHandler(ar -> {
+            context.verify(() -> assertThat(ar.succeeded(), is(true)));
+            for (int i = 0; i <= 4; i++) {
+                String podName = KafkaCluster.kafkaPodName(CLUSTER_NAME, i);
+                context.verify(() -> assertThat("Pod " + podName + " was restarted an unexpected number of times",
+                        deletions.get(podName), is(1)));
+            }
+            async.flag();
+        });
+    }
+
+    @Test
+    public void testManualRollingUpdateIsKeptWhenTheRollFails(VertxTestContext context) throws InterruptedException {
+        kafkaSs.getMetadata().getAnnotations().put(KafkaAssemblyOperator.ANNO_STRIMZI_IO_MANUAL_ROLLING_UPDATE, "true");
+        cluster = new KafkaBuilder(cluster)
+                .editSpec()
+                    .editKafka()
+                        .withConfig(Collections.singletonMap("num.partitions", 3))
+                    .endKafka()
+                .endSpec()
+                .build();
+
+        startKube();
+
+        KafkaAssemblyOperator failingKco = new KafkaAssemblyOperator(vertx, new PlatformFeaturesAvailability(true, KubernetesVersion.V1_9),
+                new MockCertManager(), new PasswordGenerator(10, "a", "a"), supplierWithFailingKafkaRolls(mockClient),
+                ResourceUtils.dummyClusterOperatorConfig(VERSIONS, 2_000));
+
+        LOGGER.info("Reconciliation with a failing roll");
+        CountDownLatch failedAsync = new CountDownLatch(1);
+        failingKco.reconcile(new Reconciliation("test-trigger", Kafka.RESOURCE_KIND, NAMESPACE, CLUSTER_NAME)).setHandler(ar -> {
+            context.verify(() -> assertThat(ar.succeeded(), is(false)));
+            StatefulSet ss = mockClient.apps().statefulSets().inNamespace(NAMESPACE).withName(KafkaCluster.kafkaClusterName(CLUSTER_NAME)).get();
+            context.verify(() -> assertThat("The StatefulSet was not patched",
+                    ss.getSpec().getTemplate().getSpec().getContainers().get(0).getEnv().toString().contains("num.partitions=3"), is(true)));
+            context.verify(() -> assertThat(ss.getMetadata().getAnnotations().get(KafkaAssemblyOperator.ANNO_STRIMZI_IO_MANUAL_ROLLING_UPDATE), is("true")));
+            failedAsync.countDown();
+        });
+        if (!failedAsync.await(60, TimeUnit.SECONDS)) {
+            context.failNow(new Throwable("Test timeout"));
+            return;
+        }
+
+        LOGGER.info("Recovery reconciliation");
+        Checkpoint async = context.checkpoint();
+        kco.reconcile(new Reconciliation("test-trigger", Kafka.RESOURCE_KIND, NAMESPACE, CLUSTER_NAME)).setHandler(ar -> {
+            context.verify(() -> assertThat(ar.succeeded(), is(true)));
+            StatefulSet ss = mockClient.apps().statefulSets().inNamespace(NAMESPACE).withName(KafkaCluster.kafkaClusterName(CLUSTER_NAME)).get();
+            context.verify(() -> assertThat(ss.getMetadata().getAnnotations().containsKey(KafkaAssemblyOperator.ANNO_STRIMZI_IO_MANUAL_ROLLING_UPDATE), is(false)));
+            async.flag();
+        });
+    }
+
+    @Test
+    public void testStatefulSetIsPatchedWhenTheDynamicConfigurationCannotBeUpdated(VertxTestContext context) {
+        cluster = new KafkaBuilder(cluster)
+                .editSpec()
+                    .editKafka()
+                        .withConfig(Collections.singletonMap("num.io.threads", 16))
+                    .endKafka()
+                .endSpec()
+                .build();
+        // The brokers are running with num.io.threads=8, so only its value changes
+        List<EnvVar> env = KafkaCluster.fromCrd(cluster, VERSIONS).generateStatefulSet(false, null, null)
+                .getSpec().getTemplate().getSpec().getContainers().get(0).getEnv();
+        for (EnvVar envVar : env) {
+            if (KafkaCluster.ENV_VAR_KAFKA_CONFIGURATION.equals(envVar.getName())) {
+                envVar.setValue(envVar.getValue().replace("num.io.threads=16", "num.io.threads=8"));
+            }
+        }
+        kafkaSs.getSpec().getTemplate().getSpec().getContainers().get(0).setEnv(env);
+
+        startKube();
+
+        AtomicInteger reconfigurations = new AtomicInteger();
+        AtomicInteger deletions = new AtomicInteger();
+        KafkaSetOperator kafkaSetOperations = new KafkaSetOperator(vertx, mockClient, 60_000L, ResourceUtils.adminClientProvider()) {
+            @Override
+            public Future<Void> reconfigure(StatefulSet ss, KafkaConfigurationDiff configDiff) {
+                reconfigurations.incrementAndGet();
+                return Future.failedFuture(new RuntimeException("Brokers are not reachable"));
+            }
+
+            @Override
+            public Future<Void> deleteDynamicConfiguration(StatefulSet ss, Collection<String> options) {
+                deletions.incrementAndGet();
+                return Future.failedFuture(new RuntimeException("Brokers are not reachable"));
+            }
+        };
+        KafkaAssemblyOperator failingKco = new KafkaAssemblyOperator(vertx, new PlatformFeaturesAvailability(true, KubernetesVersion.V1_9),
+                new MockCertManager(), new PasswordGenerator(10, "a", "a"), supplier(mockClient, kafkaSetOperations),
+                ResourceUtils.dummyClusterOperatorConfig(VERSIONS, 2_000));
+
+        Checkpoint async = context.checkpoint();
+        failingKco.reconcile(new Reconciliation("test-trigger", Kafka.RESOURCE_KIND, NAMESPACE, CLUSTER_NAME)).setHandler(ar -> {
+            context.verify(() -> assertThat(ar.succeeded(), is(true)));
+            StatefulSet ss = mockClient.apps().statefulSets().inNamespace(NAMESPACE).withName(KafkaCluster.kafkaClusterName(CLUSTER_NAME)).get();
+            context.verify(() -> assertThat("The StatefulSet was not patched",
+                    ss.getSpec().getTemplate().getSpec().getContainers().get(0).getEnv().toString().contains("num.io.threads=16"), is(true)));
+            for (int i = 0; i <= 4; i++) {
+                Pod pod = mockClient.pods().inNamespace(NAMESPACE).withName(KafkaCluster.kafkaPodName(CLUSTER_NAME, i)).get();
+                String generation = pod.getMetadata().getAnnotations().get(StatefulSetOperator.ANNO_STRIMZI_IO_GENERATION);
+                int finalI = i;
+                context.verify(() -> assertThat("Pod " + finalI + " was not rolled", generation,
+                        is(ss.getSpec().getTemplate().getMetadata().getAnnotations().get(StatefulSetOperator.ANNO_STRIMZI_IO_GENERATION))));
+            }
+            context.verify(() -> assertThat(reconfigurations.get(), is(1)));
+            // Once before the StatefulSet was patched, and once more after the brokers were rolled
+            context.verify(() -> assertThat(deletions.get(), is(2)));
+            async.flag();
+        });
+    }
+
+    private ResourceOperatorSupplier supplierWithFailingKafkaRolls(KubernetesClient client) {
+        return supplier(client, new KafkaSetOperator(vertx, client, 60_000L, ResourceUtils.adminClientProvider()) {
+            @Override
+            public Future<Void> maybeRollingUpdate(StatefulSet ss, Predicate<Pod> podNeedsRestart, Secret clusterCaCertSecret, Secret coKeySecret) {
+                return Future.failedFuture(new RuntimeException("Rolling update failed"));
+            }
+        });
+    }
+
+    private ResourceOperatorSupplier supplier(KubernetesClient client, KafkaSetOperator kafkaSetOperations) {
+        ResourceOperatorSupplier supplier = supplier(client);
+        return new ResourceOperatorSupplier(supplier.serviceOperations, supplier.routeOperations, supplier.zkSetOperations,
+                kafkaSetOperations, supplier.configMapOperations, supplier.secretOperations, supplier.pvcOperations,
+                supplier.deploymentOperations, supplier.serviceAccountOperations, supplier.roleBindingOperations,
+                supplier.clusterRoleBindingOperator, supplier.networkPolicyOperator, supplier.podDisruptionBudgetOperator,
+                supplier.podOperations, supplier.ingressOperations, supplier.imagesStreamOperations,
+                supplier.buildConfigOperations, supplier.deploymentConfigOperations, supplier.kafkaOperator,
+                supplier.connectOperator, supplier.connectS2IOperator, supplier.mirrorMakerOperator,
+                supplier.kafkaBridgeOperator, supplier.storageClassOperations);
+    }
+
     @AfterAll
     public static void cleanUp() {
         ResourceUtils.cleanUpTemporaryTLSFiles();
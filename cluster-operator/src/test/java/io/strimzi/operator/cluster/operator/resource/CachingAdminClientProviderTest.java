@@ -0,0 +1,158 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource;
+
+import io.fabric8.kubernetes.api.model.Secret;
+import io.fabric8.kubernetes.api.model.SecretBuilder;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.Mockito.mock;
+
+public class CachingAdminClientProviderTest {
+
+    private static class RecordingProvider implements AdminClientProvider {
+        final List<AdminClient> created = new ArrayList<>();
+        final List<AdminClient> closed = new ArrayList<>();
+
+        @Override
+        public AdminClient createAdminClient(String hostname, Secret clusterCaCertSecret, Secret coKeySecret) {
+            AdminClient adminClient = mock(AdminClient.class);
+            created.add(adminClient);
+            return adminClient;
+        }
+
+        @Override
+        public void releaseAdminClient(AdminClient adminClient) {
+            closed.add(adminClient);
+        }
+    }
+
+    private static Secret secret(String name, String resourceVersion) {
+        return new SecretBuilder()
+                .withNewMetadata()
+                    .withNamespace("ns")
+                    .withName(name)
+                    .withResourceVersion(resourceVersion)
+                .endMetadata()
+                .build();
+    }
+
+    @Test
+    public void testAdminClientIsReusedUntilTheSecretsChange() {
+        RecordingProvider delegate = new RecordingProvider();
+        CachingAdminClientProvider provider = new CachingAdminClientProvider(null, delegate);
+        Secret caCert = secret("my-cluster-cluster-ca-cert", "1");
+        Secret coKey = secret("my-cluster-cluster-operator-certs", "1");
+
+        AdminClient first = provider.createAdminClient("my-cluster-kafka-0:9091", caCert, coKey);
+        provider.releaseAdminClient(first);
+        AdminClient second = provider.createAdminClient("my-cluster-kafka-0:9091", caCert, coKey);
+
+        assertThat(second, is(sameInstance(first)));
+        assertThat(delegate.created.size(), is(1));
+
+        // The cached AdminClient is in use, so it is only closed once it has been released
+        AdminClient renewed = provider.createAdminClient("my-cluster-kafka-0:9091", secret("my-cluster-cluster-ca-cert", "2"), coKey);
+        assertThat(renewed, is(not(sameInstance(first))));
+        assertThat(delegate.closed.isEmpty(), is(true));
+
+        provider.releaseAdminClient(second);
+        assertThat(delegate.closed.size(), is(1));
+        assertThat(delegate.closed.get(0), is(sameInstance(first)));
+        assertThat(provider.size(), is(1));
+    }
+
+    @Test
+    public void testIdleAdminClientsAreClosed() {
+        RecordingProvider delegate = new RecordingProvider();
+        CachingAdminClientProvider provider = new CachingAdminClientProvider(null, delegate, 1_000);
+        Secret caCert = secret("my-cluster-cluster-ca-cert", "1");
+        Secret coKey = secret("my-cluster-cluster-operator-certs", "1");
+
+        AdminClient idle = provider.createAdminClient("my-cluster-kafka-0:9091", caCert, coKey);
+        provider.releaseAdminClient(idle);
+        AdminClient inUse = provider.createAdminClient("other-cluster-kafka-0:9091", caCert, coKey);
+
+        provider.closeIdle(System.currentTimeMillis());
+        assertThat(delegate.closed.isEmpty(), is(true));
+
+        provider.closeIdle(System.currentTimeMillis() + 1_000);
+        assertThat(delegate.closed.size(), is(1));
+        assertThat(delegate.closed.get(0), is(sameInstance(idle)));
+        assertThat(provider.size(), is(1));
+
+        provider.releaseAdminClient(inUse);
+        provider.closeIdle(System.currentTimeMillis() + 1_000);
+        assertThat(provider.size(), is(0));
+    }
+
+    @Test
+    public void testCloseClosesTheCachedAdminClients() {
+        RecordingProvider delegate = new RecordingProvider();
+        CachingAdminClientProvider provider = new CachingAdminClientProvider(null, delegate);
+        Secret caCert = secret("my-cluster-cluster-ca-cert", "1");
+        Secret coKey = secret("my-cluster-cluster-operator-certs", "1");
+
+        AdminClient idle = provider.createAdminClient("my-cluster-kafka-0:9091", caCert, coKey);
+        provider.releaseAdminClient(idle);
+        AdminClient inUse = provider.createAdminClient("other-cluster-kafka-0:9091", caCert, coKey);
+
+        provider.close();
+        assertThat(delegate.closed.size(), is(1));
+        assertThat(delegate.closed.get(0), is(sameInstance(idle)));
+
+        provider.releaseAdminClient(inUse);
+        assertThat(delegate.closed.size(), is(2));
+        assertThat(provider.size(), is(0));
+    }
+
+    @Test
+    public void testAdminClientIsCreatedOutsideTheLock() throws Exception {
+        CountDownLatch creating = new CountDownLatch(1);
+        CountDownLatch proceed = new CountDownLatch(1);
+        RecordingProvider delegate = new RecordingProvider() {
+            @Override
+            public AdminClient createAdminClient(String hostname, Secret clusterCaCertSecret, Secret coKeySecret) {
+                if (hostname.startsWith("slow")) {
+                    creating.countDown();
+                    try {
+                        proceed.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                return super.createAdminClient(hostname, clusterCaCertSecret, coKeySecret);
+            }
+        };
+        CachingAdminClientProvider provider = new CachingAdminClientProvider(null, delegate);
+        Secret caCert = secret("my-cluster-cluster-ca-cert", "1");
+        Secret coKey = secret("my-cluster-cluster-operator-certs", "1");
+
+        Thread slow = new Thread(() -> provider.createAdminClient("slow-cluster-kafka-0:9091", caCert, coKey));
+        slow.start();
+        creating.await();
+        try {
+            // Another cluster's AdminClient is not held up by the slow bootstrap
+            assertTimeoutPreemptively(Duration.ofSeconds(10), () ->
+                    assertThat(provider.createAdminClient("my-cluster-kafka-0:9091", caCert, coKey), is(notNullValue())));
+        } finally {
+            proceed.countDown();
+            slow.join();
+        }
+        assertThat(provider.size(), is(2));
+    }
+}
@@ -4,6 +4,8 @@
  */
 package io.strimzi.operator.cluster.operator.resource;
 
+import io.strimzi.operator.common.metrics.Histogram;
+import io.strimzi.operator.common.metrics.OperatorMetrics;
 import io.vertx.junit5.Checkpoint;
 import io.vertx.junit5.VertxExtension;
 import io.vertx.junit5.VertxTestContext;
@@ -33,13 +35,21 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.IntStream;
 
+import static java.util.Arrays.asList;
+import static java.util.Collections.singleton;
+import static java.util.Collections.singletonList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(VertxExtension.class)
@@ -616,4 +626,68 @@ public class KafkaAvailabilityTest {
             });
         }
     }
+
+    @Test
+    public void sharedSnapshotOnlyFetchesWhatIsNeeded() {
+        KSB ksb = new KSB().topic("A", false)
+                .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "1")
+                .partition(0)
+                    .replicaOn(0, 1)
+                    .leader(0)
+                    .isr(0, 1)
+                .endPartition()
+                .endTopic()
+                .topic("B", false)
+                .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "1")
+                .partition(0)
+                    .replicaOn(2, 3)
+                    .leader(2)
+                    .isr(2, 3)
+                .endPartition()
+                .endTopic();
+        AdminClient ac = ksb.ac();
+        AtomicLong now = new AtomicLong(0);
+        KafkaTopicSnapshot snapshot = new KafkaTopicSnapshot(1_000, now::get);
+
+        // The first check describes all the topics, but only gets the configs of those on the broker
+        assertTrue(new KafkaAvailability(ac, snapshot).canRoll(0).result());
+        verify(ac).describeTopics(new HashSet<>(asList("A", "B")));
+        verify(ac).describeConfigs(singletonList(new ConfigResource(ConfigResource.Type.TOPIC, "A")));
+        assertThat(snapshot.size(), is(2));
+
+        // A later check only refreshes the topics on its broker, and reuses the configs
+        now.set(500);
+        assertTrue(new KafkaAvailability(ac, snapshot).canRoll(1).result());
+        verify(ac).describeTopics(singleton("A"));
+        verify(ac, times(1)).describeConfigs(any());
+        assertThat(snapshot.stalenessMs(), is(500L));
+
+        // Once the snapshot is stale everything needed is fetched again
+        now.set(2_000);
+        assertTrue(new KafkaAvailability(ac, snapshot).canRoll(2).result());
+        verify(ac, times(2)).describeTopics(new HashSet<>(asList("A", "B")));
+        verify(ac).describeConfigs(singletonList(new ConfigResource(ConfigResource.Type.TOPIC, "B")));
+    }
+
+    @Test
+    public void adminRequestsAreTimed() {
+        KSB ksb = new KSB().topic("A", false)
+                .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "1")
+                .partition(0)
+                    .replicaOn(0, 1)
+                    .leader(0)
+                    .isr(0, 1)
+                .endPartition()
+                .endTopic();
+        Histogram duration = OperatorMetrics.KAFKA_ADMIN_REQUEST_DURATION;
+        long listTopics = duration.count("listTopics");
+        long describeTopics = duration.count("describeTopics");
+        long describeConfigs = duration.count("describeConfigs");
+
+        assertTrue(new KafkaAvailability(ksb.ac()).canRoll(0).result());
+
+        assertThat(duration.count("listTopics"), is(listTopics + 1));
+        assertThat(duration.count("describeTopics"), is(describeTopics + 1));
+        assertThat(duration.count("describeConfigs"), is(describeConfigs + 1));
+    }
 }
@@ -21,6 +21,7 @@ import io.vertx.junit5.VertxExtension;
 import io.vertx.junit5.VertxTestContext;
 import org.apache.kafka.clients.admin.AdminClient;
 import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.TopicPartition;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.junit.jupiter.api.AfterAll;
@@ -29,11 +30,15 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.IdentityHashMap;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
@@ -46,6 +51,7 @@ import static io.vertx.core.Future.failedFuture;
 import static io.vertx.core.Future.succeededFuture;
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
+import static java.util.Collections.singleton;
 import static java.util.Collections.singletonList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -342,6 +348,45 @@ public class KafkaRollerTest {
                 emptyList());
     }
 
+    @Test
+    public void podsSharingNoPartitionsAreRolledTogether(VertxTestContext testContext) {
+        PodOperator podOps = mockPodOps(podId -> succeededFuture());
+        StatefulSet sts = buildStatefulSet();
+        // Brokers 0 and 1 share a partition, all the other brokers have distinct partitions
+        Map<Integer, Set<TopicPartition>> partitions = new HashMap<>();
+        partitions.put(0, singleton(new TopicPartition("t", 0)));
+        partitions.put(1, singleton(new TopicPartition("t", 0)));
+        partitions.put(2, singleton(new TopicPartition("t", 2)));
+        partitions.put(3, singleton(new TopicPartition("t", 3)));
+        partitions.put(4, singleton(new TopicPartition("t", 4)));
+        Map<Integer, String> racks = new HashMap<>();
+        for (int i = 0; i < 5; i++) {
+            racks.put(i, "rack-a");
+        }
+        TestingKafkaRoller kafkaRoller = new TestingKafkaRoller(sts, podOps, 2, racks, partitions, 2);
+        // 0 is rolled with 3 (not 1, with which it shares a partition, nor 2, which is the controller),
+        // 1 is rolled with 4, and the controller is rolled last
+        doSuccessfulRollingRestart(testContext, kafkaRoller,
+                asList(0, 1, 2, 3, 4),
+                asList(0, 3, 1, 4, 2));
+    }
+
+    @Test
+    public void podsInDifferentRacksAreNotRolledTogether(VertxTestContext testContext) {
+        PodOperator podOps = mockPodOps(podId -> succeededFuture());
+        StatefulSet sts = buildStatefulSet();
+        Map<Integer, Set<TopicPartition>> partitions = new HashMap<>();
+        Map<Integer, String> racks = new HashMap<>();
+        for (int i = 0; i < 5; i++) {
+            partitions.put(i, singleton(new TopicPartition("t", i)));
+            racks.put(i, "rack-" + (i % 2));
+        }
+        TestingKafkaRoller kafkaRoller = new TestingKafkaRoller(sts, podOps, 3, racks, partitions, 2);
+        doSuccessfulRollingRestart(testContext, kafkaRoller,
+                asList(0, 1, 2, 3, 4),
+                asList(0, 4, 1, 3, 2));
+    }
+
     private TestingKafkaRoller rollerWithControllers(StatefulSet ss, PodOperator podOps, int... controllers) {
         return new TestingKafkaRoller(ss, null, null, podOps,
             null, null, null,
@@ -459,6 +504,8 @@ public class KafkaRollerTest {
         private final Function<Integer, Future<Boolean>> canRollFn;
         private final Throwable controllerException;
         private final int[] controllers;
+        private final Map<Integer, String> racks;
+        private final Map<Integer, Set<TopicPartition>> partitions;
 
         private TestingKafkaRoller(StatefulSet ss, Secret clusterCaCertSecret, Secret coKeySecret,
                                   PodOperator podOps,
@@ -466,9 +513,29 @@ public class KafkaRollerTest {
                                   Throwable controllerException,
                                   Function<Integer, Future<Boolean>> canRollFn,
                                   int... controllers) {
+            this(ss, clusterCaCertSecret, coKeySecret, podOps, acOpenException, acCloseException, controllerException,
+                    canRollFn, 1, null, null, controllers);
+        }
+
+        private TestingKafkaRoller(StatefulSet ss, PodOperator podOps, int batchSize,
+                                   Map<Integer, String> racks, Map<Integer, Set<TopicPartition>> partitions,
+                                   int... controllers) {
+            this(ss, null, null, podOps, null, null, null,
+                brokerId -> succeededFuture(true), batchSize, racks, partitions, controllers);
+        }
+
+        private TestingKafkaRoller(StatefulSet ss, Secret clusterCaCertSecret, Secret coKeySecret,
+                                   PodOperator podOps,
+                                   RuntimeException acOpenException, Throwable acCloseException,
+                                   Throwable controllerException,
+                                   Function<Integer, Future<Boolean>> canRollFn,
+                                   int batchSize, Map<Integer, String> racks, Map<Integer, Set<TopicPartition>> partitions,
+                                   int... controllers) {
             super(KafkaRollerTest.vertx, podOps, 500, 1000,
                 () -> new BackOff(10L, 2, 4),
-                ss, clusterCaCertSecret, coKeySecret);
+                ss, clusterCaCertSecret, coKeySecret, null, batchSize);
+            this.racks = racks;
+            this.partitions = partitions;
             this.controllers = controllers;
             this.controllerCall = 0;
             this.acOpenException = acOpenException;
@@ -498,6 +565,11 @@ public class KafkaRollerTest {
             return ac;
         }
 
+        @Override
+        protected void releaseAdminClient(AdminClient adminClient) {
+            adminClient.close(Duration.ofMinutes(2));
+        }
+
         @Override
         protected KafkaAvailability availability(AdminClient ac) {
             return new KafkaAvailability(null) {
@@ -534,6 +606,16 @@ public class KafkaRollerTest {
             }
         }
 
+        @Override
+        Map<Integer, String> racks(int podId, AdminClient ac, long timeout, TimeUnit unit) {
+            return racks;
+        }
+
+        @Override
+        Set<TopicPartition> partitionsWithReplicaOn(int broker) {
+            return new HashSet<>(partitions.get(broker));
+        }
+
         @Override
         protected Future<Void> restart(Pod pod) {
             restarted.add(pod.getMetadata().getName());
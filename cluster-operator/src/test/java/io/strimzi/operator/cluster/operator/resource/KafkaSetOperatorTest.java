@@ -11,19 +11,27 @@ import io.strimzi.api.kafka.model.Kafka;
 import io.strimzi.api.kafka.model.KafkaBuilder;
 import io.strimzi.operator.cluster.ResourceUtils;
 import io.strimzi.operator.cluster.model.KafkaCluster;
+import io.strimzi.operator.cluster.model.KafkaConfigurationDiff;
 import io.strimzi.operator.cluster.model.KafkaVersion;
+import org.apache.kafka.clients.admin.AlterConfigOp;
+import org.apache.kafka.common.config.ConfigResource;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 
 import static io.strimzi.operator.cluster.model.AbstractModel.containerEnvVars;
 import static io.strimzi.operator.cluster.model.KafkaCluster.ENV_VAR_KAFKA_ZOOKEEPER_CONNECT;
 import static java.util.Collections.emptyMap;
+import static java.util.Collections.singleton;
 import static java.util.Collections.singletonMap;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 
 public class KafkaSetOperatorTest {
 
@@ -45,6 +53,10 @@ public class KafkaSetOperatorTest {
     }
 
     private Kafka getResource() {
+        return getResource(emptyMap());
+    }
+
+    private Kafka getResource(Map<String, Object> config) {
         String clusterCmName = "foo";
         String clusterCmNamespace = "test";
         int replicas = 3;
@@ -61,6 +73,7 @@ public class KafkaSetOperatorTest {
                             .withDeleteClaim(true)
                             .endPersistentClaimStorage()
                         .withLogging(KAFKA_LOG_CONFIG)
+                        .withConfig(config)
                     .endKafka()
                     .editZookeeper()
                         .withLogging(ZOOKEEPER_LOG_CONFIG)
@@ -128,4 +141,100 @@ public class KafkaSetOperatorTest {
                 "foo", null));
         assertThat(KafkaSetOperator.needsRollingUpdate(diff()), is(true));
     }
+
+    private StatefulSet statefulSet(Map<String, Object> config) {
+        KafkaVersion.Lookup versions = new KafkaVersion.Lookup(emptyMap(), emptyMap(), emptyMap(), emptyMap());
+        return KafkaCluster.fromCrd(getResource(config), versions).generateStatefulSet(true, null, null);
+    }
+
+    @Test
+    public void testDynamicConfigurationChange() {
+        a = statefulSet(singletonMap("num.io.threads", 8));
+        b = statefulSet(singletonMap("num.io.threads", 16));
+        assertThat(KafkaSetOperator.needsRollingUpdate(diff()), is(true));
+
+        KafkaConfigurationDiff configDiff = KafkaSetOperator.dynamicConfigurationChange(a, b);
+        assertThat(configDiff.getDynamicChanges(), is(singletonMap("num.io.threads", "16")));
+    }
+
+    @Test
+    public void testConfigurationChangeBeforeKafka23NeedsRollingUpdate() {
+        a = statefulSet(singletonMap("num.io.threads", 8));
+        b = statefulSet(singletonMap("num.io.threads", 16));
+        a.getMetadata().getAnnotations().put(KafkaCluster.ANNO_STRIMZI_IO_KAFKA_VERSION, "2.2.1");
+        b.getMetadata().getAnnotations().put(KafkaCluster.ANNO_STRIMZI_IO_KAFKA_VERSION, "2.2.1");
+        assertThat(KafkaSetOperator.dynamicConfigurationChange(a, b), is(nullValue()));
+
+        assertThat(KafkaSetOperator.supportsIncrementalAlterConfigs("2.2.1"), is(false));
+        assertThat(KafkaSetOperator.supportsIncrementalAlterConfigs("2.3.0"), is(true));
+        assertThat(KafkaSetOperator.supportsIncrementalAlterConfigs(null), is(false));
+    }
+
+    @Test
+    public void testReadOnlyConfigurationChangeNeedsRollingUpdate() {
+        a = statefulSet(singletonMap("num.partitions", 1));
+        b = statefulSet(singletonMap("num.partitions", 3));
+        assertThat(KafkaSetOperator.dynamicConfigurationChange(a, b), is(nullValue()));
+    }
+
+    @Test
+    public void testDynamicConfigurationChangeWithOtherChangesNeedsRollingUpdate() {
+        a = statefulSet(singletonMap("num.io.threads", 8));
+        b = statefulSet(singletonMap("num.io.threads", 16));
+        b.getSpec().getTemplate().getSpec().getContainers().get(0).setImage("other");
+        assertThat(KafkaSetOperator.dynamicConfigurationChange(a, b), is(nullValue()));
+    }
+
+    @Test
+    public void testDynamicConfigurationIsSetAsClusterWideDefault() {
+        a = statefulSet(singletonMap("num.io.threads", 8));
+        b = statefulSet(singletonMap("num.io.threads", 16));
+
+        Map<ConfigResource, Collection<AlterConfigOp>> alterations = KafkaSetOperator.alterations(KafkaSetOperator.dynamicConfigurationChange(a, b));
+        assertThat(alterations.keySet(), is(singleton(new ConfigResource(ConfigResource.Type.BROKER, ""))));
+        AlterConfigOp op = alterations.get(KafkaSetOperator.DEFAULT_BROKER).iterator().next();
+        assertThat(op.opType(), is(AlterConfigOp.OpType.SET));
+        assertThat(op.configEntry().name(), is("num.io.threads"));
+        assertThat(op.configEntry().value(), is("16"));
+    }
+
+    @Test
+    public void testRemovingDynamicallyAppliedOptionDeletesItsDefault() {
+        // num.io.threads was applied dynamically, then removed from the config
+        a = statefulSet(singletonMap("num.io.threads", 16));
+        b = statefulSet(emptyMap());
+
+        assertThat(KafkaSetOperator.dynamicConfigurationChange(a, b), is(nullValue()));
+        KafkaConfigurationDiff configDiff = KafkaSetOperator.configurationChange(a, b);
+        assertThat(configDiff.getChangedClusterWideOptions(), is(singleton("num.io.threads")));
+
+        Map<ConfigResource, Collection<AlterConfigOp>> deletions = KafkaSetOperator.deletions(configDiff.getChangedClusterWideOptions());
+        AlterConfigOp op = deletions.get(KafkaSetOperator.DEFAULT_BROKER).iterator().next();
+        assertThat(op.opType(), is(AlterConfigOp.OpType.DELETE));
+        assertThat(op.configEntry().name(), is("num.io.threads"));
+    }
+
+    @Test
+    public void testChangingDynamicOptionWithReadOnlyOptionDeletesItsDefault() {
+        Map<String, Object> current = new HashMap<>();
+        current.put("num.io.threads", 16);
+        current.put("num.partitions", 1);
+        Map<String, Object> desired = new HashMap<>();
+        desired.put("num.io.threads", 32);
+        desired.put("num.partitions", 3);
+        a = statefulSet(current);
+        b = statefulSet(desired);
+
+        assertThat(KafkaSetOperator.dynamicConfigurationChange(a, b), is(nullValue()));
+        assertThat(KafkaSetOperator.configurationChange(a, b).getChangedClusterWideOptions(), is(singleton("num.io.threads")));
+    }
+
+    @Test
+    public void testCloseClosesAdminClientProvider() {
+        AdminClientProvider adminClientProvider = mock(AdminClientProvider.class);
+
+        new KafkaSetOperator(null, null, 1_000, adminClientProvider).close();
+
+        verify(adminClientProvider).close();
+    }
 }
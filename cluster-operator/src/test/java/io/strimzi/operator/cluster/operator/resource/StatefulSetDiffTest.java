@@ -5,6 +5,7 @@
 package io.strimzi.operator.cluster.operator.resource;
 
 import io.fabric8.kubernetes.api.model.ConfigMapVolumeSourceBuilder;
+import io.fabric8.kubernetes.api.model.ContainerBuilder;
 import io.fabric8.kubernetes.api.model.PersistentVolumeClaimBuilder;
 import io.fabric8.kubernetes.api.model.Quantity;
 import io.fabric8.kubernetes.api.model.ResourceRequirements;
@@ -14,6 +15,7 @@ import io.fabric8.kubernetes.api.model.apps.StatefulSet;
 import io.fabric8.kubernetes.api.model.apps.StatefulSetBuilder;
 import org.junit.jupiter.api.Test;
 
+import static java.util.Collections.singleton;
 import static java.util.Collections.singletonMap;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -245,4 +247,40 @@ public class StatefulSetDiffTest {
         assertThat(new StatefulSetDiff(ss1, ss2).changesVolumeClaimTemplates(), is(true));
         assertThat(new StatefulSetDiff(ss1, ss2).changesVolumeSize(), is(false));
     }
+
+    private StatefulSet statefulSetWithEnv(String image, String name, String value) {
+        return new StatefulSetBuilder()
+            .withNewMetadata()
+                .withNamespace("test")
+                .withName("foo")
+            .endMetadata()
+            .withNewSpec()
+                .withNewTemplate()
+                    .withNewSpec()
+                        .addToContainers(new ContainerBuilder()
+                                .withImage(image)
+                                .addNewEnv().withName("A").withValue("a").endEnv()
+                                .addNewEnv().withName(name).withValue(value).endEnv()
+                                .build())
+                    .endSpec()
+                .endTemplate()
+            .endSpec()
+            .build();
+    }
+
+    @Test
+    public void testChangedEnvVars() {
+        StatefulSetDiff diff = new StatefulSetDiff(statefulSetWithEnv("image", "B", "b"), statefulSetWithEnv("image", "B", "c"));
+        assertThat(diff.changesSpecTemplate(), is(true));
+        assertThat(diff.changesSpecTemplateOtherThanEnvVars(), is(false));
+        assertThat(diff.changedEnvVars(), is(singleton("B")));
+
+        diff = new StatefulSetDiff(statefulSetWithEnv("image", "B", "b"), statefulSetWithEnv("other", "B", "c"));
+        assertThat(diff.changesSpecTemplateOtherThanEnvVars(), is(true));
+
+        // A different variable at the same index is not a change of value
+        diff = new StatefulSetDiff(statefulSetWithEnv("image", "B", "b"), statefulSetWithEnv("image", "C", "c"));
+        assertThat(diff.changesSpecTemplateOtherThanEnvVars(), is(true));
+        assertThat(diff.changedEnvVars().isEmpty(), is(true));
+    }
 }
@@ -406,7 +406,7 @@ public class StatefulSetOperatorTest
             }
 
             @Override
-            public Future<Void> waitFor(String namespace, String name, long pollIntervalMs, final long timeoutMs, BiPredicate<String, String> predicate) {
+            public Future<Void> watchUntil(String namespace, String name, long pollIntervalMs, long timeoutMs, Predicate<StatefulSet> predicate) {
                 return Future.succeededFuture();
             }
         };
@@ -17,6 +17,7 @@ import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.operator.resource.SecretOperator;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
+import io.vertx.core.net.NetClient;
 import io.vertx.core.net.NetClientOptions;
 import io.vertx.core.net.NetServer;
 import io.vertx.core.net.NetServerOptions;
@@ -32,7 +33,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mockito;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
@@ -440,6 +444,40 @@ public class ZookeeperLeaderFinderTest {
                 });
     }
 
+    @Test
+    public void testLeaderFoundWhileOtherPodUnresponsive(VertxTestContext context) {
+        int leader = 2;
+        when(mock.getAsync(eq(NAMESPACE), eq(KafkaResources.clusterCaCertificateSecretName(CLUSTER))))
+                .thenAnswer(i -> Future.succeededFuture(
+                        new SecretBuilder()
+                                .withNewMetadata()
+                                .withName(KafkaResources.clusterCaCertificateSecretName(CLUSTER))
+                                .withNamespace(NAMESPACE)
+                                .endMetadata()
+                                .withData(map(Ca.CA_CRT, "notacert"))
+                                .build()));
+
+        Set<NetClient> clients = Collections.newSetFromMap(new IdentityHashMap<>());
+        ZookeeperLeaderFinder finder = new TestingZookeeperLeaderFinder(this::backoff, new int[3]) {
+            @Override
+            protected Future<Boolean> isLeader(Pod pod, NetClient netClient) {
+                clients.add(netClient);
+                String name = pod.getMetadata().getName();
+                int id = parseInt(name.substring(name.lastIndexOf('-') + 1));
+                // Pod 0 never answers
+                return id == 0 ? Future.future() : Future.succeededFuture(id == leader);
+            }
+        };
+
+        Checkpoint a = context.checkpoint();
+        finder.findZookeeperLeader(CLUSTER, NAMESPACE, asList(getPod(0), getPod(1), getPod(2)), coKeySecret())
+                .setHandler(context.succeeding(result -> context.verify(() -> {
+                    assertThat(result, is(leader));
+                    assertThat(clients.size(), is(1));
+                    a.flag();
+                })));
+    }
+
     Pod getPod(int id) {
         return new PodBuilder().withNewMetadata().withName("my-cluster-kafka-" + id).endMetadata().build();
     }
@@ -23,10 +23,10 @@ import org.mockito.stubbing.OngoingStubbing;
 import java.lang.reflect.Constructor;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -75,7 +75,7 @@ class MockBuilder<T extends HasMetadata,
     /** In-memory database of resource name to resource instance */
     protected final Map<String, T> db;
     protected final String resourceType;
-    protected final Collection<PredicatedWatcher<T>> watchers = Collections.synchronizedList(new ArrayList<>(2));
+    protected final Collection<PredicatedWatcher<T>> watchers = new CopyOnWriteArrayList<>();
     private List<Observer<T>> observers = null;
 
     public MockBuilder(Class<T> resourceTypeClass, Class<L> listClass, Class<D> doneableClass,
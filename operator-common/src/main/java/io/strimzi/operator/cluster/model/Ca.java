@@ -43,6 +43,15 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -218,6 +227,26 @@ public abstract class Ca {
         this.renewalType = RenewalType.NOOP;
     }
 
+    /**
+     * The maximum number of certificates which are generated concurrently for the pods of a cluster.
+     */
+    static final int CERT_GENERATION_PARALLELISM = Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), 8));
+
+    private static final ExecutorService CERT_GENERATION_EXECUTOR = certGenerationExecutor();
+
+    private static ExecutorService certGenerationExecutor() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "cert-generation-" + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(CERT_GENERATION_PARALLELISM, CERT_GENERATION_PARALLELISM,
+                60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), threadFactory);
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
     private static void delete(File file) {
         if (!file.delete()) {
             log.warn("{} cannot be deleted", file.getName());
@@ -321,11 +350,6 @@ public abstract class Ca {
      * @throws IOException If the cert could not be generated.
      */
     public CertAndKey generateSignedCert(String commonName, String organization) throws IOException {
-        File csrFile = File.createTempFile("tls", "csr");
-        File keyFile = File.createTempFile("tls", "key");
-        File certFile = File.createTempFile("tls", "cert");
-        File keyStoreFile = File.createTempFile("tls", "p12");
-
         Subject subject = new Subject();
 
         if (organization != null) {
@@ -334,19 +358,35 @@ public abstract class Ca {
 
         subject.setCommonName(commonName);
 
-        CertAndKey result = generateSignedCert(subject,
-                csrFile, keyFile, certFile, keyStoreFile);
+        return generateSignedCert(subject);
+    }
 
-        delete(csrFile);
-        delete(keyFile);
-        delete(certFile);
-        delete(keyStoreFile);
-        return result;
+    /**
+     * Generates a certificate signed by this CA, using its own temporary files so that several
+     * certificates can be generated concurrently.
+     */
+    private CertAndKey generateSignedCert(Subject subject) throws IOException {
+        File csrFile = File.createTempFile("tls", "csr");
+        File keyFile = File.createTempFile("tls", "key");
+        File certFile = File.createTempFile("tls", "cert");
+        File keyStoreFile = File.createTempFile("tls", "p12");
+
+        try {
+            return generateSignedCert(subject,
+                    csrFile, keyFile, certFile, keyStoreFile);
+        } finally {
+            delete(csrFile);
+            delete(keyFile);
+            delete(certFile);
+            delete(keyStoreFile);
+        }
     }
 
     /**
      * Copy already existing certificates from provided Secret based on number of effective replicas
      * and maybe generate new ones for new replicas (i.e. scale-up).
+     * Existing certificates are only regenerated when their subject alternative names have changed.
+     * The certificates which need to be generated are generated concurrently.
      */
     protected Map<String, CertAndKey> maybeCopyOrGenerateCerts(
            int replicas,
@@ -356,12 +396,8 @@ public abstract class Ca {
         int replicasInSecret = secret == null || this.certRenewed() ? 0 :
                 (int) secret.getData().keySet().stream().filter(k -> k.contains(".crt")).count();
 
-        File brokerCsrFile = File.createTempFile("tls", "broker-csr");
-        File brokerKeyFile = File.createTempFile("tls", "broker-key");
-        File brokerCertFile = File.createTempFile("tls", "broker-cert");
-        File brokerKeyStoreFile = File.createTempFile("tls", "broker-p12");
-
         Map<String, CertAndKey> certs = new HashMap<>();
+        Map<String, Callable<CertAndKey>> toGenerate = new HashMap<>();
         // copying the minimum number of certificates already existing in the secret
         // scale up -> it will copy all certificates
         // scale down -> it will copy just the requested number of replicas
@@ -370,30 +406,26 @@ public abstract class Ca {
             log.debug("Certificate for {} already exists", podName);
             Subject subject = subjectFn.apply(i);
 
-            CertAndKey certAndKey;
-            if (secret.getData().get(podName + ".p12") != null &&
-                    !secret.getData().get(podName + ".p12").isEmpty() &&
-                    secret.getData().get(podName + ".password") != null &&
-                    !secret.getData().get(podName + ".password").isEmpty()) {
-
-                certAndKey = asCertAndKey(secret,
-                        podName + ".key", podName + ".crt",
-                        podName + ".p12", podName + ".password");
-            } else {
-                // coming from an older operator version, the secret exists but without keystore and password
-                certAndKey = addKeyAndCertToKeyStore(subject.commonName(),
-                        Base64.getDecoder().decode(secret.getData().get(podName + ".key")),
-                        Base64.getDecoder().decode(secret.getData().get(podName + ".crt")));
-            }
-
+            byte[] currentCert = Base64.getDecoder().decode(secret.getData().get(podName + ".crt"));
             Collection<String> desiredSbjAltNames = subject.subjectAltNames().values();
-            Collection<String> currentSbjAltNames =
-                    getSubjectAltNames(certAndKey.cert());
+            Collection<String> currentSbjAltNames = getSubjectAltNames(currentCert);
 
             if (currentSbjAltNames != null && desiredSbjAltNames.containsAll(currentSbjAltNames) && currentSbjAltNames.containsAll(desiredSbjAltNames))   {
                 log.trace("Alternate subjects match. No need to refresh cert for pod {}.", podName);
 
-                certs.put(podName, certAndKey);
+                if (secret.getData().get(podName + ".p12") != null &&
+                        !secret.getData().get(podName + ".p12").isEmpty() &&
+                        secret.getData().get(podName + ".password") != null &&
+                        !secret.getData().get(podName + ".password").isEmpty()) {
+
+                    certs.put(podName, asCertAndKey(secret,
+                            podName + ".key", podName + ".crt",
+                            podName + ".p12", podName + ".password"));
+                } else {
+                    // coming from an older operator version, the secret exists but without keystore and password
+                    byte[] currentKey = Base64.getDecoder().decode(secret.getData().get(podName + ".key"));
+                    toGenerate.put(podName, () -> addKeyAndCertToKeyStore(subject.commonName(), currentKey, currentCert));
+                }
             } else {
                 if (log.isTraceEnabled()) {
                     if (currentSbjAltNames != null) {
@@ -406,9 +438,7 @@ public abstract class Ca {
 
                 log.debug("Alternate subjects do not match. Certificate needs to be refreshed for pod {}.", podName);
 
-                CertAndKey k = generateSignedCert(subject,
-                        brokerCsrFile, brokerKeyFile, brokerCertFile, brokerKeyStoreFile);
-                certs.put(podName, k);
+                toGenerate.put(podName, () -> generateSignedCert(subject));
                 this.renewalType = RenewalType.REGENERATED_CERT;
             }
         }
@@ -419,15 +449,44 @@ public abstract class Ca {
         for (int i = replicasInSecret; i < replicas; i++) {
             String podName = podNameFn.apply(i);
             log.debug("Certificate for {} to generate", podName);
-            CertAndKey k = generateSignedCert(subjectFn.apply(i),
-                    brokerCsrFile, brokerKeyFile, brokerCertFile, brokerKeyStoreFile);
-            certs.put(podName, k);
+            Subject subject = subjectFn.apply(i);
+            toGenerate.put(podName, () -> generateSignedCert(subject));
+        }
+
+        certs.putAll(generateConcurrently(toGenerate));
+        return certs;
+    }
+
+    /**
+     * Runs the given certificate generations on the bounded {@link #CERT_GENERATION_EXECUTOR}.
+     * @param toGenerate The generations, keyed by pod name.
+     * @return The generated certificates, keyed by pod name.
+     * @throws IOException If any of the certificates could not be generated.
+     */
+    private static Map<String, CertAndKey> generateConcurrently(Map<String, Callable<CertAndKey>> toGenerate) throws IOException {
+        Map<String, Future<CertAndKey>> futures = new HashMap<>(toGenerate.size());
+        for (Map.Entry<String, Callable<CertAndKey>> entry : toGenerate.entrySet()) {
+            futures.put(entry.getKey(), CERT_GENERATION_EXECUTOR.submit(entry.getValue()));
         }
-        delete(brokerCsrFile);
-        delete(brokerKeyFile);
-        delete(brokerCertFile);
-        delete(brokerKeyStoreFile);
 
+        Map<String, CertAndKey> certs = new HashMap<>(futures.size());
+        try {
+            for (Map.Entry<String, Future<CertAndKey>> entry : futures.entrySet()) {
+                certs.put(entry.getKey(), entry.getValue().get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while generating certificates", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException("Failed to generate certificates", e.getCause());
+        } finally {
+            for (Future<CertAndKey> future : futures.values()) {
+                future.cancel(true);
+            }
+        }
         return certs;
     }
 
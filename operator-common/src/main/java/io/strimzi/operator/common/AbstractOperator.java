@@ -9,6 +9,7 @@ import io.fabric8.kubernetes.api.model.LabelSelector;
 import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.kubernetes.client.Watch;
 import io.strimzi.operator.cluster.model.InvalidResourceException;
+import io.strimzi.operator.common.metrics.OperatorMetrics;
 import io.strimzi.operator.common.model.NamespaceAndName;
 import io.strimzi.operator.common.model.ResourceVisitor;
 import io.strimzi.operator.common.model.ValidationVisitor;
@@ -20,8 +21,12 @@ import io.vertx.core.shareddata.Lock;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.net.HttpURLConnection;
+import java.util.Collections;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -52,11 +57,35 @@ public abstract class AbstractOperator<
     protected final Vertx vertx;
     protected final S resourceOperator;
     private final String kind;
+    private final WorkQueue workQueue;
+    private final Map<Set<String>, OperatorWatcher<T>> watchers = new ConcurrentHashMap<>();
 
     public AbstractOperator(Vertx vertx, String kind, S resourceOperator) {
+        this(vertx, kind, resourceOperator, BackOff::new);
+    }
+
+    /**
+     * @param vertx The Vertx instance.
+     * @param kind The kind of resource reconciled by this operator.
+     * @param resourceOperator The operator for the resource.
+     * @param backOffSupplier Supplies the back off to use for retrying failed reconciliations.
+     */
+    public AbstractOperator(Vertx vertx, String kind, S resourceOperator, Supplier<BackOff> backOffSupplier) {
+        this(vertx, kind, resourceOperator, backOffSupplier, Integer.MAX_VALUE);
+    }
+
+    /**
+     * @param vertx The Vertx instance.
+     * @param kind The kind of resource reconciled by this operator.
+     * @param resourceOperator The operator for the resource.
+     * @param backOffSupplier Supplies the back off to use for retrying failed reconciliations.
+     * @param maxConcurrency The maximum number of resources to reconcile at the same time.
+     */
+    public AbstractOperator(Vertx vertx, String kind, S resourceOperator, Supplier<BackOff> backOffSupplier, int maxConcurrency) {
         this.vertx = vertx;
         this.kind = kind;
         this.resourceOperator = resourceOperator;
+        this.workQueue = new WorkQueue(vertx, kind, this::reconcileWithLock, backOffSupplier, maxConcurrency);
     }
 
     @Override
@@ -102,16 +131,30 @@ public abstract class AbstractOperator<
      * Reconciliation works by getting the assembly resource (e.g. {@code KafkaUser})
      * in the given namespace with the given name and
      * comparing with the corresponding resource.
+     * Reconciliations of the same resource go through a {@link WorkQueue}, so they never run concurrently,
+     * reconciliations triggered while another is waiting to run are collapsed into it,
+     * and failed reconciliations are retried with a back off.
      * @param reconciliation The reconciliation.
      * @return A Future which is completed with the result of the reconciliation.
      */
     @Override
     public final Future<Void> reconcile(Reconciliation reconciliation) {
+        return workQueue.enqueue(reconciliation);
+    }
+
+    /**
+     * Run the given reconciliation while holding the lock for the resource.
+     * @param reconciliation The reconciliation.
+     * @return A Future which is completed with the result of the reconciliation.
+     */
+    private Future<Void> reconcileWithLock(Reconciliation reconciliation) {
         Future<Void> handler = Future.future();
         String namespace = reconciliation.namespace();
         String name = reconciliation.name();
         final String lockName = getLockName(namespace, name);
+        long startNanos = System.nanoTime();
         vertx.sharedData().getLockWithTimeout(lockName, LOCK_TIMEOUT_MS, res -> {
+            OperatorMetrics.LOCK_WAIT.observeSince(startNanos, kind, res.succeeded() ? "acquired" : "timeout");
             if (res.succeeded()) {
                 log.debug("{}: Lock {} acquired", reconciliation, lockName);
                 Lock lock = res.result();
@@ -127,9 +170,8 @@ public abstract class AbstractOperator<
                             log.debug("{}: Lock {} released", reconciliation, lockName);
                             if (createResult.failed()) {
                                 log.error("{}: createOrUpdate failed", reconciliation, createResult.cause());
-                            } else {
-                                handler.handle(createResult);
                             }
+                            handler.handle(createResult);
                         });
                     } else {
                         log.info("{}: {} {} should be deleted", reconciliation, kind, name);
@@ -159,10 +201,12 @@ public abstract class AbstractOperator<
                 }
             } else {
                 log.warn("{}: Failed to acquire lock {}.", reconciliation, lockName);
+                handler.handle(Future.failedFuture(res.cause()));
             }
         });
         Future<Void> result = Future.future();
         handler.setHandler(reconcileResult -> {
+            OperatorMetrics.RECONCILIATION_DURATION.observeSince(startNanos, kind, reconcileResult.succeeded() ? "success" : "failure");
             handleResult(reconciliation, reconcileResult);
             result.handle(reconcileResult);
         });
@@ -222,18 +266,62 @@ public abstract class AbstractOperator<
      * @return A future which completes when the watcher has been created.
      */
     public Future<Watch> createWatch(String namespace, Consumer<KubernetesClientException> onClose) {
-        return async(() -> resourceOperator.watch(namespace, selector(), new OperatorWatcher<>(this, namespace, onClose)));
+        return createWatch(Collections.singleton(namespace), onClose);
+    }
+
+    /**
+     * Create a Kubernetes watch for the resources in the given namespaces.
+     * When there is more than one namespace a single cluster-wide watch is created,
+     * and the events for resources in the other namespaces are ignored.
+     *
+     * @param namespaces Namespaces where to watch for the resources.
+     * @param onClose Callback called when the watch is closed.
+     *
+     * @return A future which completes when the watcher has been created.
+     */
+    public Future<Watch> createWatch(Set<String> namespaces, Consumer<KubernetesClientException> onClose) {
+        return createWatch(namespaces, null, onClose);
+    }
+
+    private Future<Watch> createWatch(Set<String> namespaces, String resourceVersion, Consumer<KubernetesClientException> onClose) {
+        String watchNamespace = namespaces.size() == 1 ? namespaces.iterator().next() : AbstractWatchableResourceOperator.ANY_NAMESPACE;
+        OperatorWatcher<T> watcher = new OperatorWatcher<>(this, namespaces, resourceVersion, onClose);
+        watchers.put(namespaces, watcher);
+        return async(() -> resourceOperator.watch(watchNamespace, selector(), resourceVersion, watcher));
     }
 
     public Consumer<KubernetesClientException> recreateWatch(String namespace) {
+        return recreateWatch(Collections.singleton(namespace));
+    }
+
+    /**
+     * Get a callback for a closed watch which recreates the watch if it was closed with an exception.
+     * The new watch resumes from the resource version of the last event the closed watch received,
+     * so that the resources are not all reconciled again.
+     * Only when the API server no longer has that version (HTTP 410 Gone), or no event was received,
+     * is the new watch started from the current state of the resources, which relists them.
+     *
+     * @param namespaces The namespaces which the watch is for.
+     * @return The callback.
+     */
+    public Consumer<KubernetesClientException> recreateWatch(Set<String> namespaces) {
         Consumer<KubernetesClientException> kubernetesClientExceptionConsumer = new Consumer<KubernetesClientException>() {
             @Override
             public void accept(KubernetesClientException e) {
                 if (e != null) {
-                    log.error("Watcher closed with exception in namespace {}", namespace, e);
-                    createWatch(namespace, this);
+                    OperatorWatcher<T> closed = watchers.get(namespaces);
+                    String resourceVersion = closed != null ? closed.resourceVersion() : null;
+                    if (e.getCode() == HttpURLConnection.HTTP_GONE || resourceVersion == null) {
+                        log.error("Watcher closed with exception in namespaces {}, watching again from the current state", namespaces, e);
+                        OperatorMetrics.WATCH_RESTARTS.inc(kind, "relisted");
+                        createWatch(namespaces, null, this);
+                    } else {
+                        log.warn("Watcher closed with exception in namespaces {}, resuming from resource version {}", namespaces, resourceVersion, e);
+                        OperatorMetrics.WATCH_RESTARTS.inc(kind, "resumed");
+                        createWatch(namespaces, resourceVersion, this);
+                    }
                 } else {
-                    log.info("Watcher closed in namespace {}", namespace);
+                    log.info("Watcher closed in namespaces {}", namespaces);
                 }
             }
         };
@@ -6,6 +6,7 @@ package io.strimzi.operator.common;
 
 import io.fabric8.kubernetes.api.model.LabelSelector;
 import io.strimzi.operator.common.model.NamespaceAndName;
+import io.strimzi.operator.common.operator.resource.AbstractWatchableResourceOperator;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
@@ -15,6 +16,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Abstraction of an operator which is driven by resources of a given {@link #kind()}.
@@ -57,6 +59,23 @@ public interface Operator {
         });
     }
 
+    /**
+     * Triggers the asynchronous reconciliation of all resources which this operator consumes in any of the given namespaces.
+     * The resources to reconcile are identified by {@link #allResourceNames(Set)}.
+     * @param trigger The cause of this reconciliation (for logging).
+     * @param namespaces The namespaces to reconcile, which may include {@code *} to reconcile across all namespaces.
+     * @param handler Handler called on completion.
+     */
+    default void reconcileAll(String trigger, Set<String> namespaces, Handler<AsyncResult<Void>> handler) {
+        allResourceNames(namespaces).setHandler(ar -> {
+            if (ar.succeeded()) {
+                reconcileThese(trigger, ar.result(), handler);
+            } else {
+                handler.handle(ar.map((Void) null));
+            }
+        });
+    }
+
     default void reconcileThese(String trigger, Set<NamespaceAndName> desiredNames, Handler<AsyncResult<Void>> handler) {
         if (desiredNames.size() > 0) {
             List<Future> futures = new ArrayList<>();
@@ -80,6 +99,26 @@ public interface Operator {
      */
     Future<Set<NamespaceAndName>> allResourceNames(String namespace);
 
+    /**
+     * Returns a future which completes with the names of all the resources in any of the given namespaces.
+     * When there is more than one namespace the resources are listed with a single cluster-wide request
+     * and those in other namespaces are discarded, rather than listing each namespace in turn.
+     *
+     * @param namespaces The namespaces, which may include {@code *} for all namespaces.
+     * @return The set of resource names
+     */
+    default Future<Set<NamespaceAndName>> allResourceNames(Set<String> namespaces) {
+        if (namespaces.contains(AbstractWatchableResourceOperator.ANY_NAMESPACE)) {
+            return allResourceNames(AbstractWatchableResourceOperator.ANY_NAMESPACE);
+        } else if (namespaces.size() == 1) {
+            return allResourceNames(namespaces.iterator().next());
+        }
+        return allResourceNames(AbstractWatchableResourceOperator.ANY_NAMESPACE)
+                .map(names -> names.stream()
+                        .filter(resourceRef -> namespaces.contains(resourceRef.getNamespace()))
+                        .collect(Collectors.toSet()));
+    }
+
     /**
      * A selector for narrowing the resources which this operator instance consumes to those whose labels match this selector.
      * @return A selector.
@@ -7,9 +7,12 @@ package io.strimzi.operator.common;
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.kubernetes.client.Watcher;
+import io.strimzi.operator.common.operator.resource.AbstractWatchableResourceOperator;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.util.Collections;
+import java.util.Set;
 import java.util.function.Consumer;
 
 /**
@@ -17,20 +20,55 @@ import java.util.function.Consumer;
  * @param <T> The resource type
  */
 class OperatorWatcher<T extends HasMetadata> implements Watcher<T> {
-    private final String namespace;
+    private final Set<String> namespaces;
     private final Consumer<KubernetesClientException> onClose;
     private Operator operator;
+    private volatile String resourceVersion;
     private static final Logger log = LogManager.getLogger(OperatorWatcher.class);
 
     OperatorWatcher(Operator operator, String namespace, Consumer<KubernetesClientException> onClose) {
-        this.namespace = namespace;
+        this(operator, Collections.singleton(namespace), null, onClose);
+    }
+
+    /**
+     * @param operator The operator to trigger.
+     * @param namespaces The namespaces of the resources to reconcile. Events for resources in other namespaces,
+     *                   which a cluster-wide watch also receives, are ignored unless this contains {@code *}.
+     * @param resourceVersion The resource version the watch starts from, or null if it starts from the current state.
+     * @param onClose Callback called when the watch is closed.
+     */
+    OperatorWatcher(Operator operator, Set<String> namespaces, String resourceVersion, Consumer<KubernetesClientException> onClose) {
+        this.namespaces = namespaces;
+        this.resourceVersion = resourceVersion;
         this.onClose = onClose;
         this.operator = operator;
     }
 
+    /**
+     * @return The resource version of the last event received, from which a new watch can resume
+     * without missing any events, or null if no event has been received.
+     */
+    String resourceVersion() {
+        return resourceVersion;
+    }
+
     @Override
     public void eventReceived(Action action, T resource) {
+        if (action == Action.ERROR || resource == null) {
+            // The watch itself is restarted from the last resource version if the API server closes it,
+            // so there's no need to reconcile everything
+            log.error("Watch error for {} in namespaces {}: {}", operator.kind(), namespaces, resource);
+            return;
+        }
+        if (resource.getMetadata().getResourceVersion() != null) {
+            resourceVersion = resource.getMetadata().getResourceVersion();
+        }
         String name = resource.getMetadata().getName();
+        String namespace = resource.getMetadata().getNamespace() != null ? resource.getMetadata().getNamespace() : namespaces.iterator().next();
+        if (!namespaces.contains(namespace) && !namespaces.contains(AbstractWatchableResourceOperator.ANY_NAMESPACE)) {
+            log.debug("Ignoring {} {} in namespace {} which is not watched", operator.kind(), name, namespace);
+            return;
+        }
         switch (action) {
             case ADDED:
             case DELETED:
@@ -39,13 +77,9 @@ class OperatorWatcher<T extends HasMetadata> implements Watcher<T> {
                 log.info("{}: {} {} in namespace {} was {}", reconciliation, operator.kind(), name, namespace, action);
                 operator.reconcile(reconciliation);
                 break;
-            case ERROR:
-                log.error("Failed {} {} in namespace{} ", operator.kind(), name, namespace);
-                operator.reconcileAll("watch error", namespace, ignored -> { });
-                break;
             default:
                 log.error("Unknown action: {} in namespace {}", name, namespace);
-                operator.reconcileAll("watch unknown", namespace, ignored -> { });
+                operator.reconcileAll("watch unknown", namespaces, ignored -> { });
         }
     }
 
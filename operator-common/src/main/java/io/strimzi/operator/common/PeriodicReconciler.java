@@ -0,0 +1,155 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.strimzi.operator.common.model.NamespaceAndName;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>Runs the periodic reconciliation of the resources of one or more {@link Operator}s,
+ * spread across the reconciliation interval rather than all at the same instant.</p>
+ *
+ * <p>The resources of all the operators are ordered by a hash of their kind, namespace and name,
+ * and the interval is divided into one slot per resource. Each resource is reconciled at a random point
+ * in the first part of its slot. While the set of resources is unchanged each one keeps its slot,
+ * so it is still reconciled about once per interval, but the load on the Kubernetes API server,
+ * on the Kafka clusters and on the operator itself is even across the interval.</p>
+ */
+public class PeriodicReconciler {
+
+    private static final Logger log = LogManager.getLogger(PeriodicReconciler.class);
+
+    /** The fraction of each slot over which the start of a reconciliation is randomly jittered */
+    static final double DEFAULT_JITTER = 0.5;
+
+    private final Vertx vertx;
+    private final long intervalMs;
+    private final double jitter;
+    private final Random random;
+    private final Set<Long> timers = ConcurrentHashMap.newKeySet();
+
+    /**
+     * @param vertx The Vertx instance.
+     * @param intervalMs The periodic reconciliation interval, over which the reconciliations are spread.
+     */
+    public PeriodicReconciler(Vertx vertx, long intervalMs) {
+        this(vertx, intervalMs, DEFAULT_JITTER, new Random());
+    }
+
+    PeriodicReconciler(Vertx vertx, long intervalMs, double jitter, Random random) {
+        this.vertx = vertx;
+        this.intervalMs = intervalMs;
+        this.jitter = jitter;
+        this.random = random;
+    }
+
+    /**
+     * Lists the resources of the given operators, and schedules their reconciliation across the interval.
+     * @param trigger The cause of the reconciliations (for logging).
+     * @param namespaces The namespaces to reconcile.
+     * @param operators The operators whose resources are to be reconciled.
+     * @return A future which completes when all the reconciliations have completed.
+     */
+    public Future<Void> reconcileAll(String trigger, Set<String> namespaces, List<? extends Operator> operators) {
+        List<Future> listed = new ArrayList<>(operators.size());
+        for (Operator operator : operators) {
+            listed.add(operator.allResourceNames(namespaces).otherwise(e -> {
+                log.error("Failed to list the {} resources in namespaces {} for periodic reconciliation", operator.kind(), namespaces, e);
+                return Collections.emptySet();
+            }));
+        }
+        return CompositeFuture.join(listed).compose(all -> {
+            Map<Reconciliation, Operator> reconciliations = new HashMap<>();
+            for (int i = 0; i < operators.size(); i++) {
+                Operator operator = operators.get(i);
+                Set<NamespaceAndName> names = all.resultAt(i);
+                for (NamespaceAndName name : names) {
+                    reconciliations.put(new Reconciliation(trigger, operator.kind(), name.getNamespace(), name.getName()), operator);
+                }
+            }
+            return schedule(reconciliations);
+        });
+    }
+
+    private Future<Void> schedule(Map<Reconciliation, Operator> reconciliations) {
+        List<Reconciliation> ordered = new ArrayList<>(reconciliations.keySet());
+        ordered.sort(Comparator.comparingInt(PeriodicReconciler::hash).thenComparing(PeriodicReconciler::key));
+        long[] offsets = offsets(ordered.size());
+
+        List<Future> done = new ArrayList<>(ordered.size());
+        for (int i = 0; i < ordered.size(); i++) {
+            Reconciliation reconciliation = ordered.get(i);
+            Operator operator = reconciliations.get(reconciliation);
+            Future<Void> result = Future.future();
+            done.add(result);
+            long[] timer = new long[1];
+            timer[0] = vertx.setTimer(Math.max(1, offsets[i]), t -> {
+                timers.remove(timer[0]);
+                operator.reconcile(reconciliation).setHandler(result);
+            });
+            timers.add(timer[0]);
+        }
+        report(offsets);
+        return CompositeFuture.join(done).map((Void) null);
+    }
+
+    /**
+     * @param count The number of reconciliations.
+     * @return The delay, in milliseconds, before each of the reconciliations, in slot order.
+     */
+    long[] offsets(int count) {
+        long[] offsets = new long[count];
+        double slotMs = (double) intervalMs / Math.max(1, count);
+        for (int i = 0; i < count; i++) {
+            offsets[i] = (long) (slotMs * (i + jitter * random.nextDouble()));
+        }
+        return offsets;
+    }
+
+    /**
+     * Cancel the reconciliations which have been scheduled but not yet started.
+     */
+    public void cancel() {
+        for (Long timer : timers) {
+            vertx.cancelTimer(timer);
+        }
+        timers.clear();
+    }
+
+    private void report(long[] offsets) {
+        if (offsets.length == 0) {
+            return;
+        }
+        Map<Long, Integer> perSecond = new HashMap<>();
+        int peak = 0;
+        for (long offset : offsets) {
+            peak = Math.max(peak, perSecond.merge(offset / 1_000, 1, Integer::sum));
+        }
+        log.info("Spread {} periodic reconciliations over {}ms, from {}ms to {}ms, with at most {} starting in any second",
+                offsets.length, intervalMs, offsets[0], offsets[offsets.length - 1], peak);
+    }
+
+    private static String key(Reconciliation reconciliation) {
+        return reconciliation.kind() + "/" + reconciliation.namespace() + "/" + reconciliation.name();
+    }
+
+    private static int hash(Reconciliation reconciliation) {
+        return key(reconciliation).hashCode();
+    }
+}
@@ -0,0 +1,250 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.strimzi.operator.cluster.model.InvalidResourceException;
+import io.strimzi.operator.common.metrics.OperatorMetrics;
+import io.strimzi.operator.common.model.NamespaceAndName;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * <p>A queue of reconciliations, keyed by the namespace and name of the resource being reconciled,
+ * which runs at most one reconciliation of each resource at a time.</p>
+ *
+ * <p>A reconciliation which is enqueued while another reconciliation of the same resource is still waiting
+ * to run is collapsed into the waiting one, and completes with its result. A reconciliation which is
+ * enqueued while another one of the same resource is running waits for it to finish, because the resource
+ * may have changed since the running reconciliation read it.</p>
+ *
+ * <p>A failed reconciliation is retried after an exponential {@link BackOff}, unless another reconciliation
+ * of the same resource has been enqueued in the meantime, or it failed because the resource is invalid
+ * (which retrying cannot fix).</p>
+ *
+ * <p>The queue can be bounded to run at most a given number of reconciliations (of different resources) at a time.
+ * The reconciliations waiting for one of the running reconciliations to finish are started in the order they
+ * became ready to run, so a burst of reconciliations cannot starve the others.</p>
+ *
+ * <p>The number of waiting reconciliations and the time they wait are recorded in the
+ * {@link OperatorMetrics#QUEUE_DEPTH} and {@link OperatorMetrics#QUEUE_WAIT} metrics.</p>
+ */
+public class WorkQueue {
+
+    private static final Logger log = LogManager.getLogger(WorkQueue.class);
+
+    private final Vertx vertx;
+    private final String kind;
+    private final Function<Reconciliation, Future<Void>> work;
+    private final Supplier<BackOff> backOffSupplier;
+    private final int maxConcurrency;
+    private final Map<NamespaceAndName, Entry> entries = new HashMap<>();
+    // The resources with a pending reconciliation which is waiting only for a free slot, in the order they became ready
+    private final Deque<NamespaceAndName> ready = new ArrayDeque<>();
+    private int depth = 0;
+    private int active = 0;
+
+    /** A reconciliation waiting to run, and the callers waiting for its result */
+    private static class Pending {
+        private final Reconciliation reconciliation;
+        private final long enqueuedNanos = System.nanoTime();
+        private final List<Future<Void>> waiters = new ArrayList<>(1);
+
+        Pending(Reconciliation reconciliation) {
+            this.reconciliation = reconciliation;
+        }
+    }
+
+    /** The state of the queue for a single resource */
+    private static class Entry {
+        private boolean running;
+        private boolean ready;
+        private Pending pending;
+        private BackOff backOff;
+        private long retryTimer = -1;
+
+        boolean idle() {
+            return !running && pending == null && backOff == null;
+        }
+    }
+
+    /**
+     * @param vertx The Vertx instance, used for scheduling retries.
+     * @param kind The kind of resource which is reconciled.
+     * @param work The reconciliation of a single resource.
+     * @param backOffSupplier Supplies the back off to use when a resource's reconciliation starts failing.
+     */
+    public WorkQueue(Vertx vertx, String kind, Function<Reconciliation, Future<Void>> work, Supplier<BackOff> backOffSupplier) {
+        this(vertx, kind, work, backOffSupplier, Integer.MAX_VALUE);
+    }
+
+    /**
+     * @param vertx The Vertx instance, used for scheduling retries.
+     * @param kind The kind of resource which is reconciled.
+     * @param work The reconciliation of a single resource.
+     * @param backOffSupplier Supplies the back off to use when a resource's reconciliation starts failing.
+     * @param maxConcurrency The maximum number of reconciliations to run at the same time.
+     */
+    public WorkQueue(Vertx vertx, String kind, Function<Reconciliation, Future<Void>> work, Supplier<BackOff> backOffSupplier, int maxConcurrency) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("The maximum concurrency must be at least 1");
+        }
+        this.vertx = vertx;
+        this.kind = kind;
+        this.work = work;
+        this.backOffSupplier = backOffSupplier;
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    /**
+     * Enqueue the given reconciliation.
+     * @param reconciliation The reconciliation.
+     * @return A future which completes with the result of the run which reconciled the resource.
+     */
+    public Future<Void> enqueue(Reconciliation reconciliation) {
+        NamespaceAndName key = new NamespaceAndName(reconciliation.namespace(), reconciliation.name());
+        Future<Void> result = Future.future();
+        Map<NamespaceAndName, Pending> toRun;
+        synchronized (this) {
+            Entry entry = entries.computeIfAbsent(key, k -> new Entry());
+            if (entry.retryTimer != -1) {
+                // This reconciliation will serve as the retry
+                vertx.cancelTimer(entry.retryTimer);
+                entry.retryTimer = -1;
+            }
+            if (entry.pending == null) {
+                entry.pending = new Pending(reconciliation);
+                depth++;
+                OperatorMetrics.QUEUE_DEPTH.inc(kind);
+            } else {
+                log.debug("{}: Collapsed into {}", reconciliation, entry.pending.reconciliation);
+            }
+            entry.pending.waiters.add(result);
+            if (!entry.running) {
+                markReady(key, entry);
+            }
+            toRun = takeReady();
+        }
+        toRun.forEach(this::run);
+        return result;
+    }
+
+    /**
+     * @return The number of reconciliations waiting to run.
+     */
+    public synchronized int depth() {
+        return depth;
+    }
+
+    /**
+     * @return The number of reconciliations running.
+     */
+    public synchronized int active() {
+        return active;
+    }
+
+    private void markReady(NamespaceAndName key, Entry entry) {
+        if (!entry.ready) {
+            entry.ready = true;
+            ready.add(key);
+        }
+    }
+
+    /**
+     * Take the pending reconciliations of the ready resources, in order, for as long as there are free slots.
+     */
+    private Map<NamespaceAndName, Pending> takeReady() {
+        Map<NamespaceAndName, Pending> toRun = new LinkedHashMap<>();
+        while (active < maxConcurrency && !ready.isEmpty()) {
+            NamespaceAndName key = ready.poll();
+            toRun.put(key, take(entries.get(key)));
+        }
+        return toRun;
+    }
+
+    private Pending take(Entry entry) {
+        Pending pending = entry.pending;
+        entry.pending = null;
+        entry.ready = false;
+        entry.running = true;
+        active++;
+        depth--;
+        OperatorMetrics.QUEUE_DEPTH.dec(kind);
+        return pending;
+    }
+
+    private void run(NamespaceAndName key, Pending pending) {
+        OperatorMetrics.QUEUE_WAIT.observeSince(pending.enqueuedNanos, kind);
+        Future<Void> result;
+        try {
+            result = work.apply(pending.reconciliation);
+        } catch (Throwable t) {
+            result = Future.failedFuture(t);
+        }
+        result.setHandler(ar -> completed(key, pending, ar));
+    }
+
+    private void completed(NamespaceAndName key, Pending pending, AsyncResult<Void> result) {
+        Map<NamespaceAndName, Pending> next;
+        synchronized (this) {
+            Entry entry = entries.get(key);
+            entry.running = false;
+            active--;
+            if (result.succeeded() || !isRetriable(result.cause())) {
+                entry.backOff = null;
+            } else if (entry.pending == null) {
+                if (entry.backOff == null) {
+                    entry.backOff = backOffSupplier.get();
+                }
+                if (entry.backOff.done()) {
+                    log.warn("{}: Giving up retrying after {} attempts", pending.reconciliation, entry.backOff.maxAttempts());
+                    entry.backOff = null;
+                } else {
+                    long delayMs = entry.backOff.delayMs();
+                    log.info("{}: Will retry in {}ms", pending.reconciliation, delayMs);
+                    entry.retryTimer = vertx.setTimer(Math.max(1L, delayMs), timerId -> retry(key));
+                }
+            }
+            if (entry.pending != null) {
+                markReady(key, entry);
+            }
+            if (entry.idle()) {
+                entries.remove(key);
+            }
+            next = takeReady();
+        }
+        for (Future<Void> waiter : pending.waiters) {
+            waiter.handle(result);
+        }
+        next.forEach(this::run);
+    }
+
+    private void retry(NamespaceAndName key) {
+        synchronized (this) {
+            Entry entry = entries.get(key);
+            if (entry == null || entry.retryTimer == -1) {
+                return;
+            }
+            entry.retryTimer = -1;
+        }
+        enqueue(new Reconciliation("retry", kind, key.getNamespace(), key.getName()));
+    }
+
+    private static boolean isRetriable(Throwable cause) {
+        return !(cause instanceof InvalidResourceException);
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.metrics;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A counter of events, such as restarts of a watch, which only ever goes up,
+ * which is exposed in the Prometheus text format by a {@link MetricsRegistry}.
+ * A separate count is kept for each combination of label values.
+ */
+public class Counter extends Metric {
+
+    private final Map<List<String>, AtomicLong> counts = new ConcurrentHashMap<>();
+
+    Counter(String name, String help, String... labelNames) {
+        super(name, help, labelNames);
+    }
+
+    /**
+     * Increment the counter.
+     * @param labelValues The values of the labels, in the same order as the label names.
+     */
+    public void inc(String... labelValues) {
+        counts.computeIfAbsent(key(labelValues), k -> new AtomicLong()).incrementAndGet();
+    }
+
+    /**
+     * @param labelValues The values of the labels.
+     * @return The current count for the given label values.
+     */
+    public long get(String... labelValues) {
+        AtomicLong count = counts.get(key(labelValues));
+        return count == null ? 0 : count.get();
+    }
+
+    @Override
+    void writeTo(StringBuilder sb) {
+        writeHeader(sb, "counter");
+        // Sort, so that the output is stable between scrapes
+        Map<String, Long> sorted = new TreeMap<>();
+        for (Map.Entry<List<String>, AtomicLong> entry : counts.entrySet()) {
+            sorted.put(labels(entry.getKey()), entry.getValue().get());
+        }
+        for (Map.Entry<String, Long> entry : sorted.entrySet()) {
+            sb.append(name());
+            if (!entry.getKey().isEmpty()) {
+                sb.append('{').append(entry.getKey()).append('}');
+            }
+            sb.append(' ').append(entry.getValue()).append('\n');
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.metrics;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A gauge of a value which can go up and down, such as the depth of a queue,
+ * which is exposed in the Prometheus text format by a {@link MetricsRegistry}.
+ * A separate value is kept for each combination of label values.
+ */
+public class Gauge extends Metric {
+
+    private final Map<List<String>, AtomicLong> values = new ConcurrentHashMap<>();
+
+    Gauge(String name, String help, String... labelNames) {
+        super(name, help, labelNames);
+    }
+
+    private AtomicLong value(List<String> key) {
+        return values.computeIfAbsent(key, k -> new AtomicLong());
+    }
+
+    /**
+     * Set the value of the gauge.
+     * @param value The value.
+     * @param labelValues The values of the labels, in the same order as the label names.
+     */
+    public void set(long value, String... labelValues) {
+        value(key(labelValues)).set(value);
+    }
+
+    /**
+     * Increment the value of the gauge.
+     * @param labelValues The values of the labels, in the same order as the label names.
+     */
+    public void inc(String... labelValues) {
+        value(key(labelValues)).incrementAndGet();
+    }
+
+    /**
+     * Decrement the value of the gauge.
+     * @param labelValues The values of the labels, in the same order as the label names.
+     */
+    public void dec(String... labelValues) {
+        value(key(labelValues)).decrementAndGet();
+    }
+
+    /**
+     * @param labelValues The values of the labels.
+     * @return The current value of the gauge for the given label values.
+     */
+    public long get(String... labelValues) {
+        AtomicLong value = values.get(key(labelValues));
+        return value == null ? 0 : value.get();
+    }
+
+    @Override
+    void writeTo(StringBuilder sb) {
+        writeHeader(sb, "gauge");
+        // Sort, so that the output is stable between scrapes
+        Map<String, Long> sorted = new TreeMap<>();
+        for (Map.Entry<List<String>, AtomicLong> entry : values.entrySet()) {
+            sorted.put(labels(entry.getKey()), entry.getValue().get());
+        }
+        for (Map.Entry<String, Long> entry : sorted.entrySet()) {
+            sb.append(name());
+            if (!entry.getKey().isEmpty()) {
+                sb.append('{').append(entry.getKey()).append('}');
+            }
+            sb.append(' ').append(entry.getValue()).append('\n');
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.metrics;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.DoubleAdder;
+
+/**
+ * <p>A histogram of observed durations, in seconds, with a fixed set of buckets,
+ * which is exposed in the Prometheus text format by a {@link MetricsRegistry}.</p>
+ *
+ * <p>A histogram has a fixed list of label names. A separate distribution is kept
+ * for each combination of label values which has been observed.</p>
+ */
+public class Histogram extends Metric {
+
+    /**
+     * The default bucket upper bounds, in seconds. These cover everything from a single Kubernetes API call
+     * up to a reconciliation which has to roll a large cluster.
+     */
+    static final double[] DEFAULT_BUCKETS = {0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10, 30, 60, 120, 300, 600, 1800};
+
+    private final double[] buckets;
+    private final Map<List<String>, Distribution> distributions = new ConcurrentHashMap<>();
+
+    private class Distribution {
+        /** Non-cumulative counts, with one more than the number of buckets (for +Inf) */
+        private final AtomicLongArray counts = new AtomicLongArray(buckets.length + 1);
+        private final DoubleAdder sum = new DoubleAdder();
+
+        void observe(double seconds) {
+            int bucket = Arrays.binarySearch(buckets, seconds);
+            counts.incrementAndGet(bucket >= 0 ? bucket : -bucket - 1);
+            sum.add(seconds);
+        }
+    }
+
+    Histogram(String name, String help, double[] buckets, String... labelNames) {
+        super(name, help, labelNames);
+        this.buckets = buckets.clone();
+        Arrays.sort(this.buckets);
+    }
+
+    /**
+     * Record an observation.
+     * @param seconds The observed duration, in seconds.
+     * @param labelValues The values of the labels, in the same order as the label names.
+     */
+    public void observe(double seconds, String... labelValues) {
+        distributions.computeIfAbsent(key(labelValues), k -> new Distribution()).observe(seconds);
+    }
+
+    /**
+     * Record the time elapsed since {@code startNanos} as an observation.
+     * @param startNanos The start time, as returned by {@link System#nanoTime()}.
+     * @param labelValues The values of the labels, in the same order as the label names.
+     */
+    public void observeSince(long startNanos, String... labelValues) {
+        observe((double) (System.nanoTime() - startNanos) / TimeUnit.SECONDS.toNanos(1), labelValues);
+    }
+
+    /**
+     * @param labelValues The values of the labels.
+     * @return The number of observations made with the given label values.
+     */
+    public long count(String... labelValues) {
+        Distribution distribution = distributions.get(Arrays.asList(labelValues));
+        if (distribution == null) {
+            return 0;
+        }
+        long count = 0;
+        for (int i = 0; i < distribution.counts.length(); i++) {
+            count += distribution.counts.get(i);
+        }
+        return count;
+    }
+
+    @Override
+    void writeTo(StringBuilder sb) {
+        writeHeader(sb, "histogram");
+        // Sort, so that the output is stable between scrapes
+        Map<String, Distribution> sorted = new TreeMap<>();
+        for (Map.Entry<List<String>, Distribution> entry : distributions.entrySet()) {
+            sorted.put(labels(entry.getKey()), entry.getValue());
+        }
+        for (Map.Entry<String, Distribution> entry : sorted.entrySet()) {
+            String labels = entry.getKey();
+            Distribution distribution = entry.getValue();
+            long cumulative = 0;
+            for (int i = 0; i <= buckets.length; i++) {
+                cumulative += distribution.counts.get(i);
+                String le = i < buckets.length ? Double.toString(buckets[i]) : "+Inf";
+                sb.append(name()).append("_bucket{").append(labels);
+                if (!labels.isEmpty()) {
+                    sb.append(',');
+                }
+                sb.append("le=\"").append(le).append("\"} ").append(cumulative).append('\n');
+            }
+            String braced = labels.isEmpty() ? "" : "{" + labels + "}";
+            sb.append(name()).append("_sum").append(braced).append(' ').append(distribution.sum.sum()).append('\n');
+            sb.append(name()).append("_count").append(braced).append(' ').append(cumulative).append('\n');
+        }
+    }
+}
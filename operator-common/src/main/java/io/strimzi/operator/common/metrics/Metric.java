@@ -0,0 +1,79 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.metrics;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A metric with a fixed list of label names, which is exposed in the Prometheus text format
+ * by a {@link MetricsRegistry}.
+ */
+public abstract class Metric {
+
+    private final String name;
+    private final String help;
+    private final List<String> labelNames;
+
+    Metric(String name, String help, String... labelNames) {
+        this.name = name;
+        this.help = help;
+        this.labelNames = Arrays.asList(labelNames.clone());
+    }
+
+    /**
+     * @return The name of this metric.
+     */
+    public String name() {
+        return name;
+    }
+
+    /**
+     * @param labelValues The values of the labels, in the same order as the label names.
+     * @return The label values as a list, suitable for use as a map key.
+     * @throws IllegalArgumentException If the number of values doesn't match the number of label names.
+     */
+    List<String> key(String... labelValues) {
+        if (labelValues.length != labelNames.size()) {
+            throw new IllegalArgumentException(getClass().getSimpleName() + " " + name + " has labels " + labelNames
+                    + " but was given values " + Arrays.toString(labelValues));
+        }
+        return Arrays.asList(labelValues.clone());
+    }
+
+    /**
+     * Append the HELP and TYPE lines of this metric to the given builder.
+     * @param sb The builder.
+     * @param type The Prometheus type of this metric.
+     */
+    void writeHeader(StringBuilder sb, String type) {
+        sb.append("# HELP ").append(name).append(' ').append(help.replace("\\", "\\\\").replace("\n", "\\n")).append('\n');
+        sb.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    /**
+     * Append this metric to the given builder in the Prometheus text format.
+     * @param sb The builder.
+     */
+    abstract void writeTo(StringBuilder sb);
+
+    /**
+     * @param labelValues The values of the labels.
+     * @return The labels formatted as {@code name="value"} pairs separated by commas, without the enclosing braces.
+     */
+    String labels(List<String> labelValues) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < labelNames.size(); i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            String value = labelValues.get(i) == null ? "" : labelValues.get(i);
+            sb.append(labelNames.get(i)).append("=\"")
+                    .append(value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n"))
+                    .append('"');
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.metrics;
+
+import io.vertx.core.http.HttpServerRequest;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Function;
+
+/**
+ * A registry of the metrics of an operator, which can be scraped in the
+ * <a href="https://prometheus.io/docs/instrumenting/exposition_formats/">Prometheus text format</a>.
+ */
+public class MetricsRegistry {
+
+    /** The path at which the operators serve their metrics */
+    public static final String METRICS_PATH = "/metrics";
+
+    static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    /** The registry used by the operator process */
+    public static final MetricsRegistry DEFAULT = new MetricsRegistry();
+
+    private final Map<String, Metric> metrics = new ConcurrentSkipListMap<>();
+
+    /**
+     * Get the histogram with the given name, registering it if it doesn't already exist.
+     * @param name The name of the histogram.
+     * @param help The description of the histogram.
+     * @param labelNames The names of the labels of the histogram.
+     * @return The histogram.
+     */
+    public Histogram histogram(String name, String help, String... labelNames) {
+        return histogram(name, help, Histogram.DEFAULT_BUCKETS, labelNames);
+    }
+
+    /**
+     * Get the histogram with the given name, registering it with the given buckets if it doesn't already exist.
+     * @param name The name of the histogram.
+     * @param help The description of the histogram.
+     * @param buckets The upper bounds of the buckets, in seconds.
+     * @param labelNames The names of the labels of the histogram.
+     * @return The histogram.
+     */
+    public Histogram histogram(String name, String help, double[] buckets, String... labelNames) {
+        return register(name, Histogram.class, n -> new Histogram(n, help, Arrays.copyOf(buckets, buckets.length), labelNames));
+    }
+
+    /**
+     * Get the gauge with the given name, registering it if it doesn't already exist.
+     * @param name The name of the gauge.
+     * @param help The description of the gauge.
+     * @param labelNames The names of the labels of the gauge.
+     * @return The gauge.
+     */
+    public Gauge gauge(String name, String help, String... labelNames) {
+        return register(name, Gauge.class, n -> new Gauge(n, help, labelNames));
+    }
+
+    /**
+     * Get the counter with the given name, registering it if it doesn't already exist.
+     * @param name The name of the counter, which should end with {@code _total}.
+     * @param help The description of the counter.
+     * @param labelNames The names of the labels of the counter.
+     * @return The counter.
+     */
+    public Counter counter(String name, String help, String... labelNames) {
+        return register(name, Counter.class, n -> new Counter(n, help, labelNames));
+    }
+
+    private <M extends Metric> M register(String name, Class<M> type, Function<String, M> factory) {
+        Metric metric = metrics.computeIfAbsent(name, factory);
+        if (!type.isInstance(metric)) {
+            throw new IllegalArgumentException("Metric " + name + " is already registered as a " + metric.getClass().getSimpleName());
+        }
+        return type.cast(metric);
+    }
+
+    /**
+     * @return All the metrics in the Prometheus text format.
+     */
+    public String scrape() {
+        StringBuilder sb = new StringBuilder();
+        for (Metric metric : metrics.values()) {
+            metric.writeTo(sb);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Respond to the given request with the metrics in this registry.
+     * @param request The HTTP request for {@link #METRICS_PATH}.
+     */
+    public void handle(HttpServerRequest request) {
+        request.response()
+                .setStatusCode(200)
+                .putHeader("Content-Type", CONTENT_TYPE)
+                .end(scrape());
+    }
+}
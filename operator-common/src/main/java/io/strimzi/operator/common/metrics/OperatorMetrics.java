@@ -0,0 +1,67 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.metrics;
+
+/**
+ * The metrics which are common to the operators, all registered in {@link MetricsRegistry#DEFAULT}.
+ */
+public class OperatorMetrics {
+
+    /** The duration of reconciliations, by kind of custom resource and outcome */
+    public static final Histogram RECONCILIATION_DURATION = MetricsRegistry.DEFAULT.histogram(
+            "strimzi_reconciliation_duration_seconds",
+            "The time taken to reconcile a custom resource",
+            "kind", "outcome");
+
+    /** The duration of the steps of reconciliations, by kind of custom resource and step */
+    public static final Histogram RECONCILIATION_STEP_DURATION = MetricsRegistry.DEFAULT.histogram(
+            "strimzi_reconciliation_step_duration_seconds",
+            "The time taken by a step of the reconciliation of a custom resource",
+            "kind", "step");
+
+    /** The time spent waiting to acquire the lock for reconciling a resource, by kind of custom resource and outcome */
+    public static final Histogram LOCK_WAIT = MetricsRegistry.DEFAULT.histogram(
+            "strimzi_reconciliation_lock_wait_seconds",
+            "The time spent waiting to acquire the lock for reconciling a custom resource",
+            "kind", "outcome");
+
+    /** The number of reconciliations waiting in the work queue of an operator, by kind of custom resource */
+    public static final Gauge QUEUE_DEPTH = MetricsRegistry.DEFAULT.gauge(
+            "strimzi_reconciliation_queue_depth",
+            "The number of reconciliations of custom resources waiting to be run",
+            "kind");
+
+    /** The time reconciliations spend in the work queue of an operator before being run, by kind of custom resource */
+    public static final Histogram QUEUE_WAIT = MetricsRegistry.DEFAULT.histogram(
+            "strimzi_reconciliation_queue_wait_seconds",
+            "The time a reconciliation of a custom resource waits in the queue before being run",
+            "kind");
+
+    /** The number of times the watch of an operator was restarted, by kind of custom resource and whether it was resumed or relisted */
+    public static final Counter WATCH_RESTARTS = MetricsRegistry.DEFAULT.counter(
+            "strimzi_watch_restarts_total",
+            "The number of times the watch for custom resources was restarted after being closed",
+            "kind", "outcome");
+
+    /** The latency of requests to the Kubernetes API server, by kind of resource and operation */
+    public static final Histogram KUBERNETES_REQUEST_DURATION = MetricsRegistry.DEFAULT.histogram(
+            "strimzi_kubernetes_request_duration_seconds",
+            "The latency of requests to the Kubernetes API server",
+            "kind", "operation");
+
+    /** The latency of requests made using the Kafka AdminClient, by operation */
+    public static final Histogram KAFKA_ADMIN_REQUEST_DURATION = MetricsRegistry.DEFAULT.histogram(
+            "strimzi_kafka_admin_request_duration_seconds",
+            "The latency of requests made to Kafka using the AdminClient",
+            "operation");
+
+    /** The number of key pairs taken from the key pair pool, by whether the pool had one available (hit) or not (miss) */
+    public static final Counter KEY_PAIR_POOL_TAKES = MetricsRegistry.DEFAULT.counter(
+            "strimzi_key_pair_pool_takes_total",
+            "The number of key pairs taken from the pool of key pairs generated ahead of time",
+            "outcome");
+
+    private OperatorMetrics() { }
+}
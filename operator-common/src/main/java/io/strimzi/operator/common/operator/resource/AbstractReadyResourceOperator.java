@@ -40,8 +40,29 @@ public abstract class AbstractReadyResourceOperator<C extends KubernetesClient,
         super(vertx, client, resourceKind);
     }
 
+    /**
+     * Returns a future that completes when the resource identified by the given {@code namespace} and {@code name}
+     * is ready. The resource is watched, so the future completes as soon as the resource becomes ready.
+     *
+     * @param namespace The namespace.
+     * @param name The resource name.
+     * @param pollIntervalMs The poll interval in milliseconds, if the resource cannot be watched.
+     * @param timeoutMs The timeout, in milliseconds.
+     * @return A future that completes when the resource is ready.
+     */
     public Future<Void> readiness(String namespace, String name, long pollIntervalMs, long timeoutMs) {
-        return waitFor(namespace, name, pollIntervalMs, timeoutMs, this::isReady);
+        return watchUntil(namespace, name, pollIntervalMs, timeoutMs, AbstractReadyResourceOperator::isReady, this::isReady);
+    }
+
+    /**
+     * Check if the given resource is in the Ready state.
+     *
+     * @param resource The resource, or null if it doesn't exist.
+     * @return Whether the resource is in the Ready state.
+     */
+    static boolean isReady(HasMetadata resource) {
+        return resource != null
+                && (!Readiness.isReadinessApplicable(resource.getClass()) || Readiness.isReady(resource));
     }
 
     /**
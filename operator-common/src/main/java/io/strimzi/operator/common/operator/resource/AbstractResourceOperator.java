@@ -16,6 +16,7 @@ import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
 import io.strimzi.operator.common.Util;
+import io.strimzi.operator.common.metrics.OperatorMetrics;
 import io.strimzi.operator.common.model.Labels;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
@@ -26,7 +27,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiPredicate;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 /**
  * Abstract resource creation, for a generic resource type {@code R}.
@@ -45,6 +49,7 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient, T ext
     protected final Vertx vertx;
     protected final C client;
     protected final String resourceKind;
+    private final Map<String, ResourceCache<T>> caches = new ConcurrentHashMap<>();
 
     /**
      * Constructor.
@@ -60,6 +65,97 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient, T ext
 
     protected abstract MixedOperation<T, L, D, R> operation();
 
+    /**
+     * Synchronously make the given request to the API server, recording its latency.
+     * @param operation The name of the operation, used as a metric label.
+     * @param request The request.
+     * @param <X> The type of the result.
+     * @return The result of the request.
+     */
+    protected <X> X timed(String operation, Supplier<X> request) {
+        long startNanos = System.nanoTime();
+        try {
+            return request.get();
+        } finally {
+            OperatorMetrics.KUBERNETES_REQUEST_DURATION.observeSince(startNanos, resourceKind, operation);
+        }
+    }
+
+    /**
+     * Asynchronously start a {@link ResourceCache} for the resources in the given {@code namespace}.
+     * Once the returned future has completed {@link #get(String, String)}, {@link #getAsync(String, String)}
+     * and {@link #reconcile(String, String, HasMetadata)} read the current state of resources in that namespace
+     * from the cache rather than from the API server. Writes still go to the API server.
+     * See {@link ResourceCache} for the stale-read semantics.
+     *
+     * @param namespace The namespace to cache, or {@link AbstractWatchableResourceOperator#ANY_NAMESPACE}.
+     * @return A future which completes when the cache has been filled.
+     */
+    @SuppressWarnings("unchecked") // due to L extends KubernetesResourceList/*<T>*/
+    public Future<Void> startCache(String namespace) {
+        Future<Void> result = Future.future();
+        vertx.createSharedWorkerExecutor("kubernetes-ops-tool").executeBlocking(
+            future -> {
+                FilterWatchListDeletable<T, L, Boolean, Watch, Watcher<T>> operation =
+                        AbstractWatchableResourceOperator.ANY_NAMESPACE.equals(namespace)
+                            ? operation().inAnyNamespace()
+                            : operation().inNamespace(namespace);
+                ResourceCache<T> cache = new ResourceCache<T>(vertx, resourceKind, namespace,
+                    () -> (KubernetesResourceList<T>) operation.list(),
+                    (resourceVersion, watcher) -> operation.withResourceVersion(resourceVersion).watch(watcher));
+                cache.start();
+                ResourceCache<T> previous = caches.put(namespace, cache);
+                if (previous != null) {
+                    previous.close();
+                }
+                log.info("Caching {} resources in namespace {}", resourceKind, namespace);
+                future.complete();
+            }, true, result
+        );
+        return result;
+    }
+
+    /**
+     * Stop the {@link ResourceCache} for the given {@code namespace}, if there is one.
+     * @param namespace The namespace.
+     */
+    public void stopCache(String namespace) {
+        ResourceCache<T> cache = caches.remove(namespace);
+        if (cache != null) {
+            cache.close();
+        }
+    }
+
+    /**
+     * @param namespace The namespace.
+     * @return The cache covering the given {@code namespace}, or null if reads in that namespace go to the API server.
+     */
+    protected ResourceCache<T> cache(String namespace) {
+        ResourceCache<T> cache = caches.get(namespace);
+        if (cache == null && !caches.isEmpty()) {
+            cache = caches.get(AbstractWatchableResourceOperator.ANY_NAMESPACE);
+        }
+        return cache;
+    }
+
+    /**
+     * Write the outcome of a successful write to the API server through to the cache, if there is one.
+     */
+    private Future<ReconcileResult<T>> writeThrough(String namespace, String name, Future<ReconcileResult<T>> write) {
+        ResourceCache<T> cache = cache(namespace);
+        if (cache == null) {
+            return write;
+        }
+        return write.map(result -> {
+            if (result.resource() != null) {
+                cache.update(result.resource());
+            } else if (!(result instanceof ReconcileResult.Noop)) {
+                cache.remove(namespace, name);
+            }
+            return result;
+        });
+    }
+
     /**
      * Asynchronously create or update the given {@code resource} depending on whether it already exists,
      * returning a future for the outcome.
@@ -92,20 +188,20 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient, T ext
         Future<ReconcileResult<T>> fut = Future.future();
         vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
             future -> {
-                T current = operation().inNamespace(namespace).withName(name).get();
+                T current = get(namespace, name);
                 if (desired != null) {
                     if (current == null) {
                         log.debug("{} {}/{} does not exist, creating it", resourceKind, namespace, name);
-                        internalCreate(namespace, name, desired).setHandler(future);
+                        writeThrough(namespace, name, internalCreate(namespace, name, desired)).setHandler(future);
                     } else {
                         log.debug("{} {}/{} already exists, patching it", resourceKind, namespace, name);
-                        internalPatch(namespace, name, current, desired).setHandler(future);
+                        writeThrough(namespace, name, internalPatch(namespace, name, current, desired)).setHandler(future);
                     }
                 } else {
                     if (current != null) {
                         // Deletion is desired
                         log.debug("{} {}/{} exist, deleting it", resourceKind, namespace, name);
-                        internalDelete(namespace, name).setHandler(future);
+                        writeThrough(namespace, name, internalDelete(namespace, name)).setHandler(future);
                     } else {
                         log.debug("{} {}/{} does not exist, noop", resourceKind, namespace, name);
                         future.complete(ReconcileResult.noop(null));
@@ -144,7 +240,7 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient, T ext
 
     protected Future<ReconcileResult<T>> internalDelete(String namespace, String name, boolean cascading) {
         try {
-            operation().inNamespace(namespace).withName(name).cascading(cascading).withGracePeriod(-1L).delete();
+            timed("delete", () -> operation().inNamespace(namespace).withName(name).cascading(cascading).withGracePeriod(-1L).delete());
             log.debug("{} {} in namespace {} has been deleted", resourceKind, name, namespace);
             return Future.succeededFuture(ReconcileResult.deleted());
         } catch (Exception e) {
@@ -163,7 +259,7 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient, T ext
 
     protected Future<ReconcileResult<T>> internalPatch(String namespace, String name, T current, T desired, boolean cascading) {
         try {
-            T result = operation().inNamespace(namespace).withName(name).cascading(cascading).patch(desired);
+            T result = timed("patch", () -> operation().inNamespace(namespace).withName(name).cascading(cascading).patch(desired));
             log.debug("{} {} in namespace {} has been patched", resourceKind, name, namespace);
             return Future.succeededFuture(wasChanged(current, result) ? ReconcileResult.patched(result) : ReconcileResult.noop(result));
         } catch (Exception e) {
@@ -190,7 +286,7 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient, T ext
     @SuppressWarnings("unchecked")
     protected Future<ReconcileResult<T>> internalCreate(String namespace, String name, T desired) {
         try {
-            ReconcileResult<T> result = ReconcileResult.created(operation().inNamespace(namespace).withName(name).create(desired));
+            ReconcileResult<T> result = ReconcileResult.created(timed("create", () -> operation().inNamespace(namespace).withName(name).create(desired)));
             log.debug("{} {} in namespace {} has been created", resourceKind, name, namespace);
             return Future.succeededFuture(result);
         } catch (Exception e) {
@@ -201,12 +297,17 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient, T ext
 
     /**
      * Synchronously gets the resource with the given {@code name} in the given {@code namespace}.
+     * If a {@linkplain #startCache(String) cache} covers the namespace the resource is read from the cache.
      * @param namespace The namespace.
      * @param name The name.
      * @return The resource, or null if it doesn't exist.
      */
     public T get(String namespace, String name) {
-        return operation().inNamespace(namespace).withName(name).get();
+        ResourceCache<T> cache = cache(namespace);
+        if (cache != null) {
+            return cache.get(namespace, name);
+        }
+        return timed("get", () -> operation().inNamespace(namespace).withName(name).get());
     }
 
     /**
@@ -216,6 +317,10 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient, T ext
      * @return A Future for the result.
      */
     public Future<T> getAsync(String namespace, String name) {
+        ResourceCache<T> cache = cache(namespace);
+        if (cache != null) {
+            return Future.succeededFuture(cache.get(namespace, name));
+        }
         Future<T> result = Future.future();
         vertx.createSharedWorkerExecutor("kubernetes-ops-tool").executeBlocking(
             future -> {
@@ -247,13 +352,13 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient, T ext
 
         if (selector != null) {
             Map<String, String> labels = selector.toMap();
-            return operation.withLabels(labels)
+            return timed("list", () -> operation.withLabels(labels)
                     .list()
-                    .getItems();
+                    .getItems());
         } else {
-            return operation
+            return timed("list", () -> operation
                     .list()
-                    .getItems();
+                    .getItems());
         }
     }
 
@@ -264,13 +369,13 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient, T ext
         if (selector != null) {
             Map<String, String> labels = selector.toMap();
             FilterWatchListDeletable<T, L, Boolean, Watch, Watcher<T>> tlBooleanWatchWatcherFilterWatchListDeletable = tldrNonNamespaceOperation.withLabels(labels);
-            return tlBooleanWatchWatcherFilterWatchListDeletable
+            return timed("list", () -> tlBooleanWatchWatcherFilterWatchListDeletable
                     .list()
-                    .getItems();
+                    .getItems());
         } else {
-            return tldrNonNamespaceOperation
+            return timed("list", () -> tldrNonNamespaceOperation
                     .list()
-                    .getItems();
+                    .getItems());
         }
     }
 
@@ -313,7 +418,8 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient, T ext
                 if (selector.isPresent()) {
                     operation = operation.withLabelSelector(selector.get());
                 }
-                future.complete(operation.list().getItems());
+                FilterWatchListDeletable<T, L, Boolean, Watch, Watcher<T>> selected = operation;
+                future.complete(timed("list", () -> selected.list().getItems()));
             }, true, result
         );
         return result;
@@ -338,4 +444,43 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient, T ext
             timeoutMs,
             () -> predicate.test(namespace, name));
     }
+
+    /**
+     * Returns a future that completes when the resource identified by the given {@code namespace} and {@code name}
+     * satisfies the given {@code predicate}, which is passed null once the resource does not exist.
+     * The resource is watched rather than polled, so the future completes as soon as the resource changes.
+     *
+     * @param namespace The namespace.
+     * @param name The resource name.
+     * @param pollIntervalMs The poll interval in milliseconds, if the resource cannot be watched.
+     * @param timeoutMs The timeout, in milliseconds.
+     * @param predicate The predicate.
+     * @return A future that completes when the resource satisfies the predicate.
+     */
+    public Future<Void> watchUntil(String namespace, String name, long pollIntervalMs, long timeoutMs, Predicate<T> predicate) {
+        return watchUntil(namespace, name, pollIntervalMs, timeoutMs, predicate, (ns, n) -> predicate.test(get(ns, n)));
+    }
+
+    /**
+     * Like {@link #watchUntil(String, String, long, long, Predicate)}, but uses the given {@code pollPredicate},
+     * rather than getting the resource, to check whether the resource is already in the desired state
+     * when the watch is opened, and when the resource cannot be watched.
+     *
+     * @param namespace The namespace.
+     * @param name The resource name.
+     * @param pollIntervalMs The poll interval in milliseconds, if the resource cannot be watched.
+     * @param timeoutMs The timeout, in milliseconds.
+     * @param predicate The predicate for the resource in a watch event.
+     * @param pollPredicate The predicate for the namespace and name of the resource.
+     * @return A future that completes when the resource satisfies the predicate.
+     */
+    protected Future<Void> watchUntil(String namespace, String name, long pollIntervalMs, long timeoutMs,
+                                      Predicate<T> predicate, BiPredicate<String, String> pollPredicate) {
+        return new ResourceSupport(vertx).waitFor(operation().inNamespace(namespace).withName(name),
+            String.format("%s resource %s in namespace %s", resourceKind, name, namespace),
+            pollIntervalMs,
+            timeoutMs,
+            predicate,
+            () -> pollPredicate.test(namespace, name));
+    }
 }
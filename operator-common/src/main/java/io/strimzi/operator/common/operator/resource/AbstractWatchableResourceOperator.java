@@ -55,11 +55,24 @@ public abstract class AbstractWatchableResourceOperator<
     }
 
     public Watch watch(String namespace, Optional<LabelSelector> selector, Watcher<T> watcher) {
+        return watch(namespace, selector, null, watcher);
+    }
+
+    /**
+     * Watch the resources in the given namespace, starting from the given resource version.
+     * @param namespace The namespace, or {@link #ANY_NAMESPACE} to watch all namespaces.
+     * @param selector An optional selector to narrow the resources which are watched.
+     * @param resourceVersion The resource version to resume watching from,
+     *                        or null to start from the current state of the resources.
+     * @param watcher The watcher.
+     * @return The watch.
+     */
+    public Watch watch(String namespace, Optional<LabelSelector> selector, String resourceVersion, Watcher<T> watcher) {
         FilterWatchListDeletable<T, L, Boolean, Watch, Watcher<T>> operation
                 = ANY_NAMESPACE.equals(namespace) ? operation().inAnyNamespace() : operation().inNamespace(namespace);
         if (selector.isPresent()) {
             operation = operation.withLabelSelector(selector.get());
         }
-        return operation.watch(watcher);
+        return resourceVersion != null ? operation.withResourceVersion(resourceVersion).watch(watcher) : operation.watch(watcher);
     }
 }
@@ -5,6 +5,7 @@
 package io.strimzi.operator.common.operator.resource;
 
 import io.fabric8.kubernetes.api.model.DoneablePod;
+import io.fabric8.kubernetes.api.model.EventBuilder;
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.PodList;
 import io.fabric8.kubernetes.client.KubernetesClient;
@@ -15,6 +16,9 @@ import io.fabric8.kubernetes.client.dsl.PodResource;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+
 /**
  * Operations for {@code Pod}s, which support {@link #isReady(String, String)} and
  * {@link #watch(String, String, Watcher)} in addition to the usual operations.
@@ -70,9 +74,9 @@ public class PodOperator extends AbstractReadyResourceOperator<KubernetesClient,
         log.debug("{}}: Waiting for pod {} to be deleted", logContext, podName);
         Future<Void> podReconcileFuture =
                 reconcile(namespace, podName, null).compose(ignore -> {
-                    Future<Void> del = waitFor(namespace, podName, pollingIntervalMs, timeoutMs, (ignore1, ignore2) -> {
+                    Future<Void> del = watchUntil(namespace, podName, pollingIntervalMs, timeoutMs, current -> {
                         // predicate - changed generation means pod has been updated
-                        String newUid = getPodUid(get(namespace, podName));
+                        String newUid = getPodUid(current);
                         boolean done = !deleted.equals(newUid);
                         if (done) {
                             log.debug("Rolling pod {} finished", podName);
@@ -91,6 +95,51 @@ public class PodOperator extends AbstractReadyResourceOperator<KubernetesClient,
         return deleteFinished;
     }
 
+    /**
+     * Asynchronously record a {@code Normal} event about the given pod, for example the reasons why it was restarted.
+     * Failing to create the event is logged, but does not fail the returned Future.
+     * @param pod The pod which the event is about.
+     * @param reason A short, machine readable, reason for the event.
+     * @param message A human readable description of the event.
+     * @return A Future which completes when the event has been created.
+     */
+    public Future<Void> recordEvent(Pod pod, String reason, String message) {
+        String namespace = pod.getMetadata().getNamespace();
+        String timestamp = ZonedDateTime.now().format(DateTimeFormatter.ISO_INSTANT);
+        Future<Void> result = Future.future();
+        vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
+            future -> {
+                try {
+                    client.events().inNamespace(namespace).create(new EventBuilder()
+                            .withNewMetadata()
+                                .withGenerateName(pod.getMetadata().getName() + "-")
+                                .withNamespace(namespace)
+                            .endMetadata()
+                            .withNewInvolvedObject()
+                                .withKind(pod.getKind())
+                                .withApiVersion(pod.getApiVersion())
+                                .withNamespace(namespace)
+                                .withName(pod.getMetadata().getName())
+                                .withUid(pod.getMetadata().getUid())
+                            .endInvolvedObject()
+                            .withType("Normal")
+                            .withReason(reason)
+                            .withMessage(message)
+                            .withFirstTimestamp(timestamp)
+                            .withLastTimestamp(timestamp)
+                            .withCount(1)
+                            .withNewSource()
+                                .withComponent("strimzi-cluster-operator")
+                            .endSource()
+                            .build());
+                } catch (RuntimeException e) {
+                    log.warn("Failed to record {} event for pod {}/{}", reason, namespace, pod.getMetadata().getName(), e);
+                }
+                future.complete();
+            }, true, result);
+        return result;
+    }
+
     private static String getPodUid(Pod resource) {
         if (resource == null || resource.getMetadata() == null) {
             return NO_UID;
@@ -0,0 +1,251 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.operator.resource;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.KubernetesResourceList;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import io.vertx.core.Vertx;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+/**
+ * <p>A local cache of all the resources of one kind in a namespace (or in all namespaces, when created for
+ * {@link AbstractWatchableResourceOperator#ANY_NAMESPACE}), keyed by namespace and name.
+ * The cache is filled by an initial LIST and then kept current by a WATCH started from the resourceVersion
+ * returned by that LIST. If the watch is closed the cache re-lists and re-watches.</p>
+ *
+ * <p>Reads from the cache are stale by (at least) the watch propagation delay:</p>
+ * <ul>
+ * <li>Writes made through the owning {@link AbstractResourceOperator} are written through to the cache
+ *     once the API server has accepted them, so a reconciliation observes its own writes.</li>
+ * <li>Changes made by anyone else (users, Kubernetes controllers, other writes of the operator which
+ *     bypass {@link AbstractResourceOperator#reconcile(String, String, HasMetadata)}) only become
+ *     visible once the corresponding watch event has been received.</li>
+ * <li>While the watch is being re-established reads are served from the last known state.</li>
+ * </ul>
+ *
+ * <p>A cached resource is only replaced by a resource with a higher resourceVersion, so a late watch event
+ * never overwrites a newer resource which was written through.</p>
+ *
+ * <p>Callers routinely modify the resources they get (for example to compute a patch), so the cache hands out
+ * and stores deep copies, never the instances it holds.</p>
+ *
+ * @param <T> The Kubernetes resource type.
+ */
+public class ResourceCache<T extends HasMetadata> {
+
+    private static final Logger log = LogManager.getLogger(ResourceCache.class);
+
+    private static final long RESTART_DELAY_MS = 5_000;
+
+    private final Vertx vertx;
+    private final String resourceKind;
+    private final String namespace;
+    private final Supplier<KubernetesResourceList<T>> lister;
+    private final BiFunction<String, Watcher<T>, Watch> watcher;
+
+    private final Map<String, T> resources = new ConcurrentHashMap<>();
+    private volatile Watch watch;
+    private volatile boolean closed = false;
+
+    /**
+     * Constructor.
+     * @param vertx The Vertx instance.
+     * @param resourceKind The kind of the cached resources (used for logging).
+     * @param namespace The namespace covered by this cache.
+     * @param lister Lists the resources in the namespace.
+     * @param watcher Starts a watch from the given resourceVersion.
+     */
+    public ResourceCache(Vertx vertx, String resourceKind, String namespace,
+                         Supplier<KubernetesResourceList<T>> lister,
+                         BiFunction<String, Watcher<T>, Watch> watcher) {
+        this.vertx = vertx;
+        this.resourceKind = resourceKind;
+        this.namespace = namespace;
+        this.lister = lister;
+        this.watcher = watcher;
+    }
+
+    static String key(String namespace, String name) {
+        return namespace + "/" + name;
+    }
+
+    /**
+     * Synchronously lists the resources and starts the watch.
+     * This method blocks, so it should be called from a worker thread.
+     */
+    public void start() {
+        if (closed) {
+            return;
+        }
+        String resourceVersion = relist();
+        watch = watcher.apply(resourceVersion, new CacheWatcher());
+        if (closed) {
+            // close() was called while the watch was being started, so it could not close this watch
+            watch.close();
+            return;
+        }
+        log.debug("Started {} cache in namespace {} at resourceVersion {}", resourceKind, namespace, resourceVersion);
+    }
+
+    /**
+     * Stops the watch. The cache contents are retained but will no longer be updated.
+     */
+    public void close() {
+        closed = true;
+        Watch w = watch;
+        if (w != null) {
+            w.close();
+        }
+    }
+
+    /**
+     * Replace the contents of the cache with a fresh LIST.
+     * @return The resourceVersion of the list.
+     */
+    private String relist() {
+        KubernetesResourceList<T> list = lister.get();
+        Set<String> listed = new HashSet<>();
+        for (T resource : list.getItems()) {
+            listed.add(key(resource));
+            store(resource);
+        }
+        resources.keySet().retainAll(listed);
+        return list.getMetadata() != null ? list.getMetadata().getResourceVersion() : null;
+    }
+
+    private void restart() {
+        if (closed) {
+            return;
+        }
+        vertx.createSharedWorkerExecutor("kubernetes-ops-tool").executeBlocking(
+            future -> {
+                start();
+                future.complete();
+            },
+            true,
+            res -> {
+                if (res.failed()) {
+                    log.warn("Failed to restart {} cache in namespace {}, retrying in {}ms", resourceKind, namespace, RESTART_DELAY_MS, res.cause());
+                    vertx.setTimer(RESTART_DELAY_MS, ignored -> restart());
+                }
+            });
+    }
+
+    /**
+     * @param namespace The namespace.
+     * @param name The name.
+     * @return A copy of the cached resource, or null if it does not exist (as far as the cache knows).
+     */
+    public T get(String namespace, String name) {
+        return copy(resources.get(key(namespace, name)));
+    }
+
+    /**
+     * Store a copy of the given {@code resource} in the cache unless the cache already holds a newer version of it.
+     * @param resource The resource.
+     */
+    public void update(T resource) {
+        store(copy(resource));
+    }
+
+    private void store(T resource) {
+        if (resource == null || resource.getMetadata() == null) {
+            return;
+        }
+        resources.merge(key(resource), resource,
+            (cached, candidate) -> isNewer(cached, candidate) ? candidate : cached);
+    }
+
+    /**
+     * Remove the resource with the given {@code namespace} and {@code name} from the cache.
+     * @param namespace The namespace.
+     * @param name The name.
+     */
+    public void remove(String namespace, String name) {
+        resources.remove(key(namespace, name));
+    }
+
+    /**
+     * @return The number of cached resources.
+     */
+    public int size() {
+        return resources.size();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T copy(T resource) {
+        if (resource == null) {
+            return null;
+        }
+        try {
+            // Not convertValue(), which returns the resource itself when it is already of the requested type
+            return (T) Serialization.jsonMapper().readValue(Serialization.jsonMapper().writeValueAsBytes(resource), resource.getClass());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to copy " + resource.getClass().getSimpleName(), e);
+        }
+    }
+
+    private static String key(HasMetadata resource) {
+        return key(resource.getMetadata().getNamespace(), resource.getMetadata().getName());
+    }
+
+    /**
+     * Resource versions are opaque strings in the Kubernetes API, but they are etcd revisions in practice.
+     * When either version cannot be compared numerically the candidate is assumed to be newer.
+     */
+    static boolean isNewer(HasMetadata cached, HasMetadata candidate) {
+        try {
+            long cachedVersion = Long.parseLong(cached.getMetadata().getResourceVersion());
+            long candidateVersion = Long.parseLong(candidate.getMetadata().getResourceVersion());
+            return candidateVersion >= cachedVersion;
+        } catch (NumberFormatException | NullPointerException e) {
+            return true;
+        }
+    }
+
+    private class CacheWatcher implements Watcher<T> {
+        @Override
+        public void eventReceived(Action action, T resource) {
+            switch (action) {
+                case ADDED:
+                case MODIFIED:
+                    store(resource);
+                    break;
+                case DELETED:
+                    T cached = resources.get(key(resource));
+                    if (cached != null && isNewer(cached, resource)) {
+                        remove(resource.getMetadata().getNamespace(), resource.getMetadata().getName());
+                    }
+                    break;
+                default:
+                    log.warn("Unexpected {} watch event {} in namespace {}", resourceKind, action, namespace);
+            }
+        }
+
+        @Override
+        public void onClose(KubernetesClientException e) {
+            if (e != null) {
+                log.warn("{} cache watch in namespace {} closed with exception, re-listing", resourceKind, namespace, e);
+                restart();
+            } else {
+                log.debug("{} cache watch in namespace {} closed", resourceKind, namespace);
+            }
+        }
+    }
+}
@@ -8,15 +8,21 @@ import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.kubernetes.client.Watch;
 import io.fabric8.kubernetes.client.Watcher;
 import io.fabric8.kubernetes.client.dsl.Watchable;
+import io.strimzi.operator.common.Util;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.CompositeFuture;
+import io.vertx.core.Context;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.io.Closeable;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiFunction;
+import java.util.function.BooleanSupplier;
+import java.util.function.Predicate;
 
 public class ResourceSupport {
 
@@ -165,4 +171,163 @@ public class ResourceSupport {
 
         }.resultFuture;
     }
+
+    /**
+     * Returns a Future which completes when the resource watched through the given {@code watchable}
+     * satisfies the given {@code predicate}, or fails with a {@link TimeoutException} after {@code timeoutMs}.
+     *
+     * The {@code poll} condition is evaluated once, on a worker thread, after the watch has been opened,
+     * so that a resource which is already in the desired state does not wait for an event.
+     * After that the {@code predicate} is evaluated against each watch event (with null for a deletion),
+     * so no further requests are made to the Kubernetes API server.
+     * If the watch cannot be opened, or is closed with an error, this falls back to evaluating {@code poll}
+     * every {@code pollIntervalMs} until the remainder of the timeout, as {@link Util#waitFor} does.
+     *
+     * @param watchable The watchable for the resource.
+     * @param logContext Some context (for logging).
+     * @param pollIntervalMs The poll interval in milliseconds, used when falling back to polling.
+     * @param timeoutMs The timeout in milliseconds.
+     * @param predicate The desired state of the resource, given the resource from a watch event.
+     * @param poll The desired state of the resource, when it has to be fetched.
+     * @param <T> The type of watched resource.
+     * @return A Future which completes on the context thread when the resource is in the desired state.
+     */
+    public <T> Future<Void> waitFor(Watchable<Watch, Watcher<T>> watchable, String logContext,
+                                    long pollIntervalMs, long timeoutMs,
+                                    Predicate<T> predicate, BooleanSupplier poll) {
+        return new WaitingWatcher<>(watchable, logContext, pollIntervalMs, timeoutMs, predicate, poll).start();
+    }
+
+    private class WaitingWatcher<T> implements Watcher<T> {
+        private final Watchable<Watch, Watcher<T>> watchable;
+        private final String logContext;
+        private final long pollIntervalMs;
+        private final long timeoutMs;
+        private final long deadline;
+        private final Predicate<T> predicate;
+        private final BooleanSupplier poll;
+        private final Context context = vertx.getOrCreateContext();
+        private final Future<Void> result = Future.future();
+        private final AtomicBoolean done = new AtomicBoolean(false);
+        private final AtomicReference<Watch> watch = new AtomicReference<>();
+        private long timerId;
+
+        WaitingWatcher(Watchable<Watch, Watcher<T>> watchable, String logContext,
+                       long pollIntervalMs, long timeoutMs,
+                       Predicate<T> predicate, BooleanSupplier poll) {
+            this.watchable = watchable;
+            this.logContext = logContext;
+            this.pollIntervalMs = pollIntervalMs;
+            this.timeoutMs = timeoutMs;
+            this.deadline = System.currentTimeMillis() + timeoutMs;
+            this.predicate = predicate;
+            this.poll = poll;
+        }
+
+        Future<Void> start() {
+            LOGGER.debug("Waiting for {} to get ready", logContext);
+            timerId = vertx.setTimer(Math.max(1, timeoutMs), ignored -> {
+                String exceptionMessage = String.format("Exceeded timeout of %dms while waiting for %s to be ready", timeoutMs, logContext);
+                if (complete(new TimeoutException(exceptionMessage))) {
+                    LOGGER.error(exceptionMessage);
+                }
+            });
+            vertx.createSharedWorkerExecutor("kubernetes-ops-pool").<Boolean>executeBlocking(
+                future -> {
+                    Watch opened;
+                    try {
+                        opened = watchable.watch(this);
+                    } catch (Throwable t) {
+                        LOGGER.debug("Could not watch {}, polling instead", logContext, t);
+                        opened = null;
+                    }
+                    if (opened == null) {
+                        future.complete(null);
+                        return;
+                    }
+                    watch.set(opened);
+                    if (done.get()) {
+                        closeWatch();
+                        future.complete(Boolean.TRUE);
+                    } else {
+                        future.complete(poll.getAsBoolean());
+                    }
+                },
+                true,
+                res -> {
+                    if (res.failed()) {
+                        LOGGER.warn("Caught exception while waiting for {} to get ready", logContext, res.cause());
+                        complete(res.cause());
+                    } else if (res.result() == null) {
+                        fallBackToPolling(timeoutMs);
+                    } else if (res.result()) {
+                        complete(null);
+                    }
+                });
+            return result;
+        }
+
+        @Override
+        public void eventReceived(Action action, T resource) {
+            if (action == Action.ERROR || done.get()) {
+                return;
+            }
+            try {
+                if (predicate.test(action == Action.DELETED ? null : resource)) {
+                    complete(null);
+                } else {
+                    LOGGER.trace("{} is not ready", logContext);
+                }
+            } catch (Throwable t) {
+                LOGGER.warn("Caught exception while waiting for {} to get ready", logContext, t);
+                complete(t);
+            }
+        }
+
+        @Override
+        public void onClose(KubernetesClientException cause) {
+            if (cause != null && !done.get()) {
+                LOGGER.debug("Watch on {} closed, polling instead", logContext, cause);
+                watch.set(null);
+                context.runOnContext(ignored -> fallBackToPolling(Math.max(0, deadline - System.currentTimeMillis())));
+            }
+        }
+
+        private void fallBackToPolling(long remainingMs) {
+            if (done.get()) {
+                return;
+            }
+            vertx.cancelTimer(timerId);
+            Util.waitFor(vertx, logContext, pollIntervalMs, remainingMs, poll)
+                    .setHandler(ar -> complete(ar.cause()));
+        }
+
+        /**
+         * Completes the result with the given failure, or successfully if {@code cause} is null.
+         * @return Whether this call completed the result.
+         */
+        private boolean complete(Throwable cause) {
+            if (!done.compareAndSet(false, true)) {
+                return false;
+            }
+            vertx.cancelTimer(timerId);
+            closeWatch();
+            context.runOnContext(ignored -> {
+                if (cause == null) {
+                    LOGGER.debug("{} is ready", logContext);
+                    result.complete();
+                } else {
+                    result.fail(cause);
+                }
+            });
+            return true;
+        }
+
+        private void closeWatch() {
+            Watch opened = watch.getAndSet(null);
+            if (opened != null) {
+                closeOnWorkerThread(opened);
+            }
+        }
+    }
 }
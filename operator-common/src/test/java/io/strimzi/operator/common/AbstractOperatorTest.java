@@ -0,0 +1,133 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
+import io.strimzi.api.kafka.KafkaList;
+import io.strimzi.api.kafka.model.DoneableKafka;
+import io.strimzi.api.kafka.model.Kafka;
+import io.strimzi.api.kafka.model.KafkaBuilder;
+import io.strimzi.operator.common.metrics.OperatorMetrics;
+import io.strimzi.operator.common.operator.resource.AbstractWatchableResourceOperator;
+import io.strimzi.operator.common.operator.resource.CrdOperator;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.net.HttpURLConnection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(VertxExtension.class)
+public class AbstractOperatorTest {
+
+    private static final String KIND = "WatchTestKind";
+
+    private static Vertx vertx;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    private static class TestOperator extends AbstractOperator<Kafka, CrdOperator<KubernetesClient, Kafka, KafkaList, DoneableKafka>> {
+        TestOperator(CrdOperator<KubernetesClient, Kafka, KafkaList, DoneableKafka> resourceOperator) {
+            super(AbstractOperatorTest.vertx, KIND, resourceOperator);
+        }
+
+        @Override
+        protected Future<Void> createOrUpdate(Reconciliation reconciliation, Kafka resource) {
+            return Future.succeededFuture();
+        }
+
+        @Override
+        protected Future<Boolean> delete(Reconciliation reconciliation) {
+            return Future.succeededFuture(Boolean.TRUE);
+        }
+    }
+
+    private static Kafka kafka(String namespace, String resourceVersion) {
+        return new KafkaBuilder()
+                .withNewMetadata()
+                    .withNamespace(namespace)
+                    .withName("my-cluster")
+                    .withResourceVersion(resourceVersion)
+                .endMetadata()
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testWatchIsResumedFromLastResourceVersionAndRelistedWhenGone(VertxTestContext context) {
+        CrdOperator<KubernetesClient, Kafka, KafkaList, DoneableKafka> resourceOperator = mock(CrdOperator.class);
+        List<String> resourceVersions = new CopyOnWriteArrayList<>();
+        List<Watcher<Kafka>> watchers = new CopyOnWriteArrayList<>();
+        when(resourceOperator.watch(eq(AbstractWatchableResourceOperator.ANY_NAMESPACE), any(Optional.class), any(), any(Watcher.class))).thenAnswer(invocation -> {
+            resourceVersions.add(invocation.getArgument(2));
+            watchers.add(invocation.getArgument(3));
+            return mock(Watch.class);
+        });
+
+        TestOperator operator = new TestOperator(resourceOperator);
+        Set<String> namespaces = new HashSet<>(asList("ns1", "ns2"));
+        long resumed = OperatorMetrics.WATCH_RESTARTS.get(KIND, "resumed");
+        long relisted = OperatorMetrics.WATCH_RESTARTS.get(KIND, "relisted");
+
+        Checkpoint async = context.checkpoint();
+        operator.createWatch(namespaces, operator.recreateWatch(namespaces)).compose(w -> {
+            // Events for resources in other namespaces still advance the resource version
+            watchers.get(0).eventReceived(Watcher.Action.MODIFIED, kafka("other", "5"));
+            watchers.get(0).onClose(new KubernetesClientException("Connection reset"));
+            return waitForWatches(watchers, 2);
+        }).compose(w -> {
+            watchers.get(1).onClose(new KubernetesClientException("Gone", HttpURLConnection.HTTP_GONE, null));
+            return waitForWatches(watchers, 3);
+        }).setHandler(context.succeeding(w -> context.verify(() -> {
+            assertThat(resourceVersions.get(0), is(nullValue()));
+            assertThat(resourceVersions.get(1), is("5"));
+            assertThat(resourceVersions.get(2), is(nullValue()));
+            assertThat(OperatorMetrics.WATCH_RESTARTS.get(KIND, "resumed"), is(resumed + 1));
+            assertThat(OperatorMetrics.WATCH_RESTARTS.get(KIND, "relisted"), is(relisted + 1));
+            async.flag();
+        })));
+    }
+
+    private static Future<Void> waitForWatches(List<?> watchers, int count) {
+        Future<Void> result = Future.future();
+        vertx.setPeriodic(10, timer -> {
+            if (watchers.size() >= count) {
+                vertx.cancelTimer(timer);
+                result.complete();
+            }
+        });
+        return result;
+    }
+}
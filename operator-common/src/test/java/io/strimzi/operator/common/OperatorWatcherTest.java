@@ -0,0 +1,111 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.client.Watcher;
+import io.strimzi.operator.common.model.NamespaceAndName;
+import io.strimzi.operator.common.operator.resource.AbstractWatchableResourceOperator;
+import io.vertx.core.Future;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singleton;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class OperatorWatcherTest {
+
+    private static class RecordingOperator implements Operator {
+        final List<String> listedNamespaces = new ArrayList<>();
+        final Set<NamespaceAndName> reconciled = new HashSet<>();
+
+        @Override
+        public String kind() {
+            return "ConfigMap";
+        }
+
+        @Override
+        public Future<Void> reconcile(Reconciliation reconciliation) {
+            reconciled.add(new NamespaceAndName(reconciliation.namespace(), reconciliation.name()));
+            return Future.succeededFuture();
+        }
+
+        @Override
+        public Future<Set<NamespaceAndName>> allResourceNames(String namespace) {
+            listedNamespaces.add(namespace);
+            return Future.succeededFuture(new HashSet<>(asList(
+                    new NamespaceAndName("ns1", "a"),
+                    new NamespaceAndName("ns2", "b"),
+                    new NamespaceAndName("other", "c"))));
+        }
+    }
+
+    private static ConfigMap resource(String namespace, String name) {
+        return new ConfigMapBuilder().withNewMetadata().withNamespace(namespace).withName(name).endMetadata().build();
+    }
+
+    @Test
+    public void testEventsForOtherNamespacesAreIgnored() {
+        RecordingOperator operator = new RecordingOperator();
+        OperatorWatcher<ConfigMap> watcher = new OperatorWatcher<>(operator, new HashSet<>(asList("ns1", "ns2")), null, e -> { });
+
+        watcher.eventReceived(Watcher.Action.ADDED, resource("ns1", "a"));
+        watcher.eventReceived(Watcher.Action.MODIFIED, resource("ns2", "b"));
+        watcher.eventReceived(Watcher.Action.ADDED, resource("other", "c"));
+
+        assertThat(operator.reconciled, is(new HashSet<>(asList(new NamespaceAndName("ns1", "a"), new NamespaceAndName("ns2", "b")))));
+    }
+
+    @Test
+    public void testEventsForAnyNamespaceAreReconciled() {
+        RecordingOperator operator = new RecordingOperator();
+        OperatorWatcher<ConfigMap> watcher = new OperatorWatcher<>(operator, AbstractWatchableResourceOperator.ANY_NAMESPACE, e -> { });
+
+        watcher.eventReceived(Watcher.Action.DELETED, resource("other", "c"));
+
+        assertThat(operator.reconciled, is(singleton(new NamespaceAndName("other", "c"))));
+    }
+
+    @Test
+    public void testResourceVersionIsTrackedAndErrorsDoNotRelist() {
+        RecordingOperator operator = new RecordingOperator();
+        OperatorWatcher<ConfigMap> watcher = new OperatorWatcher<>(operator, singleton("ns1"), "1", e -> { });
+        assertThat(watcher.resourceVersion(), is("1"));
+
+        ConfigMap resource = resource("ns1", "a");
+        resource.getMetadata().setResourceVersion("7");
+        watcher.eventReceived(Watcher.Action.MODIFIED, resource);
+        watcher.eventReceived(Watcher.Action.ERROR, null);
+
+        assertThat(watcher.resourceVersion(), is("7"));
+        assertThat(operator.listedNamespaces.isEmpty(), is(true));
+    }
+
+    @Test
+    public void testReconcileAllListsOnceForSeveralNamespaces() {
+        RecordingOperator operator = new RecordingOperator();
+
+        operator.reconcileAll("test", new HashSet<>(asList("ns1", "ns2")), ignored -> { });
+
+        assertThat(operator.listedNamespaces, is(asList(AbstractWatchableResourceOperator.ANY_NAMESPACE)));
+        assertThat(operator.reconciled, is(new HashSet<>(asList(new NamespaceAndName("ns1", "a"), new NamespaceAndName("ns2", "b")))));
+    }
+
+    @Test
+    public void testReconcileAllListsTheNamespaceForASingleNamespace() {
+        RecordingOperator operator = new RecordingOperator();
+
+        operator.reconcileAll("test", singleton("ns1"), ignored -> { });
+
+        assertThat(operator.listedNamespaces, is(asList("ns1")));
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.strimzi.operator.common.model.NamespaceAndName;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singleton;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThan;
+
+@ExtendWith(VertxExtension.class)
+public class PeriodicReconcilerTest {
+
+    private static Vertx vertx;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    private static class RecordingOperator implements Operator {
+        private final String kind;
+        private final int count;
+        final List<String> reconciled = new CopyOnWriteArrayList<>();
+
+        RecordingOperator(String kind, int count) {
+            this.kind = kind;
+            this.count = count;
+        }
+
+        @Override
+        public String kind() {
+            return kind;
+        }
+
+        @Override
+        public Future<Void> reconcile(Reconciliation reconciliation) {
+            reconciled.add(reconciliation.name());
+            return Future.succeededFuture();
+        }
+
+        @Override
+        public Future<Set<NamespaceAndName>> allResourceNames(String namespace) {
+            return Future.succeededFuture(IntStream.range(0, count)
+                    .mapToObj(i -> new NamespaceAndName(namespace, "resource-" + i))
+                    .collect(Collectors.toSet()));
+        }
+    }
+
+    @Test
+    public void testOffsetsAreSpreadEvenlyAcrossTheInterval() {
+        PeriodicReconciler reconciler = new PeriodicReconciler(vertx, 60_000, 0.5, new Random(42));
+        long[] offsets = reconciler.offsets(100);
+
+        for (int i = 0; i < offsets.length; i++) {
+            // Each reconciliation starts within the first half of its own 600ms slot
+            assertThat(offsets[i], greaterThanOrEqualTo(i * 600L));
+            assertThat(offsets[i], lessThan(i * 600L + 300L));
+        }
+    }
+
+    @Test
+    public void testOffsetsWithoutJitterAreDeterministic() {
+        PeriodicReconciler reconciler = new PeriodicReconciler(vertx, 1_000, 0, new Random());
+        assertThat(reconciler.offsets(4)[3], is(750L));
+        assertThat(reconciler.offsets(0).length, is(0));
+    }
+
+    @Test
+    public void testAllResourcesOfAllOperatorsAreReconciled(VertxTestContext context) {
+        RecordingOperator kafkas = new RecordingOperator("Kafka", 5);
+        RecordingOperator connects = new RecordingOperator("KafkaConnect", 3);
+        PeriodicReconciler reconciler = new PeriodicReconciler(vertx, 200);
+
+        Checkpoint async = context.checkpoint();
+        // Schedule from an event loop, as the operators do
+        vertx.runOnContext(ignored -> reconciler.reconcileAll("timer", singleton("ns"), asList(kafkas, connects)).setHandler(context.succeeding(v -> context.verify(() -> {
+            assertThat(kafkas.reconciled.size(), is(5));
+            assertThat(connects.reconciled.size(), is(3));
+            async.flag();
+        }))));
+    }
+
+    @Test
+    public void testCancelledReconciliationsAreNotRun(VertxTestContext context) {
+        RecordingOperator kafkas = new RecordingOperator("Kafka", 5);
+        PeriodicReconciler reconciler = new PeriodicReconciler(vertx, 60_000);
+
+        Checkpoint async = context.checkpoint();
+        reconciler.reconcileAll("timer", singleton("ns"), asList(kafkas));
+        reconciler.cancel();
+        vertx.setTimer(100, t -> context.verify(() -> {
+            assertThat(kafkas.reconciled.isEmpty(), is(true));
+            async.flag();
+        }));
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.strimzi.operator.cluster.model.InvalidResourceException;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+@ExtendWith(VertxExtension.class)
+public class WorkQueueTest {
+
+    private static Vertx vertx;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    private static Reconciliation reconciliation(String name) {
+        return new Reconciliation("test", "Kafka", "ns", name);
+    }
+
+    @Test
+    public void testPendingReconciliationsAreCollapsed(VertxTestContext context) {
+        List<Future<Void>> runs = new ArrayList<>();
+        WorkQueue queue = new WorkQueue(vertx, "Kafka", r -> {
+            Future<Void> run = Future.future();
+            runs.add(run);
+            return run;
+        }, BackOff::new);
+
+        Future<Void> first = queue.enqueue(reconciliation("my-cluster"));
+        Future<Void> second = queue.enqueue(reconciliation("my-cluster"));
+        Future<Void> third = queue.enqueue(reconciliation("my-cluster"));
+
+        // Only the first is running; the others wait for it, as a single reconciliation
+        assertThat(runs.size(), is(1));
+        assertThat(queue.depth(), is(1));
+
+        runs.get(0).complete();
+        assertThat(first.succeeded(), is(true));
+        assertThat(second.isComplete(), is(false));
+        assertThat(runs.size(), is(2));
+        assertThat(queue.depth(), is(0));
+
+        runs.get(1).complete();
+        assertThat(second.succeeded(), is(true));
+        assertThat(third.succeeded(), is(true));
+        assertThat(runs.size(), is(2));
+        context.completeNow();
+    }
+
+    @Test
+    public void testDifferentResourcesAreReconciledConcurrently(VertxTestContext context) {
+        List<Future<Void>> runs = new ArrayList<>();
+        WorkQueue queue = new WorkQueue(vertx, "Kafka", r -> {
+            Future<Void> run = Future.future();
+            runs.add(run);
+            return run;
+        }, BackOff::new);
+
+        Future<Void> first = queue.enqueue(reconciliation("cluster-a"));
+        Future<Void> second = queue.enqueue(reconciliation("cluster-b"));
+        assertThat(runs.size(), is(2));
+        assertThat(queue.depth(), is(0));
+
+        runs.forEach(Future::complete);
+        CompositeFuture.join(asList(first, second)).setHandler(context.succeeding(v -> context.completeNow()));
+    }
+
+    @Test
+    public void testFailedReconciliationIsRetried(VertxTestContext context) {
+        AtomicInteger runs = new AtomicInteger();
+        WorkQueue queue = new WorkQueue(vertx, "Kafka", r -> {
+            if (runs.incrementAndGet() < 3) {
+                return Future.failedFuture(new RuntimeException("failure " + runs.get()));
+            } else {
+                context.verify(() -> assertThat(r.toString().contains("(retry)"), is(true)));
+                context.completeNow();
+                return Future.succeededFuture();
+            }
+        }, () -> new BackOff(10, 2, 5));
+
+        // Enqueue on an event loop, where the operators run their reconciliations and schedule their retries
+        vertx.runOnContext(v -> queue.enqueue(reconciliation("my-cluster")).setHandler(context.failing(e ->
+            context.verify(() -> assertThat(e.getMessage(), is("failure 1"))))));
+    }
+
+    @Test
+    public void testRetriesGiveUpAfterMaxAttempts(VertxTestContext context) {
+        AtomicInteger runs = new AtomicInteger();
+        WorkQueue queue = new WorkQueue(vertx, "Kafka", r -> {
+            runs.incrementAndGet();
+            return Future.failedFuture(new RuntimeException());
+        }, () -> new BackOff(10, 1, 2));
+
+        vertx.runOnContext(v -> queue.enqueue(reconciliation("my-cluster")));
+        vertx.setTimer(500, id -> {
+            context.verify(() -> assertThat(runs.get(), is(3)));
+            context.completeNow();
+        });
+    }
+
+    @Test
+    public void testInvalidResourceIsNotRetried(VertxTestContext context) {
+        AtomicInteger runs = new AtomicInteger();
+        WorkQueue queue = new WorkQueue(vertx, "Kafka", r -> {
+            runs.incrementAndGet();
+            return Future.failedFuture(new InvalidResourceException("invalid"));
+        }, () -> new BackOff(10, 1, 2));
+
+        queue.enqueue(reconciliation("my-cluster"));
+        vertx.setTimer(200, id -> {
+            context.verify(() -> assertThat(runs.get(), is(1)));
+            context.completeNow();
+        });
+    }
+
+    @Test
+    public void testConcurrencyIsBounded(VertxTestContext context) {
+        List<String> started = new ArrayList<>();
+        List<Future<Void>> runs = new ArrayList<>();
+        WorkQueue queue = new WorkQueue(vertx, "Kafka", r -> {
+            Future<Void> run = Future.future();
+            started.add(r.name());
+            runs.add(run);
+            return run;
+        }, BackOff::new, 2);
+
+        queue.enqueue(reconciliation("a"));
+        queue.enqueue(reconciliation("b"));
+        queue.enqueue(reconciliation("c"));
+        queue.enqueue(reconciliation("d"));
+        assertThat(started, is(asList("a", "b")));
+        assertThat(queue.active(), is(2));
+        assertThat(queue.depth(), is(2));
+
+        // A reconciliation of a running resource waits for a slot behind the resources which were already waiting
+        queue.enqueue(reconciliation("a"));
+        runs.get(0).complete();
+        assertThat(started, is(asList("a", "b", "c")));
+        runs.get(1).complete();
+        runs.get(2).complete();
+        assertThat(started, is(asList("a", "b", "c", "d", "a")));
+        assertThat(queue.active(), is(2));
+        assertThat(queue.depth(), is(0));
+        context.completeNow();
+    }
+
+    @Test
+    public void testThrowingReconciliationFails(VertxTestContext context) {
+        WorkQueue queue = new WorkQueue(vertx, "Kafka", r -> {
+            throw new InvalidResourceException("invalid");
+        }, BackOff::new);
+
+        queue.enqueue(reconciliation("my-cluster")).setHandler(context.failing(e -> {
+            context.verify(() -> assertThat(e instanceof InvalidResourceException, is(true)));
+            context.completeNow();
+        }));
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class MetricsRegistryTest {
+
+    @Test
+    public void testHistogramIsScrapedInPrometheusFormat() {
+        MetricsRegistry registry = new MetricsRegistry();
+        Histogram histogram = registry.histogram("test_duration_seconds", "A test", new double[] {1, 0.25}, "kind");
+        histogram.observe(0.125, "Kafka");
+        histogram.observe(0.25, "Kafka");
+        histogram.observe(0.5, "Kafka");
+        histogram.observe(2, "Kafka");
+        histogram.observe(0.01, "Kafka\"Connect");
+
+        String scraped = registry.scrape();
+        assertThat(scraped, containsString("# HELP test_duration_seconds A test\n"
+                + "# TYPE test_duration_seconds histogram\n"));
+        assertThat(scraped, containsString("test_duration_seconds_bucket{kind=\"Kafka\",le=\"0.25\"} 2\n"
+                + "test_duration_seconds_bucket{kind=\"Kafka\",le=\"1.0\"} 3\n"
+                + "test_duration_seconds_bucket{kind=\"Kafka\",le=\"+Inf\"} 4\n"
+                + "test_duration_seconds_sum{kind=\"Kafka\"} 2.875\n"
+                + "test_duration_seconds_count{kind=\"Kafka\"} 4\n"));
+        assertThat(scraped, containsString("test_duration_seconds_count{kind=\"Kafka\\\"Connect\"} 1\n"));
+        assertThat(histogram.count("Kafka"), is(4L));
+        assertThat(histogram.count("KafkaBridge"), is(0L));
+    }
+
+    @Test
+    public void testHistogramWithoutLabels() {
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.histogram("test_seconds", "A test").observe(0.2);
+        String scraped = registry.scrape();
+        assertThat(scraped, containsString("test_seconds_bucket{le=\"0.25\"} 1\n"));
+        assertThat(scraped, containsString("test_seconds_count 1\n"));
+        assertThat(scraped, not(containsString("{}")));
+    }
+
+    @Test
+    public void testHistogramIsRegisteredOnce() {
+        MetricsRegistry registry = new MetricsRegistry();
+        Histogram histogram = registry.histogram("test_seconds", "A test", "kind");
+        assertThat(registry.histogram("test_seconds", "A test", "kind") == histogram, is(true));
+    }
+
+    @Test
+    public void testWrongNumberOfLabelValues() {
+        Histogram histogram = new MetricsRegistry().histogram("test_seconds", "A test", "kind", "step");
+        assertThrows(IllegalArgumentException.class, () -> histogram.observe(1, "Kafka"));
+    }
+
+    @Test
+    public void testGaugeIsScrapedInPrometheusFormat() {
+        MetricsRegistry registry = new MetricsRegistry();
+        Gauge gauge = registry.gauge("test_depth", "A test", "kind");
+        gauge.inc("Kafka");
+        gauge.inc("Kafka");
+        gauge.dec("Kafka");
+        gauge.set(5, "KafkaConnect");
+
+        String scraped = registry.scrape();
+        assertThat(scraped, containsString("# HELP test_depth A test\n"
+                + "# TYPE test_depth gauge\n"
+                + "test_depth{kind=\"Kafka\"} 1\n"
+                + "test_depth{kind=\"KafkaConnect\"} 5\n"));
+        assertThat(gauge.get("Kafka"), is(1L));
+        assertThat(gauge.get("KafkaBridge"), is(0L));
+    }
+
+    @Test
+    public void testCounterIsScrapedInPrometheusFormat() {
+        MetricsRegistry registry = new MetricsRegistry();
+        Counter counter = registry.counter("test_restarts_total", "A test", "kind");
+        counter.inc("Kafka");
+        counter.inc("Kafka");
+        counter.inc("KafkaConnect");
+
+        String scraped = registry.scrape();
+        assertThat(scraped, containsString("# HELP test_restarts_total A test\n"
+                + "# TYPE test_restarts_total counter\n"
+                + "test_restarts_total{kind=\"Kafka\"} 2\n"
+                + "test_restarts_total{kind=\"KafkaConnect\"} 1\n"));
+        assertThat(counter.get("Kafka"), is(2L));
+        assertThat(counter.get("KafkaBridge"), is(0L));
+    }
+
+    @Test
+    public void testMetricNameCannotBeReusedForAnotherType() {
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.histogram("test_seconds", "A test");
+        assertThrows(IllegalArgumentException.class, () -> registry.gauge("test_seconds", "A test"));
+    }
+}
@@ -7,6 +7,8 @@ package io.strimzi.operator.common.operator.resource;
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesResourceList;
 import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
 import io.fabric8.kubernetes.client.dsl.Deletable;
 import io.fabric8.kubernetes.client.dsl.EditReplacePatchDeletable;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
@@ -22,6 +24,9 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -30,6 +35,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.matches;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -321,4 +327,39 @@ public abstract class AbstractResourceOperatorTest<C extends KubernetesClient, T
             async.flag();
         });
     }
+
+    @Test
+    public void watchUntilCompletesOnWatchEventWithoutPolling(VertxTestContext context) {
+        T resource = resource();
+        Resource mockResource = mock(resourceType());
+        when(mockResource.get()).thenReturn(null);
+        AtomicBoolean watchWasClosed = new AtomicBoolean(false);
+        when(mockResource.watch(any())).thenAnswer(invocation -> {
+            Watcher<T> watcher = invocation.getArgument(0);
+            vertx.setTimer(200, ignored -> watcher.eventReceived(Watcher.Action.ADDED, resource));
+            return (Watch) () -> watchWasClosed.set(true);
+        });
+
+        NonNamespaceOperation mockNameable = mock(NonNamespaceOperation.class);
+        when(mockNameable.withName(matches(resource.getMetadata().getName()))).thenReturn(mockResource);
+
+        MixedOperation mockCms = mock(MixedOperation.class);
+        when(mockCms.inNamespace(matches(resource.getMetadata().getNamespace()))).thenReturn(mockNameable);
+
+        C mockClient = mock(clientType());
+        mocker(mockClient, mockCms);
+
+        AbstractResourceOperator<C, T, L, D, R> op = createResourceOperations(vertx, mockClient);
+
+        Checkpoint async = context.checkpoint();
+        op.watchUntil(NAMESPACE, RESOURCE_NAME, 20, 5_000, Objects::nonNull).setHandler(ar -> context.verify(() -> {
+            assertThat(ar.succeeded(), is(true));
+            // Only the check when the watch was opened, no polling while waiting for the event
+            verify(mockResource, times(1)).get();
+            vertx.setTimer(100, ignored -> context.verify(() -> {
+                assertThat("Watch was not closed", watchWasClosed.get(), is(true));
+                async.flag();
+            }));
+        }));
+    }
 }
@@ -0,0 +1,147 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.operator.resource;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.api.model.ConfigMapList;
+import io.fabric8.kubernetes.api.model.ConfigMapListBuilder;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
+import io.vertx.core.Vertx;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+
+public class ResourceCacheTest {
+
+    private static Vertx vertx;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    private static ConfigMap configMap(String name, String resourceVersion, String value) {
+        return new ConfigMapBuilder()
+                .withNewMetadata()
+                    .withNamespace("ns")
+                    .withName(name)
+                    .withResourceVersion(resourceVersion)
+                .endMetadata()
+                .addToData("key", value)
+                .build();
+    }
+
+    private ResourceCache<ConfigMap> startedCache(ConfigMapList list, AtomicReference<Watcher<ConfigMap>> watcherRef, AtomicReference<String> watchVersion) {
+        ResourceCache<ConfigMap> cache = new ResourceCache<>(vertx, "ConfigMap", "ns",
+            () -> list,
+            (resourceVersion, watcher) -> {
+                watchVersion.set(resourceVersion);
+                watcherRef.set(watcher);
+                return mock(Watch.class);
+            });
+        cache.start();
+        return cache;
+    }
+
+    @Test
+    public void testListThenWatchFromListVersion() {
+        ConfigMapList list = new ConfigMapListBuilder()
+                .withNewMetadata().withResourceVersion("10").endMetadata()
+                .withItems(configMap("a", "5", "a"), configMap("b", "7", "b"))
+                .build();
+        AtomicReference<Watcher<ConfigMap>> watcher = new AtomicReference<>();
+        AtomicReference<String> watchVersion = new AtomicReference<>();
+
+        ResourceCache<ConfigMap> cache = startedCache(list, watcher, watchVersion);
+
+        assertThat(watchVersion.get(), is("10"));
+        assertThat(cache.size(), is(2));
+        assertThat(cache.get("ns", "a").getData().get("key"), is("a"));
+        assertThat(cache.get("ns", "c"), is(nullValue()));
+
+        watcher.get().eventReceived(Watcher.Action.ADDED, configMap("c", "11", "c"));
+        watcher.get().eventReceived(Watcher.Action.MODIFIED, configMap("a", "12", "a2"));
+        watcher.get().eventReceived(Watcher.Action.DELETED, configMap("b", "13", "b"));
+
+        assertThat(cache.get("ns", "c").getData().get("key"), is("c"));
+        assertThat(cache.get("ns", "a").getData().get("key"), is("a2"));
+        assertThat(cache.get("ns", "b"), is(nullValue()));
+    }
+
+    @Test
+    public void testStaleEventDoesNotOverwriteWrittenThroughResource() {
+        ConfigMapList list = new ConfigMapListBuilder()
+                .withNewMetadata().withResourceVersion("10").endMetadata()
+                .withItems(configMap("a", "5", "a"))
+                .build();
+        AtomicReference<Watcher<ConfigMap>> watcher = new AtomicReference<>();
+        ResourceCache<ConfigMap> cache = startedCache(list, watcher, new AtomicReference<>());
+
+        // The operator patched the resource and wrote the result through
+        cache.update(configMap("a", "20", "patched"));
+        // ... then a watch event for an intermediate version arrives
+        watcher.get().eventReceived(Watcher.Action.MODIFIED, configMap("a", "15", "intermediate"));
+        assertThat(cache.get("ns", "a").getData().get("key"), is("patched"));
+
+        // A stale deletion also does not remove the newer resource
+        watcher.get().eventReceived(Watcher.Action.DELETED, configMap("a", "16", "intermediate"));
+        assertThat(cache.get("ns", "a").getData().get("key"), is("patched"));
+    }
+
+    @Test
+    public void testNonNumericResourceVersionsAreAlwaysApplied() {
+        ConfigMapList list = new ConfigMapListBuilder()
+                .withItems(configMap("a", "x", "a"))
+                .build();
+        AtomicReference<Watcher<ConfigMap>> watcher = new AtomicReference<>();
+        ResourceCache<ConfigMap> cache = startedCache(list, watcher, new AtomicReference<>());
+
+        watcher.get().eventReceived(Watcher.Action.MODIFIED, configMap("a", "y", "a2"));
+        assertThat(cache.get("ns", "a").getData().get("key"), is("a2"));
+    }
+
+    @Test
+    public void testCallersCannotModifyCachedResources() {
+        ConfigMapList list = new ConfigMapListBuilder()
+                .withItems(configMap("a", "5", "a"))
+                .build();
+        ResourceCache<ConfigMap> cache = startedCache(list, new AtomicReference<>(), new AtomicReference<>());
+
+        cache.get("ns", "a").getData().put("key", "modified");
+        assertThat(cache.get("ns", "a").getData().get("key"), is("a"));
+
+        ConfigMap written = configMap("a", "6", "written");
+        cache.update(written);
+        written.getData().put("key", "modified");
+        assertThat(cache.get("ns", "a").getData().get("key"), is("written"));
+    }
+
+    @Test
+    public void testWatchIsNotStartedAfterClose() {
+        ConfigMapList list = new ConfigMapListBuilder().build();
+        AtomicReference<Watcher<ConfigMap>> watcher = new AtomicReference<>();
+        ResourceCache<ConfigMap> cache = startedCache(list, watcher, new AtomicReference<>());
+        cache.close();
+
+        // A delayed restart after close must not re-open the watch
+        watcher.set(null);
+        cache.start();
+        assertThat(watcher.get(), is(nullValue()));
+    }
+}
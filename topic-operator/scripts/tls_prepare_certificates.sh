@@ -2,6 +2,12 @@
 
 set +x
 
+# Parameters:
+# $1: Directory of the new keystore and truststore (defaults to /tmp/topic-operator)
+# $2: Name of the certificate in the keystore (defaults to topic-operator)
+STORE_DIR=${1:-/tmp/topic-operator}
+KEY_NAME=${2:-topic-operator}
+
 # Parameters:
 # $1: Path to the new truststore
 # $2: Truststore password
@@ -19,18 +25,18 @@ function create_truststore {
 # $5: CA public key to be imported
 # $6: Alias of the certificate
 function create_keystore {
-   RANDFILE=/tmp/.rnd openssl pkcs12 -export -in $3 -inkey $4 -name topic-operator -password pass:$2 -out $1
+   RANDFILE=/tmp/.rnd openssl pkcs12 -export -in $3 -inkey $4 -name $KEY_NAME -password pass:$2 -out $1
 }
 
 echo "Preparing certificates for internal communication"
-STORE=/tmp/topic-operator/replication.truststore.p12
+STORE=$STORE_DIR/replication.truststore.p12
 for CRT in /etc/tls-sidecar/cluster-ca-certs/*.crt; do
   ALIAS=$(basename "$CRT" .crt)
   echo "Adding $CRT to truststore $STORE with alias $ALIAS"
   create_truststore "$STORE" "$CERTS_STORE_PASSWORD" "$CRT" "$ALIAS"
 done
 
-create_keystore /tmp/topic-operator/replication.keystore.p12 $CERTS_STORE_PASSWORD \
+create_keystore $STORE_DIR/replication.keystore.p12 $CERTS_STORE_PASSWORD \
     /etc/tls-sidecar/eo-certs/entity-operator.crt \
     /etc/tls-sidecar/eo-certs/entity-operator.key \
     /etc/tls-sidecar/cluster-ca-certs/ca.crt \
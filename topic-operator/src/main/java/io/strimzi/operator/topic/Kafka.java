@@ -6,6 +6,7 @@ package io.strimzi.operator.topic;
 
 import io.vertx.core.Future;
 
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -65,6 +66,21 @@ public interface Kafka {
      */
     Future<TopicMetadata> topicMetadata(TopicName topicName);
 
+    /**
+     * Asynchronously fetch the metadata of all the given topics in Kafka using a single
+     * request for the descriptions and a single request for the configs,
+     * completing the returned Future with the requested metadata.
+     * The returned map has an entry for each of the given topics whose metadata could be determined:
+     * If a topic does not exist its entry will have a null value.
+     * If the metadata of a topic could not be fetched for another reason the topic will be absent from the map,
+     * so that the caller can fall back to {@link #topicMetadata(TopicName)} for it.
+     * If the operation fails as a whole the returned Future will be failed with the
+     * KafkaException (not an ExecutionException).
+     * @param topicNames The names of the topics to get the metadata of.
+     * @return A future which is completed with the requested metadata.
+     */
+    Future<Map<TopicName, TopicMetadata>> topicMetadatas(Set<TopicName> topicNames);
+
     /**
      * Asynchronously list the names of the topics available in Kafka,
      * completing the returned Future with the topic names.
@@ -5,7 +5,9 @@
 package io.strimzi.operator.topic;
 
 import io.strimzi.operator.common.Util;
+import io.strimzi.operator.common.metrics.OperatorMetrics;
 import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
@@ -23,9 +25,12 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 /**
  * Partial implementation of {@link Kafka} omitting those methods which imply a partition assignment.
@@ -52,20 +57,57 @@ public class KafkaImpl implements Kafka {
         this.stopped = true;
     }
 
-    abstract class Work implements Runnable, Handler<Void> {
-        @Override
-        public void run() {
-            if (!stopped && !complete()) {
-                vertx.runOnContext(this);
+    /**
+     * Some work that depends on one or more {@code KafkaFuture}s.
+     * The work registers completion callbacks with its futures and, once they have all completed,
+     * hops back onto the Vert.x context it was queued from exactly once to run its handler.
+     */
+    abstract class Work implements Handler<Void> {
+        private final String operation;
+        private final long startNanos = System.nanoTime();
+        private Context context;
+
+        /**
+         * @param operation The name of the AdminClient operation, used as a metric label.
+         */
+        Work(String operation) {
+            this.operation = operation;
+        }
+
+        /**
+         * Register this work's completion callbacks and remember the context to complete on.
+         * @param context The context on which {@link #complete()} should be executed.
+         */
+        void queueOn(Context context) {
+            this.context = context;
+            register();
+        }
+
+        /**
+         * Called (on an AdminClient thread, or the calling thread if the futures were already complete)
+         * once all the futures of this work are done.
+         */
+        protected void done() {
+            OperatorMetrics.KAFKA_ADMIN_REQUEST_DURATION.observeSince(startNanos, operation);
+            if (!stopped) {
+                context.runOnContext(this);
             }
         }
 
         @Override
         public void handle(Void v) {
-            run();
+            complete();
         }
 
-        protected abstract boolean complete();
+        /**
+         * Register callbacks on the futures which result in {@link #done()} being called once they're all complete.
+         */
+        protected abstract void register();
+
+        /**
+         * Handle the result of the (now complete) futures.
+         */
+        protected abstract void complete();
     }
 
     /** Some work that depends on a single future */
@@ -75,6 +117,7 @@ public class KafkaImpl implements Kafka {
         private final String name;
 
         public UniWork(String name, KafkaFuture<T> future, Handler<AsyncResult<T>> handler) {
+            super(name);
             if (future == null) {
                 throw new NullPointerException();
             }
@@ -87,33 +130,30 @@ public class KafkaImpl implements Kafka {
         }
 
         @Override
-        protected boolean complete() {
-            if (this.future.isDone()) {
-                LOGGER.trace("Future {} of work {} is done", future, this);
+        protected void register() {
+            this.future.whenComplete((result, error) -> done());
+        }
+
+        @Override
+        protected void complete() {
+            LOGGER.trace("Future {} of work {} is done", future, this);
+            try {
                 try {
-                    try {
-                        T result = this.future.get();
-                        LOGGER.debug("Future {} has result {}", future, result);
-                        this.handler.handle(Future.succeededFuture(result));
-                        LOGGER.debug("Handler for work {} executed ok", this);
-                    } catch (ExecutionException e) {
-                        LOGGER.debug("Future {} threw {}", future, e.toString());
-                        this.handler.handle(Future.failedFuture(e.getCause()));
-                    } catch (InterruptedException e) {
-                        LOGGER.debug("Future {} threw {}", future, e.toString());
-                        this.handler.handle(Future.failedFuture(e));
-                    }
-                } catch (OperatorException e) {
-                    // TODO handler threw, but I have no context for creating a k8s error event
-                    LOGGER.trace("Handler for work {} threw {}", this, e.toString());
-                    e.printStackTrace();
-                }
-                return true;
-            } else {
-                if (LOGGER.isTraceEnabled()) {
-                    LOGGER.trace("Future {} is not done", future);
+                    T result = this.future.get();
+                    LOGGER.debug("Future {} has result {}", future, result);
+                    this.handler.handle(Future.succeededFuture(result));
+                    LOGGER.debug("Handler for work {} executed ok", this);
+                } catch (ExecutionException e) {
+                    LOGGER.debug("Future {} threw {}", future, e.toString());
+                    this.handler.handle(Future.failedFuture(e.getCause()));
+                } catch (InterruptedException e) {
+                    LOGGER.debug("Future {} threw {}", future, e.toString());
+                    this.handler.handle(Future.failedFuture(e));
                 }
-                return false;
+            } catch (OperatorException e) {
+                // TODO handler threw, but I have no context for creating a k8s error event
+                LOGGER.trace("Handler for work {} threw {}", this, e.toString());
+                e.printStackTrace();
             }
         }
 
@@ -128,10 +168,12 @@ public class KafkaImpl implements Kafka {
         private final KafkaFuture<TopicDescription> descFuture;
         private final KafkaFuture<Config> configFuture;
         private final Handler<AsyncResult<TopicMetadata>> handler;
+        private final AtomicInteger pending = new AtomicInteger(2);
         private boolean handled = false;
 
         public MetadataWork(KafkaFuture<TopicDescription> descFuture,
                             KafkaFuture<Config> configFuture, Handler<AsyncResult<TopicMetadata>> handler) {
+            super("topicMetadata");
             if (descFuture == null) {
                 throw new NullPointerException();
             }
@@ -146,6 +188,18 @@ public class KafkaImpl implements Kafka {
             this.handler = handler;
         }
 
+        @Override
+        protected void register() {
+            // Not KafkaFuture.allOf(), because that completes as soon as either future fails
+            this.descFuture.whenComplete((result, error) -> countDown());
+            this.configFuture.whenComplete((result, error) -> countDown());
+        }
+
+        private void countDown() {
+            if (pending.decrementAndGet() == 0) {
+                done();
+            }
+        }
 
         private <T> T result(KafkaFuture<T> future) {
             T result;
@@ -175,41 +229,108 @@ public class KafkaImpl implements Kafka {
         }
 
         @Override
-        protected boolean complete() {
-            if (this.descFuture.isDone()
-                    && this.configFuture.isDone()) {
-                final TopicDescription desc = result(this.descFuture);
-                final Config config = result(this.configFuture);
-                if (!handled) {
-                    TopicMetadata metadata;
-                    if (desc != null && config != null) {
-                        metadata = new TopicMetadata(desc, config);
-                    } else {
-                        metadata = null;
-                    }
-                    this.handler.handle(Future.succeededFuture(metadata));
-                    this.handled = true;
-                    LOGGER.trace("Handler for work {} executed ok", this);
+        protected void complete() {
+            final TopicDescription desc = result(this.descFuture);
+            final Config config = result(this.configFuture);
+            if (!handled) {
+                TopicMetadata metadata;
+                if (desc != null && config != null) {
+                    metadata = new TopicMetadata(desc, config);
                 } else {
+                    metadata = null;
+                }
+                this.handler.handle(Future.succeededFuture(metadata));
+                this.handled = true;
+                LOGGER.trace("Handler for work {} executed ok", this);
+            }
+        }
+    }
+
+    /** Some work that depends on the description and config futures of a batch of topics */
+    class BatchMetadataWork extends Work {
+        private final Map<String, KafkaFuture<TopicDescription>> descFutures;
+        private final Map<ConfigResource, KafkaFuture<Config>> configFutures;
+        private final Handler<AsyncResult<Map<TopicName, TopicMetadata>>> handler;
+        private final AtomicInteger pending;
+
+        public BatchMetadataWork(Map<String, KafkaFuture<TopicDescription>> descFutures,
+                                 Map<ConfigResource, KafkaFuture<Config>> configFutures,
+                                 Handler<AsyncResult<Map<TopicName, TopicMetadata>>> handler) {
+            super("topicMetadatas");
+            if (descFutures == null) {
+                throw new NullPointerException();
+            }
+            if (configFutures == null) {
+                throw new NullPointerException();
+            }
+            if (handler == null) {
+                throw new NullPointerException();
+            }
+            this.descFutures = descFutures;
+            this.configFutures = configFutures;
+            this.handler = handler;
+            this.pending = new AtomicInteger(descFutures.size() + configFutures.size());
+        }
+
+        @Override
+        protected void register() {
+            // As for MetadataWork, wait for every future, even when some of them fail
+            for (KafkaFuture<TopicDescription> future : descFutures.values()) {
+                future.whenComplete((result, error) -> countDown());
+            }
+            for (KafkaFuture<Config> future : configFutures.values()) {
+                future.whenComplete((result, error) -> countDown());
+            }
+        }
+
+        private void countDown() {
+            if (pending.decrementAndGet() == 0) {
+                done();
+            }
+        }
+
+        private <T> T result(KafkaFuture<T> future) throws ExecutionException, InterruptedException {
+            try {
+                return future.get();
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof UnknownTopicOrPartitionException) {
+                    return null;
                 }
-                return handled;
-            } else {
-                if (!this.descFuture.isDone())
-                    LOGGER.trace("Description future {} is not done", descFuture);
-                if (!this.configFuture.isDone())
-                    LOGGER.trace("Config future {} is not done", configFuture);
-                return false;
+                throw e;
+            }
+        }
+
+        @Override
+        protected void complete() {
+            Map<TopicName, TopicMetadata> metadata = new HashMap<>(descFutures.size());
+            for (Map.Entry<String, KafkaFuture<TopicDescription>> entry : descFutures.entrySet()) {
+                KafkaFuture<Config> configFuture = configFutures.get(new ConfigResource(ConfigResource.Type.TOPIC, entry.getKey()));
+                try {
+                    TopicDescription desc = result(entry.getValue());
+                    Config config = configFuture != null ? result(configFuture) : null;
+                    metadata.put(new TopicName(entry.getKey()), desc != null && config != null ? new TopicMetadata(desc, config) : null);
+                } catch (ExecutionException e) {
+                    LOGGER.debug("Getting metadata for topic {} in batch threw {}", entry.getKey(), e.getCause().toString());
+                } catch (InterruptedException e) {
+                    LOGGER.debug("Getting metadata for topic {} in batch threw {}", entry.getKey(), e.toString());
+                }
+            }
+            try {
+                handler.handle(Future.succeededFuture(metadata));
+                LOGGER.trace("Handler for work {} executed ok", this);
+            } catch (OperatorException e) {
+                LOGGER.trace("Handler for work {} threw {}", this, e.toString());
             }
         }
     }
 
     /**
-     * Queue a future and callback. The callback will be invoked (on a separate thread)
+     * Queue a future and callback. The callback will be invoked on the caller's Vert.x context
      * when the future is ready.
      */
     protected void queueWork(Work work) {
-        LOGGER.trace("Queuing work {} for immediate execution", work);
-        vertx.runOnContext(work);
+        LOGGER.trace("Queuing work {} for execution on completion", work);
+        work.queueOn(vertx.getOrCreateContext());
     }
 
     /**
@@ -268,6 +389,27 @@ public class KafkaImpl implements Kafka {
         return handler;
     }
 
+    /**
+     * Get the descriptions and configs of a batch of topics via the Kafka AdminClient API
+     * using one request for each, calling the given handler (in a different thread) with the result.
+     */
+    @Override
+    public Future<Map<TopicName, TopicMetadata>> topicMetadatas(Set<TopicName> topicNames) {
+        if (topicNames.isEmpty()) {
+            return Future.succeededFuture(Collections.emptyMap());
+        }
+        Future<Map<TopicName, TopicMetadata>> handler = Future.future();
+        LOGGER.debug("Getting metadata for {} topics", topicNames.size());
+        Set<String> names = topicNames.stream().map(TopicName::toString).collect(Collectors.toSet());
+        Set<ConfigResource> resources = names.stream()
+                .map(name -> new ConfigResource(ConfigResource.Type.TOPIC, name))
+                .collect(Collectors.toSet());
+        Map<String, KafkaFuture<TopicDescription>> descriptionFutures = adminClient.describeTopics(names).values();
+        Map<ConfigResource, KafkaFuture<Config>> configFutures = adminClient.describeConfigs(resources).values();
+        queueWork(new BatchMetadataWork(descriptionFutures, configFutures, handler));
+        return handler;
+    }
+
     @Override
     public Future<Set<String>> listTopics() {
         Future<Set<String>> handler = Future.future();
@@ -0,0 +1,177 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.vertx.core.Future;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * <p>Schedules the reconciliations of the topic operator, so that they don't all execute at once.</p>
+ * <ul>
+ * <li>At most {@code parallelism} pieces of work are executing at any one time.</li>
+ * <li>The work for a given topic is executed one at a time, in the order it was submitted.</li>
+ * <li>Work for a topic whose most recently queued work has the same (non-null) coalescing key
+ *     is coalesced with that work, rather than being queued again.</li>
+ * <li>Work triggered by watches and periodic work are queued separately. When both kinds are waiting
+ *     they are started alternately, so a full reconciliation doesn't hold up the handling of events,
+ *     nor vice versa.</li>
+ * </ul>
+ */
+class ReconciliationQueue {
+
+    private final static Logger LOGGER = LogManager.getLogger(ReconciliationQueue.class);
+
+    private final int parallelism;
+
+    private final Deque<Work> watchQueue = new ArrayDeque<>();
+    private final Deque<Work> periodicQueue = new ArrayDeque<>();
+    /** The queued (not yet executing) work for each topic, in submission order */
+    private final Map<TopicName, Deque<Work>> queuedByTopic = new HashMap<>();
+    /** The topics which have work executing */
+    private final Set<TopicName> executing = new HashSet<>();
+    private boolean preferPeriodic = false;
+
+    private static class Work {
+        private final TopicName topicName;
+        private final boolean periodic;
+        private final String coalescingKey;
+        private final Supplier<Future<Void>> action;
+        private final List<Future<Void>> results = new ArrayList<>(1);
+
+        Work(TopicName topicName, boolean periodic, String coalescingKey, Supplier<Future<Void>> action) {
+            this.topicName = topicName;
+            this.periodic = periodic;
+            this.coalescingKey = coalescingKey;
+            this.action = action;
+        }
+    }
+
+    ReconciliationQueue(int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism must be positive");
+        }
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Queue the given {@code action} for the topic with the given {@code topicName}.
+     * @param topicName The topic.
+     * @param periodic Whether the action is part of a periodic reconciliation.
+     * @param coalescingKey If not null, the action will be coalesced with the last queued work for the topic
+     *                      when that has the same coalescing key.
+     * @param action The action, which will be invoked once it is scheduled.
+     * @return A future which is completed with the result of the action
+     * (or the action it was coalesced with) once it has completed.
+     */
+    Future<Void> submit(TopicName topicName, boolean periodic, String coalescingKey, Supplier<Future<Void>> action) {
+        Future<Void> result = Future.future();
+        synchronized (this) {
+            Deque<Work> forTopic = queuedByTopic.computeIfAbsent(topicName, k -> new ArrayDeque<>());
+            Work last = forTopic.peekLast();
+            if (coalescingKey != null && last != null && coalescingKey.equals(last.coalescingKey)) {
+                LOGGER.debug("Coalescing {} on topic {} with queued work", coalescingKey, topicName);
+                last.results.add(result);
+                return result;
+            }
+            Work work = new Work(topicName, periodic, coalescingKey, action);
+            work.results.add(result);
+            forTopic.addLast(work);
+            (periodic ? periodicQueue : watchQueue).addLast(work);
+        }
+        dispatch();
+        return result;
+    }
+
+    /**
+     * @return The number of pieces of work waiting to be executed.
+     */
+    synchronized int queued() {
+        return watchQueue.size() + periodicQueue.size();
+    }
+
+    /**
+     * @return The number of pieces of work currently executing.
+     */
+    synchronized int executing() {
+        return executing.size();
+    }
+
+    private void dispatch() {
+        List<Work> toStart = new ArrayList<>();
+        synchronized (this) {
+            while (executing.size() < parallelism) {
+                Work next = preferPeriodic ? poll(periodicQueue, watchQueue) : poll(watchQueue, periodicQueue);
+                if (next == null) {
+                    break;
+                }
+                preferPeriodic = !next.periodic;
+                executing.add(next.topicName);
+                toStart.add(next);
+            }
+        }
+        // Start the work outside the monitor, because the action might complete synchronously
+        for (Work work : toStart) {
+            start(work);
+        }
+    }
+
+    private Work poll(Deque<Work> first, Deque<Work> second) {
+        Work work = poll(first);
+        return work != null ? work : poll(second);
+    }
+
+    /**
+     * Remove and return the first work in the given queue whose topic has no work executing.
+     */
+    private Work poll(Deque<Work> queue) {
+        Iterator<Work> iterator = queue.iterator();
+        while (iterator.hasNext()) {
+            Work work = iterator.next();
+            Deque<Work> forTopic = queuedByTopic.get(work.topicName);
+            if (!executing.contains(work.topicName) && forTopic.peekFirst() == work) {
+                iterator.remove();
+                forTopic.removeFirst();
+                if (forTopic.isEmpty()) {
+                    queuedByTopic.remove(work.topicName);
+                }
+                return work;
+            }
+        }
+        return null;
+    }
+
+    private void start(Work work) {
+        Future<Void> actionFuture;
+        try {
+            actionFuture = work.action.get();
+        } catch (Throwable t) {
+            actionFuture = Future.failedFuture(t);
+        }
+        actionFuture.setHandler(ar -> {
+            synchronized (this) {
+                executing.remove(work.topicName);
+            }
+            try {
+                for (Future<Void> result : work.results) {
+                    result.handle(ar);
+                }
+            } finally {
+                dispatch();
+            }
+        });
+    }
+}
@@ -14,6 +14,7 @@ import io.strimzi.api.kafka.model.status.KafkaTopicStatus;
 import io.strimzi.operator.cluster.model.StatusDiff;
 import io.strimzi.operator.common.BackOff;
 import io.strimzi.operator.common.MaxAttemptsExceededException;
+import io.strimzi.operator.common.metrics.OperatorMetrics;
 import io.strimzi.operator.common.operator.resource.StatusUtils;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.CompositeFuture;
@@ -28,6 +29,7 @@ import org.apache.logging.log4j.Logger;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -52,6 +54,7 @@ class TopicOperator {
     private TopicStore topicStore;
     private final Config config;
     private final ConcurrentHashMap<TopicName, Integer> inflight = new ConcurrentHashMap<>();
+    private final ReconciliationQueue queue;
 
     enum EventType {
         INFO("Info"),
@@ -366,15 +369,18 @@ class TopicOperator {
         this.topicStore = topicStore;
         this.namespace = namespace;
         this.config = config;
+        this.queue = new ReconciliationQueue(config.get(Config.RECONCILIATION_PARALLELISM));
     }
 
 
     /**
      * Run the given {@code action} on the context thread,
-     * immediately if there are currently no other actions with the given {@code key},
-     * or when the other actions with the given {@code key} have completed.
+     * once the reconciliation queue has scheduled it and there are no other actions with the given {@code key}
+     * executing.
      * When the given {@code action} is complete it must complete its argument future,
-     * which will complete the returned future
+     * which will complete the returned future.
+     * If the action can be coalesced with the last action queued for the given {@code key}
+     * the returned future is completed with the result of that action instead.
      */
     public Future<Void> executeWithTopicLockHeld(LogContext logContext, TopicName key, Reconciliation action) {
         String lockName = key.toString();
@@ -404,40 +410,50 @@ class TopicOperator {
                 return waiters + 1;
             }
         });
-        vertx.sharedData().getLockWithTimeout(lockName, timeoutMs, lockResult -> {
-            if (lockResult.succeeded()) {
-                LOGGER.debug("{}: Lock acquired", logContext);
-                LOGGER.debug("{}: Executing action {} on topic {}", logContext, action, lockName);
-                action.execute().setHandler(actionResult -> {
-                    LOGGER.debug("{}: Executing handler for action {} on topic {}", logContext, action, lockName);
-                    action.result = actionResult;
-                    // Update status with lock held so that event is ignored via statusUpdateGeneration
-                    action.updateStatus(logContext).setHandler(statusResult -> {
-                        if (statusResult.failed()) {
-                            LOGGER.error("{}: Error updating KafkaTopic.status for action {}", logContext, action,
-                                    statusResult.cause());
-                        }
-                        try {
-                            if (actionResult.failed() && statusResult.failed()) {
-                                actionResult.cause().addSuppressed(statusResult.cause());
+        queue.submit(key, logContext.isPeriodic(), action.coalescingKey, () -> {
+            Future<Void> actionDone = Future.future();
+            long startNanos = System.nanoTime();
+            vertx.sharedData().getLockWithTimeout(lockName, timeoutMs, lockResult -> {
+                OperatorMetrics.LOCK_WAIT.observeSince(startNanos, "KafkaTopic", lockResult.succeeded() ? "acquired" : "timeout");
+                if (lockResult.succeeded()) {
+                    LOGGER.debug("{}: Lock acquired", logContext);
+                    LOGGER.debug("{}: Executing action {} on topic {}", logContext, action, lockName);
+                    action.execute().setHandler(actionResult -> {
+                        LOGGER.debug("{}: Executing handler for action {} on topic {}", logContext, action, lockName);
+                        action.result = actionResult;
+                        // Update status with lock held so that event is ignored via statusUpdateGeneration
+                        action.updateStatus(logContext).setHandler(statusResult -> {
+                            if (statusResult.failed()) {
+                                LOGGER.error("{}: Error updating KafkaTopic.status for action {}", logContext, action,
+                                        statusResult.cause());
                             }
-                            result.handle(actionResult.failed() ? actionResult : statusResult);
-                        } catch (Throwable t) {
-                            result.fail(t);
-                        } finally {
-                            lockResult.result().release();
-                            LOGGER.debug("{}: Lock released", logContext);
-                            inflight.compute(key, decrement);
-                        }
+                            try {
+                                if (actionResult.failed() && statusResult.failed()) {
+                                    actionResult.cause().addSuppressed(statusResult.cause());
+                                }
+                            } finally {
+                                lockResult.result().release();
+                                LOGGER.debug("{}: Lock released", logContext);
+                                AsyncResult<Void> outcome = actionResult.failed() ? actionResult : statusResult;
+                                OperatorMetrics.RECONCILIATION_DURATION.observeSince(startNanos, "KafkaTopic",
+                                        outcome.succeeded() ? "success" : "failure");
+                                actionDone.handle(outcome);
+                            }
+                        });
                     });
-                });
-            } else {
-                LOGGER.warn("{}: Lock not acquired within {}ms: action {} will not be run", logContext, timeoutMs, action);
-                try {
-                    result.handle(Future.failedFuture("Failed to acquire lock for topic " + lockName + " after " + timeoutMs + "ms. Not executing action " + action));
-                } finally {
-                    inflight.compute(key, decrement);
+                } else {
+                    LOGGER.warn("{}: Lock not acquired within {}ms: action {} will not be run", logContext, timeoutMs, action);
+                    actionDone.handle(Future.failedFuture("Failed to acquire lock for topic " + lockName + " after " + timeoutMs + "ms. Not executing action " + action));
                 }
+            });
+            return actionDone;
+        }).setHandler(ar -> {
+            try {
+                result.handle(ar);
+            } catch (Throwable t) {
+                result.tryFail(t);
+            } finally {
+                inflight.compute(key, decrement);
             }
         });
         return result;
@@ -715,7 +731,7 @@ class TopicOperator {
      */
     Future<Void> onTopicConfigChanged(LogContext logContext, TopicName topicName) {
         return executeWithTopicLockHeld(logContext, topicName,
-                new Reconciliation("onTopicConfigChanged") {
+                new Reconciliation("onTopicConfigChanged", "onTopicConfigChanged") {
                     @Override
                     public Future<Void> execute() {
                         return kafka.topicMetadata(topicName)
@@ -843,11 +859,24 @@ class TopicOperator {
 
     abstract class Reconciliation {
         private final String name;
+        private final String coalescingKey;
         public AsyncResult<Void> result;
         public volatile KafkaTopic topic;
 
         public Reconciliation(String name) {
+            this(name, null);
+        }
+
+        /**
+         * @param name The name of the reconciliation.
+         * @param coalescingKey If not null, a reconciliation which is queued immediately behind a reconciliation
+         *                      of the same topic with the same coalescing key will not be executed separately.
+         *                      It should only be given for reconciliations which observe all the state they need
+         *                      when they execute.
+         */
+        public Reconciliation(String name, String coalescingKey) {
             this.name = name;
+            this.coalescingKey = coalescingKey;
         }
 
         @Override
@@ -911,7 +940,7 @@ class TopicOperator {
     /** Called when a resource is isModify in k8s */
     Future<Void> onResourceEvent(LogContext logContext, KafkaTopic modifiedTopic, Watcher.Action action) {
         return executeWithTopicLockHeld(logContext, new TopicName(modifiedTopic),
-                new Reconciliation("onResourceEvent") {
+                new Reconciliation("onResourceEvent", "onResourceEvent " + action) {
                     @Override
                     public Future<Void> execute() {
                         return k8s.getFromName(new ResourceName(modifiedTopic))
@@ -1191,7 +1220,7 @@ class TopicOperator {
                         @Override
                         public Future<Void> execute() {
                             observedTopicFuture(null);
-                            return getKafkaAndReconcile(this, logContext, tn, null, null);
+                            return getKafkaAndReconcile(this, logContext, tn, null, null, null);
                         }
                     }));
                 }
@@ -1203,6 +1232,8 @@ class TopicOperator {
 
     /**
      * Reconcile all the topics in {@code foundFromKafka}, returning a ReconciliationState.
+     * The topics are reconciled in batches of {@link Config#TOPIC_METADATA_BATCH_SIZE}, so that the metadata
+     * of each batch can be fetched from Kafka using a single request.
      */
     private Future<ReconcileState> reconcileFromKafka(String reconciliationType, List<TopicName> topicsFromKafka) {
         Set<TopicName> succeeded = new HashSet<>();
@@ -1213,32 +1244,63 @@ class TopicOperator {
 
         final ReconcileState state = new ReconcileState(succeeded, undetermined, failed);
         if (topicsFromKafka.size() > 0) {
-            List<Future<Void>> futures = new ArrayList<>();
-            for (TopicName topicName : topicsFromKafka) {
+            int batchSize = config.get(Config.TOPIC_METADATA_BATCH_SIZE);
+            List<Throwable> batchErrors = new ArrayList<>();
+            Future<Void> batches = Future.succeededFuture();
+            for (int i = 0; i < topicsFromKafka.size(); i += batchSize) {
+                List<TopicName> batch = topicsFromKafka.subList(i, Math.min(i + batchSize, topicsFromKafka.size()));
+                // Keep going with the remaining batches when one fails, as if all the topics were reconciled together
+                batches = batches.compose(ignored -> reconcileBatchFromKafka(reconciliationType, batch, state).otherwise(error -> {
+                    batchErrors.add(error);
+                    return null;
+                }));
+            }
+            return batches.compose(ignored -> batchErrors.isEmpty() ? Future.succeededFuture(state) : Future.failedFuture(batchErrors.get(0)));
+        } else {
+            return Future.succeededFuture(state);
+        }
+    }
+
+    /**
+     * Fetch the metadata of the given {@code batch} of topics from Kafka and then reconcile each topic in the batch,
+     * recording the outcome in the given {@code state}.
+     */
+    private Future<Void> reconcileBatchFromKafka(String reconciliationType, List<TopicName> batch, ReconcileState state) {
+        return kafka.topicMetadatas(new HashSet<>(batch)).otherwise(error -> {
+            LOGGER.warn("Error getting metadata of {} topics during {} reconciliation, falling back to getting it per topic",
+                    batch.size(), reconciliationType, error);
+            return Collections.emptyMap();
+        }).compose(batchMetadata -> {
+            // Topics with other work queued might be changed in Kafka before this reconciliation
+            // gets the lock, so their metadata is fetched again once the lock is held
+            Map<TopicName, TopicMetadata> prefetched = new HashMap<>(batchMetadata);
+            prefetched.keySet().removeAll(inflight.keySet());
+            List<Future<Void>> futures = new ArrayList<>(batch.size());
+            for (TopicName topicName : batch) {
                 LogContext logContext = LogContext.periodic(reconciliationType + "kafka " + topicName);
                 futures.add(executeWithTopicLockHeld(logContext, topicName, new Reconciliation("reconcile-from-kafka") {
                     @Override
                     public Future<Void> execute() {
                         return getFromTopicStore(topicName).recover(error -> {
-                            failed.put(topicName,
+                            state.failed.put(topicName,
                                     new OperatorException("Error getting KafkaTopic " + topicName + " during "
                                             + reconciliationType + " reconciliation", error));
                             return Future.succeededFuture();
                         }).compose(topic -> {
                             if (topic == null) {
                                 LOGGER.debug("{}: No private topic for topic {} in Kafka -> undetermined", logContext, topicName);
-                                undetermined.add(topicName);
+                                state.undetermined.add(topicName);
                                 return Future.succeededFuture();
                             } else {
                                 LOGGER.debug("{}: Have private topic for topic {} in Kafka", logContext, topicName);
-                                Future<Void> map = reconcileWithPrivateTopic(logContext, topicName, topic, this)
+                                Future<Void> map = reconcileWithPrivateTopic(logContext, topicName, topic, prefetched, this)
                                         .<Void>map(ignored -> {
                                             LOGGER.debug("{} reconcile success -> succeeded", topicName);
-                                            succeeded.add(topicName);
+                                            state.succeeded.add(topicName);
                                             return null;
                                         }).otherwise(error -> {
                                             LOGGER.debug("{} reconcile error -> failed", topicName);
-                                            failed.put(topicName, error);
+                                            state.failed.put(topicName, error);
                                             return null;
                                         });
                                 return map;
@@ -1248,12 +1310,8 @@ class TopicOperator {
                     }
                 }));
             }
-            return join(futures).map(state);
-        } else {
-            return Future.succeededFuture(state);
-        }
-
-
+            return join(futures).mapEmpty();
+        });
     }
 
     @SuppressWarnings("unchecked")
@@ -1267,11 +1325,12 @@ class TopicOperator {
      */
     private Future<Void> reconcileWithPrivateTopic(LogContext logContext, TopicName topicName,
                                                    Topic privateTopic,
+                                                   Map<TopicName, TopicMetadata> prefetched,
                                                    Reconciliation reconciliation) {
         return k8s.getFromName(privateTopic.getResourceName())
             .compose(kafkaTopicResource -> {
                 reconciliation.observedTopicFuture(kafkaTopicResource);
-                return getKafkaAndReconcile(reconciliation, logContext, topicName, privateTopic, kafkaTopicResource);
+                return getKafkaAndReconcile(reconciliation, logContext, topicName, privateTopic, kafkaTopicResource, prefetched);
             })
             .recover(error -> {
                 LOGGER.error("{}: Error getting KafkaTopic {} for topic {}",
@@ -1281,13 +1340,21 @@ class TopicOperator {
             });
     }
 
+    /**
+     * Reconcile the given topic with its state in Kafka, which is taken from {@code prefetched} when that
+     * has an entry for the topic and fetched from Kafka otherwise.
+     */
     private Future<Void> getKafkaAndReconcile(Reconciliation reconciliation, LogContext logContext, TopicName topicName,
-                                              Topic privateTopic, KafkaTopic kafkaTopicResource) {
+                                              Topic privateTopic, KafkaTopic kafkaTopicResource,
+                                              Map<TopicName, TopicMetadata> prefetched) {
         logContext.withKubeTopic(kafkaTopicResource);
         Future<Void> topicFuture = Future.future();
         try {
             Topic k8sTopic = kafkaTopicResource != null ? TopicSerialization.fromTopicResource(kafkaTopicResource) : null;
-            kafka.topicMetadata(topicName)
+            Future<TopicMetadata> kafkaTopicMetaFuture = prefetched != null && prefetched.containsKey(topicName)
+                    ? Future.succeededFuture(prefetched.get(topicName))
+                    : kafka.topicMetadata(topicName);
+            kafkaTopicMetaFuture
                 .compose(kafkaTopicMeta -> {
                     Topic topicFromKafka = TopicSerialization.fromTopicMetadata(kafkaTopicMeta);
                     return reconcile(reconciliation, logContext, kafkaTopicResource, k8sTopic, topicFromKafka, privateTopic);
@@ -0,0 +1,115 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.Config;
+import org.apache.kafka.clients.admin.DescribeConfigsResult;
+import org.apache.kafka.clients.admin.DescribeTopicsResult;
+import org.apache.kafka.clients.admin.ListTopicsOptions;
+import org.apache.kafka.clients.admin.ListTopicsResult;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.config.ConfigResource;
+import org.apache.kafka.common.errors.UnknownTopicOrPartitionException;
+import org.apache.kafka.common.internals.KafkaFutureImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singleton;
+import static java.util.Collections.singletonMap;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atMost;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(VertxExtension.class)
+public class KafkaImplTest {
+
+    private Vertx vertx = Vertx.vertx();
+
+    @AfterEach
+    public void teardown() {
+        vertx.close();
+    }
+
+    /**
+     * The work for an AdminClient call should not poll the KafkaFuture on the event loop while
+     * waiting for it to complete. We measure event loop iterations by the number of times the future
+     * is inspected: it should be read once, after it has completed.
+     */
+    @Test
+    public void testListTopicsDoesNotPollTheFuture(VertxTestContext context) throws Exception {
+        KafkaFutureImpl<Set<String>> names = spy(new KafkaFutureImpl<>());
+        ListTopicsResult listTopicsResult = mock(ListTopicsResult.class);
+        when(listTopicsResult.names()).thenReturn(names);
+        AdminClient adminClient = mock(AdminClient.class);
+        when(adminClient.listTopics(any(ListTopicsOptions.class))).thenReturn(listTopicsResult);
+
+        KafkaImpl kafka = new KafkaImpl(adminClient, vertx);
+        Checkpoint completed = context.checkpoint();
+        vertx.runOnContext(ignored -> kafka.listTopics().setHandler(context.succeeding(result -> context.verify(() -> {
+            assertThat(result, is(singleton("foo")));
+            completed.flag();
+        }))));
+
+        // Leave the future incomplete for a while, then complete it on a foreign thread (as the AdminClient would)
+        Thread.sleep(200);
+        new Thread(() -> names.complete(singleton("foo"))).start();
+
+        assertThat(context.awaitCompletion(60, TimeUnit.SECONDS), is(true));
+        verify(names, times(1)).whenComplete(any());
+        verify(names, atMost(1)).isDone();
+        verify(names, times(1)).get();
+        if (context.failed()) {
+            throw new RuntimeException(context.causeOfFailure());
+        }
+    }
+
+    @Test
+    public void testTopicMetadataOfUnknownTopicCompletesOnce(VertxTestContext context) throws InterruptedException {
+        KafkaFutureImpl<TopicDescription> descFuture = new KafkaFutureImpl<>();
+        KafkaFutureImpl<Config> configFuture = spy(new KafkaFutureImpl<>());
+        DescribeTopicsResult describeTopicsResult = mock(DescribeTopicsResult.class);
+        when(describeTopicsResult.values()).thenReturn(singletonMap("foo", descFuture));
+        DescribeConfigsResult describeConfigsResult = mock(DescribeConfigsResult.class);
+        when(describeConfigsResult.values()).thenReturn(singletonMap(new ConfigResource(ConfigResource.Type.TOPIC, "foo"), configFuture));
+        AdminClient adminClient = mock(AdminClient.class);
+        when(adminClient.describeTopics(any())).thenReturn(describeTopicsResult);
+        when(adminClient.describeConfigs(any())).thenReturn(describeConfigsResult);
+
+        KafkaImpl kafka = new KafkaImpl(adminClient, vertx);
+        Checkpoint completed = context.checkpoint();
+        vertx.runOnContext(ignored -> kafka.topicMetadata(new TopicName("foo")).setHandler(context.succeeding(result -> context.verify(() -> {
+            assertThat(result, is(nullValue()));
+            completed.flag();
+        }))));
+
+        // The description fails first, but the work must wait for the config too
+        descFuture.completeExceptionally(new UnknownTopicOrPartitionException());
+        Thread.sleep(200);
+        configFuture.complete(new Config(emptyList()));
+
+        assertThat(context.awaitCompletion(60, TimeUnit.SECONDS), is(true));
+        verify(configFuture, atMost(1)).isDone();
+        if (context.failed()) {
+            throw new RuntimeException(context.causeOfFailure());
+        }
+    }
+}
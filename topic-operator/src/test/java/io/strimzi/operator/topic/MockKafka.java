@@ -4,11 +4,13 @@
  */
 package io.strimzi.operator.topic;
 
+import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
 import io.vertx.junit5.VertxTestContext;
 import org.apache.kafka.clients.admin.NewTopic;
 
 import java.lang.reflect.Field;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -188,6 +190,33 @@ public class MockKafka implements Kafka {
         return getTopicNameFutureFunction().apply(topicName);
     }
 
+    private int topicMetadatasCalls = 0;
+
+    public int getTopicMetadatasCalls() {
+        return topicMetadatasCalls;
+    }
+
+    @Override
+    public Future<Map<TopicName, TopicMetadata>> topicMetadatas(Set<TopicName> topicNames) {
+        topicMetadatasCalls++;
+        List<TopicName> names = new ArrayList<>(topicNames);
+        List<Future> futures = new ArrayList<>(names.size());
+        for (TopicName topicName : names) {
+            futures.add(topicMetadata(topicName));
+        }
+        Future<Map<TopicName, TopicMetadata>> result = Future.future();
+        CompositeFuture.join(futures).setHandler(ignored -> {
+            Map<TopicName, TopicMetadata> metadata = new HashMap<>();
+            for (int i = 0; i < names.size(); i++) {
+                if (futures.get(i).succeeded()) {
+                    metadata.put(names.get(i), (TopicMetadata) futures.get(i).result());
+                }
+            }
+            result.complete(metadata);
+        });
+        return result;
+    }
+
     Function<TopicName, Future<TopicMetadata>> getTopicNameFutureFunction() {
         return topicMetadataRespose.get(min(topicMetadataResposeCall++, topicMetadataRespose.size() - 1));
     }
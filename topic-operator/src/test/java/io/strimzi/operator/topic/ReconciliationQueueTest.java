@@ -0,0 +1,105 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.vertx.core.Future;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class ReconciliationQueueTest {
+
+    private final List<String> started = new ArrayList<>();
+    private final Map<String, Future<Void>> running = new HashMap<>();
+
+    private Supplier<Future<Void>> action(String name) {
+        return () -> {
+            started.add(name);
+            Future<Void> f = Future.future();
+            running.put(name, f);
+            return f;
+        };
+    }
+
+    @Test
+    public void testParallelismIsBounded() {
+        ReconciliationQueue queue = new ReconciliationQueue(2);
+        queue.submit(new TopicName("a"), false, null, action("a"));
+        queue.submit(new TopicName("b"), false, null, action("b"));
+        queue.submit(new TopicName("c"), false, null, action("c"));
+
+        assertThat(started, is(asList("a", "b")));
+        assertThat(queue.executing(), is(2));
+        assertThat(queue.queued(), is(1));
+
+        running.get("a").complete();
+        assertThat(started, is(asList("a", "b", "c")));
+        assertThat(queue.queued(), is(0));
+    }
+
+    @Test
+    public void testWorkForATopicIsSerialized() {
+        ReconciliationQueue queue = new ReconciliationQueue(10);
+        Future<Void> first = queue.submit(new TopicName("a"), false, null, action("a1"));
+        Future<Void> second = queue.submit(new TopicName("a"), true, null, action("a2"));
+        queue.submit(new TopicName("b"), true, null, action("b"));
+
+        // a2 must wait for a1, but b can overtake it
+        assertThat(started, is(asList("a1", "b")));
+
+        running.get("a1").fail(new RuntimeException("failed"));
+        assertThat(first.failed(), is(true));
+        assertThat(started, is(asList("a1", "b", "a2")));
+
+        running.get("a2").complete();
+        assertThat(second.succeeded(), is(true));
+    }
+
+    @Test
+    public void testDuplicateWorkIsCoalesced() {
+        ReconciliationQueue queue = new ReconciliationQueue(1);
+        queue.submit(new TopicName("a"), false, "event", action("a1"));
+        // a1 is executing, so a2 is queued behind it, and a3 is coalesced with a2
+        Future<Void> second = queue.submit(new TopicName("a"), false, "event", action("a2"));
+        Future<Void> third = queue.submit(new TopicName("a"), false, "event", action("a3"));
+        // A different key is not coalesced
+        queue.submit(new TopicName("a"), false, "other", action("a4"));
+        // Nor is work with the same key queued behind different work
+        queue.submit(new TopicName("a"), false, "event", action("a5"));
+        assertThat(queue.queued(), is(3));
+
+        running.get("a1").complete();
+        running.get("a2").complete();
+        assertThat(second.succeeded(), is(true));
+        assertThat(third.succeeded(), is(true));
+        running.get("a4").complete();
+        running.get("a5").complete();
+        assertThat(started, is(asList("a1", "a2", "a4", "a5")));
+    }
+
+    @Test
+    public void testWatchAndPeriodicWorkAlternate() {
+        ReconciliationQueue queue = new ReconciliationQueue(1);
+        queue.submit(new TopicName("p0"), true, null, action("p0"));
+        for (int i = 1; i <= 3; i++) {
+            queue.submit(new TopicName("p" + i), true, null, action("p" + i));
+        }
+        for (int i = 1; i <= 2; i++) {
+            queue.submit(new TopicName("w" + i), false, null, action("w" + i));
+        }
+        for (String name : asList("p0", "w1", "p1", "w2", "p2")) {
+            running.get(name).complete();
+        }
+        assertThat(started, is(asList("p0", "w1", "p1", "w2", "p2", "p3")));
+    }
+}
@@ -35,6 +35,7 @@ import java.util.Objects;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 import static io.fabric8.kubernetes.client.Watcher.Action.ADDED;
 import static io.fabric8.kubernetes.client.Watcher.Action.DELETED;
@@ -983,6 +984,43 @@ public class TopicOperatorTest {
         }));
     }
 
+    @Test
+    public void testReconcileAllTopics_batchesTopicMetadata(VertxTestContext context) throws InterruptedException {
+        Map<String, String> configMap = new HashMap<>(MANDATORY_CONFIG);
+        configMap.put(Config.TOPIC_METADATA_BATCH_SIZE.key, "2");
+        topicOperator = new TopicOperator(vertx, mockKafka, mockK8s, mockTopicStore, labels, "default-namespace", new Config(configMap));
+
+        Map<TopicName, Topic> topics = new HashMap<>();
+        for (int i = 0; i < 5; i++) {
+            Topic topic = new Topic.Builder("topic-" + i, 2, (short) 1, map("cleanup.policy", "compact")).build();
+            topics.put(topic.getTopicName(), topic);
+            mockTopicStore.setCreateTopicResponse(topic.getTopicName(), null);
+            mockK8s.setCreateResponse(topic.getResourceName(), null);
+        }
+        CountDownLatch created = new CountDownLatch(2 * topics.size());
+        for (Topic topic : topics.values()) {
+            mockTopicStore.create(topic).setHandler(ar -> created.countDown());
+            mockK8s.createResource(TopicSerialization.toTopicResource(topic, labels)).setHandler(ar -> created.countDown());
+        }
+        created.await(60, TimeUnit.SECONDS);
+        mockKafka.setTopicsListResponse(Future.succeededFuture(topics.keySet().stream().map(TopicName::toString).collect(Collectors.toSet())));
+        AtomicInteger perTopicCalls = new AtomicInteger();
+        mockKafka.setTopicMetadataResponse(topicName -> {
+            perTopicCalls.incrementAndGet();
+            return Future.succeededFuture(Utils.getTopicMetadata(topics.get(topicName)));
+        });
+
+        topicOperator.reconcileAllTopics("periodic").setHandler(context.succeeding(ignored -> context.verify(() -> {
+            assertThat(mockKafka.getTopicMetadatasCalls(), is(3));
+            // Each topic's metadata was got only once, as part of its batch
+            assertThat(perTopicCalls.get(), is(topics.size()));
+            for (Topic topic : topics.values()) {
+                mockTopicStore.assertContains(context, topic);
+            }
+            context.completeNow();
+        })));
+    }
+
     // TODO tests for nasty races (e.g. create on both ends, update on one end and delete on the other)
     // I think in these cases we should seek to detect the concurrent modification
     // and perform a full reconciliation, possibly after a backoff time
@@ -3,6 +3,25 @@ if [ -f /opt/user-operator/custom-config/log4j2.properties ];
 then
     export JAVA_OPTS="${JAVA_OPTS} -Dlog4j2.configurationFile=file:/opt/user-operator/custom-config/log4j2.properties"
 fi
+
+if [ "$STRIMZI_TLS_ENABLED" = "true" ]; then
+    if [ -z "$STRIMZI_TRUSTSTORE_LOCATION" ] && [ -z "$STRIMZI_KEYSTORE_LOCATION" ]; then
+        # Generate temporary keystore password
+        export CERTS_STORE_PASSWORD=$(< /dev/urandom tr -dc _A-Z-a-z-0-9 | head -c32)
+
+        mkdir -p /tmp/user-operator
+
+        # Import certificates into keystore and truststore
+        ${STRIMZI_HOME}/bin/tls_prepare_certificates.sh /tmp/user-operator user-operator
+
+        export STRIMZI_TRUSTSTORE_LOCATION=/tmp/user-operator/replication.truststore.p12
+        export STRIMZI_TRUSTSTORE_PASSWORD=$CERTS_STORE_PASSWORD
+
+        export STRIMZI_KEYSTORE_LOCATION=/tmp/user-operator/replication.keystore.p12
+        export STRIMZI_KEYSTORE_PASSWORD=$CERTS_STORE_PASSWORD
+    fi
+fi
+
 export JAVA_CLASSPATH=lib/io.strimzi.@project.build.finalName@.@project.packaging@:@project.dist.classpath@
 export JAVA_MAIN=io.strimzi.operator.user.Main
 exec ${STRIMZI_HOME}/bin/launch_java.sh
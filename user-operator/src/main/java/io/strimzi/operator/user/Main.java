@@ -11,9 +11,12 @@ import io.strimzi.api.kafka.Crds;
 import io.strimzi.api.kafka.model.DoneableKafkaUser;
 import io.strimzi.api.kafka.KafkaUserList;
 import io.strimzi.api.kafka.model.KafkaUser;
-import io.strimzi.certs.OpenSslCertManager;
+import io.strimzi.certs.CertManager;
+import io.strimzi.certs.KeyPairPool;
+import io.strimzi.operator.common.metrics.OperatorMetrics;
 import io.strimzi.operator.common.operator.resource.CrdOperator;
 import io.strimzi.operator.common.operator.resource.SecretOperator;
+import io.strimzi.operator.user.operator.AclBindingBatcher;
 import io.strimzi.operator.user.operator.KafkaUserOperator;
 import io.strimzi.operator.user.operator.ScramShaCredentials;
 import io.strimzi.operator.user.operator.ScramShaCredentialsOperator;
@@ -21,11 +24,15 @@ import io.strimzi.operator.user.operator.SimpleAclOperator;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 import kafka.security.auth.SimpleAclAuthorizer;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.AdminClientConfig;
+import org.apache.kafka.common.config.SslConfigs;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Properties;
 
 @SuppressFBWarnings("DM_EXIT")
 public class Main {
@@ -57,23 +64,26 @@ public class Main {
 
     static Future<String> run(Vertx vertx, KubernetesClient client, SimpleAclAuthorizer authorizer, UserOperatorConfig config) {
         printEnvInfo();
-        OpenSslCertManager certManager = new OpenSslCertManager();
+        KeyPairPool keyPairPool = createKeyPairPool(config);
+        CertManager certManager = config.getCertManagerType().create(keyPairPool);
         SecretOperator secretOperations = new SecretOperator(vertx, client);
         CrdOperator<KubernetesClient, KafkaUser, KafkaUserList, DoneableKafkaUser> crdOperations = new CrdOperator<>(vertx, client, KafkaUser.class, KafkaUserList.class, DoneableKafkaUser.class);
-        SimpleAclOperator aclOperations = new SimpleAclOperator(vertx, authorizer);
+        SimpleAclOperator aclOperations = new SimpleAclOperator(vertx, authorizer, createAclBindingBatcher(vertx, config));
         ScramShaCredentials scramShaCredentials = new ScramShaCredentials(config.getZookeperConnect(), (int) config.getZookeeperSessionTimeoutMs());
         ScramShaCredentialsOperator scramShaCredentialsOperator = new ScramShaCredentialsOperator(vertx, scramShaCredentials);
 
         KafkaUserOperator kafkaUserOperations = new KafkaUserOperator(vertx,
                 certManager, crdOperations,
                 config.getLabels(),
-                secretOperations, scramShaCredentialsOperator, aclOperations, config.getCaCertSecretName(), config.getCaKeySecretName(), config.getCaNamespace());
+                secretOperations, scramShaCredentialsOperator, aclOperations, config.getCaCertSecretName(), config.getCaKeySecretName(), config.getCaNamespace(),
+                config.getMaxConcurrentReconciliations());
 
         Future<String> fut = Future.future();
         UserOperator operator = new UserOperator(config.getNamespace(),
                 config,
                 client,
-                kafkaUserOperations);
+                kafkaUserOperations,
+                keyPairPool);
         vertx.deployVerticle(operator,
             res -> {
                 if (res.succeeded()) {
@@ -103,6 +113,39 @@ public class Main {
         return authorizer;
     }
 
+    private static KeyPairPool createKeyPairPool(UserOperatorConfig config) {
+        if (config.getKeyPairPoolSize() == 0) {
+            return null;
+        }
+
+        log.debug("Creating key pair pool of {} key pairs", config.getKeyPairPoolSize());
+        KeyPairPool keyPairPool = new KeyPairPool(config.getKeyPairPoolSize(), config.getKeyPairPoolLowWaterMark(), (hit, available) ->
+            OperatorMetrics.KEY_PAIR_POOL_TAKES.inc(hit ? "hit" : "miss"));
+        keyPairPool.start();
+        return keyPairPool;
+    }
+
+    private static AclBindingBatcher createAclBindingBatcher(Vertx vertx, UserOperatorConfig config) {
+        if (config.getKafkaBootstrapServers() == null) {
+            return null;
+        }
+
+        log.debug("Creating AdminClient for Kafka {}", config.getKafkaBootstrapServers());
+        Properties adminClientConfig = new Properties();
+        adminClientConfig.setProperty(AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG, config.getKafkaBootstrapServers());
+
+        UserOperatorConfig.TlsConfig tlsConfig = config.getKafkaTlsConfig();
+        if (tlsConfig != null) {
+            adminClientConfig.setProperty(AdminClientConfig.SECURITY_PROTOCOL_CONFIG, "SSL");
+            adminClientConfig.setProperty(SslConfigs.SSL_TRUSTSTORE_LOCATION_CONFIG, tlsConfig.getTruststoreLocation());
+            adminClientConfig.setProperty(SslConfigs.SSL_TRUSTSTORE_PASSWORD_CONFIG, tlsConfig.getTruststorePassword());
+            adminClientConfig.setProperty(SslConfigs.SSL_KEYSTORE_LOCATION_CONFIG, tlsConfig.getKeystoreLocation());
+            adminClientConfig.setProperty(SslConfigs.SSL_KEYSTORE_PASSWORD_CONFIG, tlsConfig.getKeystorePassword());
+            adminClientConfig.setProperty(SslConfigs.SSL_ENDPOINT_IDENTIFICATION_ALGORITHM_CONFIG, "HTTPS");
+        }
+        return new AclBindingBatcher(vertx, AdminClient.create(adminClientConfig), config.getAclsBatchWindowMs());
+    }
+
     static void printEnvInfo() {
         Map<String, String> m = new HashMap<>(System.getenv());
         StringBuilder sb = new StringBuilder();
@@ -6,6 +6,9 @@ package io.strimzi.operator.user;
 
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.Watch;
+import io.strimzi.certs.KeyPairPool;
+import io.strimzi.operator.common.PeriodicReconciler;
+import io.strimzi.operator.common.metrics.MetricsRegistry;
 import io.strimzi.operator.user.operator.KafkaUserOperator;
 import io.vertx.core.AbstractVerticle;
 import io.vertx.core.Future;
@@ -13,6 +16,7 @@ import io.vertx.core.http.HttpServer;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.util.Collections;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -27,28 +31,37 @@ public class UserOperator extends AbstractVerticle {
     private final KubernetesClient client;
     private final String namespace;
     private final long reconciliationInterval;
+    private final int zookeeperOpsPoolSize;
     private final KafkaUserOperator kafkaUserOperator;
+    private final KeyPairPool keyPairPool;
 
     private Watch watch;
     private long reconcileTimer;
+    private PeriodicReconciler periodicReconciler;
 
     public UserOperator(String namespace,
                         UserOperatorConfig config,
                         KubernetesClient client,
-                        KafkaUserOperator kafkaUserOperator) {
+                        KafkaUserOperator kafkaUserOperator,
+                        KeyPairPool keyPairPool) {
         log.info("Creating UserOperator for namespace {}", namespace);
         this.namespace = namespace;
         this.reconciliationInterval = config.getReconciliationIntervalMs();
+        this.zookeeperOpsPoolSize = config.getZookeeperOpsPoolSize();
         this.client = client;
         this.kafkaUserOperator = kafkaUserOperator;
+        this.keyPairPool = keyPairPool;
     }
 
     @Override
     public void start(Future<Void> start) {
         log.info("Starting UserOperator for namespace {}", namespace);
 
-        // Configure the executor here, but it is used only in other places
+        // Configure the executors here, but they are used only in other places.
+        // The blocking Zookeeper and authorizer operations have their own pool, so that slow Zookeeper calls
+        // do not hold up the Kubernetes operations, and the other way round.
         getVertx().createSharedWorkerExecutor("kubernetes-ops-pool", 10, TimeUnit.SECONDS.toNanos(120));
+        getVertx().createSharedWorkerExecutor("zookeeper-ops-pool", zookeeperOpsPoolSize, TimeUnit.SECONDS.toNanos(120));
 
         kafkaUserOperator.createWatch(namespace, kafkaUserOperator.recreateWatch(namespace))
             .compose(w -> {
@@ -56,6 +69,7 @@ public class UserOperator extends AbstractVerticle {
                 watch = w;
 
                 log.info("Setting up periodic reconciliation for namespace {}", namespace);
+                this.periodicReconciler = new PeriodicReconciler(vertx, this.reconciliationInterval);
                 this.reconcileTimer = vertx.setPeriodic(this.reconciliationInterval, res2 -> {
                     log.info("Triggering periodic reconciliation for namespace {}...", namespace);
                     reconcileAll("timer");
@@ -69,20 +83,27 @@ public class UserOperator extends AbstractVerticle {
     public void stop(Future<Void> stop) {
         log.info("Stopping UserOperator for namespace {}", namespace);
         vertx.cancelTimer(reconcileTimer);
+        if (periodicReconciler != null) {
+            periodicReconciler.cancel();
+        }
 
         if (watch != null) {
             watch.close();
         }
 
+        if (keyPairPool != null) {
+            keyPairPool.stop();
+        }
+
         client.close();
         stop.complete();
     }
 
     /**
-      Periodical reconciliation (in case we lost some event)
+      Periodical reconciliation (in case we lost some event), spread across the reconciliation interval
      */
     private void reconcileAll(String trigger) {
-        kafkaUserOperator.reconcileAll(trigger, namespace, ignored -> { });
+        periodicReconciler.reconcileAll(trigger, Collections.singleton(namespace), Collections.singletonList(kafkaUserOperator));
     }
 
     /**
@@ -96,6 +117,8 @@ public class UserOperator extends AbstractVerticle {
                         request.response().setStatusCode(200).end();
                     } else if (request.path().equals("/ready")) {
                         request.response().setStatusCode(200).end();
+                    } else if (request.path().equals(MetricsRegistry.METRICS_PATH)) {
+                        MetricsRegistry.DEFAULT.handle(request);
                     }
                 })
                 .listen(HEALTH_SERVER_PORT, ar -> {
@@ -5,6 +5,7 @@
 package io.strimzi.operator.user;
 
 import io.strimzi.api.kafka.model.CertificateAuthority;
+import io.strimzi.certs.CertManagerType;
 import io.strimzi.operator.common.InvalidConfigurationException;
 import io.strimzi.operator.common.model.Labels;
 
@@ -25,10 +26,27 @@ public class UserOperatorConfig {
     public static final String STRIMZI_ZOOKEEPER_SESSION_TIMEOUT_MS = "STRIMZI_ZOOKEEPER_SESSION_TIMEOUT_MS";
     public static final String STRIMZI_CLIENTS_CA_VALIDITY = "STRIMZI_CA_VALIDITY";
     public static final String STRIMZI_CLIENTS_CA_RENEWAL = "STRIMZI_CA_RENEWAL";
+    public static final String STRIMZI_CERT_MANAGER = "STRIMZI_CERT_MANAGER";
+    public static final String STRIMZI_KAFKA_BOOTSTRAP_SERVERS = "STRIMZI_KAFKA_BOOTSTRAP_SERVERS";
+    public static final String STRIMZI_TLS_ENABLED = "STRIMZI_TLS_ENABLED";
+    public static final String STRIMZI_TRUSTSTORE_LOCATION = "STRIMZI_TRUSTSTORE_LOCATION";
+    public static final String STRIMZI_TRUSTSTORE_PASSWORD = "STRIMZI_TRUSTSTORE_PASSWORD";
+    public static final String STRIMZI_KEYSTORE_LOCATION = "STRIMZI_KEYSTORE_LOCATION";
+    public static final String STRIMZI_KEYSTORE_PASSWORD = "STRIMZI_KEYSTORE_PASSWORD";
+    public static final String STRIMZI_ACLS_BATCH_WINDOW_MS = "STRIMZI_ACLS_BATCH_WINDOW_MS";
+    public static final String STRIMZI_MAX_CONCURRENT_RECONCILIATIONS = "STRIMZI_MAX_CONCURRENT_RECONCILIATIONS";
+    public static final String STRIMZI_ZOOKEEPER_OPS_POOL_SIZE = "STRIMZI_ZOOKEEPER_OPS_POOL_SIZE";
+    public static final String STRIMZI_KEY_PAIR_POOL_SIZE = "STRIMZI_KEY_PAIR_POOL_SIZE";
+    public static final String STRIMZI_KEY_PAIR_POOL_LOW_WATER_MARK = "STRIMZI_KEY_PAIR_POOL_LOW_WATER_MARK";
 
     public static final long DEFAULT_FULL_RECONCILIATION_INTERVAL_MS = 120_000;
     public static final String DEFAULT_ZOOKEEPER_CONNECT = "localhost:2181";
     public static final long DEFAULT_ZOOKEEPER_SESSION_TIMEOUT_MS = 6_000;
+    public static final CertManagerType DEFAULT_CERT_MANAGER = CertManagerType.OPENSSL;
+    public static final long DEFAULT_ACLS_BATCH_WINDOW_MS = 100;
+    public static final int DEFAULT_MAX_CONCURRENT_RECONCILIATIONS = 20;
+    public static final int DEFAULT_ZOOKEEPER_OPS_POOL_SIZE = 10;
+    public static final int DEFAULT_KEY_PAIR_POOL_SIZE = 20;
 
     private final String namespace;
     private final long reconciliationIntervalMs;
@@ -38,6 +56,14 @@ public class UserOperatorConfig {
     private final String caCertSecretName;
     private final String caKeySecretName;
     private final String caNamespace;
+    private final CertManagerType certManagerType;
+    private final String kafkaBootstrapServers;
+    private final TlsConfig kafkaTlsConfig;
+    private final long aclsBatchWindowMs;
+    private final int maxConcurrentReconciliations;
+    private final int zookeeperOpsPoolSize;
+    private final int keyPairPoolSize;
+    private final int keyPairPoolLowWaterMark;
 
     /**
      * Constructor
@@ -50,6 +76,14 @@ public class UserOperatorConfig {
      * @param caCertSecretName Name of the secret containing the Certification Authority certificate.
      * @param caKeySecretName The name of the secret containing the Certification Authority key.
      * @param caNamespace Namespace with the CA secret.
+     * @param certManagerType The implementation used to generate keys and certificates.
+     * @param kafkaBootstrapServers Bootstrap servers of the Kafka Admin API used to manage the ACLs, or null to manage them in Zookeeper.
+     * @param kafkaTlsConfig The stores used to connect to the Kafka Admin API over TLS, or null to connect without TLS.
+     * @param aclsBatchWindowMs How many milliseconds the ACL changes are collected for before being sent to Kafka together.
+     * @param maxConcurrentReconciliations The maximum number of users reconciled at the same time.
+     * @param zookeeperOpsPoolSize The number of threads used for the blocking Zookeeper and authorizer operations.
+     * @param keyPairPoolSize The number of key pairs generated ahead of time for the user certificates, or 0 to generate them on demand.
+     * @param keyPairPoolLowWaterMark The number of available key pairs at which the key pair pool is refilled.
      */
     public UserOperatorConfig(String namespace,
                               long reconciliationIntervalMs,
@@ -57,7 +91,15 @@ public class UserOperatorConfig {
                               long zookeeperSessionTimeoutMs,
                               Labels labels, String caCertSecretName,
                               String caKeySecretName,
-                              String caNamespace) {
+                              String caNamespace,
+                              CertManagerType certManagerType,
+                              String kafkaBootstrapServers,
+                              TlsConfig kafkaTlsConfig,
+                              long aclsBatchWindowMs,
+                              int maxConcurrentReconciliations,
+                              int zookeeperOpsPoolSize,
+                              int keyPairPoolSize,
+                              int keyPairPoolLowWaterMark) {
         this.namespace = namespace;
         this.reconciliationIntervalMs = reconciliationIntervalMs;
         this.zookeperConnect = zookeperConnect;
@@ -66,6 +108,14 @@ public class UserOperatorConfig {
         this.caCertSecretName = caCertSecretName;
         this.caKeySecretName = caKeySecretName;
         this.caNamespace = caNamespace;
+        this.certManagerType = certManagerType;
+        this.kafkaBootstrapServers = kafkaBootstrapServers;
+        this.kafkaTlsConfig = kafkaTlsConfig;
+        this.aclsBatchWindowMs = aclsBatchWindowMs;
+        this.maxConcurrentReconciliations = maxConcurrentReconciliations;
+        this.zookeeperOpsPoolSize = zookeeperOpsPoolSize;
+        this.keyPairPoolSize = keyPairPoolSize;
+        this.keyPairPoolLowWaterMark = keyPairPoolLowWaterMark;
     }
 
     /**
@@ -122,7 +172,123 @@ public class UserOperatorConfig {
             caNamespace = namespace;
         }
 
-        return new UserOperatorConfig(namespace, reconciliationInterval, zookeeperConnect, zookeeperSessionTimeoutMs, labels, caCertSecretName, caKeySecretName, caNamespace);
+        CertManagerType certManagerType = parseCertManagerType(map.get(UserOperatorConfig.STRIMZI_CERT_MANAGER));
+
+        String kafkaBootstrapServers = parseKafkaBootstrapServers(map.get(UserOperatorConfig.STRIMZI_KAFKA_BOOTSTRAP_SERVERS));
+        TlsConfig kafkaTlsConfig = parseKafkaTlsConfig(map);
+        long aclsBatchWindowMs = parseAclsBatchWindowMs(map.get(UserOperatorConfig.STRIMZI_ACLS_BATCH_WINDOW_MS));
+        int maxConcurrentReconciliations = parsePositiveInt(STRIMZI_MAX_CONCURRENT_RECONCILIATIONS,
+                map.get(UserOperatorConfig.STRIMZI_MAX_CONCURRENT_RECONCILIATIONS), DEFAULT_MAX_CONCURRENT_RECONCILIATIONS);
+        int zookeeperOpsPoolSize = parsePositiveInt(STRIMZI_ZOOKEEPER_OPS_POOL_SIZE,
+                map.get(UserOperatorConfig.STRIMZI_ZOOKEEPER_OPS_POOL_SIZE), DEFAULT_ZOOKEEPER_OPS_POOL_SIZE);
+        int keyPairPoolSize = parseKeyPairPoolSize(map.get(UserOperatorConfig.STRIMZI_KEY_PAIR_POOL_SIZE));
+        int keyPairPoolLowWaterMark = parseKeyPairPoolLowWaterMark(map.get(UserOperatorConfig.STRIMZI_KEY_PAIR_POOL_LOW_WATER_MARK), keyPairPoolSize);
+
+        return new UserOperatorConfig(namespace, reconciliationInterval, zookeeperConnect, zookeeperSessionTimeoutMs, labels, caCertSecretName, caKeySecretName, caNamespace, certManagerType,
+                kafkaBootstrapServers, kafkaTlsConfig, aclsBatchWindowMs, maxConcurrentReconciliations, zookeeperOpsPoolSize, keyPairPoolSize, keyPairPoolLowWaterMark);
+    }
+
+    private static String parseKafkaBootstrapServers(String kafkaBootstrapServersEnvVar) {
+        if (kafkaBootstrapServersEnvVar == null || kafkaBootstrapServersEnvVar.isEmpty()) {
+            return null;
+        }
+
+        return kafkaBootstrapServersEnvVar;
+    }
+
+    private static TlsConfig parseKafkaTlsConfig(Map<String, String> map) {
+        if (!Boolean.parseBoolean(map.get(STRIMZI_TLS_ENABLED))) {
+            return null;
+        }
+
+        return new TlsConfig(requireTlsSetting(map, STRIMZI_TRUSTSTORE_LOCATION),
+                requireTlsSetting(map, STRIMZI_TRUSTSTORE_PASSWORD),
+                requireTlsSetting(map, STRIMZI_KEYSTORE_LOCATION),
+                requireTlsSetting(map, STRIMZI_KEYSTORE_PASSWORD));
+    }
+
+    private static String requireTlsSetting(Map<String, String> map, String name) {
+        String value = map.get(name);
+        if (value == null || value.isEmpty()) {
+            throw new InvalidConfigurationException(name + " cannot be null when " + STRIMZI_TLS_ENABLED + " is true");
+        }
+        return value;
+    }
+
+    private static long parseAclsBatchWindowMs(String aclsBatchWindowMsEnvVar) {
+        if (aclsBatchWindowMsEnvVar == null) {
+            return DEFAULT_ACLS_BATCH_WINDOW_MS;
+        }
+
+        long aclsBatchWindowMs;
+        try {
+            aclsBatchWindowMs = Long.parseLong(aclsBatchWindowMsEnvVar);
+        } catch (NumberFormatException e) {
+            throw new InvalidConfigurationException("Invalid " + STRIMZI_ACLS_BATCH_WINDOW_MS + ": " + e.getMessage(), e);
+        }
+        if (aclsBatchWindowMs < 0) {
+            throw new InvalidConfigurationException(STRIMZI_ACLS_BATCH_WINDOW_MS + " cannot be negative");
+        }
+        return aclsBatchWindowMs;
+    }
+
+    private static int parsePositiveInt(String name, String envVar, int defaultValue) {
+        if (envVar == null) {
+            return defaultValue;
+        }
+
+        int value = parseInt(name, envVar);
+        if (value < 1) {
+            throw new InvalidConfigurationException(name + " must be at least 1");
+        }
+        return value;
+    }
+
+    private static int parseKeyPairPoolSize(String keyPairPoolSizeEnvVar) {
+        if (keyPairPoolSizeEnvVar == null) {
+            return DEFAULT_KEY_PAIR_POOL_SIZE;
+        }
+
+        int keyPairPoolSize = parseInt(STRIMZI_KEY_PAIR_POOL_SIZE, keyPairPoolSizeEnvVar);
+        if (keyPairPoolSize < 0) {
+            throw new InvalidConfigurationException(STRIMZI_KEY_PAIR_POOL_SIZE + " cannot be negative");
+        }
+        return keyPairPoolSize;
+    }
+
+    private static int parseKeyPairPoolLowWaterMark(String keyPairPoolLowWaterMarkEnvVar, int keyPairPoolSize) {
+        if (keyPairPoolLowWaterMarkEnvVar == null) {
+            return keyPairPoolSize / 4;
+        }
+
+        int keyPairPoolLowWaterMark = parseInt(STRIMZI_KEY_PAIR_POOL_LOW_WATER_MARK, keyPairPoolLowWaterMarkEnvVar);
+        if (keyPairPoolLowWaterMark < 0 || keyPairPoolSize > 0 && keyPairPoolLowWaterMark >= keyPairPoolSize) {
+            throw new InvalidConfigurationException(STRIMZI_KEY_PAIR_POOL_LOW_WATER_MARK + " must be at least 0 and less than "
+                    + STRIMZI_KEY_PAIR_POOL_SIZE);
+        }
+        return keyPairPoolLowWaterMark;
+    }
+
+    private static int parseInt(String name, String envVar) {
+        try {
+            return Integer.parseInt(envVar);
+        } catch (NumberFormatException e) {
+            throw new InvalidConfigurationException("Invalid " + name + ": " + e.getMessage(), e);
+        }
+    }
+
+    private static CertManagerType parseCertManagerType(String certManagerEnvVar) {
+        CertManagerType certManagerType = DEFAULT_CERT_MANAGER;
+
+        if (certManagerEnvVar != null) {
+            try {
+                certManagerType = CertManagerType.parse(certManagerEnvVar);
+            } catch (IllegalArgumentException e) {
+                throw new InvalidConfigurationException("Invalid " + STRIMZI_CERT_MANAGER + ": " + e.getMessage(), e);
+            }
+        }
+
+        return certManagerType;
     }
 
     public static int getClientsCaValidityDays() {
@@ -198,6 +364,62 @@ public class UserOperatorConfig {
         return zookeeperSessionTimeoutMs;
     }
 
+    /**
+     * @return  The implementation used to generate keys and certificates
+     */
+    public CertManagerType getCertManagerType() {
+        return certManagerType;
+    }
+
+    /**
+     * @return  Bootstrap servers of the Kafka Admin API used to manage the ACLs, or null when they are managed in Zookeeper
+     */
+    public String getKafkaBootstrapServers() {
+        return kafkaBootstrapServers;
+    }
+
+    /**
+     * @return  The stores used to connect to the Kafka Admin API over TLS, or null when TLS is not used
+     */
+    public TlsConfig getKafkaTlsConfig() {
+        return kafkaTlsConfig;
+    }
+
+    /**
+     * @return  How many milliseconds the ACL changes are collected for before being sent to Kafka
+     */
+    public long getAclsBatchWindowMs() {
+        return aclsBatchWindowMs;
+    }
+
+    /**
+     * @return  The maximum number of users reconciled at the same time
+     */
+    public int getMaxConcurrentReconciliations() {
+        return maxConcurrentReconciliations;
+    }
+
+    /**
+     * @return  The number of threads used for the blocking Zookeeper and authorizer operations
+     */
+    public int getZookeeperOpsPoolSize() {
+        return zookeeperOpsPoolSize;
+    }
+
+    /**
+     * @return  The number of key pairs generated ahead of time for the user certificates, or 0 when they are generated on demand
+     */
+    public int getKeyPairPoolSize() {
+        return keyPairPoolSize;
+    }
+
+    /**
+     * @return  The number of available key pairs at which the key pair pool is refilled
+     */
+    public int getKeyPairPoolLowWaterMark() {
+        return keyPairPoolLowWaterMark;
+    }
+
     @Override
     public String toString() {
         return "ClusterOperatorConfig(" +
@@ -208,6 +430,55 @@ public class UserOperatorConfig {
                 ",labels=" + labels +
                 ",caName=" + caCertSecretName +
                 ",caNamespace=" + caNamespace +
+                ",certManagerType=" + certManagerType +
+                ",kafkaBootstrapServers=" + kafkaBootstrapServers +
+                ",kafkaTlsConfig=" + kafkaTlsConfig +
+                ",aclsBatchWindowMs=" + aclsBatchWindowMs +
+                ",maxConcurrentReconciliations=" + maxConcurrentReconciliations +
+                ",zookeeperOpsPoolSize=" + zookeeperOpsPoolSize +
+                ",keyPairPoolSize=" + keyPairPoolSize +
+                ",keyPairPoolLowWaterMark=" + keyPairPoolLowWaterMark +
                 ")";
     }
+
+    /**
+     * The truststore with the cluster CA and the keystore with the client certificate used to connect to Kafka over TLS.
+     */
+    public static class TlsConfig {
+        private final String truststoreLocation;
+        private final String truststorePassword;
+        private final String keystoreLocation;
+        private final String keystorePassword;
+
+        public TlsConfig(String truststoreLocation, String truststorePassword, String keystoreLocation, String keystorePassword) {
+            this.truststoreLocation = truststoreLocation;
+            this.truststorePassword = truststorePassword;
+            this.keystoreLocation = keystoreLocation;
+            this.keystorePassword = keystorePassword;
+        }
+
+        public String getTruststoreLocation() {
+            return truststoreLocation;
+        }
+
+        public String getTruststorePassword() {
+            return truststorePassword;
+        }
+
+        public String getKeystoreLocation() {
+            return keystoreLocation;
+        }
+
+        public String getKeystorePassword() {
+            return keystorePassword;
+        }
+
+        @Override
+        public String toString() {
+            return "TlsConfig(" +
+                    "truststoreLocation=" + truststoreLocation +
+                    ",keystoreLocation=" + keystoreLocation +
+                    ")";
+        }
+    }
 }
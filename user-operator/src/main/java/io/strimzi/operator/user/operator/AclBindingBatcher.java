@@ -0,0 +1,190 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.operator;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.DeleteAclsResult;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.acl.AclBinding;
+import org.apache.kafka.common.acl.AclBindingFilter;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Creates and deletes ACL bindings using the Kafka Admin API.
+ * The bindings created and deleted by concurrently reconciled users within a short flush window are coalesced into
+ * a single {@code CreateAcls} and a single {@code DeleteAcls} request, rather than each user's rules for each resource
+ * being written to ZooKeeper and notified to the brokers separately.
+ * The result of each call reflects only its own bindings, so one user's failure does not fail the other users of the batch.
+ */
+public class AclBindingBatcher {
+    private static final Logger log = LogManager.getLogger(AclBindingBatcher.class.getName());
+
+    private final Vertx vertx;
+    private final AdminClient adminClient;
+    private final long flushWindowMs;
+
+    // Guarded by this
+    private List<Pending<AclBinding>> creations = new ArrayList<>();
+    private List<Pending<AclBindingFilter>> deletions = new ArrayList<>();
+    private boolean flushScheduled = false;
+
+    private static class Pending<T> {
+        final Collection<T> items;
+        final Future<Void> result = Future.future();
+
+        Pending(Collection<T> items) {
+            this.items = items;
+        }
+    }
+
+    /**
+     * @param vertx The Vertx instance.
+     * @param adminClient The AdminClient used to create and delete the ACL bindings.
+     * @param flushWindowMs How long to collect bindings for before sending them to Kafka.
+     */
+    public AclBindingBatcher(Vertx vertx, AdminClient adminClient, long flushWindowMs) {
+        this.vertx = vertx;
+        this.adminClient = adminClient;
+        this.flushWindowMs = flushWindowMs;
+    }
+
+    /**
+     * Create the given bindings with the next batch.
+     *
+     * @param bindings The bindings to create.
+     * @return A Future which completes when all the given bindings have been created.
+     */
+    public Future<Void> create(Collection<AclBinding> bindings) {
+        if (bindings.isEmpty()) {
+            return Future.succeededFuture();
+        }
+        Pending<AclBinding> pending = new Pending<>(bindings);
+        synchronized (this) {
+            creations.add(pending);
+            scheduleFlush();
+        }
+        return pending.result;
+    }
+
+    /**
+     * Delete the bindings matching the given filters with the next batch.
+     *
+     * @param filters The filters matching the bindings to delete.
+     * @return A Future which completes when all the bindings matching the given filters have been deleted.
+     */
+    public Future<Void> delete(Collection<AclBindingFilter> filters) {
+        if (filters.isEmpty()) {
+            return Future.succeededFuture();
+        }
+        Pending<AclBindingFilter> pending = new Pending<>(filters);
+        synchronized (this) {
+            deletions.add(pending);
+            scheduleFlush();
+        }
+        return pending.result;
+    }
+
+    private void scheduleFlush() {
+        if (!flushScheduled) {
+            flushScheduled = true;
+            vertx.setTimer(flushWindowMs, timer -> flush());
+        }
+    }
+
+    /**
+     * Send the bindings collected since the last flush to Kafka.
+     */
+    void flush() {
+        List<Pending<AclBinding>> creating;
+        List<Pending<AclBindingFilter>> deleting;
+        synchronized (this) {
+            creating = creations;
+            deleting = deletions;
+            creations = new ArrayList<>();
+            deletions = new ArrayList<>();
+            flushScheduled = false;
+        }
+
+        vertx.createSharedWorkerExecutor("zookeeper-ops-pool").executeBlocking(
+            future -> {
+                if (!deleting.isEmpty()) {
+                    Set<AclBindingFilter> filters = collect(deleting);
+                    log.debug("Deleting {} ACL bindings for {} requests", filters.size(), deleting.size());
+                    Map<AclBindingFilter, KafkaFuture<DeleteAclsResult.FilterResults>> results = adminClient.deleteAcls(filters).values();
+                    for (Pending<AclBindingFilter> pending : deleting) {
+                        completeDeletion(pending, results);
+                    }
+                }
+                if (!creating.isEmpty()) {
+                    Set<AclBinding> bindings = collect(creating);
+                    log.debug("Creating {} ACL bindings for {} requests", bindings.size(), creating.size());
+                    Map<AclBinding, KafkaFuture<Void>> results = adminClient.createAcls(bindings).values();
+                    for (Pending<AclBinding> pending : creating) {
+                        completeCreation(pending, results);
+                    }
+                }
+                future.complete();
+            },
+            false,
+            res -> {
+                if (res.failed()) {
+                    log.error("Failed to write ACL bindings", res.cause());
+                    creating.forEach(pending -> pending.result.tryFail(res.cause()));
+                    deleting.forEach(pending -> pending.result.tryFail(res.cause()));
+                }
+            });
+    }
+
+    private static <T> Set<T> collect(List<Pending<T>> pendings) {
+        Set<T> items = new LinkedHashSet<>();
+        for (Pending<T> pending : pendings) {
+            items.addAll(pending.items);
+        }
+        return items;
+    }
+
+    private static void completeCreation(Pending<AclBinding> pending, Map<AclBinding, KafkaFuture<Void>> results) {
+        try {
+            for (AclBinding binding : pending.items) {
+                results.get(binding).get();
+            }
+            pending.result.complete();
+        } catch (ExecutionException e) {
+            pending.result.fail(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            pending.result.fail(e);
+        }
+    }
+
+    private static void completeDeletion(Pending<AclBindingFilter> pending, Map<AclBindingFilter, KafkaFuture<DeleteAclsResult.FilterResults>> results) {
+        try {
+            for (AclBindingFilter filter : pending.items) {
+                for (DeleteAclsResult.FilterResult result : results.get(filter).get().values()) {
+                    if (result.exception() != null) {
+                        throw new ExecutionException(result.exception());
+                    }
+                }
+            }
+            pending.result.complete();
+        } catch (ExecutionException e) {
+            pending.result.fail(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            pending.result.fail(e);
+        }
+    }
+}
@@ -15,8 +15,10 @@ import io.strimzi.api.kafka.model.status.KafkaUserStatus;
 import io.strimzi.certs.CertManager;
 import io.strimzi.operator.cluster.model.StatusDiff;
 import io.strimzi.operator.common.AbstractOperator;
+import io.strimzi.operator.common.BackOff;
 import io.strimzi.operator.common.PasswordGenerator;
 import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.metrics.OperatorMetrics;
 import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.model.NamespaceAndName;
 import io.strimzi.operator.common.operator.resource.CrdOperator;
@@ -77,7 +79,32 @@ public class KafkaUserOperator extends AbstractOperator<KafkaUser,
                              SecretOperator secretOperations,
                              ScramShaCredentialsOperator scramShaCredentialOperator,
                              SimpleAclOperator aclOperations, String caCertName, String caKeyName, String caNamespace) {
-        super(vertx, "User", crdOperator);
+        this(vertx, certManager, crdOperator, labels, secretOperations, scramShaCredentialOperator, aclOperations,
+                caCertName, caKeyName, caNamespace, Integer.MAX_VALUE);
+    }
+
+    /**
+     * @param vertx The Vertx instance.
+     * @param certManager For managing certificates.
+     * @param crdOperator For operating on Custom Resources.
+     * @param labels A selector for which users in the namespace to consider as the operators
+     * @param secretOperations For operating on Secrets.
+     * @param scramShaCredentialOperator For operating on SCRAM SHA credentials.
+     * @param aclOperations For operating on ACLs.
+     * @param caCertName The name of the Secret containing the clients CA certificate.
+     * @param caKeyName The name of the Secret containing the clients CA private key.
+     * @param caNamespace The namespace of the Secret containing the clients CA certificate and private key.
+     * @param maxConcurrency The maximum number of users to reconcile at the same time.
+     */
+    public KafkaUserOperator(Vertx vertx,
+                             CertManager certManager,
+                             CrdOperator<KubernetesClient, KafkaUser, KafkaUserList, DoneableKafkaUser> crdOperator,
+                             Labels labels,
+                             SecretOperator secretOperations,
+                             ScramShaCredentialsOperator scramShaCredentialOperator,
+                             SimpleAclOperator aclOperations, String caCertName, String caKeyName, String caNamespace,
+                             int maxConcurrency) {
+        super(vertx, "User", crdOperator, BackOff::new, maxConcurrency);
         this.certManager = certManager;
         Map<String, String> matchLabels = labels.toMap();
         this.selector = matchLabels.isEmpty() ? Optional.empty() : Optional.of(new LabelSelector(null, matchLabels));
@@ -173,15 +200,15 @@ public class KafkaUserOperator extends AbstractOperator<KafkaUser,
         }
 
         CompositeFuture.join(
-                scramShaCredentialOperator.reconcile(user.getName(), password),
-                reconcileSecretAndSetStatus(namespace, user, desired, userStatus),
-                aclOperations.reconcile(KafkaUserModel.getTlsUserName(userName), tlsAcls),
-                aclOperations.reconcile(KafkaUserModel.getScramUserName(userName), scramOrNoneAcls))
+                timed("scram-sha-credentials", scramShaCredentialOperator.reconcile(user.getName(), password)),
+                timed("secret", reconcileSecretAndSetStatus(namespace, user, desired, userStatus)),
+                timed("acls", aclOperations.reconcile(KafkaUserModel.getTlsUserName(userName), tlsAcls)),
+                timed("acls", aclOperations.reconcile(KafkaUserModel.getScramUserName(userName), scramOrNoneAcls)))
                 .setHandler(reconciliationResult -> {
                     StatusUtils.setStatusConditionAndObservedGeneration(resource, userStatus, reconciliationResult.mapEmpty());
                     userStatus.setUsername(user.getUserName());
 
-                    updateStatus(resource, reconciliation, userStatus).setHandler(statusResult -> {
+                    timed("status", updateStatus(resource, reconciliation, userStatus)).setHandler(statusResult -> {
                         // If both features succeeded, createOrUpdate succeeded as well
                         // If one or both of them failed, we prefer the reconciliation failure as the main error
                         if (reconciliationResult.succeeded() && statusResult.succeeded()) {
@@ -197,6 +224,25 @@ public class KafkaUserOperator extends AbstractOperator<KafkaUser,
         return handler;
     }
 
+    /**
+     * Records the time from now until the given stage of the reconciliation completes in the
+     * {@link OperatorMetrics#RECONCILIATION_STEP_DURATION} metric. This includes the time the stage waits for
+     * a thread of its worker pool, so that a backlog of blocking ZooKeeper or Kubernetes calls is visible.
+     *
+     * @param step The name of the stage.
+     * @param stage The stage, which has just been started.
+     * @return The stage.
+     */
+    private <T> Future<T> timed(String step, Future<T> stage) {
+        long startNanos = System.nanoTime();
+        Future<T> result = Future.future();
+        stage.setHandler(ar -> {
+            OperatorMetrics.RECONCILIATION_STEP_DURATION.observeSince(startNanos, kind(), step);
+            result.handle(ar);
+        });
+        return result;
+    }
+
     protected Future<ReconcileResult<Secret>> reconcileSecretAndSetStatus(String namespace, KafkaUserModel user, Secret desired, KafkaUserStatus userStatus) {
         return secretOperations.reconcile(namespace, user.getSecretName(), desired).compose(ar -> {
             if (desired != null) {
@@ -272,10 +318,10 @@ public class KafkaUserOperator extends AbstractOperator<KafkaUser,
         String namespace = reconciliation.namespace();
         String user = reconciliation.name();
         log.debug("{}: Deleting User", reconciliation, user, namespace);
-        return CompositeFuture.join(secretOperations.reconcile(namespace, KafkaUserModel.getSecretName(user), null),
-                aclOperations.reconcile(KafkaUserModel.getTlsUserName(user), null),
-                aclOperations.reconcile(KafkaUserModel.getScramUserName(user), null),
-                scramShaCredentialOperator.reconcile(KafkaUserModel.getScramUserName(user), null))
+        return CompositeFuture.join(timed("secret", secretOperations.reconcile(namespace, KafkaUserModel.getSecretName(user), null)),
+                timed("acls", aclOperations.reconcile(KafkaUserModel.getTlsUserName(user), null)),
+                timed("acls", aclOperations.reconcile(KafkaUserModel.getScramUserName(user), null)),
+                timed("scram-sha-credentials", scramShaCredentialOperator.reconcile(KafkaUserModel.getScramUserName(user), null)))
             .map(Boolean.TRUE);
     }
 
@@ -6,6 +6,8 @@ package io.strimzi.operator.user.operator;
 
 import io.vertx.core.json.JsonObject;
 import org.I0Itec.zkclient.ZkClient;
+import org.I0Itec.zkclient.ZkConnection;
+import org.I0Itec.zkclient.exception.ZkNoNodeException;
 import org.I0Itec.zkclient.serialize.BytesPushThroughSerializer;
 import org.apache.kafka.common.security.scram.ScramCredential;
 import org.apache.kafka.common.security.scram.internals.ScramCredentialUtils;
@@ -13,26 +15,82 @@ import org.apache.kafka.common.security.scram.internals.ScramFormatter;
 import org.apache.kafka.common.security.scram.internals.ScramMechanism;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.zookeeper.CreateMode;
+import org.apache.zookeeper.KeeperException;
+import org.apache.zookeeper.Op;
+import org.apache.zookeeper.OpResult;
+import org.apache.zookeeper.ZooDefs;
+import org.apache.zookeeper.data.Stat;
 
 import java.nio.charset.Charset;
 import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
 
 /**
  * Utility class for managing Scram credentials
+ *
+ * The user nodes are read using the asynchronous ZooKeeper API, so that the reads of many users are pipelined
+ * over the connection rather than each waiting for the previous one.
+ * The credentials of many users can be changed together by {@link #update(Map)}, which writes them and the change
+ * notifications for the brokers in ZooKeeper multi transactions, with a single notification per user.
+ * A failure to change some of the users is reported by an {@link UpdateException} naming them.
  */
 public class ScramShaCredentials {
-    private static final Logger log = LogManager.getLogger(SimpleAclOperator.class.getName());
+    private static final Logger log = LogManager.getLogger(ScramShaCredentials.class.getName());
 
     private final static int ITERATIONS = 4096;
     private final static int CONNECTION_TIMEOUT = 30_000;
+    // How many asynchronous reads can be outstanding at the same time
+    private final static int MAX_PENDING_READS = 1_000;
+    // How many users are updated in a single multi transaction, to stay well below the ZooKeeper request size limit
+    private final static int MAX_USERS_PER_TRANSACTION = 500;
+
+    /**
+     * Thrown by {@link #update(Map)} when the credentials of some of the users could not be changed.
+     * The credentials of the other users have been changed.
+     */
+    public static class UpdateException extends RuntimeException {
+        private final Map<String, RuntimeException> failures;
+        private final Set<String> existing;
+
+        UpdateException(Map<String, RuntimeException> failures, Set<String> existing) {
+            super("Failed to update the credentials of users " + failures.keySet(), failures.values().iterator().next());
+            this.failures = failures;
+            this.existing = existing;
+        }
+
+        /**
+         * @return The cause of the failure of each user whose credentials were not changed
+         */
+        public Map<String, RuntimeException> getFailures() {
+            return failures;
+        }
+
+        /**
+         * @return The users which had SCRAM-SHA credentials before the update
+         */
+        public Set<String> getExisting() {
+            return existing;
+        }
+    }
 
     private final ScramMechanism mechanism = ScramMechanism.SCRAM_SHA_512;
+    private final ZkConnection zkConnection;
     private ZkClient zkClient;
 
     public ScramShaCredentials(String zookeeperUrl, int zookeeperSessionTimeout) {
-        zkClient = new ZkClient(zookeeperUrl, zookeeperSessionTimeout, CONNECTION_TIMEOUT, new BytesPushThroughSerializer());
+        zkConnection = new ZkConnection(zookeeperUrl, zookeeperSessionTimeout);
+        zkClient = new ZkClient(zkConnection, CONNECTION_TIMEOUT, new BytesPushThroughSerializer());
     }
 
     /**
@@ -42,18 +100,7 @@ public class ScramShaCredentials {
      * @param password The desired user password
      */
     public void createOrUpdate(String username, String password) {
-        byte[] data = zkClient.readData("/config/users/" + username, true);
-
-        if (data != null)   {
-            log.debug("Updating {} credentials for user {}", mechanism.mechanismName(), username);
-            zkClient.writeData("/config/users/" + username, updateUserJson(data, password));
-        } else {
-            log.debug("Creating {} credentials for user {}", mechanism.mechanismName(), username);
-            ensurePath("/config/users");
-            zkClient.createPersistent("/config/users/" + username, createUserJson(password));
-        }
-
-        notifyChanges(username);
+        update(Collections.singletonMap(username, password));
     }
 
     /**
@@ -63,17 +110,145 @@ public class ScramShaCredentials {
      * @param username Name of the user
      */
     public void delete(String username) {
-        byte[] data = zkClient.readData("/config/users/" + username, true);
-
-        if (data != null)   {
-            log.debug("Deleting {} credentials for user {}", mechanism.mechanismName(), username);
-            zkClient.writeData("/config/users/" + username, deleteUserJson(data));
-            notifyChanges(username);
-        } else {
+        if (!update(Collections.singletonMap(username, null)).contains(username)) {
             log.warn("Credentials for user {} already don't exist", username);
         }
     }
 
+    /**
+     * Create, update or delete the SCRAM-SHA credentials of the given users.
+     * The changes are written in multi transactions, each of which either changes all its users or none of them.
+     * Each changed user is notified to the brokers once.
+     * When the changes of some of the users cannot be prepared or written, the changes of the other users are still
+     * written.
+     *
+     * @param passwords The desired password of each user, or null for the users whose credentials should be deleted
+     *
+     * @return The users which had SCRAM-SHA credentials before the update
+     * @throws UpdateException If the credentials of some of the users were not changed
+     */
+    public Set<String> update(Map<String, String> passwords) {
+        Map<String, UserNode> nodes = read(passwords.keySet());
+        Set<String> existing = new HashSet<>();
+        Map<String, RuntimeException> failures = new LinkedHashMap<>();
+        List<String> usernames = new ArrayList<>();
+        List<Op> ops = new ArrayList<>();
+
+        ensurePath("/config/users");
+        ensurePath("/config/changes");
+
+        for (Map.Entry<String, String> entry : passwords.entrySet()) {
+            String username = entry.getKey();
+            String password = entry.getValue();
+            UserNode node = nodes.get(username);
+            String path = "/config/users/" + username;
+            Op op;
+
+            try {
+                boolean exists = node != null && hasCredentials(username, node.data);
+                if (exists) {
+                    existing.add(username);
+                }
+
+                if (password != null && node != null) {
+                    log.debug("Updating {} credentials for user {}", mechanism.mechanismName(), username);
+                    op = Op.setData(path, updateUserJson(node.data, password), node.stat.getVersion());
+                } else if (password != null) {
+                    log.debug("Creating {} credentials for user {}", mechanism.mechanismName(), username);
+                    op = Op.create(path, createUserJson(password), ZooDefs.Ids.OPEN_ACL_UNSAFE, CreateMode.PERSISTENT);
+                } else if (exists) {
+                    log.debug("Deleting {} credentials for user {}", mechanism.mechanismName(), username);
+                    op = Op.setData(path, deleteUserJson(node.data), node.stat.getVersion());
+                } else {
+                    continue;
+                }
+            } catch (RuntimeException e) {
+                log.debug("Failed to prepare the {} credentials of user {}", mechanism.mechanismName(), username, e);
+                failures.put(username, e);
+                continue;
+            }
+            ops.add(op);
+            ops.add(notification(username));
+            usernames.add(username);
+
+            if (usernames.size() == MAX_USERS_PER_TRANSACTION) {
+                commit(ops, usernames, failures);
+                ops.clear();
+                usernames.clear();
+            }
+        }
+
+        if (!usernames.isEmpty()) {
+            commit(ops, usernames, failures);
+        }
+
+        if (!failures.isEmpty()) {
+            throw new UpdateException(failures, existing);
+        }
+        return existing;
+    }
+
+    /**
+     * Writes the given operations of the given users in a multi transaction. Each user has two operations,
+     * the change of its node and its notification.
+     * If the transaction fails because of the operations of one of the users (for example because its node was
+     * changed or created meanwhile), the failure is recorded for that user and the transaction is retried without it.
+     * If the failing user cannot be identified, each of the users is written in a transaction of its own.
+     */
+    private void commit(List<Op> ops, List<String> usernames, Map<String, RuntimeException> failures) {
+        List<Op> remainingOps = new ArrayList<>(ops);
+        List<String> remainingUsernames = new ArrayList<>(usernames);
+
+        while (!remainingUsernames.isEmpty()) {
+            log.debug("Writing {} credentials for {} users", mechanism.mechanismName(), remainingUsernames.size());
+            try {
+                zkClient.multi(remainingOps);
+                return;
+            } catch (RuntimeException e) {
+                int failed = failedUser(e);
+                if (failed >= 0) {
+                    String username = remainingUsernames.remove(failed);
+                    log.debug("Failed to write the {} credentials of user {}", mechanism.mechanismName(), username, e);
+                    failures.put(username, e);
+                    remainingOps.subList(2 * failed, 2 * failed + 2).clear();
+                } else if (remainingUsernames.size() == 1) {
+                    log.debug("Failed to write the {} credentials of user {}", mechanism.mechanismName(), remainingUsernames.get(0), e);
+                    failures.put(remainingUsernames.get(0), e);
+                    return;
+                } else {
+                    log.debug("Failed to write the {} credentials of {} users, writing them one by one",
+                            mechanism.mechanismName(), remainingUsernames.size(), e);
+                    for (int i = 0; i < remainingUsernames.size(); i++) {
+                        commit(remainingOps.subList(2 * i, 2 * i + 2), Collections.singletonList(remainingUsernames.get(i)), failures);
+                    }
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * @return The index of the user whose operation failed the multi transaction, or -1 if it is not known
+     */
+    private static int failedUser(RuntimeException e) {
+        if (e.getCause() instanceof KeeperException) {
+            List<OpResult> results = ((KeeperException) e.getCause()).getResults();
+            if (results != null) {
+                for (int i = 0; i < results.size(); i++) {
+                    OpResult result = results.get(i);
+                    // The operations before the failed one succeeded, and those after it were not attempted
+                    if (result instanceof OpResult.ErrorResult) {
+                        int err = ((OpResult.ErrorResult) result).getErr();
+                        if (err != KeeperException.Code.OK.intValue() && err != KeeperException.Code.RUNTIMEINCONSISTENCY.intValue()) {
+                            return i / 2;
+                        }
+                    }
+                }
+            }
+        }
+        return -1;
+    }
+
     /**
      * Determine whether the given user has SCRAM-SHA credentials.
      *
@@ -83,7 +258,10 @@ public class ScramShaCredentials {
      */
     public boolean exists(String username) {
         byte[] data = zkClient.readData("/config/users/" + username, true);
+        return hasCredentials(username, data);
+    }
 
+    private boolean hasCredentials(String username, byte[] data) {
         if (data != null)   {
             String jsonString = new String(data, Charset.defaultCharset());
             JsonObject json = new JsonObject(jsonString);
@@ -116,11 +294,13 @@ public class ScramShaCredentials {
         List<String> result = new ArrayList<>();
 
         if (zkClient.exists("/config/users"))   {
-            List<String> nodes = zkClient.getChildren("/config/users");
+            List<String> usernames = zkClient.getChildren("/config/users");
+            Map<String, UserNode> nodes = read(usernames);
 
-            for (String node : nodes)   {
-                if (exists(node))   {
-                    result.add(node);
+            for (String username : usernames)   {
+                UserNode node = nodes.get(username);
+                if (node != null && hasCredentials(username, node.data))   {
+                    result.add(username);
                 }
             }
         }
@@ -129,17 +309,77 @@ public class ScramShaCredentials {
     }
 
     /**
-     * This notifies Kafka about the changes we have made
+     * The data and version of the node of a user.
+     */
+    private static class UserNode {
+        final byte[] data;
+        final Stat stat;
+
+        UserNode(byte[] data, Stat stat) {
+            this.data = data;
+            this.stat = stat;
+        }
+    }
+
+    /**
+     * Reads the nodes of the given users. The reads are sent without waiting for the previous responses.
+     * Reads which fail, for example because the connection was lost, are retried synchronously.
      *
-     * @param username  Name of the user whose configuration changed
+     * @param usernames Names of the users
+     *
+     * @return The nodes of the given users which exist
      */
-    private void notifyChanges(String username) {
-        log.debug("Notifying changes for user {}", username);
+    private Map<String, UserNode> read(Collection<String> usernames) {
+        Map<String, UserNode> nodes = new ConcurrentHashMap<>(usernames.size());
+        Set<String> failed = ConcurrentHashMap.newKeySet();
+        CountDownLatch latch = new CountDownLatch(usernames.size());
+        Semaphore pending = new Semaphore(MAX_PENDING_READS);
 
-        ensurePath("/config/changes");
+        try {
+            for (String username : usernames) {
+                pending.acquire();
+                zkConnection.getZookeeper().getData("/config/users/" + username, false, (rc, path, ctx, data, stat) -> {
+                    if (rc == KeeperException.Code.OK.intValue()) {
+                        nodes.put(username, new UserNode(data, stat));
+                    } else if (rc != KeeperException.Code.NONODE.intValue()) {
+                        failed.add(username);
+                    }
+                    pending.release();
+                    latch.countDown();
+                }, null);
+            }
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while reading the users", e);
+        } catch (RuntimeException e) {
+            log.debug("Failed to pipeline the reads of the users", e);
+            failed.addAll(usernames);
+            failed.removeAll(nodes.keySet());
+        }
 
+        for (String username : failed) {
+            try {
+                Stat stat = new Stat();
+                byte[] data = zkClient.readData("/config/users/" + username, stat);
+                nodes.put(username, new UserNode(data, stat));
+            } catch (ZkNoNodeException e) {
+                log.trace("User {} does not exist", username);
+            }
+        }
+
+        return nodes;
+    }
+
+    /**
+     * The operation which notifies Kafka about the changes we have made
+     *
+     * @param username  Name of the user whose configuration changed
+     */
+    private Op notification(String username) {
         JsonObject json = new JsonObject().put("version", 2).put("entity_path", "users/" + username);
-        zkClient.createPersistentSequential("/config/changes/config_change_", json.encode().getBytes(Charset.defaultCharset()));
+        return Op.create("/config/changes/config_change_", json.encode().getBytes(Charset.defaultCharset()),
+                ZooDefs.Ids.OPEN_ACL_UNSAFE, CreateMode.PERSISTENT_SEQUENTIAL);
     }
 
     /**
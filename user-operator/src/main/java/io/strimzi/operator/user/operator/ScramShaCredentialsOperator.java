@@ -7,40 +7,121 @@ package io.strimzi.operator.user.operator;
 import io.strimzi.operator.common.operator.resource.ReconcileResult;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
+/**
+ * Reconciles the SCRAM-SHA credentials of the users.
+ * The changes requested while the previous changes are being written are collected and written together by the
+ * next {@link ScramShaCredentials#update(Map)}, so that concurrently reconciled users share the ZooKeeper transactions.
+ * When the credentials of only some of the users could be written, only the reconciliations of the other users fail.
+ */
 public class ScramShaCredentialsOperator {
+    private static final Logger log = LogManager.getLogger(ScramShaCredentialsOperator.class.getName());
 
     private ScramShaCredentials credsManager;
 
     private Vertx vertx;
 
+    // Guarded by this
+    private List<Change> changes = new ArrayList<>();
+    private boolean updating = false;
+
+    private static class Change {
+        final String username;
+        final String password;
+        final Future<ReconcileResult<Void>> result = Future.future();
+
+        Change(String username, String password) {
+            this.username = username;
+            this.password = password;
+        }
+    }
+
     public ScramShaCredentialsOperator(Vertx vertx, ScramShaCredentials credsManager) {
         this.credsManager = credsManager;
         this.vertx = vertx;
     }
 
     Future<ReconcileResult<Void>> reconcile(String username, String password) {
-        Future<ReconcileResult<Void>> fut = Future.future();
-        vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
+        Change change = new Change(username, password);
+        boolean update;
+        synchronized (this) {
+            changes.add(change);
+            update = !updating;
+            updating = true;
+        }
+        if (update) {
+            update();
+        }
+        return change.result;
+    }
+
+    /**
+     * Write the changes collected so far, and then the changes collected while writing them, until there are none left.
+     */
+    private void update() {
+        List<Change> batch;
+        synchronized (this) {
+            batch = changes;
+            changes = new ArrayList<>();
+            if (batch.isEmpty()) {
+                updating = false;
+                return;
+            }
+        }
+
+        vertx.createSharedWorkerExecutor("zookeeper-ops-pool").executeBlocking(
             future -> {
-                boolean exists = credsManager.exists(username);
-                if (password != null) {
-                    credsManager.createOrUpdate(username, password);
-                    future.complete(exists ? ReconcileResult.created(null) : ReconcileResult.patched(null));
-                } else  {
-                    if (exists) {
-                        credsManager.delete(username);
-                        future.complete(ReconcileResult.deleted());
+                // The last change of each user wins, so that each user is written and notified once
+                Map<String, String> passwords = new LinkedHashMap<>();
+                for (Change change : batch) {
+                    passwords.put(change.username, change.password);
+                }
+
+                Set<String> existing;
+                Map<String, RuntimeException> failures;
+                try {
+                    existing = credsManager.update(passwords);
+                    failures = Collections.emptyMap();
+                } catch (ScramShaCredentials.UpdateException e) {
+                    log.warn("Failed to update the credentials of {} of {} users", e.getFailures().size(), passwords.size(), e);
+                    existing = e.getExisting();
+                    failures = e.getFailures();
+                }
+                for (Change change : batch) {
+                    RuntimeException failure = failures.get(change.username);
+                    if (failure != null) {
+                        change.result.tryFail(failure);
                     } else {
-                        future.complete(ReconcileResult.noop(null));
+                        complete(change, existing);
                     }
                 }
+                future.complete();
             },
             false,
-            fut);
-        return fut;
+            res -> {
+                if (res.failed()) {
+                    batch.forEach(change -> change.result.tryFail(res.cause()));
+                }
+                update();
+            });
+    }
+
+    private static void complete(Change change, Set<String> existing) {
+        boolean exists = existing.contains(change.username);
+        if (change.password != null) {
+            change.result.tryComplete(exists ? ReconcileResult.created(null) : ReconcileResult.patched(null));
+        } else {
+            change.result.tryComplete(exists ? ReconcileResult.deleted() : ReconcileResult.noop(null));
+        }
     }
 
     public List<String> list() {
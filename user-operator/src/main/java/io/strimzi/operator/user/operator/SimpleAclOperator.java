@@ -14,6 +14,9 @@ import io.vertx.core.Vertx;
 import kafka.security.auth.Acl;
 import kafka.security.auth.Resource;
 import kafka.security.auth.SimpleAclAuthorizer;
+import org.apache.kafka.common.acl.AccessControlEntry;
+import org.apache.kafka.common.acl.AclBinding;
+import org.apache.kafka.common.acl.AclBindingFilter;
 import org.apache.kafka.common.security.auth.KafkaPrincipal;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -23,11 +26,13 @@ import scala.collection.JavaConverters;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * SimlpeAclOperator is responsible for managing the authorization rules in Apache Kafka / Apache Zookeeper.
@@ -35,14 +40,30 @@ import java.util.Set;
  * Since SimpleAclAuthorizer is written in Scala, this operator is using some Scala structures required for passing to / returned from the SimpleAclAuthorizer object.
  * This class expects the SimpleAclAuthorizer instance to be passed from the outside.
  * That is useful for testing and is similar to how the Kubernetes client is passed around.
+ *
+ * The ACLs of all the users are read from the authorizer once per periodic reconciliation, by {@link #getUsersWithAcls()},
+ * and indexed by principal. Until the next periodic reconciliation the rules of each user are taken from this index,
+ * which is updated as the rules are added and removed, rather than by scanning all the ACLs of the authorizer.
+ *
+ * When an {@link AclBindingBatcher} is passed, the rules are added and removed through the Kafka Admin API in batches
+ * shared with the other users reconciled at the same time, instead of through the authorizer.
  */
 public class SimpleAclOperator {
     private static final Logger log = LogManager.getLogger(SimpleAclOperator.class.getName());
 
     private static final List<String> IGNORED_USERS = Arrays.asList("*", "ANONYMOUS");
+    // Marks the principals in the index with rules which cannot be represented as SimpleAclRules
+    private static final Set<SimpleAclRule> NOT_INDEXED = Collections.unmodifiableSet(new HashSet<>());
 
     private final Vertx vertx;
     private final SimpleAclAuthorizer authorizer;
+    private final AclBindingBatcher batcher;
+    // The Acl rules of each user principal, or null when they have to be read from the authorizer
+    private volatile Map<String, Set<SimpleAclRule>> aclsByPrincipal;
+    // Guards the replacement of the index against the updates of the index
+    private final Object indexLock = new Object();
+    // The number of updates of the index, guarded by indexLock
+    private long indexUpdates;
 
     /**
      * Constructor
@@ -51,8 +72,20 @@ public class SimpleAclOperator {
      * @param authorizer    SimpleAcAuthorizer instance
      */
     public SimpleAclOperator(Vertx vertx, SimpleAclAuthorizer authorizer)  {
+        this(vertx, authorizer, null);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param vertx     Vertx instance
+     * @param authorizer    SimpleAcAuthorizer instance used to read the Acl rules
+     * @param batcher   AclBindingBatcher instance used to add and remove the Acl rules, or null to use the authorizer
+     */
+    public SimpleAclOperator(Vertx vertx, SimpleAclAuthorizer authorizer, AclBindingBatcher batcher)  {
         this.vertx = vertx;
         this.authorizer = authorizer;
+        this.batcher = batcher;
     }
 
     /**
@@ -64,7 +97,7 @@ public class SimpleAclOperator {
      */
     Future<ReconcileResult<Set<SimpleAclRule>>> reconcile(String username, Set<SimpleAclRule> desired) {
         Future<ReconcileResult<Set<SimpleAclRule>>> fut = Future.future();
-        vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
+        vertx.createSharedWorkerExecutor("zookeeper-ops-pool").executeBlocking(
             future -> {
                 Set<SimpleAclRule> current;
 
@@ -104,6 +137,21 @@ public class SimpleAclOperator {
      * Create all ACLs for given user
      */
     protected Future<ReconcileResult<Set<SimpleAclRule>>> internalCreate(String username, Set<SimpleAclRule> desired) {
+        if (batcher != null) {
+            Future<ReconcileResult<Set<SimpleAclRule>>> fut = Future.future();
+            batcher.create(getAclBindings(username, desired)).setHandler(res -> {
+                if (res.succeeded()) {
+                    updateIndex(username, desired, true);
+                    fut.complete(ReconcileResult.created(desired));
+                } else {
+                    log.error("Adding Acl rules for user {} failed", username, res.cause());
+                    invalidateIndex();
+                    fut.fail(res.cause());
+                }
+            });
+            return fut;
+        }
+
         try {
             HashMap<Resource, Set<Acl>> map = getResourceAclsMap(username, desired);
             for (Map.Entry<Resource, Set<Acl>> entry: map.entrySet()) {
@@ -112,8 +160,10 @@ public class SimpleAclOperator {
             }
         } catch (Exception e) {
             log.error("Adding Acl rules for user {} failed", username, e);
+            invalidateIndex();
             return Future.failedFuture(e);
         }
+        updateIndex(username, desired, true);
 
         return Future.succeededFuture(ReconcileResult.created(desired));
     }
@@ -163,10 +213,43 @@ public class SimpleAclOperator {
         }
         return map;
     }
+
+    /**
+     * Converts the given rules of the given user to the ACL bindings of the Kafka Admin API.
+     */
+    protected List<AclBinding> getAclBindings(String username, Set<SimpleAclRule> aclRules) {
+        List<AclBinding> bindings = new ArrayList<>();
+        for (Map.Entry<Resource, Set<Acl>> entry : getResourceAclsMap(username, aclRules).entrySet()) {
+            for (Acl acl : entry.getValue()) {
+                bindings.add(new AclBinding(entry.getKey().toPattern(), new AccessControlEntry(acl.principal().toString(),
+                        acl.host(), acl.operation().toJava(), acl.permissionType().toJava())));
+            }
+        }
+        return bindings;
+    }
+
     /**
      * Deletes all ACLs for given user
      */
     protected Future<ReconcileResult<Set<SimpleAclRule>>> internalDelete(String username, Set<SimpleAclRule> current) {
+        if (batcher != null) {
+            List<AclBindingFilter> filters = new ArrayList<>();
+            for (AclBinding binding : getAclBindings(username, current)) {
+                filters.add(binding.toFilter());
+            }
+            Future<ReconcileResult<Set<SimpleAclRule>>> fut = Future.future();
+            batcher.delete(filters).setHandler(res -> {
+                if (res.succeeded()) {
+                    updateIndex(username, current, false);
+                    fut.complete(ReconcileResult.deleted());
+                } else {
+                    log.error("Deleting Acl rules for user {} failed", username, res.cause());
+                    invalidateIndex();
+                    fut.fail(res.cause());
+                }
+            });
+            return fut;
+        }
 
         try {
             HashMap<Resource, Set<Acl>> map =  getResourceAclsMap(username, current);
@@ -176,11 +259,76 @@ public class SimpleAclOperator {
             }
         } catch (Exception e) {
             log.error("Deleting Acl rules for user {} failed", username, e);
+            invalidateIndex();
             return Future.failedFuture(e);
         }
+        updateIndex(username, current, false);
         return Future.succeededFuture(ReconcileResult.deleted());
     }
 
+    /**
+     * Add the given rules to, or remove them from, the index of the rules of the given user, if there is an index.
+     */
+    private void updateIndex(String username, Set<SimpleAclRule> rules, boolean add) {
+        if (rules.isEmpty()) {
+            return;
+        }
+        synchronized (indexLock) {
+            indexUpdates++;
+            Map<String, Set<SimpleAclRule>> index = aclsByPrincipal;
+            if (index != null) {
+                index.compute(username, (name, existing) -> {
+                    if (existing == NOT_INDEXED) {
+                        return existing;
+                    }
+                    Set<SimpleAclRule> updated = existing == null ? new HashSet<>() : new HashSet<>(existing);
+                    if (add) {
+                        updated.addAll(rules);
+                    } else {
+                        updated.removeAll(rules);
+                    }
+                    return updated.isEmpty() ? null : updated;
+                });
+            }
+        }
+    }
+
+    /**
+     * Drop the index, so that the rules are read from the authorizer until the index is rebuilt.
+     */
+    private void invalidateIndex() {
+        synchronized (indexLock) {
+            indexUpdates++;
+            aclsByPrincipal = null;
+        }
+    }
+
+    /**
+     * @return The number of updates of the index so far.
+     */
+    private long indexUpdates() {
+        synchronized (indexLock) {
+            return indexUpdates;
+        }
+    }
+
+    /**
+     * Replace the index with the given one, built from the rules read from the authorizer, unless the index was
+     * updated since {@code updatesBefore}. The update might have been made to the old index after the rules were read,
+     * and would then be missing from the new index, so the index is dropped instead and rebuilt by the next call to
+     * {@link #getUsersWithAcls()}.
+     */
+    private void replaceIndex(Map<String, Set<SimpleAclRule>> index, long updatesBefore) {
+        synchronized (indexLock) {
+            if (indexUpdates == updatesBefore) {
+                aclsByPrincipal = index;
+            } else {
+                log.debug("Acl rules were updated while the index was being rebuilt, the index will be rebuilt later");
+                aclsByPrincipal = null;
+            }
+        }
+    }
+
     /**
      * Returns Set of ACLs applying to single user.
      *
@@ -188,6 +336,13 @@ public class SimpleAclOperator {
      * @return The Set of ACLs applying to single user.
      */
     public Set<SimpleAclRule> getAcls(String username)   {
+        Map<String, Set<SimpleAclRule>> index = aclsByPrincipal;
+        Set<SimpleAclRule> indexed = index != null ? index.get(username) : null;
+        if (index != null && indexed != NOT_INDEXED) {
+            log.debug("Looking up ACL rules of user {}", username);
+            return indexed == null ? new HashSet<>() : new HashSet<>(indexed);
+        }
+
         log.debug("Searching for ACL rules of user {}", username);
         Set<SimpleAclRule> result = new HashSet<SimpleAclRule>();
         KafkaPrincipal principal = new KafkaPrincipal("User", username);
@@ -218,33 +373,42 @@ public class SimpleAclOperator {
 
     /**
      * Returns set with all usernames which have some ACLs.
+     * The ACL rules read from the authorizer also replace the index used by {@link #getAcls(String)}.
      *
      * @return The set with all usernames which have some ACLs.
      */
     public Set<String> getUsersWithAcls()   {
         Set<String> result = new HashSet<String>();
+        Map<String, Set<SimpleAclRule>> index = new ConcurrentHashMap<>();
         Set<String> ignored = new HashSet<String>(IGNORED_USERS.size());
 
         log.debug("Searching for Users with any ACL rules");
 
         scala.collection.immutable.Map<Resource, scala.collection.immutable.Set<Acl>> rules;
 
+        long updatesBefore = indexUpdates();
         try {
             rules =  authorizer.getAcls();
         } catch (Exception e)   {
             log.error("Failed to get existing Acls rules all users", e);
+            invalidateIndex();
             return result;
         }
 
         Iterator<Tuple2<Resource, scala.collection.immutable.Set<Acl>>> iter = rules.iterator();
         while (iter.hasNext())  {
-            scala.collection.immutable.Set<Acl> acls = iter.next()._2();
+            Tuple2<Resource, scala.collection.immutable.Set<Acl>> tuple = iter.next();
+            SimpleAclRuleResource resource = toIndexableResource(tuple._1());
+            scala.collection.immutable.Set<Acl> acls = tuple._2();
 
             Iterator<Acl> iter2 = acls.iterator();
             while (iter2.hasNext()) {
-                KafkaPrincipal principal = iter2.next().principal();
+                Acl acl = iter2.next();
+                KafkaPrincipal principal = acl.principal();
 
                 if (KafkaPrincipal.USER_TYPE.equals(principal.getPrincipalType()))  {
+                    addToIndex(index, principal.getName(), resource, acl);
+
                     // Username in ACL might keep different format (for example based on user's subject) and need to be decoded
                     String username = KafkaUserModel.decodeUsername(principal.getName());
 
@@ -265,6 +429,43 @@ public class SimpleAclOperator {
             }
         }
 
+        replaceIndex(index, updatesBefore);
         return result;
     }
+
+    private static SimpleAclRuleResource toIndexableResource(Resource resource) {
+        try {
+            return SimpleAclRuleResource.fromKafkaResource(resource);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Add the given rule to the index. The rules of a principal which has any rule which cannot be represented
+     * as a SimpleAclRule are not indexed, so that they are read from the authorizer, which reports the problem.
+     */
+    private static void addToIndex(Map<String, Set<SimpleAclRule>> index, String principal, SimpleAclRuleResource resource, Acl acl) {
+        Set<SimpleAclRule> rules = index.get(principal);
+        if (rules == NOT_INDEXED) {
+            return;
+        }
+        SimpleAclRule rule = null;
+        if (resource != null) {
+            try {
+                rule = SimpleAclRule.fromKafkaAcl(resource, acl);
+            } catch (IllegalArgumentException e) {
+                rule = null;
+            }
+        }
+        if (rule == null) {
+            index.put(principal, NOT_INDEXED);
+        } else if (rules == null) {
+            rules = new HashSet<>();
+            rules.add(rule);
+            index.put(principal, rules);
+        } else {
+            rules.add(rule);
+        }
+    }
 }
@@ -4,6 +4,7 @@
  */
 package io.strimzi.operator.user;
 
+import io.strimzi.certs.CertManagerType;
 import io.strimzi.operator.common.InvalidConfigurationException;
 import io.strimzi.operator.common.model.Labels;
 import org.junit.jupiter.api.Test;
@@ -12,6 +13,7 @@ import java.util.HashMap;
 import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -78,6 +80,106 @@ public class UserOperatorConfigTest {
         assertThat(config.getReconciliationIntervalMs(), is(UserOperatorConfig.DEFAULT_FULL_RECONCILIATION_INTERVAL_MS));
     }
 
+    @Test
+    public void testAclsBackend()  {
+        UserOperatorConfig config = UserOperatorConfig.fromMap(envVars);
+        assertThat(config.getKafkaBootstrapServers(), is(nullValue()));
+        assertThat(config.getAclsBatchWindowMs(), is(UserOperatorConfig.DEFAULT_ACLS_BATCH_WINDOW_MS));
+
+        Map<String, String> envVars = new HashMap<>(UserOperatorConfigTest.envVars);
+        envVars.put(UserOperatorConfig.STRIMZI_KAFKA_BOOTSTRAP_SERVERS, "my-cluster-kafka-bootstrap:9091");
+        envVars.put(UserOperatorConfig.STRIMZI_ACLS_BATCH_WINDOW_MS, "250");
+
+        config = UserOperatorConfig.fromMap(envVars);
+        assertThat(config.getKafkaBootstrapServers(), is("my-cluster-kafka-bootstrap:9091"));
+        assertThat(config.getAclsBatchWindowMs(), is(250L));
+    }
+
+    @Test
+    public void testInvalidAclsBatchWindow()  {
+        Map<String, String> envVars = new HashMap<>(UserOperatorConfigTest.envVars);
+        envVars.put(UserOperatorConfig.STRIMZI_ACLS_BATCH_WINDOW_MS, "-1");
+        assertThrows(InvalidConfigurationException.class, () -> UserOperatorConfig.fromMap(envVars));
+
+        envVars.put(UserOperatorConfig.STRIMZI_ACLS_BATCH_WINDOW_MS, "100ms");
+        assertThrows(InvalidConfigurationException.class, () -> UserOperatorConfig.fromMap(envVars));
+    }
+
+    @Test
+    public void testKafkaTls()  {
+        UserOperatorConfig config = UserOperatorConfig.fromMap(envVars);
+        assertThat(config.getKafkaTlsConfig(), is(nullValue()));
+
+        Map<String, String> envVars = new HashMap<>(UserOperatorConfigTest.envVars);
+        envVars.put(UserOperatorConfig.STRIMZI_TLS_ENABLED, "true");
+        envVars.put(UserOperatorConfig.STRIMZI_TRUSTSTORE_LOCATION, "/tmp/user-operator/replication.truststore.p12");
+        envVars.put(UserOperatorConfig.STRIMZI_TRUSTSTORE_PASSWORD, "truststore-password");
+        envVars.put(UserOperatorConfig.STRIMZI_KEYSTORE_LOCATION, "/tmp/user-operator/replication.keystore.p12");
+        envVars.put(UserOperatorConfig.STRIMZI_KEYSTORE_PASSWORD, "keystore-password");
+
+        config = UserOperatorConfig.fromMap(envVars);
+        assertThat(config.getKafkaTlsConfig().getTruststoreLocation(), is("/tmp/user-operator/replication.truststore.p12"));
+        assertThat(config.getKafkaTlsConfig().getTruststorePassword(), is("truststore-password"));
+        assertThat(config.getKafkaTlsConfig().getKeystoreLocation(), is("/tmp/user-operator/replication.keystore.p12"));
+        assertThat(config.getKafkaTlsConfig().getKeystorePassword(), is("keystore-password"));
+
+        envVars.remove(UserOperatorConfig.STRIMZI_KEYSTORE_PASSWORD);
+        assertThrows(InvalidConfigurationException.class, () -> UserOperatorConfig.fromMap(envVars));
+    }
+
+    @Test
+    public void testConcurrency()  {
+        UserOperatorConfig config = UserOperatorConfig.fromMap(envVars);
+        assertThat(config.getMaxConcurrentReconciliations(), is(UserOperatorConfig.DEFAULT_MAX_CONCURRENT_RECONCILIATIONS));
+        assertThat(config.getZookeeperOpsPoolSize(), is(UserOperatorConfig.DEFAULT_ZOOKEEPER_OPS_POOL_SIZE));
+
+        Map<String, String> envVars = new HashMap<>(UserOperatorConfigTest.envVars);
+        envVars.put(UserOperatorConfig.STRIMZI_MAX_CONCURRENT_RECONCILIATIONS, "50");
+        envVars.put(UserOperatorConfig.STRIMZI_ZOOKEEPER_OPS_POOL_SIZE, "4");
+
+        config = UserOperatorConfig.fromMap(envVars);
+        assertThat(config.getMaxConcurrentReconciliations(), is(50));
+        assertThat(config.getZookeeperOpsPoolSize(), is(4));
+
+        envVars.put(UserOperatorConfig.STRIMZI_MAX_CONCURRENT_RECONCILIATIONS, "0");
+        assertThrows(InvalidConfigurationException.class, () -> UserOperatorConfig.fromMap(envVars));
+
+        envVars.put(UserOperatorConfig.STRIMZI_MAX_CONCURRENT_RECONCILIATIONS, "many");
+        assertThrows(InvalidConfigurationException.class, () -> UserOperatorConfig.fromMap(envVars));
+
+        envVars.remove(UserOperatorConfig.STRIMZI_MAX_CONCURRENT_RECONCILIATIONS);
+        envVars.put(UserOperatorConfig.STRIMZI_ZOOKEEPER_OPS_POOL_SIZE, "4 threads");
+        assertThrows(InvalidConfigurationException.class, () -> UserOperatorConfig.fromMap(envVars));
+    }
+
+    @Test
+    public void testKeyPairPool()  {
+        UserOperatorConfig config = UserOperatorConfig.fromMap(envVars);
+        assertThat(config.getKeyPairPoolSize(), is(UserOperatorConfig.DEFAULT_KEY_PAIR_POOL_SIZE));
+        assertThat(config.getKeyPairPoolLowWaterMark(), is(UserOperatorConfig.DEFAULT_KEY_PAIR_POOL_SIZE / 4));
+
+        Map<String, String> envVars = new HashMap<>(UserOperatorConfigTest.envVars);
+        envVars.put(UserOperatorConfig.STRIMZI_KEY_PAIR_POOL_SIZE, "100");
+        envVars.put(UserOperatorConfig.STRIMZI_KEY_PAIR_POOL_LOW_WATER_MARK, "40");
+
+        config = UserOperatorConfig.fromMap(envVars);
+        assertThat(config.getKeyPairPoolSize(), is(100));
+        assertThat(config.getKeyPairPoolLowWaterMark(), is(40));
+
+        envVars.put(UserOperatorConfig.STRIMZI_KEY_PAIR_POOL_LOW_WATER_MARK, "100");
+        assertThrows(InvalidConfigurationException.class, () -> UserOperatorConfig.fromMap(envVars));
+
+        envVars.put(UserOperatorConfig.STRIMZI_KEY_PAIR_POOL_SIZE, "-1");
+        assertThrows(InvalidConfigurationException.class, () -> UserOperatorConfig.fromMap(envVars));
+
+        envVars.put(UserOperatorConfig.STRIMZI_KEY_PAIR_POOL_SIZE, "100");
+        envVars.put(UserOperatorConfig.STRIMZI_KEY_PAIR_POOL_LOW_WATER_MARK, "a quarter");
+        assertThrows(InvalidConfigurationException.class, () -> UserOperatorConfig.fromMap(envVars));
+
+        envVars.put(UserOperatorConfig.STRIMZI_KEY_PAIR_POOL_SIZE, "lots");
+        assertThrows(InvalidConfigurationException.class, () -> UserOperatorConfig.fromMap(envVars));
+    }
+
     @Test
     public void testMissingLabels()  {
         Map<String, String> envVars = new HashMap<>(UserOperatorConfigTest.envVars);
@@ -115,4 +217,23 @@ public class UserOperatorConfigTest {
             UserOperatorConfig config = UserOperatorConfig.fromMap(envVars);
         });
     }
+
+    @Test
+    public void testCertManager()  {
+        assertThat(UserOperatorConfig.fromMap(envVars).getCertManagerType(), is(CertManagerType.OPENSSL));
+
+        Map<String, String> envVars = new HashMap<>(UserOperatorConfigTest.envVars);
+        envVars.put(UserOperatorConfig.STRIMZI_CERT_MANAGER, "java");
+        assertThat(UserOperatorConfig.fromMap(envVars).getCertManagerType(), is(CertManagerType.JAVA));
+    }
+
+    @Test
+    public void testInvalidCertManager()  {
+        assertThrows(InvalidConfigurationException.class, () -> {
+            Map<String, String> envVars = new HashMap<>(UserOperatorConfigTest.envVars);
+            envVars.put(UserOperatorConfig.STRIMZI_CERT_MANAGER, "keytool");
+
+            UserOperatorConfig config = UserOperatorConfig.fromMap(envVars);
+        });
+    }
 }
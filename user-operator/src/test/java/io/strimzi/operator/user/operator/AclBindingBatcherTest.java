@@ -0,0 +1,152 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.operator;
+
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.CreateAclsResult;
+import org.apache.kafka.clients.admin.DeleteAclsResult;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.acl.AccessControlEntry;
+import org.apache.kafka.common.acl.AclBinding;
+import org.apache.kafka.common.acl.AclBindingFilter;
+import org.apache.kafka.common.acl.AclOperation;
+import org.apache.kafka.common.acl.AclPermissionType;
+import org.apache.kafka.common.errors.InvalidRequestException;
+import org.apache.kafka.common.internals.KafkaFutureImpl;
+import org.apache.kafka.common.resource.PatternType;
+import org.apache.kafka.common.resource.ResourcePattern;
+import org.apache.kafka.common.resource.ResourceType;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(VertxExtension.class)
+public class AclBindingBatcherTest {
+    protected static Vertx vertx;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    private static AclBinding binding(String user, String topic) {
+        return new AclBinding(new ResourcePattern(ResourceType.TOPIC, topic, PatternType.LITERAL),
+                new AccessControlEntry("User:" + user, "*", AclOperation.READ, AclPermissionType.ALLOW));
+    }
+
+    private static <T> KafkaFuture<T> completed(T value) {
+        KafkaFutureImpl<T> future = new KafkaFutureImpl<>();
+        future.complete(value);
+        return future;
+    }
+
+    private static <T> KafkaFuture<T> failed(Throwable cause) {
+        KafkaFutureImpl<T> future = new KafkaFutureImpl<>();
+        future.completeExceptionally(cause);
+        return future;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testCreationsAreBatchedAndFailPerRequest(VertxTestContext context) {
+        AclBinding fooRead = binding("foo", "my-topic");
+        AclBinding fooWrite = binding("foo", "other-topic");
+        AclBinding barRead = binding("bar", "my-topic");
+
+        Map<AclBinding, KafkaFuture<Void>> results = new HashMap<>();
+        results.put(fooRead, completed(null));
+        results.put(fooWrite, completed(null));
+        results.put(barRead, failed(new InvalidRequestException("Invalid ACL")));
+        CreateAclsResult result = mock(CreateAclsResult.class);
+        when(result.values()).thenReturn(results);
+
+        AdminClient adminClient = mock(AdminClient.class);
+        ArgumentCaptor<Collection<AclBinding>> captor = ArgumentCaptor.forClass(Collection.class);
+        when(adminClient.createAcls(captor.capture())).thenReturn(result);
+
+        AclBindingBatcher batcher = new AclBindingBatcher(vertx, adminClient, 50);
+        Future<Void> foo = batcher.create(asList(fooRead, fooWrite));
+        Future<Void> bar = batcher.create(singletonList(barRead));
+
+        Checkpoint async = context.checkpoint();
+        CompositeFuture.join(foo, bar).setHandler(res -> context.verify(() -> {
+            verify(adminClient, times(1)).createAcls(any());
+            verify(adminClient, never()).deleteAcls(any());
+            assertThat(new HashSet<>(captor.getValue()), is(new HashSet<>(asList(fooRead, fooWrite, barRead))));
+            assertThat(foo.succeeded(), is(true));
+            assertThat(bar.failed(), is(true));
+            assertThat(bar.cause(), instanceOf(InvalidRequestException.class));
+            async.flag();
+        }));
+    }
+
+    @Test
+    public void testDeletions(VertxTestContext context) {
+        AclBindingFilter foo = binding("foo", "my-topic").toFilter();
+        AclBindingFilter bar = binding("bar", "my-topic").toFilter();
+
+        DeleteAclsResult.FilterResults fooResults = mock(DeleteAclsResult.FilterResults.class);
+        when(fooResults.values()).thenReturn(emptyList());
+        DeleteAclsResult.FilterResult barResult = mock(DeleteAclsResult.FilterResult.class);
+        when(barResult.exception()).thenReturn(new InvalidRequestException("Invalid ACL"));
+        DeleteAclsResult.FilterResults barResults = mock(DeleteAclsResult.FilterResults.class);
+        when(barResults.values()).thenReturn(singletonList(barResult));
+
+        Map<AclBindingFilter, KafkaFuture<DeleteAclsResult.FilterResults>> results = new HashMap<>();
+        results.put(foo, completed(fooResults));
+        results.put(bar, completed(barResults));
+        DeleteAclsResult result = mock(DeleteAclsResult.class);
+        when(result.values()).thenReturn(results);
+
+        AdminClient adminClient = mock(AdminClient.class);
+        when(adminClient.deleteAcls(any())).thenReturn(result);
+
+        AclBindingBatcher batcher = new AclBindingBatcher(vertx, adminClient, 50);
+        Future<Void> fooDeleted = batcher.delete(singletonList(foo));
+        Future<Void> barDeleted = batcher.delete(singletonList(bar));
+        Future<Void> nothingDeleted = batcher.delete(emptyList());
+
+        Checkpoint async = context.checkpoint();
+        CompositeFuture.join(fooDeleted, barDeleted, nothingDeleted).setHandler(res -> context.verify(() -> {
+            verify(adminClient, times(1)).deleteAcls(any());
+            verify(adminClient, never()).createAcls(any());
+            assertThat(fooDeleted.succeeded(), is(true));
+            assertThat(nothingDeleted.succeeded(), is(true));
+            assertThat(barDeleted.failed(), is(true));
+            async.flag();
+        }));
+    }
+}
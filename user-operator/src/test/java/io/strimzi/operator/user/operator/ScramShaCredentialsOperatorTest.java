@@ -0,0 +1,75 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.operator;
+
+import io.strimzi.operator.common.operator.resource.ReconcileResult;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(VertxExtension.class)
+public class ScramShaCredentialsOperatorTest {
+    protected static Vertx vertx;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    @Test
+    public void testOnlyTheFailedUsersFail(VertxTestContext context) {
+        ScramShaCredentials credsManager = mock(ScramShaCredentials.class);
+        RuntimeException failure = new RuntimeException("Transaction failed");
+        List<String> updated = Collections.synchronizedList(new ArrayList<>());
+        when(credsManager.update(any())).thenAnswer(invocation -> {
+            Map<String, String> passwords = invocation.getArgument(0);
+            updated.addAll(passwords.keySet());
+            if (passwords.containsKey("bar")) {
+                throw new ScramShaCredentials.UpdateException(Collections.singletonMap("bar", failure), Collections.singleton("foo"));
+            }
+            return Collections.singleton("foo");
+        });
+        ScramShaCredentialsOperator scramOps = new ScramShaCredentialsOperator(vertx, credsManager);
+
+        Checkpoint async = context.checkpoint();
+        Future<ReconcileResult<Void>> foo = scramOps.reconcile("foo", "foo-password");
+        Future<ReconcileResult<Void>> bar = scramOps.reconcile("bar", "bar-password");
+        Future<ReconcileResult<Void>> baz = scramOps.reconcile("baz", "baz-password");
+        CompositeFuture.join(foo, bar, baz).setHandler(res -> context.verify(() -> {
+            assertThat(foo.succeeded(), is(true));
+            assertThat(baz.succeeded(), is(true));
+            assertThat(bar.failed(), is(true));
+            assertThat(bar.cause(), is(failure));
+            // Each user is written once, the users of a failed update are not written again
+            assertThat(updated.size(), is(3));
+            assertThat(updated.containsAll(asList("foo", "bar", "baz")), is(true));
+            async.flag();
+        }));
+    }
+}
@@ -6,6 +6,8 @@ package io.strimzi.operator.user.operator;
 
 import io.strimzi.test.EmbeddedZooKeeper;
 import io.vertx.core.json.JsonObject;
+import org.I0Itec.zkclient.ZkClient;
+import org.I0Itec.zkclient.serialize.BytesPushThroughSerializer;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
@@ -13,11 +15,18 @@ import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
 import java.nio.charset.Charset;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singleton;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.fail;
 
 
@@ -98,6 +107,67 @@ public class ScramShaCredentialsTest {
         assertThat(ss.list().isEmpty(), is(true));
     }
 
+    @Test
+    public void updateMany() {
+        ZkClient zkClient = new ZkClient(zkServer.getZkConnectString(), 6_000);
+        try {
+            int notifications = zkClient.exists("/config/changes") ? zkClient.countChildren("/config/changes") : 0;
+
+            Map<String, String> passwords = new LinkedHashMap<>();
+            passwords.put("updateMany1", "foo-password");
+            passwords.put("updateMany2", "foo-password");
+            passwords.put("updateMany3", null);
+            assertThat(ss.update(passwords).isEmpty(), is(true));
+            assertThat(ss.list().containsAll(asList("updateMany1", "updateMany2")), is(true));
+            assertThat(ss.exists("updateMany3"), is(false));
+            assertThat(zkClient.countChildren("/config/changes"), is(notifications + 2));
+
+            passwords.put("updateMany1", "bar-password");
+            passwords.put("updateMany2", null);
+            assertThat(ss.update(passwords), is(new HashSet<>(asList("updateMany1", "updateMany2"))));
+            assertThat(ss.exists("updateMany1"), is(true));
+            assertThat(ss.exists("updateMany2"), is(false));
+            assertThat(zkClient.countChildren("/config/changes"), is(notifications + 4));
+        } finally {
+            zkClient.close();
+        }
+    }
+
+    @Test
+    public void updateManyWithInvalidUser() {
+        ZkClient zkClient = new ZkClient(zkServer.getZkConnectString(), 6_000, 6_000, new BytesPushThroughSerializer());
+        try {
+            zkClient.createPersistent("/config/users/updateManyInvalid", true);
+            zkClient.writeData("/config/users/updateManyInvalid", new JsonObject().put("version", 2).encode().getBytes(Charset.defaultCharset()));
+
+            Map<String, String> passwords = new LinkedHashMap<>();
+            passwords.put("updateManyValid1", "foo-password");
+            passwords.put("updateManyInvalid", "foo-password");
+            passwords.put("updateManyValid2", "foo-password");
+            ScramShaCredentials.UpdateException e = assertThrows(ScramShaCredentials.UpdateException.class, () -> ss.update(passwords));
+            assertThat(e.getFailures().keySet(), is(singleton("updateManyInvalid")));
+            assertThat(ss.exists("updateManyValid1"), is(true));
+            assertThat(ss.exists("updateManyValid2"), is(true));
+        } finally {
+            zkClient.delete("/config/users/updateManyInvalid");
+            zkClient.close();
+        }
+    }
+
+    @Test
+    public void updateManyWithFailingWrite() {
+        Map<String, String> passwords = new LinkedHashMap<>();
+        passwords.put("updateManyWrite1", "foo-password");
+        // The parent node doesn't exist, so creating the user fails the multi transaction
+        passwords.put("updateManyMissing/user", "foo-password");
+        passwords.put("updateManyWrite2", "foo-password");
+
+        ScramShaCredentials.UpdateException e = assertThrows(ScramShaCredentials.UpdateException.class, () -> ss.update(passwords));
+        assertThat(e.getFailures().keySet(), is(singleton("updateManyMissing/user")));
+        assertThat(ss.exists("updateManyWrite1"), is(true));
+        assertThat(ss.exists("updateManyWrite2"), is(true));
+    }
+
     @Test
     public void testValidation()    {
         JsonObject valid = new JsonObject().put("version", 1);
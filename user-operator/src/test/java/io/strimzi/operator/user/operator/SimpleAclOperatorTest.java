@@ -45,8 +45,11 @@ import scala.collection.Iterator;
 import static java.util.Arrays.asList;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(VertxExtension.class)
@@ -268,4 +271,70 @@ public class SimpleAclOperatorTest {
             context.failNow(new Throwable("Test timeout"));
         }
     }
+
+    @Test
+    public void testAclsAreReadFromIndexAfterListingUsers(VertxTestContext context) throws InterruptedException {
+        SimpleAclAuthorizer mockAuthorizer = mock(SimpleAclAuthorizer.class);
+        SimpleAclOperator aclOp = new SimpleAclOperator(vertx, mockAuthorizer);
+
+        KafkaPrincipal foo = new KafkaPrincipal("User", "CN=foo");
+        Acl fooAcl = new Acl(foo, Allow$.MODULE$, "*", Read$.MODULE$);
+        KafkaPrincipal bar = new KafkaPrincipal("User", "CN=bar");
+        Acl barAcl = new Acl(bar, Allow$.MODULE$, "*", Read$.MODULE$);
+        Resource res1 = new Resource(Topic$.MODULE$, "my-topic", PatternType.LITERAL);
+        scala.collection.immutable.Set<Acl> set1 = new scala.collection.immutable.Set.Set2<>(fooAcl, barAcl);
+        scala.collection.immutable.Map<Resource, scala.collection.immutable.Set<Acl>> map = new scala.collection.immutable.Map.Map1<>(res1, set1);
+        when(mockAuthorizer.getAcls()).thenReturn(map);
+        when(mockAuthorizer.removeAcls(any(), any())).thenReturn(true);
+
+        SimpleAclRuleResource resource = new SimpleAclRuleResource("my-topic", SimpleAclRuleResourceType.TOPIC, AclResourcePatternType.LITERAL);
+        SimpleAclRule read = new SimpleAclRule(AclRuleType.ALLOW, resource, "*", AclOperation.READ);
+        SimpleAclRule write = new SimpleAclRule(AclRuleType.ALLOW, resource, "*", AclOperation.WRITE);
+
+        assertThat(aclOp.getUsersWithAcls(), is(new HashSet<>(asList("foo", "bar"))));
+        assertThat(aclOp.getAcls("CN=foo"), is(new HashSet<>(asList(read))));
+        assertThat(aclOp.getAcls("CN=baz").isEmpty(), is(true));
+
+        Checkpoint async = context.checkpoint();
+        aclOp.reconcile("CN=foo", new HashSet<>(asList(write))).setHandler(res -> {
+            context.verify(() -> {
+                assertThat(res.succeeded(), is(true));
+                assertThat(aclOp.getAcls("CN=foo"), is(new HashSet<>(asList(write))));
+                assertThat(aclOp.getAcls("CN=bar"), is(new HashSet<>(asList(read))));
+                verify(mockAuthorizer, never()).getAcls(any(KafkaPrincipal.class));
+            });
+            async.flag();
+        });
+        if (!context.awaitCompletion(60, TimeUnit.SECONDS)) {
+            context.failNow(new Throwable("Test timeout"));
+        }
+    }
+
+    @Test
+    public void testIndexIsNotReplacedWhenRulesAreUpdatedMeanwhile() {
+        SimpleAclAuthorizer mockAuthorizer = mock(SimpleAclAuthorizer.class);
+        SimpleAclOperator aclOp = new SimpleAclOperator(vertx, mockAuthorizer);
+
+        KafkaPrincipal foo = new KafkaPrincipal("User", "CN=foo");
+        Acl fooAcl = new Acl(foo, Allow$.MODULE$, "*", Read$.MODULE$);
+        Resource res1 = new Resource(Topic$.MODULE$, "my-topic", PatternType.LITERAL);
+        scala.collection.immutable.Map<Resource, scala.collection.immutable.Set<Acl>> map =
+                new scala.collection.immutable.Map.Map1<>(res1, new scala.collection.immutable.Set.Set1<>(fooAcl));
+
+        SimpleAclRuleResource resource = new SimpleAclRuleResource("my-topic", SimpleAclRuleResourceType.TOPIC, AclResourcePatternType.LITERAL);
+        SimpleAclRule read = new SimpleAclRule(AclRuleType.ALLOW, resource, "*", AclOperation.READ);
+        SimpleAclRule write = new SimpleAclRule(AclRuleType.ALLOW, resource, "*", AclOperation.WRITE);
+
+        // The rule of the user is added after the rules are read, but before the index is replaced
+        when(mockAuthorizer.getAcls()).thenAnswer(invocation -> {
+            aclOp.internalCreate("CN=foo", new HashSet<>(asList(write)));
+            return map;
+        });
+        doNothing().when(mockAuthorizer).addAcls(any(), any());
+        when(mockAuthorizer.getAcls(any(KafkaPrincipal.class))).thenReturn(map);
+
+        assertThat(aclOp.getUsersWithAcls(), is(new HashSet<>(asList("foo"))));
+        assertThat(aclOp.getAcls("CN=foo"), is(new HashSet<>(asList(read))));
+        verify(mockAuthorizer).getAcls(any(KafkaPrincipal.class));
+    }
 }